@@ -0,0 +1,77 @@
+package com.comp2042.ai;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * FeatureExtractorBenchmark - JMH comparison of the scalar and vector
+ * feature extraction paths.
+ *
+ * Boards are random but game-like stacks (ragged surface, a few holes) from a
+ * fixed seed, so every host measures the same work. Results are reported per
+ * batch; divide by {@code boards} for the cost per board.
+ *
+ * Run with: mvn -Pvector,jmh compile exec:exec@bench
+ *
+ * @author Umer Imran
+ * @version 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = { "--add-modules", "jdk.incubator.vector" })
+public class FeatureExtractorBenchmark {
+
+    private static final int WIDTH = 10;
+    private static final int HEIGHT = 25;
+
+    @Param({ "scalar", "vector" })
+    public String path;
+
+    @Param({ "64", "1024" })
+    public int boards;
+
+    private BoardBatch batch;
+    private FeatureExtractor extractor;
+
+    @Setup(Level.Trial)
+    public void setUp() throws ReflectiveOperationException {
+        extractor = "vector".equals(path)
+                ? (FeatureExtractor) Class.forName(FeatureExtractor.VECTOR_CLASS).getDeclaredConstructor().newInstance()
+                : new ScalarFeatureExtractor();
+
+        SplittableRandom random = new SplittableRandom(2042);
+        batch = new BoardBatch(WIDTH, HEIGHT, boards);
+        for (int b = 0; b < boards; b++) {
+            int[][] matrix = new int[HEIGHT][WIDTH];
+            for (int c = 0; c < WIDTH; c++) {
+                int columnHeight = random.nextInt(13);
+                for (int r = HEIGHT - columnHeight; r < HEIGHT; r++) {
+                    matrix[r][c] = random.nextInt(8) == 0 ? 0 : 1;
+                }
+            }
+            batch.add(BoardProfile.fromMatrix(matrix), 0);
+        }
+    }
+
+    @Benchmark
+    public BoardBatch extract() {
+        extractor.extract(batch);
+        return batch;
+    }
+}
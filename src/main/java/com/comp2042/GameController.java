@@ -1,10 +1,20 @@
 package com.comp2042;
 
+import com.comp2042.ai.AiPlayer;
+import com.comp2042.ai.BeamSearchPlanner;
+import com.comp2042.ai.PerfectClearSolver;
+import com.comp2042.ai.Placement;
 import com.comp2042.game.ObstacleManager;
+import com.comp2042.jfr.GameEvents;
+import com.comp2042.metrics.GameMetrics;
+import com.comp2042.save.GameSnapshot;
 import com.comp2042.logic.*;
 import com.comp2042.event.*;
 import com.comp2042.dto.*;
 
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
 /**
  * Main Game Controller - Orchestrates game logic and state.
  * 
@@ -15,6 +25,7 @@ import com.comp2042.dto.*;
  * - Managing score tracking
  * - Handling game over and restart conditions
  * - Managing Obstacle Mode challenges
+ * - Saving and resuming games through GameSnapshot
  * 
  * Implements InputEventListener to receive all input events
  * (movement, rotation, hard drop, hold).
@@ -26,11 +37,14 @@ public class GameController implements InputEventListener {
 
     private boolean paused = false;
     // `isGameOver` state is handled by GuiController; remove unused field
-    private Board board = new SimpleBoard(25, 10);
+    private final SimpleBoard board = new SimpleBoard(25, 10);
 
     private GuiController viewGuiController;
     private ObstacleManager obstacleManager;
     private boolean obstacleMode = false;
+    private final PerfectClearSolver perfectClearSolver = new PerfectClearSolver();
+    private boolean resumed; // board came from a save and already holds its obstacles
+    private final GameMetrics metrics = GameMetrics.getDefault();
 
     /**
      * Initializes the GameController with UI reference and initial board state.
@@ -38,12 +52,32 @@ public class GameController implements InputEventListener {
      * @param c The GuiController instance for rendering updates
      */
     public GameController(GuiController c) {
+        this(c, null);
+    }
+
+    /**
+     * Initializes the GameController, continuing a saved game if one is given.
+     * 
+     * @param c      The GuiController instance for rendering updates
+     * @param resume saved game to continue, or null for a new game
+     */
+    public GameController(GuiController c, GameSnapshot resume) {
         viewGuiController = c;
         obstacleManager = new ObstacleManager();
-        board.createNewBrick();
+        metrics.gameStarted();
+        if (resume != null) {
+            resume.restore(board);
+            resumed = true;
+        } else {
+            board.createNewBrick();
+        }
         viewGuiController.setEventListener(this);
         viewGuiController.initGameView(board.getBoardMatrix(), board.getViewData());
         viewGuiController.bindScore(board.getScore().scoreProperty());
+        if (resume != null) {
+            viewGuiController.updateHoldPreview(board.getHeldPiece());
+            viewGuiController.refreshGameBackground(board.getBoardMatrix());
+        }
     }
 
     /**
@@ -53,10 +87,15 @@ public class GameController implements InputEventListener {
      */
     public void enableObstacleMode(int difficultyLevel) {
         this.obstacleMode = true;
+        if (resumed) {
+            resumed = false;
+            return;
+        }
 
         // Generate and place obstacles
         int[][] obstacles = obstacleManager.generateObstacles(difficultyLevel);
         ObstacleManager.placeObstacles(board.getBoardMatrix(), obstacles);
+        board.refreshZobristHash();
 
         // Refresh the display to show obstacles
         viewGuiController.refreshGameBackground(board.getBoardMatrix());
@@ -71,6 +110,19 @@ public class GameController implements InputEventListener {
         return obstacleMode;
     }
 
+    /**
+     * Copies the running game for saving.
+     * 
+     * @param difficultyLevel the level being played
+     * @return the snapshot, or null if the game cannot be saved right now
+     */
+    public GameSnapshot snapshot(int difficultyLevel) {
+        if (board.getCurrentBrick() == null) {
+            return null;
+        }
+        return GameSnapshot.capture(board, difficultyLevel, obstacleMode);
+    }
+
     /**
      * Toggles the pause state of the game.
      */
@@ -98,6 +150,7 @@ public class GameController implements InputEventListener {
         // REMOVED: if (paused) return null;
         // Let GuiController handle pause checks instead
 
+        long started = System.nanoTime();
         boolean canMove = board.moveBrickDown();
         ClearRow clearRow = null;
 
@@ -108,6 +161,7 @@ public class GameController implements InputEventListener {
             // the rows
             int[][] beforeClear = MatrixOperations.copy(board.getBoardMatrix());
             clearRow = board.clearRows();
+            metrics.pieceLocked(clearRow != null ? clearRow.getLinesRemoved() : 0);
 
             if (clearRow != null && clearRow.getLinesRemoved() > 0) {
                 int bonus = clearRow.getScoreBonus();
@@ -117,6 +171,8 @@ public class GameController implements InputEventListener {
 
             boolean gameOver = board.createNewBrick();
             if (gameOver) {
+                GameEvents.gameOver(board.getScore().scoreProperty().get());
+                metrics.gameEnded();
                 viewGuiController.gameOver();
             }
 
@@ -136,6 +192,7 @@ public class GameController implements InputEventListener {
         }
 
         // debug prints removed
+        metrics.dropHandled(System.nanoTime() - started);
         return new DownData(clearRow, board.getViewData());
     }
 
@@ -145,6 +202,7 @@ public class GameController implements InputEventListener {
      */
     public void createNewGame() {
         board.newGame();
+        metrics.gameStarted();
         viewGuiController.refreshGameBackground(board.getBoardMatrix());
     }
 
@@ -165,14 +223,17 @@ public class GameController implements InputEventListener {
      * @return DownData containing updated board state and any line clears
      */
     public DownData onHardDropEvent(MoveEvent event) {
+        long started = System.nanoTime();
         int dropDistance = 0;
         while (board.moveBrickDown()) {
             dropDistance++;
         }
+        GameEvents.hardDrop(dropDistance);
 
         board.mergeBrickToBackground();
         int[][] beforeClear = MatrixOperations.copy(board.getBoardMatrix());
         ClearRow clearRow = board.clearRows();
+        metrics.pieceLocked(clearRow != null ? clearRow.getLinesRemoved() : 0);
 
         int totalBonus = dropDistance * 2; // start with hard drop bonus
 
@@ -187,6 +248,8 @@ public class GameController implements InputEventListener {
 
         boolean gameOver = board.createNewBrick();
         if (gameOver) {
+            GameEvents.gameOver(board.getScore().scoreProperty().get());
+            metrics.gameEnded();
             viewGuiController.gameOver();
         }
 
@@ -197,6 +260,7 @@ public class GameController implements InputEventListener {
             viewGuiController.refreshGameBackground(board.getBoardMatrix());
         }
 
+        metrics.dropHandled(System.nanoTime() - started);
         return new DownData(clearRow, board.getViewData());
     }
 
@@ -250,6 +314,29 @@ public class GameController implements InputEventListener {
         return viewData;
     }
 
+    /**
+     * Creates a computer player that drives this controller's board through
+     * the regular input events (used for the attract-mode demo). Plans with
+     * preview/hold lookahead under the default per-move time budget.
+     * 
+     * @return a new AiPlayer bound to this game
+     */
+    public AiPlayer createAiPlayer() {
+        return new AiPlayer(board, this, new BeamSearchPlanner());
+    }
+
+    /**
+     * Starts a background search for a perfect clear from the current board,
+     * brick, hold slot and preview queue. Must be called on the FX thread; the
+     * search itself runs on a worker pool.
+     * 
+     * @return future of the placements (null if none exists); cancel it to
+     *         stop the search
+     */
+    public CompletableFuture<List<Placement>> findPerfectClear() {
+        return perfectClearSolver.start(board);
+    }
+
     /**
      * Restarts the game - resets board, score, and pause state.
      * Called when returning from game over to main menu.
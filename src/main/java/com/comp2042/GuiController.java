@@ -1,27 +1,42 @@
 package com.comp2042;
 
 import com.comp2042.util.Constants;
+import com.comp2042.ai.AiPlayer;
+import com.comp2042.ai.Placement;
+import com.comp2042.jfr.GameEvents;
+import com.comp2042.jfr.RenderRefreshEvent;
+import com.comp2042.leaderboard.Leaderboards;
+import com.comp2042.metrics.GameMetrics;
+import com.comp2042.save.GameSnapshot;
+import com.comp2042.save.SaveManager;
 import com.comp2042.ui.AnimationManager;
+import com.comp2042.ui.NodePool;
+import com.comp2042.ui.OverlayLayer;
+import com.comp2042.ui.ProfilerOverlay;
+import com.comp2042.ui.QualityGovernor;
 import com.comp2042.ui.ScoreManager;
+import com.comp2042.ui.TileAtlas;
 import com.comp2042.ui.input.InputHandler;
 import com.comp2042.game.GameStateManager;
 import com.comp2042.game.DifficultyManager;
+import com.comp2042.game.GravityClock;
 import com.comp2042.logic.*;
 import com.comp2042.event.*;
 import com.comp2042.dto.*;
 import javafx.animation.FadeTransition;
 import javafx.animation.ParallelTransition;
 import javafx.animation.Animation;
+import javafx.animation.AnimationTimer;
 import javafx.application.Platform;
 import javafx.animation.KeyFrame;
 import javafx.animation.Timeline;
-import javafx.animation.TranslateTransition;
 import javafx.beans.property.IntegerProperty;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.fxml.Initializable;
 import javafx.scene.Group;
 import javafx.scene.control.Label;
+import javafx.scene.image.ImageView;
 import javafx.scene.input.KeyCode;
 import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.GridPane;
@@ -29,12 +44,16 @@ import javafx.scene.layout.Pane;
 import javafx.scene.paint.Color;
 import javafx.scene.paint.Paint;
 import javafx.scene.shape.Rectangle;
-import javafx.scene.text.Font;
-import javafx.scene.text.Text;
 import javafx.util.Duration;
 
 import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.ResourceBundle;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 /**
  * Main GUI Controller for the Tetris game.
@@ -80,21 +99,32 @@ public class GuiController implements Initializable {
 
     // ========== DISPLAY MATRICES ==========
     private Rectangle[][] displayMatrix; // Game board background
+    private final List<ImageView> ghostBlocks = new ArrayList<>();
+    private TileAtlas ghostAtlas; // atlas the ghost blocks show
     private Rectangle[][] rectangles; // Current falling piece
     private Rectangle[][] nextBrickRectangles; // Next piece preview
     private Rectangle[][] holdBrickRectangles; // Hold piece preview
 
     // ========== GAME STATE ==========
     private InputEventListener eventListener;
-    private Timeline timeLine;
+    private GravityClock gravity;
+    private AnimationTimer frameLoop; // applies gravity and draws the falling brick each frame
+    private int shownFallDistance; // rows the drawn brick can still fall
     private int currentDifficultyLevel = 1; // Default to level 1
     private boolean obstacleMode = false; // Obstacle Mode flag
+    private Timeline autoPlayTimeLine; // drives the AI in attract mode
+    private AiPlayer autoPlayer;
+    private CompletableFuture<List<Placement>> perfectClearHint; // running hint search
 
     // ========== NEW MANAGERS (Refactored Components) ==========
     private AnimationManager animationManager;
     private ScoreManager scoreManager;
     private InputHandler inputHandler;
     private GameStateManager gameStateManager;
+    private SaveManager saveManager;
+    private QualityGovernor qualityGovernor;
+    private ProfilerOverlay profiler; // created when first shown (F3)
+    private OverlayLayer<ScorePopup, NotificationPanel> overlays; // pooled popups and notifications
 
     // =============================================================================
     // INITIALIZATION
@@ -137,10 +167,29 @@ public class GuiController implements Initializable {
         scoreManager = new ScoreManager(scoreLabel, highScoreLabel);
         inputHandler = new InputHandler();
         gameStateManager = new GameStateManager();
+        saveManager = SaveManager.getDefault();
+        qualityGovernor = new QualityGovernor();
+        qualityGovernor.setFrameObserver(GameMetrics.getDefault()::frame);
+        NodePool<NotificationPanel> notificationPool = new NodePool<>(() -> {
+            NotificationPanel panel = new NotificationPanel("");
+            watchAnimation(panel.getAnimation(), null);
+            return panel;
+        }, NotificationPanel::reset, Constants.NOTIFICATION_POOL_SIZE);
+        NodePool<ScorePopup> scorePopupPool = new NodePool<>(() -> {
+            ScorePopup popup = new ScorePopup();
+            watchAnimation(popup.getAnimation(), "scorePopup");
+            return popup;
+        }, ScorePopup::reset, Constants.SCORE_POPUP_POOL_SIZE);
+        overlays = new OverlayLayer<>((Pane) gamePanel.getParent(), groupNotification,
+                scorePopupPool, ScorePopup::show,
+                notificationPool, (panel, text, onFinished) -> {
+                    panel.setText(text);
+                    panel.showScore(onFinished);
+                });
     }
 
     private void loadFonts() {
-        Font.loadFont(getClass().getClassLoader().getResource("digital.ttf").toExternalForm(), 38);
+        StartupLoader.loadFonts();
     }
 
     private void setupKeyboardInput() {
@@ -166,6 +215,15 @@ public class GuiController implements Initializable {
                 } else if (code == KeyCode.ESCAPE) {
                     openPauseMenu();
                     event.consume();
+                } else if (code == KeyCode.B) {
+                    toggleAutoPlay();
+                    event.consume();
+                } else if (code == KeyCode.F) {
+                    requestPerfectClearHint();
+                    event.consume();
+                } else if (code == KeyCode.F3) {
+                    toggleProfiler();
+                    event.consume();
                 }
             }
         });
@@ -215,6 +273,9 @@ public class GuiController implements Initializable {
         initializeCurrentBrick(brick);
         initializeNextBrickPreview(brick);
         initializeHoldPreview();
+        scoreManager.useLeaderboard(Leaderboards.getDefault(), currentDifficultyLevel, obstacleMode);
+        saveManager.setActiveGame(this::captureGame);
+        qualityGovernor.attach(gamePanel.getScene());
         startGameLoop();
 
         // activate obstacle mode after board is initialized
@@ -246,13 +307,33 @@ public class GuiController implements Initializable {
         updateBrickPosition(brick);
     }
 
+    /**
+     * Gravity runs on the frame loop: each frame applies the rows that are
+     * due and draws the falling brick part of the way to its next row.
+     */
     private void startGameLoop() {
         int delayMs = DifficultyManager.getDelayForLevel(currentDifficultyLevel);
-        timeLine = new Timeline(new KeyFrame(
-                Duration.millis(delayMs),
-                ae -> moveDown(new MoveEvent(EventType.DOWN, EventSource.THREAD))));
-        timeLine.setCycleCount(Timeline.INDEFINITE);
-        timeLine.play();
+        gravity = new GravityClock(delayMs * 1_000_000L, Constants.BOARD_HEIGHT);
+        frameLoop = new AnimationTimer() {
+            @Override
+            public void handle(long now) {
+                int rows = gravity.advance(now);
+                if (rows > 0) {
+                    moveDown(rows);
+                }
+                updateFallOffset();
+            }
+        };
+        if (gamePanel.getScene() != null) {
+            gamePanel.getScene().windowProperty().addListener((obs, oldWindow, newWindow) -> {
+                if (newWindow == null) {
+                    frameLoop.stop();
+                    scoreManager.detachLeaderboard();
+                }
+            });
+        }
+        gravity.start();
+        frameLoop.start();
     }
 
     // =============================================================================
@@ -264,6 +345,9 @@ public class GuiController implements Initializable {
             return;
         }
 
+        long started = profileStart();
+        RenderRefreshEvent refresh = new RenderRefreshEvent();
+        refresh.begin();
         updateCurrentBrick(brick);
         updateGhostPiece(brick);
         updateNextBrickPreview(brick);
@@ -272,6 +356,8 @@ public class GuiController implements Initializable {
         if (!gameStateManager.isGameOver()) {
             groupNotification.toFront();
         }
+        GameEvents.refreshed(refresh, "refreshBrick");
+        profileEnd(ProfilerOverlay.Section.REFRESH_BRICK, started);
     }
 
     private void updateCurrentBrick(ViewData brick) {
@@ -294,9 +380,7 @@ public class GuiController implements Initializable {
         for (int i = 0; i < brickData.length; i++) {
             for (int j = 0; j < brickData[i].length; j++) {
                 Rectangle rectangle = new Rectangle(Constants.BRICK_SIZE, Constants.BRICK_SIZE);
-                rectangle.setFill(getFillColor(brickData[i][j]));
-                rectangle.setArcHeight(Constants.BRICK_ARC_SIZE);
-                rectangle.setArcWidth(Constants.BRICK_ARC_SIZE);
+                setRectangleData(brickData[i][j], rectangle);
                 rectangles[i][j] = rectangle;
                 brickPanel.add(rectangle, j, i);
             }
@@ -304,6 +388,7 @@ public class GuiController implements Initializable {
     }
 
     private void updateBrickPosition(ViewData brick) {
+        shownFallDistance = brick.getFallDistance();
 
         brickPanel.setLayoutX(gamePanel.getLayoutX() + Constants.BRICK_PANEL_X_OFFSET +
                 brick.getxPosition() * (Constants.BRICK_SIZE + (int) gamePanel.getHgap()));
@@ -324,44 +409,53 @@ public class GuiController implements Initializable {
     // =============================================================================
 
     private void updateGhostPiece(ViewData brick) {
-        clearGhostPiece();
-
         int[][] ghost = brick.getGhostCoords();
+        int shown = 0;
         if (ghost != null) {
-            drawGhostPiece(ghost);
+            for (int[] coord : ghost) {
+                int x = coord[1];
+                int y = coord[0];
+
+                // Only draw ghost piece if it's visible on the board (y >= 2 to account for
+                // hidden rows)
+                if (y >= 2) {
+                    ImageView ghostBlock = ghostBlock(shown++);
+                    GridPane.setColumnIndex(ghostBlock, x);
+                    GridPane.setRowIndex(ghostBlock, y - 2);
+                    ghostBlock.setVisible(true);
+                }
+            }
+        }
+        for (int i = shown; i < ghostBlocks.size(); i++) {
+            ghostBlocks.get(i).setVisible(false);
         }
     }
 
-    private void clearGhostPiece() {
-        gamePanel.getChildren().removeIf(node -> node instanceof Rectangle &&
-                node.getUserData() != null &&
-                node.getUserData().equals("ghost"));
-    }
-
-    private void drawGhostPiece(int[][] ghostCoords) {
-        for (int[] coord : ghostCoords) {
-            int x = coord[1];
-            int y = coord[0];
-
-            // Only draw ghost piece if it's visible on the board (y >= 2 to account for
-            // hidden rows)
-            if (y >= 2) {
-                Rectangle ghostBlock = createGhostBlock();
-                GridPane.setColumnIndex(ghostBlock, x);
-                GridPane.setRowIndex(ghostBlock, y - 2);
-                gamePanel.getChildren().add(ghostBlock);
-            }
+    /**
+     * @return the i-th ghost cell, an atlas tile kept in the grid and moved
+     *         rather than re-created on every refresh
+     */
+    private ImageView ghostBlock(int i) {
+        TileAtlas atlas = TileAtlas.get(outputScale(), qualityGovernor.getCellArc());
+        if (atlas != ghostAtlas) {
+            // first use, or the window moved to a screen with another scale
+            gamePanel.getChildren().removeAll(ghostBlocks);
+            ghostBlocks.clear();
+            ghostAtlas = atlas;
+        }
+        while (ghostBlocks.size() <= i) {
+            ImageView block = atlas.createView(TileAtlas.GHOST);
+            block.setVisible(false);
+            ghostBlocks.add(block);
+            gamePanel.getChildren().add(block);
         }
+        return ghostBlocks.get(i);
     }
 
-    private Rectangle createGhostBlock() {
-        Rectangle ghostBlock = new Rectangle(Constants.BRICK_SIZE, Constants.BRICK_SIZE);
-        ghostBlock.setFill(Constants.GHOST_FILL);
-        ghostBlock.setStroke(Constants.GHOST_STROKE);
-        ghostBlock.setStrokeWidth(Constants.GHOST_STROKE_WIDTH);
-        ghostBlock.setUserData("ghost");
-        ghostBlock.setMouseTransparent(true);
-        return ghostBlock;
+    private double outputScale() {
+        return gamePanel.getScene() != null && gamePanel.getScene().getWindow() != null
+                ? gamePanel.getScene().getWindow().getOutputScaleX()
+                : 1.0;
     }
 
     // =============================================================================
@@ -551,26 +645,42 @@ public class GuiController implements Initializable {
      * @param board The current game board matrix
      */
     public void refreshGameBackground(int[][] board) {
+        long started = profileStart();
+        RenderRefreshEvent refresh = new RenderRefreshEvent();
+        refresh.begin();
         for (int i = 2; i < board.length; i++) {
             for (int j = 0; j < board[i].length; j++) {
                 setRectangleData(board[i][j], displayMatrix[i][j]);
             }
         }
+        GameEvents.refreshed(refresh, "refreshGameBackground");
+        profileEnd(ProfilerOverlay.Section.REFRESH_BACKGROUND, started);
     }
 
     // =============================================================================
     // GAME LOGIC - PIECE MOVEMENT
     // =============================================================================
 
-    private void moveDown(MoveEvent event) {
+    /**
+     * Applies the gravity rows due this frame. Each row goes through the
+     * game, but only the last resulting state is drawn.
+     */
+    private void moveDown(int rows) {
         if (gameStateManager.isPaused()) {
             return;
         }
 
-        DownData downData = eventListener.onDownEvent(event);
-        if (downData != null) {
+        DownData latest = null;
+        for (int i = 0; i < rows && !gameStateManager.isGameOver(); i++) {
+            DownData downData = eventListener.onDownEvent(new MoveEvent(EventType.DOWN, EventSource.THREAD));
+            if (downData == null) {
+                break;
+            }
             handleLineClears(downData);
-            refreshBrick(downData.getViewData());
+            latest = downData;
+        }
+        if (latest != null) {
+            refreshBrick(latest.getViewData());
         }
 
         gamePanel.requestFocus();
@@ -579,6 +689,19 @@ public class GuiController implements Initializable {
         }
     }
 
+    /**
+     * Draws the falling brick between its row and the next one, by the
+     * gravity progress, unless it is resting on the stack.
+     */
+    private void updateFallOffset() {
+        double offset = shownFallDistance > 0
+                ? gravity.getProgress() * (Constants.BRICK_SIZE + (int) gamePanel.getVgap())
+                : 0;
+        if (offset != brickPanel.getTranslateY()) {
+            brickPanel.setTranslateY(offset);
+        }
+    }
+
     private void handleLineClears(DownData downData) {
         if (downData.getClearRow() != null && downData.getClearRow().getLinesRemoved() > 0) {
             showLineClearNotification(downData.getClearRow().getScoreBonus());
@@ -604,58 +727,66 @@ public class GuiController implements Initializable {
             return;
         }
 
+        if (!qualityGovernor.isCollapseAnimated()) {
+            // lowest quality: the board just refreshes
+            if (onFinished != null)
+                Platform.runLater(onFinished);
+            return;
+        }
+
+        long started = profileStart();
         int[] cleared = clearRow.getClearedRows();
 
         // Instead of animating the underlying board cells (which caused neighboring
-        // rows to appear to flash), create overlay rectangles for the cleared rows
-        // and animate those overlays only. Once overlays finish, remove them and
-        // hide the underlying rows so the collapse animation can proceed without
-        // overlap.
+        // rows to appear to flash), draw the before-clear board into one image and
+        // animate slices of it: one per band of adjacent cleared rows here, and one
+        // per band of falling rows in the collapse, however many cells there are.
         Pane rootPane = (Pane) gamePanel.getParent();
-        java.util.List<Rectangle> overlayRects = new java.util.ArrayList<>();
+        javafx.scene.image.WritableImage boardImage = RowCollapseAnimator.renderBoard(beforeMatrix, gamePanel,
+                qualityGovernor.getCellArc());
+        java.util.List<javafx.scene.image.ImageView> overlaySlices = new java.util.ArrayList<>();
         java.util.List<Animation> overlayAnims = new java.util.ArrayList<>();
 
-        double cellSize = Constants.BRICK_SIZE;
-        double hGap = gamePanel.getHgap();
-        double vGap = gamePanel.getVgap();
-
-        for (int r : cleared) {
-            if (r < 2 || r >= beforeMatrix.length)
+        int[] sortedRows = java.util.Arrays.copyOf(cleared, cleared.length);
+        java.util.Arrays.sort(sortedRows);
+        for (int i = 0; i < sortedRows.length;) {
+            int from = sortedRows[i];
+            int to = from;
+            while (i + 1 < sortedRows.length && sortedRows[i + 1] == to + 1) {
+                to = sortedRows[++i];
+            }
+            i++;
+            from = Math.max(from, RowCollapseAnimator.FIRST_VISIBLE_ROW);
+            to = Math.min(to, beforeMatrix.length - 1);
+            if (from > to || !RowCollapseAnimator.hasFilledCell(beforeMatrix, from, to))
                 continue;
-            for (int c = 0; c < beforeMatrix[r].length; c++) {
-                int colorCode = beforeMatrix[r][c];
-                if (colorCode == 0)
-                    continue;
 
-                Rectangle ov = new Rectangle(cellSize, cellSize);
-                ov.setFill(getFillColor(colorCode));
-                ov.setArcWidth(Constants.BRICK_ARC_SIZE);
-                ov.setArcHeight(Constants.BRICK_ARC_SIZE);
+            javafx.scene.image.ImageView ov = RowCollapseAnimator.rowSlice(boardImage, gamePanel, from, to);
+            overlaySlices.add(ov);
+            rootPane.getChildren().add(ov);
 
-                double originX = gamePanel.getLayoutX() + c * (cellSize + hGap);
-                double originY = gamePanel.getLayoutY() + (r - 2) * (cellSize + vGap);
-                ov.setLayoutX(originX);
-                ov.setLayoutY(originY);
-                ov.setMouseTransparent(true);
-
-                overlayRects.add(ov);
-                rootPane.getChildren().add(ov);
-
-                // FillPulse -> fade out sequence for cleared row cells
-                javafx.animation.FillTransition fill = new javafx.animation.FillTransition(Duration.millis(120), ov);
-                fill.setFromValue((javafx.scene.paint.Color) getFillColor(colorCode));
-                fill.setToValue(javafx.scene.paint.Color.WHITE);
+            FadeTransition fade = new FadeTransition(Duration.millis(160), ov);
+            fade.setFromValue(1.0);
+            fade.setToValue(0.0);
+            if (!qualityGovernor.isClearFlashEnabled()) {
+                overlayAnims.add(fade);
+                continue;
+            }
 
-                FadeTransition fade = new FadeTransition(Duration.millis(160), ov);
-                fade.setFromValue(1.0);
-                fade.setToValue(0.0);
+            // white pulse -> fade out sequence for the cleared rows
+            javafx.scene.effect.ColorAdjust flash = new javafx.scene.effect.ColorAdjust();
+            ov.setEffect(flash);
+            Timeline whiten = new Timeline(
+                    new KeyFrame(Duration.ZERO, new javafx.animation.KeyValue(flash.brightnessProperty(), 0.0)),
+                    new KeyFrame(Duration.millis(120),
+                            new javafx.animation.KeyValue(flash.brightnessProperty(), 1.0)));
 
-                javafx.animation.SequentialTransition seq = new javafx.animation.SequentialTransition(fill, fade);
-                overlayAnims.add(seq);
-            }
+            javafx.animation.SequentialTransition seq = new javafx.animation.SequentialTransition(whiten, fade);
+            overlayAnims.add(seq);
         }
 
         if (overlayAnims.isEmpty()) {
+            profileEnd(ProfilerOverlay.Section.LINE_CLEAR, started);
             if (onFinished != null)
                 Platform.runLater(onFinished);
             return;
@@ -665,12 +796,14 @@ public class GuiController implements Initializable {
         pt.getChildren().addAll(overlayAnims);
         pt.setOnFinished(e -> {
             // Play border glow animation
-            if (gameBoard != null) {
-                animationManager.createBorderGlowAnimation(gameBoard).play();
+            if (gameBoard != null && qualityGovernor.isBorderGlowEnabled()) {
+                Timeline glow = animationManager.createBorderGlowAnimation(gameBoard);
+                watchAnimation(glow, "borderGlow");
+                glow.play();
             }
 
             // overlays finished, remove them and hide the cleared rows underneath
-            overlayRects.forEach(rootPane.getChildren()::remove);
+            rootPane.getChildren().removeAll(overlaySlices);
             for (int r : cleared) {
                 if (r < 2 || r >= displayMatrix.length)
                     continue;
@@ -704,32 +837,30 @@ public class GuiController implements Initializable {
             // now all moved sources and cleared rows are hidden — play the slide-down
             // overlays
             if (clearRow.getLinesRemoved() > 0) {
-                RowCollapseAnimator.animateCollapse(rootPane, gamePanel, beforeMatrix, cleared, this::getFillColor,
-                        () -> {
+                watchAnimation(RowCollapseAnimator.animateCollapse(rootPane, gamePanel, beforeMatrix, boardImage,
+                        cleared, () -> {
                             if (onFinished != null)
                                 onFinished.run();
-                        });
+                        }), "rowCollapse");
             } else {
                 if (onFinished != null)
                     onFinished.run();
             }
         });
+        watchAnimation(pt, "lineClear");
         pt.play();
+        profileEnd(ProfilerOverlay.Section.LINE_CLEAR, started);
     }
 
     private void showLineClearNotification(int score) {
-        NotificationPanel notificationPanel = new NotificationPanel("+" + score);
-
-        double panelW = gamePanel.getWidth();
-        double panelH = gamePanel.getHeight();
-        double x = gamePanel.getLayoutX() + (panelW - notificationPanel.getMinWidth()) / 2.0;
-        double y = gamePanel.getLayoutY() + (panelH - notificationPanel.getMinHeight()) / 2.0;
-
-        notificationPanel.setLayoutX(x);
-        notificationPanel.setLayoutY(y);
-        groupNotification.getChildren().add(notificationPanel);
-        notificationPanel.showScore(groupNotification.getChildren());
+        overlays.showLineClear(score, gamePanel);
+        if (!gameStateManager.isGameOver()) {
+            groupNotification.toFront();
+        }
+    }
 
+    private void showNotification(String text) {
+        overlays.showNotification(text, gamePanel);
         if (!gameStateManager.isGameOver()) {
             groupNotification.toFront();
         }
@@ -745,30 +876,10 @@ public class GuiController implements Initializable {
      * @param bonus The bonus points to display
      */
     public void showScoreBonus(int bonus) {
-        Text popup = new Text("+" + bonus);
-        popup.setFont(Font.font("Verdana", 22));
-        popup.setFill(Color.WHITESMOKE);
-        popup.setLayoutX(Constants.SCORE_POPUP_OFFSET_X);
-        popup.setLayoutY(Constants.SCORE_POPUP_OFFSET_Y);
-
-        Pane rootPane = (Pane) gamePanel.getParent();
-        rootPane.getChildren().add(popup);
-
-        animateScorePopup(popup, rootPane);
-    }
-
-    private void animateScorePopup(Text popup, Pane rootPane) {
-        TranslateTransition moveUp = new TranslateTransition(Duration.millis(1000), popup);
-        moveUp.setByY(Constants.SCORE_POPUP_MOVE_Y);
-
-        FadeTransition fadeOut = new FadeTransition(Duration.millis(1000), popup);
-        fadeOut.setFromValue(1.0);
-        fadeOut.setToValue(0.0);
-
-        moveUp.play();
-        fadeOut.play();
-
-        fadeOut.setOnFinished(e -> rootPane.getChildren().remove(popup));
+        if (!qualityGovernor.isScorePopupEnabled()) {
+            return;
+        }
+        overlays.showScoreBonus(bonus);
     }
 
     /**
@@ -788,12 +899,17 @@ public class GuiController implements Initializable {
     // =============================================================================
 
     public void gameOver() {
-        timeLine.stop();
-        groupNotification.getChildren().removeIf(node -> node instanceof NotificationPanel);
+        gravity.stop();
+        overlays.releaseNotifications();
         gamePanel.setOpacity(Constants.PAUSED_OPACITY);
         gameOverPanel.setVisible(true);
         gameOverPanel.toFront();
         gameStateManager.setGameOver();
+        // attract-mode demo games do not count
+        if (!isAutoPlaying()) {
+            scoreManager.recordGameOver();
+        }
+        saveManager.discard();
 
         // Add dramatic screen shake animation
         animateScreenShake(gamePanel);
@@ -806,11 +922,18 @@ public class GuiController implements Initializable {
      * Animate a dramatic screen shake effect for game over
      */
     private void animateScreenShake(javafx.scene.layout.GridPane target) {
-        animationManager.createScreenShake(target).play();
+        if (qualityGovernor.isScreenShakeEnabled()) {
+            Timeline shake = animationManager.createScreenShake(target);
+            watchAnimation(shake, "screenShake");
+            shake.play();
+        }
     }
 
     public void newGame(ActionEvent actionEvent) {
-        timeLine.stop();
+        gravity.stop();
+        gravity.reset();
+        saveManager.setActiveGame(this::captureGame);
+        cancelPerfectClearHint();
         gameOverPanel.setVisible(false);
         eventListener.createNewGame();
         // Re-enable obstacle mode if it was active
@@ -818,7 +941,7 @@ public class GuiController implements Initializable {
             ((GameController) eventListener).enableObstacleMode(currentDifficultyLevel);
         }
         gamePanel.requestFocus();
-        timeLine.play();
+        gravity.start();
         gameStateManager.startGame();
         gamePanel.setOpacity(Constants.ACTIVE_OPACITY);
     }
@@ -834,18 +957,17 @@ public class GuiController implements Initializable {
     }
 
     private void pauseGame() {
-        timeLine.pause();
+        gravity.stop();
+        saveGame();
 
-        NotificationPanel pausedMsg = new NotificationPanel("PAUSED");
-        groupNotification.getChildren().add(pausedMsg);
-        pausedMsg.showScore(groupNotification.getChildren());
+        overlays.showNotification("PAUSED", 0, 0);
 
         gamePanel.setOpacity(Constants.PAUSED_OPACITY);
     }
 
     private void resumeGame() {
-        timeLine.play();
-        groupNotification.getChildren().removeIf(node -> node instanceof NotificationPanel);
+        gravity.start();
+        overlays.releaseNotifications();
         gamePanel.setOpacity(Constants.ACTIVE_OPACITY);
     }
 
@@ -865,33 +987,142 @@ public class GuiController implements Initializable {
         pauseGame();
 
         try {
-            java.net.URL location = getClass().getClassLoader().getResource("pauseMenu.fxml");
-            javafx.fxml.FXMLLoader fxmlLoader = new javafx.fxml.FXMLLoader(location);
-            javafx.scene.Parent root = fxmlLoader.load();
-            PauseMenuController pauseController = fxmlLoader.getController();
-
-            javafx.stage.Stage pauseStage = new javafx.stage.Stage();
-            pauseStage.initStyle(javafx.stage.StageStyle.TRANSPARENT);
-            pauseStage.setScene(new javafx.scene.Scene(root));
-            pauseStage.setTitle("Pause Menu");
-
-            // Get the main game window to set owner and modality
+            // the pause window is parsed and built once, then only shown
             javafx.stage.Stage gameStage = (javafx.stage.Stage) gamePanel.getScene().getWindow();
-            pauseStage.initOwner(gameStage);
-            pauseStage.initModality(javafx.stage.Modality.APPLICATION_MODAL);
+            javafx.stage.Stage pauseStage = SceneCache.getPauseStage(gameStage);
+            PauseMenuController pauseController = SceneCache.getPauseController();
 
             // Pass context to pause controller
             pauseController.setPauseContext(this, pauseStage);
 
-            // Handle ESC key on pause menu
-            root.setOnKeyPressed(pauseController::handleKeyEvent);
-
             pauseStage.showAndWait();
         } catch (Exception e) {
             e.printStackTrace();
         }
     }
 
+    // =============================================================================
+    // SAVE / RESUME
+    // =============================================================================
+
+    /**
+     * Writes the game in the background so it can be resumed from the menu.
+     */
+    private void saveGame() {
+        GameSnapshot snapshot = captureGame();
+        if (snapshot != null) {
+            saveManager.saveAsync(snapshot);
+        }
+    }
+
+    private GameSnapshot captureGame() {
+        if (gameStateManager.isGameOver() || !(eventListener instanceof GameController)) {
+            return null;
+        }
+        return ((GameController) eventListener).snapshot(currentDifficultyLevel);
+    }
+
+    // =============================================================================
+    // ATTRACT MODE (AI PLAYER)
+    // =============================================================================
+
+    /**
+     * Toggles the AI attract-mode demo (triggered by B key).
+     */
+    private void toggleAutoPlay() {
+        if (isAutoPlaying()) {
+            stopAutoPlay();
+        } else if (eventListener instanceof GameController) {
+            startAutoPlay(((GameController) eventListener).createAiPlayer());
+        }
+    }
+
+    /**
+     * Lets an AI player drive the visible game, one input every
+     * {@link Constants#AI_STEP_MS} ms. Gravity keeps running as usual, and a new
+     * game starts automatically after game over so the demo loops unattended.
+     * 
+     * @param player the AI player bound to this game's controller
+     */
+    public void startAutoPlay(AiPlayer player) {
+        stopAutoPlay();
+        autoPlayer = player;
+        autoPlayTimeLine = new Timeline(new KeyFrame(
+                Duration.millis(Constants.AI_STEP_MS),
+                ae -> autoPlayStep()));
+        autoPlayTimeLine.setCycleCount(Timeline.INDEFINITE);
+        watchAnimation(autoPlayTimeLine, null);
+        autoPlayTimeLine.play();
+    }
+
+    /**
+     * Stops the AI attract-mode demo and hands control back to the keyboard.
+     */
+    public void stopAutoPlay() {
+        if (autoPlayTimeLine != null) {
+            autoPlayTimeLine.stop();
+            autoPlayTimeLine = null;
+        }
+        autoPlayer = null;
+    }
+
+    public boolean isAutoPlaying() {
+        return autoPlayer != null;
+    }
+
+    private void autoPlayStep() {
+        if (gameStateManager.isGameOver()) {
+            newGame(null);
+            return;
+        }
+        if (gameStateManager.isPaused()) {
+            return;
+        }
+        refreshBrick(autoPlayer.step());
+    }
+
+    // =============================================================================
+    // PERFECT-CLEAR HINT
+    // =============================================================================
+
+    /**
+     * Searches for a perfect clear in the background (triggered by F key) and
+     * reports the result as a notification. The FX thread never waits: the
+     * search runs on a worker pool, is cancelled by a new request or a new
+     * game, and gives up after {@link Constants#PC_HINT_TIMEOUT_MS} ms.
+     */
+    private void requestPerfectClearHint() {
+        if (!(eventListener instanceof GameController) || gameStateManager.isGameOver()) {
+            return;
+        }
+        cancelPerfectClearHint();
+        CompletableFuture<List<Placement>> search = ((GameController) eventListener).findPerfectClear();
+        perfectClearHint = search;
+        search.orTimeout(Constants.PC_HINT_TIMEOUT_MS, TimeUnit.MILLISECONDS)
+                .whenComplete((moves, error) -> Platform.runLater(() -> {
+                    if (perfectClearHint != search || search.isCancelled()) {
+                        return; // superseded
+                    }
+                    perfectClearHint = null;
+                    Throwable cause = error instanceof CompletionException ? error.getCause() : error;
+                    if (cause instanceof TimeoutException) {
+                        showNotification("PC SEARCH TIMED OUT");
+                    } else if (cause != null) {
+                        System.err.println("Perfect clear search failed: " + cause);
+                        showNotification("PC SEARCH FAILED");
+                    } else {
+                        showNotification(moves != null ? "PC IN " + moves.size() : "NO PC");
+                    }
+                }));
+    }
+
+    private void cancelPerfectClearHint() {
+        if (perfectClearHint != null) {
+            perfectClearHint.cancel(false);
+            perfectClearHint = null;
+        }
+    }
+
     /**
      * Resume game from pause menu.
      */
@@ -899,6 +1130,47 @@ public class GuiController implements Initializable {
         resumeGame();
     }
 
+    // =============================================================================
+    // PROFILER OVERLAY
+    // =============================================================================
+
+    private void toggleProfiler() {
+        if (profiler == null) {
+            profiler = new ProfilerOverlay(gamePanel);
+            ((Pane) gamePanel.getScene().getRoot()).getChildren().add(profiler.getCanvas());
+            profiler.getCanvas().setLayoutX(5);
+            profiler.getCanvas().setLayoutY(5);
+            profiler.watch(autoPlayTimeLine);
+            overlays.getNotifications().forEachNode(panel -> profiler.watch(panel.getAnimation()));
+            overlays.getPopups().forEachNode(popup -> profiler.watch(popup.getAnimation()));
+        }
+        profiler.toggle();
+        profiler.getCanvas().toFront();
+    }
+
+    private long profileStart() {
+        return profiler != null ? profiler.start() : 0;
+    }
+
+    private void profileEnd(ProfilerOverlay.Section section, long started) {
+        if (started != 0) {
+            profiler.end(section, started);
+        }
+    }
+
+    /**
+     * Lets the profiler overlay count the animation while it runs, and
+     * records it as a JFR event if it has a name.
+     */
+    private void watchAnimation(Animation animation, String name) {
+        if (profiler != null) {
+            profiler.watch(animation);
+        }
+        if (name != null) {
+            GameEvents.track(animation, name);
+        }
+    }
+
     // =============================================================================
     // UTILITIES
     // =============================================================================
@@ -908,9 +1180,16 @@ public class GuiController implements Initializable {
     }
 
     private void setRectangleData(int colorCode, Rectangle rectangle) {
-        rectangle.setFill(getFillColor(colorCode));
-        rectangle.setArcHeight(Constants.BRICK_ARC_SIZE);
-        rectangle.setArcWidth(Constants.BRICK_ARC_SIZE);
+        // most cells are unchanged between refreshes; skip their setters
+        Paint fill = getFillColor(colorCode);
+        if (rectangle.getFill() != fill) {
+            rectangle.setFill(fill);
+        }
+        double arc = qualityGovernor.getCellArc();
+        if (rectangle.getArcWidth() != arc) {
+            rectangle.setArcHeight(arc);
+            rectangle.setArcWidth(arc);
+        }
     }
 
     /**
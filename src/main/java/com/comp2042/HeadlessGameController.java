@@ -0,0 +1,150 @@
+package com.comp2042;
+
+import com.comp2042.dto.DownData;
+import com.comp2042.dto.ViewData;
+import com.comp2042.event.EventSource;
+import com.comp2042.event.InputEventListener;
+import com.comp2042.event.MoveEvent;
+import com.comp2042.logic.Board;
+import com.comp2042.logic.ClearRow;
+import com.comp2042.logic.SimpleBoard;
+import com.comp2042.util.Constants;
+
+/**
+ * Headless Game Controller - Runs the game rules without any JavaFX view.
+ *
+ * Mirrors GameController's handling of input events (movement, soft/hard
+ * drop, hold, scoring, game over) but keeps the results in plain fields
+ * instead of pushing them to a GuiController. Used by the AI player for
+ * soak testing and simulation runs. Any Board implementation can be driven,
+ * including pooled off-heap boards.
+ *
+ * @author Umer Imran
+ * @version 1.0
+ */
+public class HeadlessGameController implements InputEventListener {
+
+    private final Board board;
+    private boolean gameOver = false;
+    private long piecesLocked = 0;
+    private long linesCleared = 0;
+
+    /**
+     * Creates a controller over a fresh standard-size board.
+     */
+    public HeadlessGameController() {
+        this(new SimpleBoard(Constants.BOARD_HEIGHT, Constants.BOARD_WIDTH));
+    }
+
+    /**
+     * Creates a controller over an existing board and spawns its first brick.
+     *
+     * @param board the board to drive
+     */
+    public HeadlessGameController(Board board) {
+        this.board = board;
+        gameOver = board.createNewBrick();
+    }
+
+    @Override
+    public DownData onDownEvent(MoveEvent event) {
+        if (gameOver) {
+            return null;
+        }
+        if (board.moveBrickDown()) {
+            if (event.getEventSource() == EventSource.USER) {
+                board.getScore().add(Constants.SOFT_DROP_POINTS);
+            }
+            return new DownData(null, board.getViewData());
+        }
+        return new DownData(lockBrick(0), board.getViewData());
+    }
+
+    @Override
+    public DownData onHardDropEvent(MoveEvent event) {
+        if (gameOver) {
+            return null;
+        }
+        int dropDistance = 0;
+        while (board.moveBrickDown()) {
+            dropDistance++;
+        }
+        return new DownData(lockBrick(dropDistance), board.getViewData());
+    }
+
+    private ClearRow lockBrick(int dropDistance) {
+        board.mergeBrickToBackground();
+        ClearRow clearRow = board.clearRows();
+        piecesLocked++;
+
+        if (clearRow.getLinesRemoved() > 0) {
+            linesCleared += clearRow.getLinesRemoved();
+            board.getScore().add(clearRow.getScoreBonus());
+        }
+        board.getScore().add(dropDistance * Constants.HARD_DROP_MULTIPLIER);
+
+        gameOver = board.createNewBrick();
+        return clearRow;
+    }
+
+    @Override
+    public ViewData onLeftEvent(MoveEvent event) {
+        board.moveBrickLeft();
+        return board.getViewData();
+    }
+
+    @Override
+    public ViewData onRightEvent(MoveEvent event) {
+        board.moveBrickRight();
+        return board.getViewData();
+    }
+
+    @Override
+    public ViewData onRotateEvent(MoveEvent event) {
+        board.rotateLeftBrick();
+        return board.getViewData();
+    }
+
+    @Override
+    public ViewData onHoldEvent(MoveEvent event) {
+        return board.holdPiece();
+    }
+
+    @Override
+    public void createNewGame() {
+        board.newGame();
+        gameOver = false;
+        piecesLocked = 0;
+        linesCleared = 0;
+    }
+
+    /**
+     * @return the board being driven
+     */
+    public Board getGameBoard() {
+        return board;
+    }
+
+    /**
+     * @return the board as a SimpleBoard (the AI planners read its brick queue)
+     * @throws IllegalStateException if the controller drives another Board
+     */
+    public SimpleBoard getBoard() {
+        if (!(board instanceof SimpleBoard simpleBoard)) {
+            throw new IllegalStateException("Controller is not driving a SimpleBoard");
+        }
+        return simpleBoard;
+    }
+
+    public boolean isGameOver() {
+        return gameOver;
+    }
+
+    public long getPiecesLocked() {
+        return piecesLocked;
+    }
+
+    public long getLinesCleared() {
+        return linesCleared;
+    }
+}
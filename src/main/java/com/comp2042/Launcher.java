@@ -1,7 +1,15 @@
 package com.comp2042;
 
+import javafx.application.Application;
+
+import java.util.Arrays;
+
 public class Launcher {
     public static void main(String[] args) {
+        if (args.length > 0 && args[0].equals("--spectator")) {
+            Application.launch(SpectatorApp.class, Arrays.copyOfRange(args, 1, args.length));
+            return;
+        }
         Main.main(args);
     }
 }
@@ -1,20 +1,71 @@
 package com.comp2042;
 
+import com.comp2042.leaderboard.Leaderboards;
+import com.comp2042.metrics.MetricsServer;
+import com.comp2042.save.SaveManager;
+import com.comp2042.util.Constants;
 import javafx.application.Application;
-import javafx.fxml.FXMLLoader;
-import javafx.scene.Parent;
+import javafx.geometry.Pos;
 import javafx.scene.Scene;
+import javafx.scene.control.ProgressBar;
+import javafx.scene.layout.VBox;
+import javafx.scene.text.Text;
 import javafx.stage.Stage;
 
 public class Main extends Application {
 
     @Override
     public void start(Stage primaryStage) throws Exception {
-        Parent root = FXMLLoader.load(getClass().getResource("/menu.fxml"));
-        Scene scene = new Scene(root, 400, 500);
         primaryStage.setTitle("Tetris");
+        MetricsServer.startDefault();
+        if (Constants.FAST_START) {
+            showSplash(primaryStage);
+            return;
+        }
+        Scene scene = SceneCache.getMenuScene();
         primaryStage.setScene(scene);
         primaryStage.show();
+        StartupTimer.markInteractive(scene);
+        // parse the game and pause layouts while the player is in the menu
+        SceneCache.preload();
+    }
+
+    /**
+     * Fast start: shows a splash frame built from code (no FXML, fonts or
+     * images), then swaps in the menu once everything is loaded.
+     */
+    private void showSplash(Stage primaryStage) {
+        Text title = new Text("TETRIS");
+        title.setStyle("-fx-font-size: 72px; -fx-font-weight: bold; -fx-fill: #00ff41;");
+        ProgressBar progressBar = new ProgressBar(0);
+        progressBar.setPrefWidth(240);
+        Text step = new Text("Loading...");
+        step.setStyle("-fx-font-size: 12px; -fx-fill: #00ff41; -fx-opacity: 0.6;");
+        VBox splash = new VBox(20, title, progressBar, step);
+        splash.setAlignment(Pos.CENTER);
+        splash.setStyle("-fx-background-color: linear-gradient(to bottom, #1a1a2e 0%, #0f3460 50%, #16213e 100%);");
+
+        Scene splashScene = new Scene(splash, SceneCache.MENU_WIDTH, SceneCache.MENU_HEIGHT);
+        primaryStage.setScene(splashScene);
+        primaryStage.show();
+        StartupTimer.markFirstFrame(splashScene);
+
+        StartupLoader.start((progress, next) -> {
+            progressBar.setProgress(progress);
+            step.setText("Loading " + next + "...");
+        }, () -> {
+            Scene menu = SceneCache.getMenuScene();
+            primaryStage.setScene(menu);
+            StartupTimer.markInteractive(menu);
+        });
+    }
+
+    @Override
+    public void stop() {
+        // saves the running game and writes out scores still queued
+        SaveManager.closeDefault();
+        Leaderboards.closeDefault();
+        MetricsServer.closeDefault();
     }
 
     public static void main(String[] args) {
@@ -4,13 +4,16 @@ import javafx.fxml.FXML;
 import javafx.scene.control.Alert;
 import javafx.scene.control.Button;
 import javafx.stage.Stage;
-import javafx.fxml.FXMLLoader;
 import javafx.scene.Parent;
 import javafx.scene.Scene;
 import javafx.scene.effect.DropShadow;
 import javafx.scene.paint.Color;
 import com.comp2042.game.DifficultyManager;
-import java.net.URL;
+import com.comp2042.logic.SimpleBoard;
+import com.comp2042.save.GameSnapshot;
+import com.comp2042.save.SaveManager;
+import com.comp2042.util.Constants;
+import java.io.IOException;
 
 /**
  * MenuController - Controls the main game menu UI.
@@ -21,6 +24,7 @@ import java.net.URL;
  * - Color-coded buttons: Orange for Play, Cyan for Controls, Gray for Exit
  * - Implements smooth scale and drop shadow animations on hover/press
  * - Manages difficulty level selection (1, 5, 10, 15)
+ * - Offers to continue a saved game
  * 
  * @author Umer Imran
  * @version 2.1
@@ -34,6 +38,8 @@ public class MenuController {
     @FXML
     private Button exitButton;
     @FXML
+    private Button continueButton;
+    @FXML
     private Button levelButton;
     @FXML
     private Button obstacleButton;
@@ -49,6 +55,8 @@ public class MenuController {
         updateLevelButtonText();
 
         playButton.setOnAction(e -> startGame());
+        continueButton.setOnAction(e -> continueGame());
+        refresh();
         levelButton.setOnAction(e -> toggleLevel());
         obstacleButton.setOnAction(e -> toggleObstacleMode());
         controlsButton.setOnAction(e -> showControls());
@@ -56,6 +64,7 @@ public class MenuController {
 
         // add button animations
         addButtonAnimation(playButton);
+        addButtonAnimation(continueButton);
         addButtonAnimation(levelButton);
         addButtonAnimation(obstacleButton);
         addButtonAnimation(controlsButton);
@@ -67,6 +76,15 @@ public class MenuController {
         }
     }
 
+    /**
+     * Updates the menu for being shown again (the menu scene is reused).
+     */
+    public void refresh() {
+        boolean saved = SaveManager.getDefault().hasSave();
+        continueButton.setVisible(saved);
+        continueButton.setManaged(saved);
+    }
+
     private void addButtonAnimation(Button button) {
         button.setOnMouseEntered(e -> {
             javafx.animation.ScaleTransition st = new javafx.animation.ScaleTransition(javafx.util.Duration.millis(150),
@@ -129,15 +147,39 @@ public class MenuController {
     }
 
     private void startGame() {
+        startGame(null);
+    }
+
+    /**
+     * Resumes the saved game with its own level and obstacle mode, leaving
+     * the menu's choices as they were. A save that cannot be read is dropped
+     * and a new game starts instead.
+     */
+    private void continueGame() {
+        GameSnapshot snapshot = null;
+        try {
+            snapshot = SaveManager.getDefault().load();
+            if (snapshot != null) {
+                // fail here rather than halfway through building the game scene
+                snapshot.restore(new SimpleBoard(Constants.BOARD_HEIGHT, Constants.BOARD_WIDTH));
+            }
+        } catch (IOException | RuntimeException e) {
+            System.err.println("Could not resume saved game: " + e);
+            SaveManager.getDefault().discard();
+            snapshot = null;
+        }
+        startGame(snapshot);
+    }
+
+    private void startGame(GameSnapshot resume) {
         try {
-            URL location = getClass().getClassLoader().getResource("gameLayout.fxml");
-            FXMLLoader fxmlLoader = new FXMLLoader(location);
-            Parent root = fxmlLoader.load();
-            GuiController controller = fxmlLoader.getController();
+            SceneCache.Layout<GuiController> layout = SceneCache.takeGameLayout();
+            Parent root = layout.getRoot();
+            GuiController controller = layout.getController();
 
-            // Pass the selected difficulty level to the game controller
-            controller.setDifficultyLevel(difficultyManager.getCurrentLevel());
-            controller.setObstacleMode(obstacleMode);
+            // Pass the selected difficulty level (or the saved game's) to the game controller
+            controller.setDifficultyLevel(resume != null ? resume.getLevel() : difficultyManager.getCurrentLevel());
+            controller.setObstacleMode(resume != null ? resume.isObstacleMode() : obstacleMode);
 
             Stage stage = (Stage) playButton.getScene().getWindow();
             Scene gameScene = new Scene(root);
@@ -147,7 +189,7 @@ public class MenuController {
             stage.setTitle("TetrisJFX");
             stage.show();
 
-            new GameController(controller);
+            new GameController(controller, resume);
         } catch (Exception e) {
             e.printStackTrace();
         }
@@ -206,6 +248,8 @@ public class MenuController {
                         GAME CONTROLS:
                           P                  Pause / Resume Game
                           R / N              Restart Game
+                          B                  Toggle AI Demo Mode
+                          F                  Perfect-Clear Hint
 
                         STRATEGY TIPS:
                           • Plan your moves ahead
@@ -1,5 +1,6 @@
 package com.comp2042;
 
+import javafx.animation.Animation;
 import javafx.animation.FadeTransition;
 import javafx.animation.ParallelTransition;
 import javafx.animation.TranslateTransition;
@@ -22,6 +23,7 @@ import javafx.util.Duration;
  * - Shows temporary notification messages (e.g., "+100 Points", "Line Clear!")
  * - Animates notifications with fade and translation effects
  * - Automatically removes notifications after display duration
+ * - Can be reset and shown again with new text (pooled by GuiController)
  * - Applies glow effect for visual emphasis
  * 
  * Animation: Parallel fade-out and upward translation over 1.5 seconds
@@ -31,32 +33,65 @@ import javafx.util.Duration;
  */
 public class NotificationPanel extends BorderPane {
 
+    private final Label score;
+    private final FadeTransition ft = new FadeTransition(Duration.millis(3000), this);
+    private final TranslateTransition tt = new TranslateTransition(Duration.millis(3000), this);
+    private final ParallelTransition transition = new ParallelTransition(tt, ft);
+
     public NotificationPanel(String text) {
         setMinHeight(200);
         setMinWidth(220);
-        final Label score = new Label(text);
+        score = new Label(text);
         score.getStyleClass().add("bonusStyle");
         final Effect glow = new Glow(0.6);
         score.setEffect(glow);
         score.setTextFill(Color.WHITE);
         setCenter(score);
+        ft.setFromValue(1);
+        ft.setToValue(0);
+    }
+
+    /**
+     * Changes the message, so a pooled panel can be shown again.
+     */
+    public void setText(String text) {
+        score.setText(text);
+    }
 
+    /**
+     * @return the fade-out animation, played again on every show
+     */
+    public Animation getAnimation() {
+        return transition;
     }
 
     public void showScore(ObservableList<Node> list) {
-        FadeTransition ft = new FadeTransition(Duration.millis(3000), this);
-        TranslateTransition tt = new TranslateTransition(Duration.millis(3000), this);
+        showScore(() -> list.remove(NotificationPanel.this));
+    }
+
+    /**
+     * Plays the fade-out from the start and runs onFinished at the end
+     * (a pooled panel releases itself there).
+     */
+    public void showScore(Runnable onFinished) {
         tt.setFromY(this.getLayoutY());
         tt.setToY(this.getLayoutY() - 60);
-        ft.setFromValue(1);
-        ft.setToValue(0);
-        ParallelTransition transition = new ParallelTransition(tt, ft);
         transition.setOnFinished(new EventHandler<ActionEvent>() {
             @Override
             public void handle(ActionEvent event) {
-                list.remove(NotificationPanel.this);
+                onFinished.run();
             }
         });
-        transition.play();
+        transition.playFromStart();
+    }
+
+    /**
+     * Stops the animation and restores the panel for reuse.
+     */
+    public void reset() {
+        transition.stop();
+        transition.setOnFinished(null);
+        setOpacity(1);
+        setTranslateY(0);
     }
 }
@@ -4,13 +4,11 @@ import javafx.fxml.FXML;
 import javafx.scene.control.Alert;
 import javafx.scene.control.Button;
 import javafx.stage.Stage;
-import javafx.fxml.FXMLLoader;
 import javafx.scene.Scene;
 import javafx.scene.input.KeyCode;
 import javafx.scene.input.KeyEvent;
 import javafx.scene.effect.DropShadow;
 import javafx.scene.paint.Color;
-import java.net.URL;
 
 /**
  * PauseMenuController - Controls the pause menu UI during gameplay.
@@ -82,6 +80,8 @@ public class PauseMenuController {
                           P                  Pause / Resume Game
                           ESC                Open Pause Menu
                           R / N              Restart Game
+                          B                  Toggle AI Demo Mode
+                          F                  Perfect-Clear Hint
 
                         STRATEGY TIPS:
                           • Plan your moves ahead
@@ -109,12 +109,9 @@ public class PauseMenuController {
                 gameStage = (Stage) mainMenuButton.getScene().getWindow();
             }
 
-            URL location = getClass().getClassLoader().getResource("menu.fxml");
-            FXMLLoader fxmlLoader = new FXMLLoader(location);
-            javafx.scene.Parent root = fxmlLoader.load();
-
-            Scene menuScene = new Scene(root, 600, 700);
+            Scene menuScene = SceneCache.getMenuScene();
             gameStage.setScene(menuScene);
+            gameStage.sizeToScene();
             gameStage.setTitle("Tetris - Main Menu");
             gameStage.show();
         } catch (Exception e) {
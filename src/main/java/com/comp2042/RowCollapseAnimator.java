@@ -1,124 +1,198 @@
 package com.comp2042;
 
+import com.comp2042.ui.TileAtlas;
 import com.comp2042.util.Constants;
 
 import javafx.animation.Animation;
 import javafx.animation.ParallelTransition;
 import javafx.animation.TranslateTransition;
 import javafx.animation.Interpolator;
+import javafx.geometry.Rectangle2D;
+import javafx.scene.SnapshotParameters;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+import javafx.scene.image.WritableImage;
 import javafx.scene.layout.GridPane;
 import javafx.scene.layout.Pane;
-import javafx.scene.paint.Paint;
-import javafx.scene.shape.Rectangle;
+import javafx.scene.paint.Color;
+import javafx.scene.transform.Transform;
 import javafx.util.Duration;
 
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
-import java.util.function.IntFunction;
 
 /**
- * helper class that animates the collapse of rows by creating overlay
- * rectangles
- * representing the filled cells from the "before" board snapshot and
- * translating
- * them down to their new positions.
+ * helper class that animates the collapse of rows. The "before" board
+ * snapshot is drawn once into an image, and each band of rows between
+ * cleared rows slides down as one image slice, so the number of nodes and
+ * animations does not depend on how many cells move (at most one slice per
+ * cleared row).
  */
 public final class RowCollapseAnimator {
 
+    // first board row shown in the GridPane (the GUI hides the top 2 rows)
+    static final int FIRST_VISIBLE_ROW = 2;
+
     private RowCollapseAnimator() {
     }
 
-    public static void animateCollapse(Pane rootPane,
+    /**
+     * Draws the visible rows of a board into an image laid out like the
+     * game grid (transparent where cells are empty), at the window's output
+     * scale so slices stay sharp on HiDPI screens. Cells are copied from the
+     * tile atlas.
+     *
+     * @param arc corner arc of the cells, as the quality governor sets it
+     */
+    public static WritableImage renderBoard(int[][] matrix, GridPane gameGrid, double arc) {
+        double cellSize = Constants.BRICK_SIZE;
+        double scale = outputScale(gameGrid);
+        TileAtlas atlas = TileAtlas.get(scale, arc);
+        double pitchX = cellSize + gameGrid.getHgap();
+        double pitchY = cellSize + gameGrid.getVgap();
+        int rows = Math.max(0, matrix.length - FIRST_VISIBLE_ROW);
+        int cols = matrix.length > 0 ? matrix[0].length : 0;
+
+        Canvas canvas = new Canvas(Math.max(1, cols * pitchX - gameGrid.getHgap()),
+                Math.max(1, rows * pitchY - gameGrid.getVgap()));
+        GraphicsContext g = canvas.getGraphicsContext2D();
+        for (int r = FIRST_VISIBLE_ROW; r < matrix.length; r++) {
+            for (int c = 0; c < matrix[r].length; c++) {
+                atlas.draw(g, matrix[r][c], c * pitchX, (r - FIRST_VISIBLE_ROW) * pitchY);
+            }
+        }
+
+        SnapshotParameters params = new SnapshotParameters();
+        params.setFill(Color.TRANSPARENT);
+        params.setTransform(Transform.scale(scale, scale));
+        return canvas.snapshot(params, null);
+    }
+
+    /**
+     * @return a view of board rows {@code fromRow..toRow} (inclusive) of an
+     *         image from {@link #renderBoard}, placed over those rows of the grid
+     */
+    public static ImageView rowSlice(Image board, GridPane gameGrid, int fromRow, int toRow) {
+        double pitchY = Constants.BRICK_SIZE + gameGrid.getVgap();
+        double width = board.getWidth();
+        double scale = outputScale(gameGrid);
+
+        double top = (fromRow - FIRST_VISIBLE_ROW) * pitchY;
+        double height = (toRow - fromRow + 1) * pitchY - gameGrid.getVgap();
+        ImageView slice = new ImageView(board);
+        slice.setViewport(new Rectangle2D(0, top * scale, width,
+                Math.min(height * scale, board.getHeight() - top * scale)));
+        slice.setFitWidth(width / scale);
+        slice.setFitHeight(height);
+        slice.setLayoutX(gameGrid.getLayoutX());
+        slice.setLayoutY(gameGrid.getLayoutY() + top);
+        slice.setMouseTransparent(true);
+        return slice;
+    }
+
+    public static Animation animateCollapse(Pane rootPane,
             GridPane gameGrid,
             int[][] beforeMatrix,
             int[] clearedRows,
-            IntFunction<Paint> colorProvider,
             Runnable onFinished) {
 
         if (beforeMatrix == null || clearedRows == null || clearedRows.length == 0) {
             if (onFinished != null)
                 onFinished.run();
-            return;
+            return null;
+        }
+        return animateCollapse(rootPane, gameGrid, beforeMatrix, renderBoard(beforeMatrix, gameGrid, Constants.BRICK_ARC_SIZE),
+                clearedRows, onFinished);
+    }
+
+    /**
+     * Same as above, reusing an image of beforeMatrix from {@link #renderBoard}.
+     *
+     * @return the running collapse animation, or null if nothing moves
+     */
+    public static Animation animateCollapse(Pane rootPane,
+            GridPane gameGrid,
+            int[][] beforeMatrix,
+            Image board,
+            int[] clearedRows,
+            Runnable onFinished) {
+
+        if (beforeMatrix == null || clearedRows == null || clearedRows.length == 0) {
+            if (onFinished != null)
+                onFinished.run();
+            return null;
         }
 
         // sort cleared rows to make computations predictable
         int[] sortedCleared = Arrays.copyOf(clearedRows, clearedRows.length);
         Arrays.sort(sortedCleared);
 
-        double cellSize = Constants.BRICK_SIZE;
-        double hGap = gameGrid.getHgap();
         double vGap = gameGrid.getVgap();
 
         List<Animation> transitions = new ArrayList<>();
-        List<Rectangle> overlays = new ArrayList<>();
-
-        // only animate cells that were filled in the snapshot (beforeMatrix[r][c] != 0)
-        for (int r = 0; r < beforeMatrix.length; r++) {
-            for (int c = 0; c < beforeMatrix[r].length; c++) {
-                int colorCode = beforeMatrix[r][c];
-                if (colorCode == 0)
-                    continue;
-
-                // only build overlays for visible rows in the GridPane (GUI uses an offset of
-                // 2)
-                if (r < 2)
-                    continue;
-
-                // compute count of cleared rows below the current row -> that's how many rows
-                // it will drop
-                int delta = 0;
-                for (int cleared : sortedCleared) {
-                    if (cleared > r)
-                        delta++;
-                }
-
-                if (delta == 0)
-                    continue; // this cell doesn't move
-
-                // compute absolute coordinates relative to rootPane
-                double originX = gameGrid.getLayoutX() + c * (cellSize + hGap);
-                double originY = gameGrid.getLayoutY() + (r - 2) * (cellSize + vGap);
-
-                Rectangle overlay = new Rectangle(cellSize, cellSize);
-                overlay.setFill(colorProvider.apply(colorCode));
-                overlay.setArcWidth(Constants.BRICK_ARC_SIZE);
-                overlay.setArcHeight(Constants.BRICK_ARC_SIZE);
-                overlay.setLayoutX(originX);
-                overlay.setLayoutY(originY);
-
-                overlays.add(overlay);
-                rootPane.getChildren().add(overlay);
-
-                TranslateTransition tt = new TranslateTransition(Duration.millis(180 + 40 * delta), overlay);
-                double translateY = delta * (cellSize + vGap);
-                tt.setByY(translateY);
-                // smooth easing and a small stagger based on how far the cell needs to drop
-                tt.setInterpolator(Interpolator.EASE_BOTH);
-                if (delta > 1) {
-                    tt.setDelay(Duration.millis(20L * (delta - 1)));
-                }
-                overlay.setMouseTransparent(true);
-                transitions.add(tt);
+        List<ImageView> overlays = new ArrayList<>();
+
+        // the rows above the i-th cleared row (and below the one before it) all drop
+        // by the number of cleared rows from i on, so each band moves as one slice
+        int bandStart = 0;
+        for (int i = 0; i < sortedCleared.length; i++) {
+            int delta = sortedCleared.length - i;
+            int from = Math.max(bandStart, FIRST_VISIBLE_ROW);
+            int to = sortedCleared[i] - 1;
+            bandStart = sortedCleared[i] + 1;
+            if (from > to || !hasFilledCell(beforeMatrix, from, to))
+                continue; // nothing visible moves in this band
+
+            ImageView overlay = rowSlice(board, gameGrid, from, to);
+            overlays.add(overlay);
+            rootPane.getChildren().add(overlay);
+
+            TranslateTransition tt = new TranslateTransition(Duration.millis(180 + 40 * delta), overlay);
+            double translateY = delta * (Constants.BRICK_SIZE + vGap);
+            tt.setByY(translateY);
+            // smooth easing and a small stagger based on how far the band needs to drop
+            tt.setInterpolator(Interpolator.EASE_BOTH);
+            if (delta > 1) {
+                tt.setDelay(Duration.millis(20L * (delta - 1)));
             }
+            transitions.add(tt);
         }
 
         if (transitions.isEmpty()) {
-            // Nothing to move — clean up overlays (if any) and finish
-            overlays.forEach(rootPane.getChildren()::remove);
+            // Nothing to move
             if (onFinished != null)
                 onFinished.run();
-            return;
+            return null;
         }
 
         ParallelTransition pt = new ParallelTransition();
         pt.getChildren().addAll(transitions);
         pt.setOnFinished(e -> {
-            // cleanup overlay rectangles
-            overlays.forEach(rootPane.getChildren()::remove);
+            // cleanup overlay slices
+            rootPane.getChildren().removeAll(overlays);
             if (onFinished != null)
                 onFinished.run();
         });
         pt.play();
+        return pt;
+    }
+
+    private static double outputScale(GridPane gameGrid) {
+        return gameGrid.getScene() != null && gameGrid.getScene().getWindow() != null
+                ? gameGrid.getScene().getWindow().getOutputScaleX()
+                : 1.0;
+    }
+
+    static boolean hasFilledCell(int[][] matrix, int fromRow, int toRow) {
+        for (int r = fromRow; r <= toRow && r < matrix.length; r++) {
+            for (int cell : matrix[r]) {
+                if (cell != 0)
+                    return true;
+            }
+        }
+        return false;
     }
 }
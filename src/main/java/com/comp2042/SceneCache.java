@@ -0,0 +1,205 @@
+package com.comp2042;
+
+import javafx.fxml.FXMLLoader;
+import javafx.scene.Group;
+import javafx.scene.Parent;
+import javafx.scene.Scene;
+import javafx.stage.Modality;
+import javafx.stage.Stage;
+import javafx.stage.StageStyle;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URL;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * SceneCache - Parses the menu, game and pause layouts once and hands out
+ * the ready-made scene graphs.
+ *
+ * Responsibilities:
+ * - Keep one menu scene and its controller for the whole session
+ * - Parse the game and pause layouts on a background thread while the menu
+ *   is showing (nodes may be built off the FX thread until they are shown)
+ * - Keep a spare game layout parsed ahead: every game needs a fresh
+ *   GuiController, so taking one starts parsing the next
+ * - Keep one pause Stage per game window, so pausing only shows it
+ *
+ * Scenes and stages are only touched on the FX thread; {@link #preload()}
+ * may also be called from a loader thread.
+ *
+ * @author Umer Imran
+ * @version 1.0
+ */
+public final class SceneCache {
+
+    // the menu has one size wherever it is shown from (launch or the pause
+    // menu), since its scene is shared
+    public static final double MENU_WIDTH = 400;
+    public static final double MENU_HEIGHT = 500;
+
+    private static final String MENU_LAYOUT = "menu.fxml";
+    private static final String GAME_LAYOUT = "gameLayout.fxml";
+    private static final String PAUSE_LAYOUT = "pauseMenu.fxml";
+
+    private static final ExecutorService LOADER = Executors.newSingleThreadExecutor(task -> {
+        Thread thread = new Thread(task, "fxml-preload");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private static Scene menuScene;
+    private static MenuController menuController;
+    private static Future<Layout<GuiController>> nextGame;
+    private static Future<Layout<PauseMenuController>> pauseLayout;
+    private static Stage pauseStage;
+
+    private SceneCache() {
+
+    }
+
+    /**
+     * A parsed layout and its controller.
+     */
+    public static final class Layout<C> {
+        private final Parent root;
+        private final C controller;
+
+        Layout(Parent root, C controller) {
+            this.root = root;
+            this.controller = controller;
+        }
+
+        public Parent getRoot() {
+            return root;
+        }
+
+        public C getController() {
+            return controller;
+        }
+    }
+
+    /**
+     * Starts parsing the game and pause layouts in the background. Call once
+     * the first frame is up.
+     */
+    public static synchronized void preload() {
+        if (nextGame == null) {
+            nextGame = LOADER.submit(() -> load(GAME_LAYOUT));
+        }
+        if (pauseLayout == null) {
+            pauseLayout = LOADER.submit(() -> load(PAUSE_LAYOUT));
+        }
+    }
+
+    /**
+     * @return the menu scene, {@link #MENU_WIDTH} x {@link #MENU_HEIGHT},
+     *         parsed on first use and refreshed on every later call (e.g. the
+     *         CONTINUE button)
+     */
+    public static Scene getMenuScene() {
+        if (menuScene == null) {
+            Layout<MenuController> menu = load(MENU_LAYOUT);
+            menuScene = new Scene(menu.getRoot(), MENU_WIDTH, MENU_HEIGHT);
+            menuController = menu.getController();
+        } else {
+            menuController.refresh();
+        }
+        return menuScene;
+    }
+
+    /**
+     * @return a freshly parsed game layout; parsing of the next one starts
+     *         in the background
+     */
+    public static Layout<GuiController> takeGameLayout() {
+        Future<Layout<GuiController>> parsed;
+        synchronized (SceneCache.class) {
+            parsed = nextGame;
+            nextGame = LOADER.submit(() -> load(GAME_LAYOUT));
+        }
+        return parsed != null ? await(parsed) : load(GAME_LAYOUT);
+    }
+
+    /**
+     * Waits until the layouts started by {@link #preload()} are parsed.
+     */
+    static void awaitPreload() {
+        Future<Layout<GuiController>> game;
+        Future<Layout<PauseMenuController>> pause;
+        synchronized (SceneCache.class) {
+            game = nextGame;
+            pause = pauseLayout;
+        }
+        if (game != null) {
+            await(game);
+        }
+        if (pause != null) {
+            await(pause);
+        }
+    }
+
+    /**
+     * @return the pause menu's controller
+     */
+    public static PauseMenuController getPauseController() {
+        return pauseLayout().getController();
+    }
+
+    /**
+     * @return the pause window of a game window, created on first use
+     */
+    public static Stage getPauseStage(Stage owner) {
+        if (pauseStage != null && pauseStage.getOwner() != owner) {
+            // the layout can only belong to one scene at a time
+            pauseStage.getScene().setRoot(new Group());
+            pauseStage = null;
+        }
+        if (pauseStage == null) {
+            Layout<PauseMenuController> layout = pauseLayout();
+            Stage stage = new Stage();
+            stage.initStyle(StageStyle.TRANSPARENT);
+            stage.setScene(new Scene(layout.getRoot()));
+            stage.setTitle("Pause Menu");
+            stage.initOwner(owner);
+            stage.initModality(Modality.APPLICATION_MODAL);
+            layout.getRoot().setOnKeyPressed(layout.getController()::handleKeyEvent);
+            pauseStage = stage;
+        }
+        return pauseStage;
+    }
+
+    private static Layout<PauseMenuController> pauseLayout() {
+        Future<Layout<PauseMenuController>> pause;
+        synchronized (SceneCache.class) {
+            preload();
+            pause = pauseLayout;
+        }
+        return await(pause);
+    }
+
+    private static <C> Layout<C> load(String name) {
+        URL location = SceneCache.class.getClassLoader().getResource(name);
+        FXMLLoader loader = new FXMLLoader(location);
+        try {
+            Parent root = loader.load();
+            return new Layout<>(root, loader.getController());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not load " + name, e);
+        }
+    }
+
+    private static <T> T await(Future<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while loading a layout", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Could not load a layout", e.getCause());
+        }
+    }
+}
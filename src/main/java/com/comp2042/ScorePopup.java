@@ -0,0 +1,68 @@
+package com.comp2042;
+
+import com.comp2042.util.Constants;
+import javafx.animation.Animation;
+import javafx.animation.FadeTransition;
+import javafx.animation.ParallelTransition;
+import javafx.animation.TranslateTransition;
+import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
+import javafx.scene.text.Text;
+import javafx.util.Duration;
+
+/**
+ * ScorePopup - "+N" text that floats up and fades out next to the board
+ * when points are scored.
+ *
+ * Responsibilities:
+ * - Show a bonus with its rise-and-fade animation
+ * - Reset itself so one popup (and its animation) can be shown many times
+ *
+ * @author Umer Imran
+ * @version 1.0
+ */
+public class ScorePopup extends Text {
+
+    private static final Font FONT = Font.font("Verdana", 22);
+
+    private final TranslateTransition moveUp = new TranslateTransition(Duration.millis(Constants.SCORE_POPUP_DURATION_MS), this);
+    private final FadeTransition fadeOut = new FadeTransition(Duration.millis(Constants.SCORE_POPUP_DURATION_MS), this);
+    private final ParallelTransition transition = new ParallelTransition(moveUp, fadeOut);
+
+    public ScorePopup() {
+        setFont(FONT);
+        setFill(Color.WHITESMOKE);
+        setLayoutX(Constants.SCORE_POPUP_OFFSET_X);
+        setLayoutY(Constants.SCORE_POPUP_OFFSET_Y);
+        setMouseTransparent(true);
+        moveUp.setFromY(0);
+        moveUp.setToY(Constants.SCORE_POPUP_MOVE_Y);
+        fadeOut.setFromValue(1.0);
+        fadeOut.setToValue(0.0);
+    }
+
+    public Animation getAnimation() {
+        return transition;
+    }
+
+    /**
+     * Shows a bonus ("+N") from the start of the animation.
+     *
+     * @param onFinished run when the popup has faded out
+     */
+    public void show(String text, Runnable onFinished) {
+        setText(text);
+        transition.setOnFinished(e -> onFinished.run());
+        transition.playFromStart();
+    }
+
+    /**
+     * Stops the animation and restores the popup for reuse.
+     */
+    public void reset() {
+        transition.stop();
+        transition.setOnFinished(null);
+        setOpacity(1);
+        setTranslateY(0);
+    }
+}
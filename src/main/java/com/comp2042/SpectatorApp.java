@@ -0,0 +1,117 @@
+package com.comp2042;
+
+import com.comp2042.ai.AiPlayer;
+import com.comp2042.dto.ViewData;
+import com.comp2042.ui.SpectatorWall;
+import com.comp2042.util.Constants;
+import javafx.animation.AnimationTimer;
+import javafx.application.Application;
+import javafx.scene.Scene;
+import javafx.scene.layout.Pane;
+import javafx.stage.Stage;
+
+import java.util.List;
+
+/**
+ * SpectatorApp - A wall of bot games for tournament screens.
+ *
+ * Responsibilities:
+ * - Run a number of AI games (16 by default, up to 64) headless
+ * - Step every bot at the attract-mode input rate and restart finished
+ *   games after a short pause
+ * - Feed every board to one SpectatorWall, which draws them all on a
+ *   single canvas
+ *
+ * Run with {@code Launcher --spectator [boards]}.
+ *
+ * @author Umer Imran
+ * @version 1.0
+ */
+public class SpectatorApp extends Application {
+
+    static final int DEFAULT_BOARDS = 16;
+    static final int MAX_BOARDS = 64;
+    private static final long STEP_NANOS = Constants.AI_STEP_MS * 1_000_000L;
+    private static final long RESTART_NANOS = 2_000_000_000L;
+
+    private HeadlessGameController[] games;
+    private AiPlayer[] players;
+    private long[] restartAt;
+    private SpectatorWall wall;
+    private AnimationTimer driver;
+
+    @Override
+    public void start(Stage stage) {
+        int boards = boardCount(getParameters().getRaw());
+        games = new HeadlessGameController[boards];
+        players = new AiPlayer[boards];
+        restartAt = new long[boards];
+        wall = new SpectatorWall(boards, 1280, 720);
+        for (int i = 0; i < boards; i++) {
+            games[i] = new HeadlessGameController();
+            games[i].getBoard().newGame(System.nanoTime() + i);
+            players[i] = new AiPlayer(games[i].getBoard(), games[i]);
+            wall.update(i, games[i].getBoard().getBoardMatrix(), games[i].getBoard().getViewData(), 0, false);
+        }
+
+        Pane root = new Pane(wall.getCanvas());
+        wall.getCanvas().widthProperty().bind(root.widthProperty());
+        wall.getCanvas().heightProperty().bind(root.heightProperty());
+        stage.setScene(new Scene(root, 1280, 720));
+        stage.setTitle("Tetris - Spectator (" + boards + " boards)");
+        stage.show();
+
+        driver = new AnimationTimer() {
+            private long lastStep;
+
+            @Override
+            public void handle(long now) {
+                if (lastStep == 0 || now - lastStep >= STEP_NANOS) {
+                    lastStep = now;
+                    step(now);
+                }
+            }
+        };
+        driver.start();
+        wall.start();
+    }
+
+    private void step(long now) {
+        for (int i = 0; i < games.length; i++) {
+            HeadlessGameController game = games[i];
+            if (game.isGameOver()) {
+                if (restartAt[i] == 0) {
+                    restartAt[i] = now + RESTART_NANOS;
+                    wall.update(i, game.getBoard().getBoardMatrix(), null,
+                            game.getBoard().getScore().scoreProperty().get(), true);
+                } else if (now >= restartAt[i]) {
+                    restartAt[i] = 0;
+                    game.createNewGame();
+                }
+                continue;
+            }
+            ViewData view = players[i].step();
+            wall.update(i, game.getBoard().getBoardMatrix(), view,
+                    game.getBoard().getScore().scoreProperty().get(), false);
+        }
+    }
+
+    @Override
+    public void stop() {
+        if (driver != null) {
+            driver.stop();
+            wall.stop();
+        }
+    }
+
+    static int boardCount(List<String> args) {
+        for (String arg : args) {
+            try {
+                return Math.max(1, Math.min(MAX_BOARDS, Integer.parseInt(arg)));
+            } catch (NumberFormatException e) {
+                // not the board count
+            }
+        }
+        return DEFAULT_BOARDS;
+    }
+}
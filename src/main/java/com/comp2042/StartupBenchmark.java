@@ -0,0 +1,122 @@
+package com.comp2042;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * StartupBenchmark - Cold-starts the game repeatedly and reports how long it
+ * takes to show its first frame and to become interactive.
+ *
+ * Responsibilities:
+ * - Launch the game in a fresh JVM per run, in normal and fast-start mode,
+ *   and with an AppCDS archive when one is given and exists
+ * - Point each run at throwaway save and leaderboard files
+ * - Print the median and best time to first frame and to interactive
+ *
+ * Needs a display, since the game really opens its window.
+ *
+ * @author Umer Imran
+ * @version 1.0
+ */
+public final class StartupBenchmark {
+
+    private static final long RUN_TIMEOUT_S = 60;
+
+    private StartupBenchmark() {
+
+    }
+
+    /**
+     * @return {firstFrameMs, interactiveMs} of one cold start
+     */
+    static long[] run(boolean fastStart, Path cdsArchive, Path dataDir) throws IOException, InterruptedException {
+        String java = System.getProperty("java.home") + File.separator + "bin" + File.separator + "java";
+        List<String> command = new ArrayList<>();
+        command.add(java);
+        if (cdsArchive != null) {
+            command.add("-XX:SharedArchiveFile=" + cdsArchive);
+        }
+        command.add("-Dtetris.startup.benchmark=true");
+        command.add("-Dtetris.fastStart=" + fastStart);
+        command.add("-Dtetris.save=" + dataDir.resolve("game.sav"));
+        command.add("-Dtetris.leaderboard=" + dataDir.resolve("leaderboard.log"));
+        command.addAll(Arrays.asList("-cp", System.getProperty("java.class.path"), Launcher.class.getName()));
+
+        ProcessBuilder builder = new ProcessBuilder(command);
+        builder.redirectError(ProcessBuilder.Redirect.INHERIT);
+        Process process = builder.start();
+        long[] times = null;
+        try (BufferedReader out = new BufferedReader(
+                new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = out.readLine()) != null) {
+                if (line.startsWith(StartupTimer.REPORT_PREFIX)) {
+                    times = parse(line);
+                }
+            }
+        }
+        if (!process.waitFor(RUN_TIMEOUT_S, TimeUnit.SECONDS)) {
+            process.destroyForcibly();
+            throw new IOException("Game did not exit within " + RUN_TIMEOUT_S + " s");
+        }
+        if (times == null) {
+            throw new IOException("Game exited with code " + process.exitValue() + " without a startup report");
+        }
+        return times;
+    }
+
+    static long[] parse(String report) {
+        long[] times = new long[2];
+        for (String field : report.split(" ")) {
+            if (field.startsWith("firstFrameMs=")) {
+                times[0] = Long.parseLong(field.substring("firstFrameMs=".length()));
+            } else if (field.startsWith("interactiveMs=")) {
+                times[1] = Long.parseLong(field.substring("interactiveMs=".length()));
+            }
+        }
+        return times;
+    }
+
+    private static void measure(String name, int runs, boolean fastStart, Path cdsArchive, Path dataDir)
+            throws IOException, InterruptedException {
+        long[] firstFrame = new long[runs];
+        long[] interactive = new long[runs];
+        for (int i = 0; i < runs; i++) {
+            long[] times = run(fastStart, cdsArchive, dataDir);
+            firstFrame[i] = times[0];
+            interactive[i] = times[1];
+        }
+        Arrays.sort(firstFrame);
+        Arrays.sort(interactive);
+        System.out.printf("%-14s first frame %5d ms (best %5d)   interactive %5d ms (best %5d)%n", name,
+                firstFrame[runs / 2], firstFrame[0], interactive[runs / 2], interactive[0]);
+    }
+
+    public static void main(String[] args) throws Exception {
+        int runs = args.length > 0 ? Integer.parseInt(args[0]) : 5;
+        Path archive = args.length > 1 ? Paths.get(args[1]) : null;
+        if (archive != null && !Files.isRegularFile(archive)) {
+            System.err.println("No CDS archive at " + archive + ", measuring without it");
+            archive = null;
+        }
+
+        Path dataDir = Files.createTempDirectory("tetris-startup");
+        System.out.println(runs + " cold starts each (median, best)");
+        measure("normal", runs, false, null, dataDir);
+        measure("fast start", runs, true, null, dataDir);
+        if (archive != null) {
+            measure("normal + CDS", runs, false, archive, dataDir);
+            measure("fast + CDS", runs, true, archive, dataDir);
+        }
+    }
+}
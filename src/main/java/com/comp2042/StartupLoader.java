@@ -0,0 +1,83 @@
+package com.comp2042;
+
+import com.comp2042.leaderboard.Leaderboards;
+import javafx.application.Platform;
+import javafx.scene.text.Font;
+
+/**
+ * StartupLoader - Loads what the game needs after the first frame is shown.
+ *
+ * Responsibilities:
+ * - Load the digital font once per session (it used to be loaded for every game)
+ * - Open the leaderboard and parse the game and pause layouts
+ * - Report progress and completion on the FX thread
+ *
+ * @author Umer Imran
+ * @version 1.0
+ */
+public final class StartupLoader {
+
+    private static final String FONT = "digital.ttf";
+    private static final int STEPS = 3;
+
+    private static boolean fontLoaded;
+
+    private StartupLoader() {
+
+    }
+
+    /**
+     * Receives loading progress on the FX thread.
+     */
+    public interface ProgressListener {
+        /**
+         * @param progress fraction of the work done, 0 to 1
+         * @param step     what is being loaded next
+         */
+        void onProgress(double progress, String step);
+    }
+
+    /**
+     * Starts loading on a background thread and returns immediately.
+     *
+     * @param listener   told about each step; may be null
+     * @param onFinished run on the FX thread once everything is loaded
+     */
+    public static void start(ProgressListener listener, Runnable onFinished) {
+        Thread loader = new Thread(() -> {
+            try {
+                report(listener, 0, "fonts");
+                loadFonts();
+                report(listener, 1, "scores");
+                Leaderboards.getDefault();
+                report(listener, 2, "game");
+                SceneCache.preload();
+                SceneCache.awaitPreload();
+                report(listener, STEPS, "menu");
+            } catch (RuntimeException e) {
+                // whatever is missing gets loaded on first use instead
+                System.err.println("Startup loading failed: " + e);
+            }
+            Platform.runLater(onFinished);
+        }, "startup-loader");
+        loader.setDaemon(true);
+        loader.start();
+    }
+
+    /**
+     * Loads the digital font unless that has been done already.
+     */
+    public static synchronized void loadFonts() {
+        if (!fontLoaded) {
+            Font.loadFont(StartupLoader.class.getClassLoader().getResource(FONT).toExternalForm(), 38);
+            fontLoaded = true;
+        }
+    }
+
+    private static void report(ProgressListener listener, int done, String step) {
+        if (listener != null) {
+            double progress = (double) done / STEPS;
+            Platform.runLater(() -> listener.onProgress(progress, step));
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.comp2042;
+
+import com.comp2042.util.Constants;
+import javafx.application.Platform;
+import javafx.scene.Scene;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * StartupTimer - Measures how long the application takes to start.
+ *
+ * Measures, from JVM start:
+ * - time to first frame: the first pulse of the first scene shown
+ * - time to interactive: the first pulse of the menu
+ *
+ * With {@link Constants#STARTUP_BENCHMARK} set, both times are printed on
+ * one line starting with {@link #REPORT_PREFIX} and the application exits,
+ * which is what {@link StartupBenchmark} runs.
+ *
+ * @author Umer Imran
+ * @version 1.0
+ */
+final class StartupTimer {
+
+    static final String REPORT_PREFIX = "STARTUP";
+
+    private static long firstFrameMs = -1;
+
+    private StartupTimer() {
+
+    }
+
+    /**
+     * Records the first frame when the scene's next pulse is laid out.
+     */
+    static void markFirstFrame(Scene scene) {
+        onNextPulse(scene, () -> {
+            if (firstFrameMs < 0) {
+                firstFrameMs = sinceJvmStart();
+            }
+        });
+    }
+
+    /**
+     * Records the application as interactive when the scene's next pulse is
+     * laid out (and the first frame too, if not recorded yet).
+     */
+    static void markInteractive(Scene scene) {
+        onNextPulse(scene, () -> {
+            long interactiveMs = sinceJvmStart();
+            if (firstFrameMs < 0) {
+                firstFrameMs = interactiveMs;
+            }
+            if (Constants.STARTUP_BENCHMARK) {
+                System.out.println(REPORT_PREFIX + " firstFrameMs=" + firstFrameMs + " interactiveMs=" + interactiveMs);
+                Platform.exit();
+            }
+        });
+    }
+
+    private static void onNextPulse(Scene scene, Runnable action) {
+        Runnable once = new Runnable() {
+            @Override
+            public void run() {
+                scene.removePostLayoutPulseListener(this);
+                action.run();
+            }
+        };
+        scene.addPostLayoutPulseListener(once);
+    }
+
+    private static long sinceJvmStart() {
+        return System.currentTimeMillis() - ManagementFactory.getRuntimeMXBean().getStartTime();
+    }
+}
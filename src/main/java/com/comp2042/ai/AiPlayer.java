@@ -0,0 +1,155 @@
+package com.comp2042.ai;
+
+import com.comp2042.dto.DownData;
+import com.comp2042.dto.ViewData;
+import com.comp2042.event.EventSource;
+import com.comp2042.event.EventType;
+import com.comp2042.event.InputEventListener;
+import com.comp2042.event.MoveEvent;
+import com.comp2042.logic.SimpleBoard;
+import com.comp2042.logic.bricks.Brick;
+
+/**
+ * AiPlayer - Computer player that drives the game through the same
+ * InputEventListener interface as the keyboard.
+ *
+ * Responsibilities:
+ * - Ask a PlacementPlanner for a target placement when a new brick spawns
+ * - Steer the brick there one input at a time (hold, rotate, left/right)
+ * - Hard drop once the brick is lined up, or as soon as a move is blocked
+ *
+ * Works headless (with HeadlessGameController as the listener) for soak runs,
+ * and visibly with GameController while GuiController ticks {@link #step()}
+ * for the attract-mode demo.
+ *
+ * @author Umer Imran
+ * @version 1.0
+ */
+public class AiPlayer {
+
+    private static final int MAX_STEPS_PER_PIECE = 32;
+
+    private final SimpleBoard board;
+    private final InputEventListener listener;
+    private PlacementPlanner planner;
+
+    // per-piece steering state
+    private Placement target;
+    private Brick targetBrick;
+    private int lastY;
+    private int steps;
+    private boolean held;
+    private boolean blocked;
+    private boolean dropped;
+    private DownData lastDownData;
+
+    public AiPlayer(SimpleBoard board, InputEventListener listener) {
+        this(board, listener, new GreedyPlanner());
+    }
+
+    public AiPlayer(SimpleBoard board, InputEventListener listener, PlacementPlanner planner) {
+        this.board = board;
+        this.listener = listener;
+        this.planner = planner;
+    }
+
+    /**
+     * Swaps the planning strategy; takes effect from the next brick.
+     *
+     * @param planner the new planner
+     */
+    public void setPlanner(PlacementPlanner planner) {
+        this.planner = planner;
+    }
+
+    /**
+     * Issues a single input towards the current target placement.
+     *
+     * @return the view data returned by the listener for that input
+     */
+    public ViewData step() {
+        if (board.getCurrentBrick() == null) {
+            return null;
+        }
+        ensureTarget();
+        steps++;
+
+        if (target != null && !blocked && steps < MAX_STEPS_PER_PIECE) {
+            if (target.isHold() && !held) {
+                held = true;
+                ViewData viewData = listener.onHoldEvent(move(EventType.DOWN));
+                // the swapped-in brick is the one the target was planned for
+                targetBrick = board.getCurrentBrick();
+                lastY = board.getCurrentY();
+                return viewData;
+            }
+            if (board.getCurrentRotation() != target.getRotation()) {
+                int before = board.getCurrentRotation();
+                ViewData viewData = listener.onRotateEvent(move(EventType.ROTATE));
+                blocked = board.getCurrentRotation() == before;
+                return viewData;
+            }
+            int x = board.getCurrentX();
+            if (x != target.getX()) {
+                ViewData viewData = x < target.getX()
+                        ? listener.onRightEvent(move(EventType.RIGHT))
+                        : listener.onLeftEvent(move(EventType.LEFT));
+                blocked = board.getCurrentX() == x;
+                return viewData;
+            }
+        }
+
+        target = null;
+        dropped = true;
+        lastDownData = listener.onHardDropEvent(move(EventType.DOWN));
+        return lastDownData != null ? lastDownData.getViewData() : null;
+    }
+
+    /**
+     * Issues inputs until the current brick has been hard dropped.
+     *
+     * @return the result of the hard drop (null once the game is over)
+     */
+    public DownData playPiece() {
+        dropped = false;
+        lastDownData = null;
+        while (!dropped && board.getCurrentBrick() != null) {
+            step();
+        }
+        return lastDownData;
+    }
+
+    /**
+     * @return the result of the most recent hard drop, or null if none yet
+     */
+    public DownData getLastDownData() {
+        return lastDownData;
+    }
+
+    /**
+     * @return the placement the AI is currently steering towards
+     */
+    public Placement getTarget() {
+        return target;
+    }
+
+    private void ensureTarget() {
+        Brick current = board.getCurrentBrick();
+        int y = board.getCurrentY();
+        // a brick only ever moves down, so a jump back up means gravity locked
+        // the previous brick and a new one spawned (bricks of one type share an
+        // instance, so identity alone is not enough)
+        if (target == null || current != targetBrick || y < lastY) {
+            target = planner.plan(board);
+            targetBrick = current;
+            steps = 0;
+            held = false;
+            blocked = false;
+        }
+        lastY = y;
+    }
+
+    private static MoveEvent move(EventType type) {
+        return new MoveEvent(type, EventSource.AI);
+    }
+}
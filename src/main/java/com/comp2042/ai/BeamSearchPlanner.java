@@ -0,0 +1,309 @@
+package com.comp2042.ai;
+
+import com.comp2042.logic.SimpleBoard;
+import com.comp2042.logic.Zobrist;
+import com.comp2042.logic.bricks.Brick;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * BeamSearchPlanner - Lookahead planner that searches the current brick, the
+ * hold option and the preview queue.
+ *
+ * Responsibilities:
+ * - Build the known piece sequence (current brick + preview bricks)
+ * - Expand each beam node by every placement of the brick in play, and of the
+ *   brick that the hold key would swap in
+ * - Keep the best {@code beamWidth} nodes per depth
+ * - Return the first move of the best node at the deepest completed depth
+ *
+ * Each depth is expanded in parallel by splitting the beam across
+ * ForkJoinPool RecursiveTasks. The whole decision runs against a time budget:
+ * a depth that does not finish before the deadline is thrown away, so when the
+ * budget is tight the planner falls back to the depth-1 (greedy) answer.
+ *
+ * Different move orders often reach the same position (same board, hold slot
+ * and queue index). Every child is looked up in a TranspositionTable shared by
+ * all workers, and one already reached at this depth of the current decision
+ * is dropped instead of being scored and kept twice.
+ *
+ * @author Umer Imran
+ * @version 1.0
+ */
+public class BeamSearchPlanner implements PlacementPlanner {
+
+    public static final int DEFAULT_DEPTH = 4; // current brick + 3 preview bricks
+    public static final int DEFAULT_BEAM_WIDTH = 8;
+    public static final long DEFAULT_BUDGET_MS = 5;
+    public static final int DEFAULT_TABLE_BITS = 16;
+
+    private static final Comparator<Node> BY_SCORE = Comparator.comparingDouble(n -> n.score);
+
+    private final HeuristicEvaluator evaluator;
+    private final int depth;
+    private final int beamWidth;
+    private final long budgetNanos;
+    private final ForkJoinPool pool;
+    private final TranspositionTable table;
+
+    private int generation;
+    private volatile int lastCompletedDepth;
+
+    public BeamSearchPlanner() {
+        this(new HeuristicEvaluator(), DEFAULT_DEPTH, DEFAULT_BEAM_WIDTH, DEFAULT_BUDGET_MS,
+                ForkJoinPool.commonPool());
+    }
+
+    public BeamSearchPlanner(HeuristicEvaluator evaluator, int depth, int beamWidth, long budgetMs,
+            ForkJoinPool pool) {
+        this(evaluator, depth, beamWidth, budgetMs, pool, new TranspositionTable(DEFAULT_TABLE_BITS));
+    }
+
+    /**
+     * @param evaluator scoring function for leaf positions
+     * @param depth     number of bricks to place per line of play (at least 1)
+     * @param beamWidth nodes kept per depth
+     * @param budgetMs  wall-clock budget per decision in milliseconds
+     * @param pool      pool that runs the expansion tasks
+     * @param table     table used to drop transposed positions (may be shared)
+     */
+    public BeamSearchPlanner(HeuristicEvaluator evaluator, int depth, int beamWidth, long budgetMs,
+            ForkJoinPool pool, TranspositionTable table) {
+        if (depth < 1 || beamWidth < 1) {
+            throw new IllegalArgumentException("Depth and beam width must be at least 1");
+        }
+        this.evaluator = evaluator;
+        this.depth = depth;
+        this.beamWidth = beamWidth;
+        this.budgetNanos = TimeUnit.MILLISECONDS.toNanos(budgetMs);
+        this.pool = pool;
+        this.table = table;
+    }
+
+    @Override
+    public Placement plan(SimpleBoard board) {
+        if (board.getCurrentBrick() == null) {
+            return null;
+        }
+        long deadline = System.nanoTime() + budgetNanos;
+        // a new generation makes every entry of earlier decisions stale
+        generation = (generation + 1) & 0xFFFF;
+
+        // known sequence: current brick followed by the preview queue; one
+        // extra brick so the first hold (empty slot) can still reach `depth`
+        Brick[] preview = board.getPreviewBricks(depth);
+        PieceShape[][] pieces = new PieceShape[preview.length + 1][];
+        pieces[0] = PieceShape.rotationsOf(board.getCurrentBrick());
+        for (int i = 0; i < preview.length; i++) {
+            pieces[i + 1] = PieceShape.rotationsOf(preview[i]);
+        }
+        PieceShape[] held = board.getHeldBrick() != null ? PieceShape.rotationsOf(board.getHeldBrick()) : null;
+
+        List<Node> beam = new ArrayList<>();
+        beam.add(new Node(BoardProfile.fromMatrix(board.getBoardMatrix()), held, 0, 0, 0, null));
+
+        Placement best = null;
+        lastCompletedDepth = 0;
+        for (int d = 1; d <= depth; d++) {
+            // the greedy level always completes and runs inline; deeper
+            // levels are parallel and abandoned once the budget is spent
+            Search search = new Search(pieces, d, generation, d > 1, deadline);
+            List<Node> next = d == 1
+                    ? new ExpandTask(search, beam, 0, beam.size()).compute()
+                    : pool.invoke(new ExpandTask(search, beam, 0, beam.size()));
+            if (next.isEmpty() || search.skipped) {
+                break;
+            }
+            beam = next;
+            best = bestOf(beam).firstMove;
+            lastCompletedDepth = d;
+        }
+        return best;
+    }
+
+    /**
+     * @return number of bricks the last decision looked ahead before the
+     *         budget ran out (1 = greedy fallback)
+     */
+    public int getLastCompletedDepth() {
+        return lastCompletedDepth;
+    }
+
+    private static Node bestOf(List<Node> nodes) {
+        Node best = nodes.get(0);
+        for (Node node : nodes) {
+            if (node.score > best.score) {
+                best = node;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * One search state: board, hold slot and position in the piece sequence.
+     */
+    private static final class Node {
+        final BoardProfile profile;
+        final PieceShape[] held;
+        final int queueIndex;
+        final int lines;
+        final double score;
+        final Placement firstMove;
+
+        Node(BoardProfile profile, PieceShape[] held, int queueIndex, int lines, double score,
+                Placement firstMove) {
+            this.profile = profile;
+            this.held = held;
+            this.queueIndex = queueIndex;
+            this.lines = lines;
+            this.score = score;
+            this.firstMove = firstMove;
+        }
+    }
+
+    /**
+     * Inputs shared by every task expanding one depth.
+     */
+    private static final class Search {
+        final PieceShape[][] pieces;
+        final int level;
+        final int generation;
+        final boolean budgeted;
+        final long deadline;
+        volatile boolean skipped;
+
+        Search(PieceShape[][] pieces, int level, int generation, boolean budgeted, long deadline) {
+            this.pieces = pieces;
+            this.level = level;
+            this.generation = generation;
+            this.budgeted = budgeted;
+            this.deadline = deadline;
+        }
+
+        /**
+         * @return true (and marks the depth incomplete) once the budget is spent
+         */
+        boolean outOfTime() {
+            if (budgeted && System.nanoTime() - deadline > 0) {
+                skipped = true;
+            }
+            return skipped;
+        }
+    }
+
+    /**
+     * Expands a slice of the beam, splitting in halves until a single node is
+     * left. Each task returns at most {@code beamWidth} children, so merging
+     * stays cheap.
+     */
+    @SuppressWarnings("serial") // never serialized; it holds the live search and beam
+    private final class ExpandTask extends RecursiveTask<List<Node>> {
+        private final Search search;
+        private final List<Node> beam;
+        private final int from;
+        private final int to;
+
+        ExpandTask(Search search, List<Node> beam, int from, int to) {
+            this.search = search;
+            this.beam = beam;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected List<Node> compute() {
+            if (to - from > 1) {
+                int mid = (from + to) >>> 1;
+                ExpandTask left = new ExpandTask(search, beam, from, mid);
+                left.fork();
+                List<Node> right = new ExpandTask(search, beam, mid, to).compute();
+                return merge(left.join(), right);
+            }
+            PriorityQueue<Node> top = new PriorityQueue<>(beamWidth + 1, BY_SCORE);
+            if (from < to && !search.outOfTime()) {
+                expand(beam.get(from), top);
+            }
+            return new ArrayList<>(top);
+        }
+
+        private List<Node> merge(List<Node> a, List<Node> b) {
+            PriorityQueue<Node> top = new PriorityQueue<>(beamWidth + 1, BY_SCORE);
+            a.forEach(n -> offer(top, n));
+            b.forEach(n -> offer(top, n));
+            return new ArrayList<>(top);
+        }
+
+        private void expand(Node node, PriorityQueue<Node> top) {
+            PieceShape[][] pieces = search.pieces;
+            int index = node.queueIndex;
+            if (index >= pieces.length) {
+                return;
+            }
+            BoardProfile scratch = new BoardProfile(node.profile.getWidth(), node.profile.getHeight());
+
+            // play the brick in hand
+            expandPiece(node, pieces[index], false, node.held, index + 1, scratch, top);
+
+            // or press hold: the held brick (or, with an empty slot, the next
+            // brick in the queue) comes into play and the current one is kept
+            if (node.held != null) {
+                expandPiece(node, node.held, true, pieces[index], index + 1, scratch, top);
+            } else if (index + 1 < pieces.length) {
+                expandPiece(node, pieces[index + 1], true, pieces[index], index + 2, scratch, top);
+            }
+        }
+
+        private void expandPiece(Node node, PieceShape[] rotations, boolean hold, PieceShape[] heldAfter,
+                int nextIndex, BoardProfile scratch, PriorityQueue<Node> top) {
+            BoardProfile profile = node.profile;
+            long stateKey = Zobrist.hold(heldAfter != null ? heldAfter[0].getColorCode() : 0)
+                    ^ Zobrist.queue(nextIndex);
+            for (PieceShape shape : rotations) {
+                for (int x = shape.minX(); x <= shape.maxX(profile.getWidth()); x++) {
+                    int y = profile.landingRow(shape, x);
+                    if (y < 0) {
+                        continue;
+                    }
+                    scratch.copyFrom(profile);
+                    int lines = node.lines + scratch.place(shape, x, y);
+                    long key = scratch.getHash() ^ stateKey;
+                    if (seen(key)) {
+                        continue;
+                    }
+                    double score = evaluator.evaluate(scratch, lines);
+                    table.store(key, search.level, (float) score, search.generation);
+                    if (top.size() >= beamWidth && score <= top.peek().score) {
+                        continue;
+                    }
+                    Placement move = node.firstMove != null ? node.firstMove
+                            : new Placement(hold, shape.getRotation(), x, y, score);
+                    offer(top, new Node(scratch.copy(), heldAfter, nextIndex, lines, score, move));
+                }
+            }
+        }
+
+        /**
+         * @return true if another line of play already reached this position
+         *         at the current depth of this decision
+         */
+        private boolean seen(long key) {
+            long entry = table.probe(key);
+            return entry != TranspositionTable.MISS
+                    && TranspositionTable.generationOf(entry) == search.generation
+                    && TranspositionTable.depthOf(entry) >= search.level;
+        }
+
+        private void offer(PriorityQueue<Node> top, Node node) {
+            top.offer(node);
+            if (top.size() > beamWidth) {
+                top.poll();
+            }
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package com.comp2042.ai;
+
+/**
+ * BoardBatch - Many candidate boards stored in struct-of-arrays form for
+ * batch feature extraction.
+ *
+ * Holds:
+ * - Row bitmasks, laid out row-major across boards: the masks of row r for
+ *   every board sit next to each other at {@code rows[r * capacity + b]}
+ * - Lines cleared by the placement that produced each board
+ * - Extracted features, one array per feature (column heights again laid
+ *   out as {@code [column * capacity + b]})
+ *
+ * Keeping one row of every board contiguous lets an extractor process a
+ * whole vector of boards with each load, instead of walking one board at a
+ * time. Capacity is padded to a multiple of {@link #LANE_PADDING} so vector
+ * loops never need a scalar tail; padding lanes are empty boards.
+ *
+ * @author Umer Imran
+ * @version 1.0
+ */
+public final class BoardBatch {
+
+    /** Largest int vector length on current hardware (512-bit registers). */
+    public static final int LANE_PADDING = 16;
+
+    final int width;
+    final int height;
+    final int capacity;
+    final int[] rows;
+    final int[] lines;
+
+    // features, filled in by a FeatureExtractor
+    final int[] columnHeights;
+    final int[] aggregateHeight;
+    final int[] maxHeight;
+    final int[] holes;
+    final int[] bumpiness;
+    final int[] wells;
+    final int[] rowTransitions;
+    final int[] columnTransitions;
+
+    private int size;
+
+    /**
+     * @param width    board columns (at most 30, so a row plus both walls fits in an int)
+     * @param height   board rows
+     * @param capacity number of boards the batch can hold
+     */
+    public BoardBatch(int width, int height, int capacity) {
+        if (width < 1 || width > 30 || height < 1 || capacity < 1) {
+            throw new IllegalArgumentException("Unsupported batch dimensions");
+        }
+        this.width = width;
+        this.height = height;
+        this.capacity = (capacity + LANE_PADDING - 1) / LANE_PADDING * LANE_PADDING;
+        this.rows = new int[height * this.capacity];
+        this.lines = new int[this.capacity];
+        this.columnHeights = new int[width * this.capacity];
+        this.aggregateHeight = new int[this.capacity];
+        this.maxHeight = new int[this.capacity];
+        this.holes = new int[this.capacity];
+        this.bumpiness = new int[this.capacity];
+        this.wells = new int[this.capacity];
+        this.rowTransitions = new int[this.capacity];
+        this.columnTransitions = new int[this.capacity];
+    }
+
+    /**
+     * Appends a board to the batch.
+     *
+     * @param profile      the board (same dimensions as the batch)
+     * @param linesCleared rows completed by the placement that produced it
+     * @return index of the board within the batch
+     */
+    public int add(BoardProfile profile, int linesCleared) {
+        if (size == capacity) {
+            throw new IllegalStateException("Batch is full");
+        }
+        int b = size++;
+        for (int r = 0; r < height; r++) {
+            rows[r * capacity + b] = profile.getRowBits(r);
+        }
+        lines[b] = linesCleared;
+        return b;
+    }
+
+    /**
+     * Empties the batch. Rows of the previous boards are zeroed so padding
+     * lanes keep describing empty boards.
+     */
+    public void clear() {
+        for (int r = 0; r < height; r++) {
+            java.util.Arrays.fill(rows, r * capacity, r * capacity + size, 0);
+        }
+        size = 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    // ========== FEATURES ==========
+
+    public int getLines(int b) {
+        return lines[b];
+    }
+
+    public int getColumnHeight(int b, int col) {
+        return columnHeights[col * capacity + b];
+    }
+
+    public int getAggregateHeight(int b) {
+        return aggregateHeight[b];
+    }
+
+    public int getMaxHeight(int b) {
+        return maxHeight[b];
+    }
+
+    public int getHoles(int b) {
+        return holes[b];
+    }
+
+    public int getBumpiness(int b) {
+        return bumpiness[b];
+    }
+
+    public int getWells(int b) {
+        return wells[b];
+    }
+
+    public int getRowTransitions(int b) {
+        return rowTransitions[b];
+    }
+
+    public int getColumnTransitions(int b) {
+        return columnTransitions[b];
+    }
+}
@@ -0,0 +1,317 @@
+package com.comp2042.ai;
+
+import com.comp2042.logic.Zobrist;
+
+/**
+ * BoardProfile - Compact, mutable board model used by the AI while searching.
+ *
+ * Holds:
+ * - One bitmask per board row (bit c set = column c occupied)
+ * - Column heights measured from the floor (0 = empty column)
+ * - Hole count per column (empty cells covered by a filled cell)
+ * - Zobrist hash of the occupied cells (same keys as SimpleBoard)
+ *
+ * The profile is built from the game matrix once per decision. After that,
+ * placing a piece only touches the columns the piece covers: the landing row
+ * comes straight from the height array and heights/holes are patched in place.
+ * Rows are only rescanned (as bitmasks) on the rare placements that complete
+ * lines.
+ *
+ * @author Umer Imran
+ * @version 1.0
+ */
+public final class BoardProfile {
+
+    private final int width;
+    private final int height;
+    private final int fullRowMask;
+    private final int[] rows;
+    private final int[] heights;
+    private final int[] holes;
+    private long hash;
+
+    public BoardProfile(int width, int height) {
+        this.width = width;
+        this.height = height;
+        this.fullRowMask = (1 << width) - 1;
+        this.rows = new int[height];
+        this.heights = new int[width];
+        this.holes = new int[width];
+    }
+
+    /**
+     * Builds a profile from a game matrix laid out as [row][column].
+     *
+     * @param matrix the board matrix (non-zero = occupied)
+     * @return a new profile describing the matrix
+     */
+    public static BoardProfile fromMatrix(int[][] matrix) {
+        BoardProfile profile = new BoardProfile(matrix[0].length, matrix.length);
+        profile.load(matrix);
+        return profile;
+    }
+
+    /**
+     * Overwrites this profile with the contents of a game matrix of the same
+     * dimensions.
+     *
+     * @param matrix the board matrix (non-zero = occupied)
+     */
+    public void load(int[][] matrix) {
+        for (int r = 0; r < height; r++) {
+            int bits = 0;
+            for (int c = 0; c < width; c++) {
+                if (matrix[r][c] != 0) {
+                    bits |= 1 << c;
+                }
+            }
+            rows[r] = bits;
+        }
+        recomputeColumns();
+        recomputeHash();
+    }
+
+    /**
+     * Copies another profile of the same dimensions into this one without
+     * allocating.
+     *
+     * @param other the profile to copy
+     */
+    public void copyFrom(BoardProfile other) {
+        System.arraycopy(other.rows, 0, rows, 0, height);
+        System.arraycopy(other.heights, 0, heights, 0, width);
+        System.arraycopy(other.holes, 0, holes, 0, width);
+        hash = other.hash;
+    }
+
+    public BoardProfile copy() {
+        BoardProfile copy = new BoardProfile(width, height);
+        copy.copyFrom(this);
+        return copy;
+    }
+
+    /**
+     * Computes the row offset at which a shape comes to rest when dropped
+     * straight down at column offset x.
+     *
+     * @param shape the rotation state to drop
+     * @param x     column offset of the shape matrix
+     * @return the resting row offset, or -1 if the shape does not fit
+     */
+    public int landingRow(PieceShape shape, int x) {
+        if (x < shape.minX() || x > shape.maxX(width)) {
+            return -1;
+        }
+        int y = Integer.MAX_VALUE;
+        for (int c = shape.getMinCol(); c <= shape.getMaxCol(); c++) {
+            int bottom = shape.getColumnBottom(c);
+            if (bottom < 0) {
+                continue;
+            }
+            int rest = height - heights[x + c] - 1 - bottom;
+            if (rest < y) {
+                y = rest;
+            }
+        }
+        if (y + shape.getMinRow() < 0) {
+            return -1;
+        }
+        return y;
+    }
+
+    /**
+     * Collision test matching the game's rules: every occupied cell of the
+     * shape must be on the board and on an empty cell.
+     *
+     * @param shape the rotation state to test
+     * @param x     column offset of the shape matrix
+     * @param y     row offset of the shape matrix
+     * @return true if the shape can occupy (x, y)
+     */
+    public boolean fits(PieceShape shape, int x, int y) {
+        if (x < shape.minX() || x > shape.maxX(width)
+                || y + shape.getMinRow() < 0 || y + shape.getMaxRow() >= height) {
+            return false;
+        }
+        for (int r = shape.getMinRow(); r <= shape.getMaxRow(); r++) {
+            if ((rows[y + r] & PieceShape.shift(shape.getRowBits(r), x)) != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Merges a shape into the profile at (x, y), updating the heights and
+     * holes of the covered columns and removing any completed rows. Any row
+     * the shape fits at is allowed: a column where the shape was tucked under
+     * existing cells, rather than dropped onto them, is rescanned.
+     *
+     * @param shape the rotation state to place
+     * @param x     column offset of the shape matrix
+     * @param y     row offset of the shape matrix (see {@link #landingRow}
+     *              and {@link #fits})
+     * @return number of rows cleared by the placement
+     */
+    public int place(PieceShape shape, int x, int y) {
+        int cleared = 0;
+        for (int r = shape.getMinRow(); r <= shape.getMaxRow(); r++) {
+            int row = y + r;
+            int bits = PieceShape.shift(shape.getRowBits(r), x);
+            rows[row] |= bits;
+            hash ^= Zobrist.row(row, bits);
+            if (rows[row] == fullRowMask) {
+                cleared++;
+            }
+        }
+
+        if (cleared > 0) {
+            removeFullRows();
+            recomputeColumns();
+            recomputeHash();
+            return cleared;
+        }
+
+        for (int c = shape.getMinCol(); c <= shape.getMaxCol(); c++) {
+            int bottom = shape.getColumnBottom(c);
+            if (bottom < 0) {
+                continue;
+            }
+            int col = x + c;
+            int below = height - (y + bottom) - 1;
+            if (below < heights[col]) {
+                recomputeColumn(col); // tucked under an overhang
+                continue;
+            }
+            holes[col] += below - heights[col];
+            heights[col] = height - (y + shape.getColumnTop(c));
+        }
+        return 0;
+    }
+
+    private void removeFullRows() {
+        int write = height - 1;
+        for (int read = height - 1; read >= 0; read--) {
+            if (rows[read] != fullRowMask) {
+                rows[write--] = rows[read];
+            }
+        }
+        while (write >= 0) {
+            rows[write--] = 0;
+        }
+    }
+
+    private void recomputeColumns() {
+        for (int c = 0; c < width; c++) {
+            recomputeColumn(c);
+        }
+    }
+
+    private void recomputeColumn(int c) {
+        int bit = 1 << c;
+        int h = 0;
+        int covered = 0;
+        for (int r = 0; r < height; r++) {
+            if ((rows[r] & bit) != 0) {
+                if (h == 0) {
+                    h = height - r;
+                }
+            } else if (h != 0) {
+                covered++;
+            }
+        }
+        heights[c] = h;
+        holes[c] = covered;
+    }
+
+    private void recomputeHash() {
+        long h = 0;
+        for (int r = 0; r < height; r++) {
+            h ^= Zobrist.row(r, rows[r]);
+        }
+        hash = h;
+    }
+
+    /**
+     * @return Zobrist hash of the occupied cells
+     */
+    public long getHash() {
+        return hash;
+    }
+
+    // ========== FEATURES ==========
+
+    public int aggregateHeight() {
+        int sum = 0;
+        for (int h : heights) {
+            sum += h;
+        }
+        return sum;
+    }
+
+    public int maxHeight() {
+        int max = 0;
+        for (int h : heights) {
+            max = Math.max(max, h);
+        }
+        return max;
+    }
+
+    public int holes() {
+        int sum = 0;
+        for (int h : holes) {
+            sum += h;
+        }
+        return sum;
+    }
+
+    public int bumpiness() {
+        int sum = 0;
+        for (int c = 1; c < width; c++) {
+            sum += Math.abs(heights[c] - heights[c - 1]);
+        }
+        return sum;
+    }
+
+    /**
+     * Sum of well depths: how far each column sits below both neighbours
+     * (board walls count as infinitely high).
+     */
+    public int wells() {
+        int sum = 0;
+        for (int c = 0; c < width; c++) {
+            int left = c == 0 ? height : heights[c - 1];
+            int right = c == width - 1 ? height : heights[c + 1];
+            int depth = Math.min(left, right) - heights[c];
+            if (depth > 0) {
+                sum += depth;
+            }
+        }
+        return sum;
+    }
+
+    public boolean isEmpty() {
+        for (int h : heights) {
+            if (h != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    public int getColumnHeight(int col) {
+        return heights[col];
+    }
+
+    public int getRowBits(int row) {
+        return rows[row];
+    }
+}
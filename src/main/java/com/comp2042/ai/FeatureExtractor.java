@@ -0,0 +1,49 @@
+package com.comp2042.ai;
+
+/**
+ * FeatureExtractor - Computes the placement features of every board in a
+ * BoardBatch in one call.
+ *
+ * Features (per board):
+ * - Column heights, aggregate and maximum height
+ * - Holes (empty cells with a filled cell above them)
+ * - Bumpiness and well depths (as in BoardProfile)
+ * - Row transitions (filled/empty changes along non-empty rows, walls filled)
+ * - Column transitions (changes down each column, floor filled)
+ *
+ * Two implementations exist: ScalarFeatureExtractor, always available, and
+ * VectorFeatureExtractor, which uses the incubating JDK Vector API. The vector
+ * class is only compiled by the {@code vector} Maven profile and only chosen
+ * at runtime when the {@value #VECTOR_PROPERTY} system property is true.
+ *
+ * @author Umer Imran
+ * @version 1.0
+ */
+public interface FeatureExtractor {
+
+    String VECTOR_PROPERTY = "tetris.ai.vector";
+    String VECTOR_CLASS = "com.comp2042.ai.VectorFeatureExtractor";
+
+    /**
+     * Fills the feature arrays of the first {@code batch.size()} boards.
+     *
+     * @param batch the boards to analyse
+     */
+    void extract(BoardBatch batch);
+
+    /**
+     * @return the vector extractor if requested and available on this JVM,
+     *         otherwise the scalar one
+     */
+    static FeatureExtractor create() {
+        if (Boolean.getBoolean(VECTOR_PROPERTY)) {
+            try {
+                return (FeatureExtractor) Class.forName(VECTOR_CLASS).getDeclaredConstructor().newInstance();
+            } catch (ReflectiveOperationException | LinkageError e) {
+                // not built with -Pvector, or jdk.incubator.vector not added at runtime
+                System.err.println("Vector feature extractor unavailable, using scalar: " + e);
+            }
+        }
+        return new ScalarFeatureExtractor();
+    }
+}
@@ -0,0 +1,88 @@
+package com.comp2042.ai;
+
+import com.comp2042.logic.SimpleBoard;
+
+/**
+ * GreedyPlanner - One-ply planner that tries every rotation and column of the
+ * current brick and keeps the best-scoring result.
+ *
+ * A single scratch profile is reused for every candidate, so a decision costs
+ * one matrix scan plus a handful of column updates per candidate. The
+ * resulting boards are collected into a BoardBatch and scored together by a
+ * FeatureExtractor (the vector implementation when enabled).
+ *
+ * Not thread-safe: the batch and candidate arrays are reused between
+ * decisions, so an instance must be confined to one thread. Every AiPlayer
+ * and simulation worker creates its own planner.
+ *
+ * @author Umer Imran
+ * @version 1.0
+ */
+public class GreedyPlanner implements PlacementPlanner {
+
+    private static final int MAX_ROTATIONS = 4;
+
+    private final HeuristicEvaluator evaluator;
+    private final FeatureExtractor extractor;
+
+    // reused between decisions; confined to the thread that calls plan()
+    private BoardBatch batch;
+    private int[] candidates;
+
+    public GreedyPlanner() {
+        this(new HeuristicEvaluator());
+    }
+
+    public GreedyPlanner(HeuristicEvaluator evaluator) {
+        this(evaluator, FeatureExtractor.create());
+    }
+
+    public GreedyPlanner(HeuristicEvaluator evaluator, FeatureExtractor extractor) {
+        this.evaluator = evaluator;
+        this.extractor = extractor;
+    }
+
+    @Override
+    public Placement plan(SimpleBoard board) {
+        if (board.getCurrentBrick() == null) {
+            return null;
+        }
+        BoardProfile profile = BoardProfile.fromMatrix(board.getBoardMatrix());
+        BoardProfile scratch = new BoardProfile(profile.getWidth(), profile.getHeight());
+        PieceShape[] rotations = PieceShape.rotationsOf(board.getCurrentBrick());
+        ensureBatch(profile);
+
+        // drop every candidate, then extract all their features in one pass
+        batch.clear();
+        for (PieceShape shape : rotations) {
+            for (int x = shape.minX(); x <= shape.maxX(profile.getWidth()); x++) {
+                int y = profile.landingRow(shape, x);
+                if (y < 0) {
+                    continue;
+                }
+                scratch.copyFrom(profile);
+                int index = batch.add(scratch, scratch.place(shape, x, y));
+                candidates[index * 3] = shape.getRotation();
+                candidates[index * 3 + 1] = x;
+                candidates[index * 3 + 2] = y;
+            }
+        }
+        extractor.extract(batch);
+
+        Placement best = null;
+        for (int i = 0; i < batch.size(); i++) {
+            double score = evaluator.evaluate(batch, i);
+            if (best == null || score > best.getScore()) {
+                best = new Placement(candidates[i * 3], candidates[i * 3 + 1], candidates[i * 3 + 2], score);
+            }
+        }
+        return best;
+    }
+
+    private void ensureBatch(BoardProfile profile) {
+        if (batch == null || batch.getWidth() != profile.getWidth() || batch.getHeight() != profile.getHeight()) {
+            batch = new BoardBatch(profile.getWidth(), profile.getHeight(), MAX_ROTATIONS * profile.getWidth());
+            candidates = new int[batch.capacity() * 3];
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.comp2042.ai;
+
+/**
+ * HeuristicEvaluator - Scores a board position for the AI player.
+ *
+ * Linear combination of the standard placement features:
+ * - Aggregate height (sum of column heights)
+ * - Completed lines
+ * - Holes (empty cells with a filled cell above them)
+ * - Bumpiness (sum of height differences between neighbouring columns)
+ * - Wells (depth of columns sitting below both neighbours)
+ *
+ * Higher scores are better. Default weights follow the well-known
+ * genetically tuned values for the first four features, with a light well
+ * penalty on top.
+ *
+ * @author Umer Imran
+ * @version 1.0
+ */
+public final class HeuristicEvaluator {
+
+    public static final double DEFAULT_HEIGHT_WEIGHT = -0.510066;
+    public static final double DEFAULT_LINES_WEIGHT = 0.760666;
+    public static final double DEFAULT_HOLES_WEIGHT = -0.35663;
+    public static final double DEFAULT_BUMPINESS_WEIGHT = -0.184483;
+    public static final double DEFAULT_WELLS_WEIGHT = -0.05;
+
+    private final double heightWeight;
+    private final double linesWeight;
+    private final double holesWeight;
+    private final double bumpinessWeight;
+    private final double wellsWeight;
+
+    public HeuristicEvaluator() {
+        this(DEFAULT_HEIGHT_WEIGHT, DEFAULT_LINES_WEIGHT, DEFAULT_HOLES_WEIGHT,
+                DEFAULT_BUMPINESS_WEIGHT, DEFAULT_WELLS_WEIGHT);
+    }
+
+    public HeuristicEvaluator(double heightWeight, double linesWeight, double holesWeight,
+            double bumpinessWeight, double wellsWeight) {
+        this.heightWeight = heightWeight;
+        this.linesWeight = linesWeight;
+        this.holesWeight = holesWeight;
+        this.bumpinessWeight = bumpinessWeight;
+        this.wellsWeight = wellsWeight;
+    }
+
+    /**
+     * Scores a position reached by a placement.
+     *
+     * @param profile      the board after the placement (lines already removed)
+     * @param linesCleared rows completed by the placement
+     * @return the weighted feature sum (higher is better)
+     */
+    public double evaluate(BoardProfile profile, int linesCleared) {
+        return heightWeight * profile.aggregateHeight()
+                + linesWeight * linesCleared
+                + holesWeight * profile.holes()
+                + bumpinessWeight * profile.bumpiness()
+                + wellsWeight * profile.wells();
+    }
+
+    /**
+     * Scores one board of a batch whose features have been extracted.
+     *
+     * @param batch the batch (after {@link FeatureExtractor#extract})
+     * @param index board index within the batch
+     * @return the weighted feature sum (higher is better)
+     */
+    public double evaluate(BoardBatch batch, int index) {
+        return heightWeight * batch.getAggregateHeight(index)
+                + linesWeight * batch.getLines(index)
+                + holesWeight * batch.getHoles(index)
+                + bumpinessWeight * batch.getBumpiness(index)
+                + wellsWeight * batch.getWells(index);
+    }
+}
@@ -0,0 +1,496 @@
+package com.comp2042.ai;
+
+import com.comp2042.logic.SimpleBoard;
+import com.comp2042.logic.Zobrist;
+import com.comp2042.logic.bricks.Brick;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * PerfectClearSolver - Searches the known piece sequence for a line of play
+ * that empties the board completely (a "perfect clear").
+ *
+ * Responsibilities:
+ * - Snapshot the board, falling brick, hold slot and preview queue
+ * - Enumerate every placement a brick can actually reach from its spawn
+ *   (breadth-first over left/right/down/rotate with the game's collision
+ *   rules, so tucks under overhangs count, not just straight drops)
+ * - Depth-first search over those placements, with and without hold
+ * - Prune positions that cannot be finished (cell count, column parity and
+ *   region size checks)
+ * - Remember positions already proven dead in a shared TranspositionTable
+ *
+ * Clear heights are tried from the lowest that fits the stack up to
+ * {@code maxHeight}; no placement may poke above the height being tried. The
+ * first levels of the search tree run as ForkJoin tasks, and the first task
+ * to find a solution stops the rest.
+ *
+ * The search runs on the pool, never on the calling thread, and is controlled
+ * through the returned CompletableFuture: cancelling it (or completing it
+ * with a timeout) stops every worker at its next node. That makes it safe to
+ * use as an on-demand hint from the FX thread.
+ *
+ * @author Umer Imran
+ * @version 1.0
+ */
+public class PerfectClearSolver {
+
+    public static final int DEFAULT_MAX_HEIGHT = 4;
+    public static final int DEFAULT_TABLE_BITS = 18;
+
+    private static final int PARALLEL_DEPTH = 2;
+    private static final int SPAWN_X = 4;
+    private static final int SPAWN_Y = 0;
+    private static final int X_MARGIN = 4; // shape columns may hang off either side
+
+    private final ForkJoinPool pool;
+    private final TranspositionTable table;
+    private final int maxHeight;
+    private final AtomicInteger generation = new AtomicInteger();
+
+    public PerfectClearSolver() {
+        this(ForkJoinPool.commonPool(), new TranspositionTable(DEFAULT_TABLE_BITS), DEFAULT_MAX_HEIGHT);
+    }
+
+    /**
+     * @param pool      pool that runs the search
+     * @param table     table recording dead positions (may be shared)
+     * @param maxHeight tallest perfect clear to look for, in rows
+     */
+    public PerfectClearSolver(ForkJoinPool pool, TranspositionTable table, int maxHeight) {
+        if (maxHeight < 1) {
+            throw new IllegalArgumentException("Max height must be at least 1");
+        }
+        this.pool = pool;
+        this.table = table;
+        this.maxHeight = maxHeight;
+    }
+
+    /**
+     * Starts a search from the live game state. The board is only read on the
+     * calling thread (it is not thread-safe); the search itself runs on the pool.
+     *
+     * @param board the game board
+     * @return future of the placements in play order, completed with null if
+     *         no perfect clear exists within the known pieces
+     */
+    public CompletableFuture<List<Placement>> start(SimpleBoard board) {
+        if (board.getCurrentBrick() == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+        int[][] matrix = board.getBoardMatrix();
+        // enough pieces to fill the tallest clear from empty, plus one for hold
+        Brick[] queue = board.getPreviewBricks(maxHeight * matrix[0].length / 4 + 1);
+        return start(matrix, board.getCurrentBrick(), board.getHeldBrick(), queue);
+    }
+
+    /**
+     * Starts a search from an explicit position.
+     *
+     * @param matrix  board matrix laid out as [row][column]
+     * @param current the brick in play
+     * @param held    the held brick, or null for an empty hold slot
+     * @param queue   the bricks that follow, in order
+     * @return future of the placements in play order, completed with null if
+     *         no perfect clear exists within the known pieces
+     */
+    public CompletableFuture<List<Placement>> start(int[][] matrix, Brick current, Brick held, Brick[] queue) {
+        BoardProfile root = BoardProfile.fromMatrix(matrix);
+        PieceShape[][] pieces = new PieceShape[queue.length + 1][];
+        pieces[0] = PieceShape.rotationsOf(current);
+        for (int i = 0; i < queue.length; i++) {
+            pieces[i + 1] = PieceShape.rotationsOf(queue[i]);
+        }
+        PieceShape[] heldShapes = held != null ? PieceShape.rotationsOf(held) : null;
+
+        CompletableFuture<List<Placement>> result = new CompletableFuture<>();
+        pool.execute(() -> {
+            try {
+                result.complete(solve(root, pieces, heldShapes, result));
+            } catch (RuntimeException e) {
+                result.completeExceptionally(e);
+            }
+        });
+        return result;
+    }
+
+    private List<Placement> solve(BoardProfile root, PieceShape[][] pieces, PieceShape[] held,
+            CompletableFuture<List<Placement>> result) {
+        int width = root.getWidth();
+        int filled = 0;
+        for (int r = 0; r < root.getHeight(); r++) {
+            filled += Integer.bitCount(root.getRowBits(r));
+        }
+        int available = pieces.length + (held != null ? 1 : 0);
+
+        for (int height = Math.max(1, root.maxHeight()); height <= maxHeight; height++) {
+            int cells = height * width - filled;
+            if (cells <= 0 || cells % 4 != 0 || cells / 4 > available) {
+                continue;
+            }
+            Solve solve = new Solve(pieces, generation.incrementAndGet() & 0xFFFF, result);
+            solve.search(new Node(root, held, 0, height, null), 0);
+            if (solve.solution.get() != null) {
+                return solve.solution.get();
+            }
+            if (result.isDone()) {
+                break;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * One state of the search: board, hold slot, queue position, remaining
+     * clear height, and the move that led here.
+     */
+    private static final class Node {
+        final BoardProfile profile;
+        final PieceShape[] held;
+        final int index;
+        final int limit;
+        final Step path;
+
+        Node(BoardProfile profile, PieceShape[] held, int index, int limit, Step path) {
+            this.profile = profile;
+            this.held = held;
+            this.index = index;
+            this.limit = limit;
+            this.path = path;
+        }
+    }
+
+    /**
+     * Immutable linked list of moves, newest first; shared between siblings.
+     */
+    private static final class Step {
+        final Placement move;
+        final Step previous;
+
+        Step(Placement move, Step previous) {
+            this.move = move;
+            this.previous = previous;
+        }
+
+        List<Placement> toList() {
+            List<Placement> moves = new ArrayList<>();
+            for (Step step = this; step != null; step = step.previous) {
+                moves.add(step.move);
+            }
+            Collections.reverse(moves);
+            return moves;
+        }
+    }
+
+    /**
+     * One search for a fixed clear height.
+     */
+    private final class Solve {
+        final PieceShape[][] pieces;
+        final int generation;
+        final CompletableFuture<List<Placement>> result;
+        final AtomicReference<List<Placement>> solution = new AtomicReference<>();
+
+        Solve(PieceShape[][] pieces, int generation, CompletableFuture<List<Placement>> result) {
+            this.pieces = pieces;
+            this.generation = generation;
+            this.result = result;
+        }
+
+        boolean stopped() {
+            return solution.get() != null || result.isDone();
+        }
+
+        boolean search(Node node, int depth) {
+            if (stopped()) {
+                return false;
+            }
+            if (depth > 0 && node.profile.isEmpty()) {
+                solution.compareAndSet(null, node.path.toList());
+                return true;
+            }
+            long key = node.profile.getHash()
+                    ^ Zobrist.hold(node.held != null ? node.held[0].getColorCode() : 0)
+                    ^ Zobrist.queue(node.index);
+            long entry = table.probe(key);
+            if (entry != TranspositionTable.MISS && TranspositionTable.generationOf(entry) == generation) {
+                return false;
+            }
+            if (!feasible(node)) {
+                table.store(key, 0, 0f, generation);
+                return false;
+            }
+
+            List<Node> children = expand(node);
+            if (depth < PARALLEL_DEPTH) {
+                List<NodeTask> tasks = new ArrayList<>(children.size());
+                for (Node child : children) {
+                    tasks.add(new NodeTask(this, child, depth + 1));
+                }
+                for (NodeTask task : ForkJoinTask.invokeAll(tasks)) {
+                    if (task.join()) {
+                        return true;
+                    }
+                }
+            } else {
+                for (Node child : children) {
+                    if (search(child, depth + 1)) {
+                        return true;
+                    }
+                }
+            }
+            if (!stopped()) {
+                // fully explored without success (results cut short don't count)
+                table.store(key, 0, 0f, generation);
+            }
+            return false;
+        }
+
+        /**
+         * Every child position: each reachable placement of the brick in hand,
+         * and of the brick the hold key would swap in.
+         */
+        List<Node> expand(Node node) {
+            List<Node> children = new ArrayList<>();
+            int index = node.index;
+            if (index >= pieces.length) {
+                return children;
+            }
+            PieceShape[] current = pieces[index];
+            addPlacements(node, current, false, node.held, index + 1, children);
+            if (node.held != null) {
+                if (node.held[0].getColorCode() != current[0].getColorCode()) {
+                    addPlacements(node, node.held, true, current, index + 1, children);
+                }
+            } else if (index + 1 < pieces.length) {
+                addPlacements(node, pieces[index + 1], true, current, index + 2, children);
+            }
+            return children;
+        }
+
+        private void addPlacements(Node node, PieceShape[] rotations, boolean hold, PieceShape[] heldAfter,
+                int nextIndex, List<Node> children) {
+            BoardProfile profile = node.profile;
+            int floorLimit = profile.getHeight() - node.limit;
+            for (int[] landing : reachablePlacements(profile, rotations)) {
+                PieceShape shape = rotations[landing[0]];
+                int x = landing[1];
+                int y = landing[2];
+                if (y + shape.getMinRow() < floorLimit) {
+                    continue; // would stick out above the clear height
+                }
+                BoardProfile next = profile.copy();
+                int cleared = next.place(shape, x, y);
+                Placement move = new Placement(hold, shape.getRotation(), x, y, 0);
+                children.add(new Node(next, heldAfter, nextIndex, node.limit - cleared, new Step(move, node.path)));
+            }
+        }
+
+        /**
+         * Cheap necessary conditions for the remaining cells to be fillable.
+         */
+        private boolean feasible(Node node) {
+            BoardProfile profile = node.profile;
+            int width = profile.getWidth();
+            int height = profile.getHeight();
+            if (profile.maxHeight() > node.limit) {
+                return false;
+            }
+
+            // cell count: the empty cells must be covered by the pieces left
+            int evenEmpty = 0;
+            int oddEmpty = 0;
+            int evenColumns = 0x55555555 & ((1 << width) - 1);
+            for (int r = height - node.limit; r < height; r++) {
+                int empty = ~profile.getRowBits(r) & ((1 << width) - 1);
+                evenEmpty += Integer.bitCount(empty & evenColumns);
+                oddEmpty += Integer.bitCount(empty & ~evenColumns);
+            }
+            int needed = (evenEmpty + oddEmpty) / 4;
+            int[] imbalances = availableImbalances(node);
+            if ((evenEmpty + oddEmpty) % 4 != 0 || needed > imbalances.length) {
+                return false;
+            }
+
+            // column parity: line clears never move cells sideways, so the
+            // even/odd column imbalance must be covered by the pieces used
+            Arrays.sort(imbalances);
+            int reach = 0;
+            for (int i = 0; i < needed; i++) {
+                reach += imbalances[imbalances.length - 1 - i];
+            }
+            if (Math.abs(evenEmpty - oddEmpty) > reach) {
+                return false;
+            }
+            return regionsFillable(profile, node.limit);
+        }
+
+        private int[] availableImbalances(Node node) {
+            int count = pieces.length - node.index + (node.held != null ? 1 : 0);
+            int[] imbalances = new int[count];
+            int i = 0;
+            if (node.held != null) {
+                imbalances[i++] = columnImbalance(node.held);
+            }
+            for (int p = node.index; p < pieces.length; p++) {
+                imbalances[i++] = columnImbalance(pieces[p]);
+            }
+            return imbalances;
+        }
+    }
+
+    /**
+     * ForkJoin wrapper for the top levels of the search.
+     */
+    @SuppressWarnings("serial") // never serialized; its search state is not serializable
+    private static final class NodeTask extends RecursiveTask<Boolean> {
+        private final Solve solve;
+        private final Node node;
+        private final int depth;
+
+        NodeTask(Solve solve, Node node, int depth) {
+            this.solve = solve;
+            this.node = node;
+            this.depth = depth;
+        }
+
+        @Override
+        protected Boolean compute() {
+            return solve.search(node, depth);
+        }
+    }
+
+    /**
+     * Breadth-first search over the moves the game allows (left, right, soft
+     * drop, rotate) from the spawn position.
+     *
+     * @return {rotation index, x, y} of every reachable resting position
+     */
+    static List<int[]> reachablePlacements(BoardProfile profile, PieceShape[] rotations) {
+        List<int[]> placements = new ArrayList<>();
+        if (!profile.fits(rotations[0], SPAWN_X, SPAWN_Y)) {
+            return placements;
+        }
+        int height = profile.getHeight();
+        int span = profile.getWidth() + 2 * X_MARGIN;
+        boolean[] visited = new boolean[rotations.length * span * height];
+        int[] queue = new int[visited.length];
+        int head = 0;
+        int tail = 0;
+        int start = (SPAWN_X + X_MARGIN) * height + SPAWN_Y;
+        visited[start] = true;
+        queue[tail++] = start;
+
+        while (head < tail) {
+            int state = queue[head++];
+            int y = state % height;
+            int x = (state / height) % span - X_MARGIN;
+            int rotation = state / (height * span);
+            PieceShape shape = rotations[rotation];
+
+            if (!profile.fits(shape, x, y + 1)) {
+                placements.add(new int[] { rotation, x, y });
+            } else {
+                tail = visit(profile, rotations, rotation, x, y + 1, visited, queue, tail, span);
+            }
+            tail = visit(profile, rotations, rotation, x - 1, y, visited, queue, tail, span);
+            tail = visit(profile, rotations, rotation, x + 1, y, visited, queue, tail, span);
+            tail = visit(profile, rotations, (rotation + 1) % rotations.length, x, y, visited, queue, tail, span);
+        }
+        return placements;
+    }
+
+    private static int visit(BoardProfile profile, PieceShape[] rotations, int rotation, int x, int y,
+            boolean[] visited, int[] queue, int tail, int span) {
+        int column = x + X_MARGIN;
+        if (column < 0 || column >= span) {
+            return tail;
+        }
+        int state = (rotation * span + column) * profile.getHeight() + y;
+        if (visited[state] || !profile.fits(rotations[rotation], x, y)) {
+            return tail;
+        }
+        visited[state] = true;
+        queue[tail] = state;
+        return tail + 1;
+    }
+
+    /**
+     * Largest difference between the cells a brick covers in even and in odd
+     * columns, over its rotations (e.g. 4 for a vertical I, 0 for an O).
+     */
+    static int columnImbalance(PieceShape[] rotations) {
+        int max = 0;
+        for (PieceShape shape : rotations) {
+            int even = 0;
+            int odd = 0;
+            for (int r = shape.getMinRow(); r <= shape.getMaxRow(); r++) {
+                even += Integer.bitCount(shape.getRowBits(r) & 0x5555);
+                odd += Integer.bitCount(shape.getRowBits(r) & 0xAAAA);
+            }
+            max = Math.max(max, Math.abs(even - odd));
+        }
+        return max;
+    }
+
+    /**
+     * Flood fills the empty cells of the bottom {@code limit} rows. Bricks are
+     * four connected cells, so every enclosed region must hold a multiple of
+     * four cells. (Like other perfect-clear finders this ignores the rare case
+     * of a line clear joining two regions; such lines of play may be missed,
+     * but any solution returned is always valid.)
+     */
+    static boolean regionsFillable(BoardProfile profile, int limit) {
+        int width = profile.getWidth();
+        int top = profile.getHeight() - limit;
+        int[] empty = new int[limit];
+        for (int r = 0; r < limit; r++) {
+            empty[r] = ~profile.getRowBits(top + r) & ((1 << width) - 1);
+        }
+        int[] stack = new int[limit * width];
+        for (int r = 0; r < limit; r++) {
+            while (empty[r] != 0) {
+                int size = 0;
+                int sp = 0;
+                int c = Integer.numberOfTrailingZeros(empty[r]);
+                empty[r] &= ~(1 << c);
+                stack[sp++] = r * width + c;
+                while (sp > 0) {
+                    int cell = stack[--sp];
+                    size++;
+                    int cr = cell / width;
+                    int cc = cell % width;
+                    if (cc > 0 && (empty[cr] & (1 << (cc - 1))) != 0) {
+                        empty[cr] &= ~(1 << (cc - 1));
+                        stack[sp++] = cell - 1;
+                    }
+                    if (cc < width - 1 && (empty[cr] & (1 << (cc + 1))) != 0) {
+                        empty[cr] &= ~(1 << (cc + 1));
+                        stack[sp++] = cell + 1;
+                    }
+                    if (cr > 0 && (empty[cr - 1] & (1 << cc)) != 0) {
+                        empty[cr - 1] &= ~(1 << cc);
+                        stack[sp++] = cell - width;
+                    }
+                    if (cr < limit - 1 && (empty[cr + 1] & (1 << cc)) != 0) {
+                        empty[cr + 1] &= ~(1 << cc);
+                        stack[sp++] = cell + width;
+                    }
+                }
+                if (size % 4 != 0) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,169 @@
+package com.comp2042.ai;
+
+import com.comp2042.logic.bricks.Brick;
+
+import java.util.List;
+
+/**
+ * PieceShape - Precomputed geometry of a single brick rotation state.
+ *
+ * Holds:
+ * - Row bitmasks of the 4x4 shape (bit c set = shape column c occupied)
+ * - Top and bottom occupied row for every shape column
+ * - Occupied column/row bounds, used to clamp legal column offsets
+ *
+ * Shapes are derived once per brick type and cached, so the AI never has to
+ * re-walk the int[][] rotation matrices while searching placements.
+ *
+ * @author Umer Imran
+ * @version 1.0
+ */
+public final class PieceShape {
+
+    private static final int MAX_COLOR_CODE = 8;
+    private static final PieceShape[][] CACHE = new PieceShape[MAX_COLOR_CODE + 1][];
+
+    private final int colorCode;
+    private final int rotation;
+    private final int size;
+    private final int[] rowBits;
+    private final int[] columnTop;
+    private final int[] columnBottom;
+    private final int minCol;
+    private final int maxCol;
+    private final int minRow;
+    private final int maxRow;
+
+    PieceShape(int[][] shape, int rotation) {
+        this.rotation = rotation;
+        this.size = shape.length;
+        this.rowBits = new int[size];
+        this.columnTop = new int[size];
+        this.columnBottom = new int[size];
+        java.util.Arrays.fill(columnTop, -1);
+        java.util.Arrays.fill(columnBottom, -1);
+
+        int color = 0;
+        int loCol = size;
+        int hiCol = -1;
+        int loRow = size;
+        int hiRow = -1;
+        for (int r = 0; r < size; r++) {
+            for (int c = 0; c < shape[r].length; c++) {
+                if (shape[r][c] == 0) {
+                    continue;
+                }
+                color = shape[r][c];
+                rowBits[r] |= 1 << c;
+                if (columnTop[c] < 0) {
+                    columnTop[c] = r;
+                }
+                columnBottom[c] = r;
+                loCol = Math.min(loCol, c);
+                hiCol = Math.max(hiCol, c);
+                loRow = Math.min(loRow, r);
+                hiRow = Math.max(hiRow, r);
+            }
+        }
+        this.colorCode = color;
+        this.minCol = loCol;
+        this.maxCol = hiCol;
+        this.minRow = loRow;
+        this.maxRow = hiRow;
+    }
+
+    /**
+     * Returns the cached rotation states of a brick, in the same order the
+     * game's BrickRotator cycles through them.
+     *
+     * @param brick the brick to describe
+     * @return one PieceShape per rotation state
+     */
+    public static PieceShape[] rotationsOf(Brick brick) {
+        List<int[][]> matrices = brick.getShapeMatrix();
+        int color = colorOf(matrices.get(0));
+        PieceShape[] cached = CACHE[color];
+        if (cached == null) {
+            cached = new PieceShape[matrices.size()];
+            for (int i = 0; i < cached.length; i++) {
+                cached[i] = new PieceShape(matrices.get(i), i);
+            }
+            CACHE[color] = cached; // benign race: every thread builds identical shapes
+        }
+        return cached;
+    }
+
+    private static int colorOf(int[][] shape) {
+        for (int[] row : shape) {
+            for (int cell : row) {
+                if (cell != 0) {
+                    return cell;
+                }
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Shifts a shape row mask to board column offset x. Negative offsets are
+     * only legal when the low shape columns are empty, so the shift is lossless.
+     */
+    static int shift(int bits, int x) {
+        return x >= 0 ? bits << x : bits >>> -x;
+    }
+
+    public int getColorCode() {
+        return colorCode;
+    }
+
+    public int getRotation() {
+        return rotation;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public int getRowBits(int row) {
+        return rowBits[row];
+    }
+
+    public int getColumnTop(int col) {
+        return columnTop[col];
+    }
+
+    public int getColumnBottom(int col) {
+        return columnBottom[col];
+    }
+
+    public int getMinCol() {
+        return minCol;
+    }
+
+    public int getMaxCol() {
+        return maxCol;
+    }
+
+    public int getMinRow() {
+        return minRow;
+    }
+
+    public int getMaxRow() {
+        return maxRow;
+    }
+
+    /**
+     * @return smallest column offset that keeps the shape on the board
+     */
+    public int minX() {
+        return -minCol;
+    }
+
+    /**
+     * @param boardWidth number of board columns
+     * @return largest column offset that keeps the shape on the board
+     */
+    public int maxX(int boardWidth) {
+        return boardWidth - 1 - maxCol;
+    }
+}
@@ -0,0 +1,63 @@
+package com.comp2042.ai;
+
+/**
+ * Placement - Immutable description of where the AI wants a brick to land.
+ *
+ * Holds:
+ * - Whether the brick should be swapped through the hold slot first
+ * - Rotation index (number of rotate presses from the spawn orientation)
+ * - Column and row offset of the brick's shape matrix when it comes to rest
+ * - Evaluation score of the resulting board
+ *
+ * @author Umer Imran
+ * @version 1.0
+ */
+public final class Placement {
+
+    private final boolean hold;
+    private final int rotation;
+    private final int x;
+    private final int y;
+    private final double score;
+
+    public Placement(int rotation, int x, int y, double score) {
+        this(false, rotation, x, y, score);
+    }
+
+    public Placement(boolean hold, int rotation, int x, int y, double score) {
+        this.hold = hold;
+        this.rotation = rotation;
+        this.x = x;
+        this.y = y;
+        this.score = score;
+    }
+
+    /**
+     * @return true if the hold key must be pressed before steering, in which
+     *         case rotation and offsets refer to the brick swapped in
+     */
+    public boolean isHold() {
+        return hold;
+    }
+
+    public int getRotation() {
+        return rotation;
+    }
+
+    public int getX() {
+        return x;
+    }
+
+    public int getY() {
+        return y;
+    }
+
+    public double getScore() {
+        return score;
+    }
+
+    @Override
+    public String toString() {
+        return "Placement[hold=" + hold + ", rotation=" + rotation + ", x=" + x + ", y=" + y + ", score=" + score + "]";
+    }
+}
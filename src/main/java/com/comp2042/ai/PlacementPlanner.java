@@ -0,0 +1,25 @@
+package com.comp2042.ai;
+
+import com.comp2042.logic.SimpleBoard;
+
+/**
+ * PlacementPlanner - Strategy interface for choosing where the falling brick
+ * should land.
+ *
+ * Strategy Pattern: the AiPlayer only knows how to steer a brick to a target
+ * placement; how that target is chosen (greedy, lookahead search, ...) is
+ * swappable at runtime.
+ *
+ * @author Umer Imran
+ * @version 1.0
+ */
+public interface PlacementPlanner {
+
+    /**
+     * Chooses a placement for the board's current brick.
+     *
+     * @param board the live board (must not be modified)
+     * @return the chosen placement, or null if the brick cannot be placed
+     */
+    Placement plan(SimpleBoard board);
+}
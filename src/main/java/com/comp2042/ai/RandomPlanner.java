@@ -0,0 +1,58 @@
+package com.comp2042.ai;
+
+import com.comp2042.logic.SimpleBoard;
+
+import java.util.SplittableRandom;
+
+/**
+ * RandomPlanner - Baseline planner that picks uniformly among every landing
+ * placement of the current brick (all rotations and columns, no hold).
+ *
+ * Used to generate unbiased training data and as a floor to compare the
+ * heuristic planners against. Seeded, so runs are reproducible.
+ *
+ * @author Umer Imran
+ * @version 1.0
+ */
+public class RandomPlanner implements PlacementPlanner {
+
+    private static final int MAX_ROTATIONS = 4;
+
+    private final SplittableRandom random;
+
+    // reused between decisions: rotation, x, y per candidate
+    private int[] candidates = new int[0];
+
+    public RandomPlanner(long seed) {
+        this.random = new SplittableRandom(seed);
+    }
+
+    @Override
+    public Placement plan(SimpleBoard board) {
+        if (board.getCurrentBrick() == null) {
+            return null;
+        }
+        BoardProfile profile = BoardProfile.fromMatrix(board.getBoardMatrix());
+        if (candidates.length < MAX_ROTATIONS * profile.getWidth() * 3) {
+            candidates = new int[MAX_ROTATIONS * profile.getWidth() * 3];
+        }
+        int count = 0;
+        for (PieceShape shape : PieceShape.rotationsOf(board.getCurrentBrick())) {
+            for (int x = shape.minX(); x <= shape.maxX(profile.getWidth()); x++) {
+                int y = profile.landingRow(shape, x);
+                if (y < 0) {
+                    continue;
+                }
+                candidates[count * 3] = shape.getRotation();
+                candidates[count * 3 + 1] = x;
+                candidates[count * 3 + 2] = y;
+                count++;
+            }
+        }
+        if (count == 0) {
+            return null;
+        }
+        int pick = random.nextInt(count) * 3;
+        return new Placement(candidates[pick], candidates[pick + 1], candidates[pick + 2], 0);
+    }
+}
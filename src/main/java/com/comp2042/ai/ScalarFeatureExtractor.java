@@ -0,0 +1,81 @@
+package com.comp2042.ai;
+
+/**
+ * ScalarFeatureExtractor - Reference FeatureExtractor that analyses the
+ * boards of a batch one at a time.
+ *
+ * Each board is scanned top to bottom with whole-row bit operations: the
+ * running OR of the rows seen so far marks covered cells, so holes and
+ * transitions are popcounts rather than per-cell loops.
+ *
+ * @author Umer Imran
+ * @version 1.0
+ */
+public final class ScalarFeatureExtractor implements FeatureExtractor {
+
+    @Override
+    public void extract(BoardBatch batch) {
+        int width = batch.width;
+        int height = batch.height;
+        int capacity = batch.capacity;
+        int[] rows = batch.rows;
+        int fullRow = (1 << width) - 1;
+        int rightWall = 1 << (width + 1);
+        int transitionMask = (1 << (width + 1)) - 1;
+
+        for (int b = 0; b < batch.size(); b++) {
+            int seen = 0;
+            int previous = 0;
+            int holes = 0;
+            int rowTransitions = 0;
+            int columnTransitions = 0;
+            for (int c = 0; c < width; c++) {
+                batch.columnHeights[c * capacity + b] = 0;
+            }
+
+            for (int r = 0; r < height; r++) {
+                int row = rows[r * capacity + b];
+                // columns whose top cell is in this row
+                for (int newly = row & ~seen; newly != 0; newly &= newly - 1) {
+                    int c = Integer.numberOfTrailingZeros(newly);
+                    batch.columnHeights[c * capacity + b] = height - r;
+                }
+                seen |= row;
+                holes += Integer.bitCount(seen & ~row);
+                columnTransitions += Integer.bitCount(previous ^ row);
+                previous = row;
+                if (row != 0) {
+                    int walled = 1 | (row << 1) | rightWall;
+                    rowTransitions += Integer.bitCount((walled ^ (walled >>> 1)) & transitionMask);
+                }
+            }
+            columnTransitions += Integer.bitCount(previous ^ fullRow);
+
+            int aggregate = 0;
+            int max = 0;
+            int bumpiness = 0;
+            int wells = 0;
+            for (int c = 0; c < width; c++) {
+                int h = batch.columnHeights[c * capacity + b];
+                aggregate += h;
+                max = Math.max(max, h);
+                if (c > 0) {
+                    bumpiness += Math.abs(h - batch.columnHeights[(c - 1) * capacity + b]);
+                }
+                int left = c == 0 ? height : batch.columnHeights[(c - 1) * capacity + b];
+                int right = c == width - 1 ? height : batch.columnHeights[(c + 1) * capacity + b];
+                int depth = Math.min(left, right) - h;
+                if (depth > 0) {
+                    wells += depth;
+                }
+            }
+            batch.aggregateHeight[b] = aggregate;
+            batch.maxHeight[b] = max;
+            batch.holes[b] = holes;
+            batch.bumpiness[b] = bumpiness;
+            batch.wells[b] = wells;
+            batch.rowTransitions[b] = rowTransitions;
+            batch.columnTransitions[b] = columnTransitions;
+        }
+    }
+}
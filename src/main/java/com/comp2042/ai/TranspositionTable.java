@@ -0,0 +1,146 @@
+package com.comp2042.ai;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * TranspositionTable - Fixed-size, lock-free cache of searched positions.
+ *
+ * Layout: open addressing over a single long[]; every entry takes two slots,
+ * {@code key ^ data} and {@code data}. A reader recomputes the key from the
+ * two words, so an entry torn by a concurrent writer simply reads as a miss
+ * (the classic "lockless hashing" scheme). No locks or CAS loops are needed,
+ * which lets every ForkJoin worker of a search share one table.
+ *
+ * Data word: score (float bits, high 32) | generation (16) | depth (8) |
+ * valid flag (8). Replacement is by depth: within a probe window, a matching
+ * entry is only overwritten by an equal or deeper result, and otherwise the
+ * shallowest (or stale-generation) entry is evicted.
+ *
+ * @author Umer Imran
+ * @version 1.0
+ */
+public final class TranspositionTable {
+
+    public static final long MISS = 0L;
+
+    private static final int PROBES = 4;
+    private static final long VALID = 1L;
+    private static final VarHandle SLOTS = MethodHandles.arrayElementVarHandle(long[].class);
+
+    private final long[] table;
+    private final int mask;
+
+    /**
+     * @param capacityPowerOfTwo log2 of the number of entries (e.g. 16 = 65536)
+     */
+    public TranspositionTable(int capacityPowerOfTwo) {
+        if (capacityPowerOfTwo < 1 || capacityPowerOfTwo > 26) {
+            throw new IllegalArgumentException("Capacity must be 2^1 .. 2^26 entries");
+        }
+        int entries = 1 << capacityPowerOfTwo;
+        this.table = new long[entries * 2];
+        this.mask = entries - 1;
+    }
+
+    /**
+     * Looks up a position.
+     *
+     * @param key position hash
+     * @return the packed data word, or {@link #MISS}
+     */
+    public long probe(long key) {
+        int base = (int) (key & mask);
+        for (int i = 0; i < PROBES; i++) {
+            int slot = ((base + i) & mask) << 1;
+            long data = (long) SLOTS.getOpaque(table, slot + 1);
+            long check = (long) SLOTS.getOpaque(table, slot);
+            if (data != MISS && (check ^ data) == key) {
+                return data;
+            }
+        }
+        return MISS;
+    }
+
+    /**
+     * Stores a search result, subject to replace-by-depth.
+     *
+     * @param key        position hash
+     * @param depth      search depth at which the position was reached (0-255)
+     * @param score      evaluation of the position
+     * @param generation search generation (entries of older generations are
+     *                   evicted first)
+     */
+    public void store(long key, int depth, float score, int generation) {
+        long data = pack(depth, score, generation);
+        int base = (int) (key & mask);
+        int victim = -1;
+        long victimRank = Long.MAX_VALUE;
+
+        for (int i = 0; i < PROBES; i++) {
+            int slot = ((base + i) & mask) << 1;
+            long existing = (long) SLOTS.getOpaque(table, slot + 1);
+            long check = (long) SLOTS.getOpaque(table, slot);
+            if (existing == MISS) {
+                write(slot, key, data);
+                return;
+            }
+            if ((check ^ existing) == key) {
+                if (generationOf(existing) != (generation & 0xFFFF) || depthOf(existing) <= depth) {
+                    write(slot, key, data);
+                }
+                return;
+            }
+            // stale generations rank below any current entry, then shallower first
+            long rank = (generationOf(existing) == (generation & 0xFFFF) ? 256L : 0L) + depthOf(existing);
+            if (rank < victimRank) {
+                victimRank = rank;
+                victim = slot;
+            }
+        }
+
+        if (victimRank < 256L || victimRank - 256L <= depth) {
+            write(victim, key, data);
+        }
+    }
+
+    /**
+     * Empties the table.
+     */
+    public void clear() {
+        for (int i = 0; i < table.length; i++) {
+            SLOTS.setOpaque(table, i, 0L);
+        }
+    }
+
+    private void write(int slot, long key, long data) {
+        SLOTS.setOpaque(table, slot + 1, data);
+        SLOTS.setOpaque(table, slot, key ^ data);
+    }
+
+    private static long pack(int depth, float score, int generation) {
+        return ((long) Float.floatToRawIntBits(score) << 32)
+                | ((long) (generation & 0xFFFF) << 16)
+                | ((long) (depth & 0xFF) << 8)
+                | VALID;
+    }
+
+    public static float scoreOf(long data) {
+        return Float.intBitsToFloat((int) (data >>> 32));
+    }
+
+    public static int generationOf(long data) {
+        return (int) (data >>> 16) & 0xFFFF;
+    }
+
+    public static int depthOf(long data) {
+        return (int) (data >>> 8) & 0xFF;
+    }
+
+    /**
+     * @return number of entries the table can hold
+     */
+    public int capacity() {
+        return mask + 1;
+    }
+}
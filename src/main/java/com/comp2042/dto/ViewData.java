@@ -11,6 +11,7 @@ import com.comp2042.logic.MatrixOperations;
  * - Next brick data for preview
  * - Information about next three bricks
  * - Ghost piece coordinates (fall projection)
+ * - Rows the brick can still fall (for smooth rendering between rows)
  * - Board state for rendering
  * 
  * Provides safe access to data via copy to prevent external modification.
@@ -72,4 +73,17 @@ public final class ViewData {
     public void setGhostCoords(int[][] ghostCoords) {
         this.ghostCoords = ghostCoords;
     }
+
+    /**
+     * Rows the brick can still fall before it lands (0 when resting)
+     */
+    private int fallDistance;
+
+    public int getFallDistance() {
+        return fallDistance;
+    }
+
+    public void setFallDistance(int fallDistance) {
+        this.fallDistance = fallDistance;
+    }
 }
@@ -6,6 +6,7 @@ package com.comp2042.event;
  * Values:
  * - USER: Player initiated (keyboard input)
  * - THREAD: Automatic (game loop, gravity, etc.)
+ * - AI: Issued by the built-in computer player (demo / soak runs)
  * 
  * Used to distinguish between player actions and system-triggered events.
  * 
@@ -13,5 +14,5 @@ package com.comp2042.event;
  * @version 2.0
  */
 public enum EventSource {
-    USER, THREAD
+    USER, THREAD, AI
 }
@@ -0,0 +1,93 @@
+package com.comp2042.export;
+
+import com.comp2042.dto.ViewData;
+import com.comp2042.util.Constants;
+
+/**
+ * BoardFrame - An immutable copy of what one frame of a game shows: the
+ * visible rows of the board with the falling brick and its ghost.
+ *
+ * Holds:
+ * - One colour code per visible cell, row by row ({@link #GHOST} marks a
+ *   ghost cell, 0 an empty one)
+ *
+ * Capturing copies the cells, so the game can go on while the frame is
+ * rendered on another thread.
+ *
+ * @author Umer Imran
+ * @version 1.0
+ */
+public final class BoardFrame {
+
+    public static final int GHOST = Constants.PieceColors.COUNT;
+    // the GUI hides the first 2 board rows
+    static final int HIDDEN_ROWS = 2;
+
+    private final int rows;
+    private final int cols;
+    private final byte[] cells;
+
+    BoardFrame(int rows, int cols, byte[] cells) {
+        this.rows = rows;
+        this.cols = cols;
+        this.cells = cells;
+    }
+
+    /**
+     * @param matrix the board matrix, e.g. from {@code getBoardMatrix()}
+     * @param view   the falling brick and ghost, e.g. from
+     *               {@code getViewData()}; null for the board alone
+     */
+    public static BoardFrame capture(int[][] matrix, ViewData view) {
+        int rows = Math.max(0, matrix.length - HIDDEN_ROWS);
+        int cols = matrix.length > 0 ? matrix[0].length : 0;
+        byte[] cells = new byte[rows * cols];
+        for (int r = 0; r < rows; r++) {
+            for (int c = 0; c < cols; c++) {
+                cells[r * cols + c] = (byte) matrix[r + HIDDEN_ROWS][c];
+            }
+        }
+        if (view != null) {
+            int[][] ghost = view.getGhostCoords();
+            if (ghost != null) {
+                for (int[] coord : ghost) {
+                    set(cells, rows, cols, coord[0] - HIDDEN_ROWS, coord[1], GHOST, true);
+                }
+            }
+            int[][] shape = view.getBrickData();
+            for (int r = 0; r < shape.length; r++) {
+                for (int c = 0; c < shape[r].length; c++) {
+                    if (shape[r][c] != 0) {
+                        set(cells, rows, cols, view.getyPosition() + r - HIDDEN_ROWS, view.getxPosition() + c,
+                                shape[r][c], false);
+                    }
+                }
+            }
+        }
+        return new BoardFrame(rows, cols, cells);
+    }
+
+    private static void set(byte[] cells, int rows, int cols, int r, int c, int value, boolean onlyIfEmpty) {
+        if (r < 0 || r >= rows || c < 0 || c >= cols) {
+            return;
+        }
+        if (!onlyIfEmpty || cells[r * cols + c] == 0) {
+            cells[r * cols + c] = (byte) value;
+        }
+    }
+
+    public int getRows() {
+        return rows;
+    }
+
+    public int getCols() {
+        return cols;
+    }
+
+    /**
+     * @return the colour code of a visible cell
+     */
+    public int getCell(int row, int col) {
+        return cells[row * cols + col];
+    }
+}
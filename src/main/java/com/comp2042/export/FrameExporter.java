@@ -0,0 +1,311 @@
+package com.comp2042.export;
+
+import com.comp2042.HeadlessGameController;
+import com.comp2042.ai.AiPlayer;
+import com.comp2042.logic.SimpleBoard;
+import com.comp2042.util.Constants;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * FrameExporter - Renders a sequence of board frames offscreen to PNG files
+ * or to one raw RGBA stream, e.g. for highlight clips on a server with no
+ * display.
+ *
+ * Responsibilities:
+ * - Render and encode frames on a pool of worker threads, one per core by
+ *   default
+ * - Write the results in submission order from a single writer thread
+ *   ({@code frame-000000.png}, ... or back to back on the stream)
+ * - Bound memory: at most {@code maxInFlight} frames are queued or being
+ *   encoded, and {@link #submit} blocks until one is written
+ *
+ * A raw stream can be piped straight into an encoder, e.g.
+ * {@code ffmpeg -f rawvideo -pix_fmt rgba -s 200x460 -r 60 -i - clip.mp4}.
+ * Rendering uses {@link SoftwareRenderer}, so no JavaFX toolkit is started.
+ *
+ * @author Umer Imran
+ * @version 1.0
+ */
+public final class FrameExporter implements AutoCloseable {
+
+    /**
+     * What the exporter writes.
+     */
+    public enum Format {
+        PNG,
+        RGBA
+    }
+
+    static final String FILE_PATTERN = "frame-%06d.png";
+    private static final int IN_FLIGHT_PER_THREAD = 4;
+
+    // marks the end of the queue for the writer
+    private static final Future<byte[]> END = new FutureTask<>(() -> null);
+
+    private final Format format;
+    private final Path directory;
+    private final OutputStream out;
+    private final SoftwareRenderer renderer;
+    private final ExecutorService encoders;
+    private final BlockingQueue<Future<byte[]>> pending;
+    private final Thread writer;
+    private final ThreadLocal<int[]> pixels = new ThreadLocal<>();
+    private volatile IOException failure;
+    private volatile long written;
+    private long submitted;
+    private boolean closed;
+
+    /**
+     * Writes PNG files to a directory, created if missing.
+     */
+    public static FrameExporter toDirectory(Path directory, SoftwareRenderer renderer) throws IOException {
+        Files.createDirectories(directory);
+        int threads = Runtime.getRuntime().availableProcessors();
+        return new FrameExporter(Format.PNG, directory, null, renderer, threads, threads * IN_FLIGHT_PER_THREAD);
+    }
+
+    /**
+     * Writes raw RGBA frames back to back to a stream, which is closed with
+     * the exporter.
+     */
+    public static FrameExporter toStream(OutputStream out, SoftwareRenderer renderer) {
+        int threads = Runtime.getRuntime().availableProcessors();
+        return new FrameExporter(Format.RGBA, null, out, renderer, threads, threads * IN_FLIGHT_PER_THREAD);
+    }
+
+    /**
+     * @param directory   where PNG files go (PNG only)
+     * @param out         where raw frames go (RGBA only)
+     * @param threads     how many frames are encoded at once
+     * @param maxInFlight how many frames may wait to be written
+     */
+    FrameExporter(Format format, Path directory, OutputStream out, SoftwareRenderer renderer, int threads,
+            int maxInFlight) {
+        if (threads < 1 || maxInFlight < 1) {
+            throw new IllegalArgumentException("threads and maxInFlight must be at least 1");
+        }
+        this.format = format;
+        this.directory = directory;
+        this.out = out;
+        this.renderer = renderer;
+        AtomicInteger count = new AtomicInteger();
+        this.encoders = Executors.newFixedThreadPool(threads, task -> {
+            Thread thread = new Thread(task, "frame-export-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.pending = new ArrayBlockingQueue<>(maxInFlight);
+        this.writer = new Thread(this::writeLoop, "frame-export-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    // ========== SUBMITTING ==========
+
+    /**
+     * Queues a frame to be rendered and written. Blocks while
+     * {@code maxInFlight} frames are already waiting.
+     *
+     * @throws IOException if an earlier frame could not be written
+     */
+    public void submit(BoardFrame frame) throws IOException {
+        if (closed) {
+            throw new IllegalStateException("Exporter is closed");
+        }
+        checkFailure();
+        FutureTask<byte[]> task = new FutureTask<>(() -> encode(frame));
+        try {
+            // a slot is taken before the work starts, so queued and running
+            // frames together never exceed the bound
+            pending.put(task);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while exporting", e);
+        }
+        encoders.execute(task);
+        submitted++;
+    }
+
+    public long getSubmittedCount() {
+        return submitted;
+    }
+
+    public long getWrittenCount() {
+        return written;
+    }
+
+    /**
+     * Waits until every submitted frame is written, then stops the threads.
+     *
+     * @throws IOException if a frame could not be written
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            pending.put(END);
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            failure = new IOException("Interrupted while exporting", e);
+        } finally {
+            encoders.shutdownNow();
+        }
+        try {
+            if (out != null) {
+                out.close();
+            }
+        } catch (IOException e) {
+            if (failure == null) {
+                failure = e;
+            }
+        }
+        checkFailure();
+    }
+
+    private void checkFailure() throws IOException {
+        IOException e = failure;
+        if (e != null) {
+            throw e;
+        }
+    }
+
+    // ========== ENCODING ==========
+
+    /**
+     * @return the encoded frame: PNG file bytes or raw RGBA pixels
+     */
+    byte[] encode(BoardFrame frame) throws IOException {
+        int width = renderer.getWidth(frame);
+        int height = renderer.getHeight(frame);
+        int[] argb = pixels.get();
+        if (argb == null || argb.length < width * height) {
+            argb = new int[width * height];
+            pixels.set(argb);
+        }
+        renderer.render(frame, argb);
+        if (format == Format.RGBA) {
+            byte[] rgba = new byte[width * height * 4];
+            SoftwareRenderer.toRgba(argb, width * height, rgba);
+            return rgba;
+        }
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        image.setRGB(0, 0, width, height, argb, 0, width);
+        ByteArrayOutputStream png = new ByteArrayOutputStream(width * height / 4);
+        ImageIO.write(image, "png", png);
+        return png.toByteArray();
+    }
+
+    // ========== WRITING ==========
+
+    private void writeLoop() {
+        long index = 0;
+        while (true) {
+            Future<byte[]> next;
+            try {
+                next = pending.take();
+            } catch (InterruptedException e) {
+                failure = new IOException("Interrupted while exporting", e);
+                return;
+            }
+            if (next == END) {
+                break;
+            }
+            if (failure != null) {
+                // keep draining so submit() never blocks after a failure
+                next.cancel(false);
+                continue;
+            }
+            try {
+                write(index++, next.get());
+                written++;
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                failure = cause instanceof IOException ? (IOException) cause : new IOException(cause);
+            } catch (IOException e) {
+                failure = e;
+            } catch (InterruptedException e) {
+                failure = new IOException("Interrupted while exporting", e);
+                return;
+            }
+        }
+        if (out != null && failure == null) {
+            try {
+                out.flush();
+            } catch (IOException e) {
+                failure = e;
+            }
+        }
+    }
+
+    private void write(long index, byte[] data) throws IOException {
+        if (format == Format.PNG) {
+            Files.write(directory.resolve(String.format(FILE_PATTERN, index)), data);
+        } else {
+            out.write(data);
+        }
+    }
+
+    /**
+     * Plays a seeded bot game and exports one frame per bot input; a new
+     * game starts whenever one ends. Pass {@code -} as the directory to write
+     * raw RGBA to stdout.
+     *
+     * Usage: {@code FrameExporter <outDir|-> <frames> [cellSize] [seed]}
+     */
+    public static void main(String[] args) throws Exception {
+        if (args.length < 2) {
+            System.err.println("Usage: FrameExporter <outDir|-> <frames> [cellSize] [seed]");
+            System.exit(2);
+        }
+        boolean toStdout = args[0].equals("-");
+        int frames = Integer.parseInt(args[1]);
+        int cellSize = args.length > 2 ? Integer.parseInt(args[2]) : Constants.BRICK_SIZE;
+        long seed = args.length > 3 ? Long.parseLong(args[3]) : 0;
+
+        SoftwareRenderer renderer = new SoftwareRenderer(cellSize);
+        HeadlessGameController controller = new HeadlessGameController();
+        SimpleBoard board = controller.getBoard();
+        board.newGame(seed);
+        AiPlayer bot = new AiPlayer(board, controller);
+
+        long started = System.nanoTime();
+        try (FrameExporter exporter = toStdout
+                ? toStream(new BufferedOutputStream(new FileOutputStream(FileDescriptor.out), 1 << 16), renderer)
+                : toDirectory(Paths.get(args[0]), renderer)) {
+            for (int i = 0; i < frames; i++) {
+                if (controller.isGameOver()) {
+                    controller.createNewGame();
+                }
+                exporter.submit(BoardFrame.capture(board.getBoardMatrix(), board.getViewData()));
+                bot.step();
+            }
+        }
+        // stdout may be carrying the video
+        (toStdout ? System.err : System.out).printf("%d frames (%dx%d) in %.1f s%n", frames,
+                Constants.BOARD_WIDTH * cellSize, (Constants.BOARD_HEIGHT - BoardFrame.HIDDEN_ROWS) * cellSize,
+                (System.nanoTime() - started) / 1e9);
+    }
+}
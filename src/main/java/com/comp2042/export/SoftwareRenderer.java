@@ -0,0 +1,116 @@
+package com.comp2042.export;
+
+import com.comp2042.util.Constants;
+import javafx.scene.paint.Color;
+
+import java.util.Arrays;
+
+/**
+ * SoftwareRenderer - Rasterizes a BoardFrame into ARGB pixels in plain
+ * Java, with no window, toolkit or graphics card.
+ *
+ * Responsibilities:
+ * - Fill each cell with its colour from {@link Constants.PieceColors}, with
+ *   a darker one-pixel edge so neighbouring cells stay distinct
+ * - Blend ghost cells over the background like the GUI's ghost piece
+ * - Convert pixels to packed RGBA bytes for raw video encoders
+ *
+ * A renderer only holds its palette and is safe to share between threads.
+ *
+ * @author Umer Imran
+ * @version 1.0
+ */
+public final class SoftwareRenderer {
+
+    static final int BACKGROUND = 0xFF1A1A1A;
+    private static final double EDGE_DARKEN = 0.7;
+
+    private final int cellSize;
+    private final int[] fill = new int[BoardFrame.GHOST + 1];
+    private final int[] edge = new int[BoardFrame.GHOST + 1];
+
+    /**
+     * @param cellSize side of one cell in pixels
+     */
+    public SoftwareRenderer(int cellSize) {
+        if (cellSize < 2) {
+            throw new IllegalArgumentException("cellSize must be at least 2");
+        }
+        this.cellSize = cellSize;
+        for (int code = 0; code < Constants.PieceColors.COUNT; code++) {
+            Color color = Constants.PieceColors.getColor(code);
+            fill[code] = code == 0 ? BACKGROUND : argb(color, 1.0);
+            edge[code] = code == 0 ? BACKGROUND : argb(color, EDGE_DARKEN);
+        }
+        fill[BoardFrame.GHOST] = blend(Constants.GHOST_FILL, BACKGROUND);
+        edge[BoardFrame.GHOST] = blend(Constants.GHOST_STROKE, BACKGROUND);
+    }
+
+    static int argb(Color color, double brightness) {
+        return 0xFF000000
+                | (int) Math.round(color.getRed() * brightness * 255) << 16
+                | (int) Math.round(color.getGreen() * brightness * 255) << 8
+                | (int) Math.round(color.getBlue() * brightness * 255);
+    }
+
+    /**
+     * @return an opaque colour drawn with its opacity over an opaque background
+     */
+    static int blend(Color color, int background) {
+        double a = color.getOpacity();
+        int r = (int) Math.round(color.getRed() * 255 * a + ((background >> 16) & 0xFF) * (1 - a));
+        int g = (int) Math.round(color.getGreen() * 255 * a + ((background >> 8) & 0xFF) * (1 - a));
+        int b = (int) Math.round(color.getBlue() * 255 * a + (background & 0xFF) * (1 - a));
+        return 0xFF000000 | r << 16 | g << 8 | b;
+    }
+
+    public int getWidth(BoardFrame frame) {
+        return frame.getCols() * cellSize;
+    }
+
+    public int getHeight(BoardFrame frame) {
+        return frame.getRows() * cellSize;
+    }
+
+    /**
+     * Draws a frame into {@code pixels}, row-major ARGB of
+     * {@link #getWidth} x {@link #getHeight}.
+     */
+    public void render(BoardFrame frame, int[] pixels) {
+        int width = getWidth(frame);
+        for (int r = 0; r < frame.getRows(); r++) {
+            for (int c = 0; c < frame.getCols(); c++) {
+                int code = frame.getCell(r, c);
+                if (code < 0 || code >= fill.length) {
+                    code = 0;
+                }
+                int x0 = c * cellSize;
+                int y0 = r * cellSize;
+                int last = cellSize - 1;
+                for (int y = 0; y < cellSize; y++) {
+                    int row = (y0 + y) * width + x0;
+                    if (y == 0 || y == last) {
+                        Arrays.fill(pixels, row, row + cellSize, edge[code]);
+                    } else {
+                        pixels[row] = edge[code];
+                        Arrays.fill(pixels, row + 1, row + last, fill[code]);
+                        pixels[row + last] = edge[code];
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Packs ARGB pixels as R, G, B, A bytes.
+     */
+    public static void toRgba(int[] pixels, int count, byte[] out) {
+        for (int i = 0, j = 0; i < count; i++, j += 4) {
+            int p = pixels[i];
+            out[j] = (byte) (p >> 16);
+            out[j + 1] = (byte) (p >> 8);
+            out[j + 2] = (byte) p;
+            out[j + 3] = (byte) (p >>> 24);
+        }
+    }
+}
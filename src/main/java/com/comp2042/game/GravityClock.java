@@ -0,0 +1,91 @@
+package com.comp2042.game;
+
+/**
+ * GravityClock - Keeps gravity time for the falling brick, frame by frame.
+ *
+ * Responsibilities:
+ * - Turn frame timestamps into the number of whole rows gravity has pulled
+ *   the brick since the last frame (several at high gravity)
+ * - Expose how far the brick is towards its next row, so the renderer can
+ *   draw it between rows instead of snapping one cell at a time
+ * - Pause and resume without losing the time already spent in a row
+ *
+ * @author Umer Imran
+ * @version 1.0
+ */
+public final class GravityClock {
+
+    private final long intervalNanos;
+    private final int maxRowsPerFrame;
+    private boolean running;
+    private boolean counting; // false until the first frame after start()
+    private long lastFrame;
+    private long carried; // time spent towards the next row
+
+    /**
+     * @param intervalNanos   time gravity takes to pull the brick one row
+     * @param maxRowsPerFrame the most rows one frame may apply, so a stall
+     *                        (e.g. a minimized window) cannot drop a brick
+     *                        further than the board is tall
+     */
+    public GravityClock(long intervalNanos, int maxRowsPerFrame) {
+        if (intervalNanos <= 0) {
+            throw new IllegalArgumentException("interval must be positive");
+        }
+        this.intervalNanos = intervalNanos;
+        this.maxRowsPerFrame = maxRowsPerFrame;
+    }
+
+    /**
+     * Starts or resumes counting from the next frame.
+     */
+    public void start() {
+        running = true;
+        counting = false;
+    }
+
+    /**
+     * Stops counting; the progress towards the next row is kept.
+     */
+    public void stop() {
+        running = false;
+    }
+
+    /**
+     * Forgets the progress towards the next row (new game).
+     */
+    public void reset() {
+        carried = 0;
+    }
+
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Takes one frame into account.
+     *
+     * @param now the frame time in nanoseconds
+     * @return the rows gravity pulls the brick this frame
+     */
+    public int advance(long now) {
+        if (!running) {
+            return 0;
+        }
+        if (counting) {
+            carried += Math.max(0, now - lastFrame);
+        }
+        counting = true;
+        lastFrame = now;
+        long rows = carried / intervalNanos;
+        carried %= intervalNanos;
+        return (int) Math.min(rows, maxRowsPerFrame);
+    }
+
+    /**
+     * @return how far the brick is towards its next row, in [0, 1)
+     */
+    public double getProgress() {
+        return (double) carried / intervalNanos;
+    }
+}
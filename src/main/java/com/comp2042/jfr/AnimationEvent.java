@@ -0,0 +1,24 @@
+package com.comp2042.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * AnimationEvent - JFR event: a GUI animation, from the time it starts to the
+ * time it stops.
+ *
+ * @author Umer Imran
+ * @version 1.0
+ */
+@Name("com.comp2042.Animation")
+@Label("Animation")
+@Category({ "Tetris", "Rendering" })
+@Description("A GUI animation, from the time it starts to the time it stops.")
+public class AnimationEvent extends Event {
+
+    @Label("Animation")
+    public String animation;
+}
@@ -0,0 +1,33 @@
+package com.comp2042.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * BrickLockEvent - JFR event: the falling brick is merged into the board
+ * (SimpleBoard.mergeBrickToBackground).
+ *
+ * @author Umer Imran
+ * @version 1.0
+ */
+@Name("com.comp2042.BrickLock")
+@Label("Brick Lock")
+@Category({ "Tetris", "Game" })
+@Description("The falling brick is merged into the board (SimpleBoard.mergeBrickToBackground).")
+public class BrickLockEvent extends Event {
+
+    @Label("Brick")
+    public String brick;
+
+    @Label("Column")
+    public int x;
+
+    @Label("Row")
+    public int y;
+
+    @Label("Rotation")
+    public int rotation;
+}
@@ -0,0 +1,28 @@
+package com.comp2042.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * BrickSpawnEvent - JFR event: a new brick starts falling
+ * (SimpleBoard.createNewBrick).
+ *
+ * @author Umer Imran
+ * @version 1.0
+ */
+@Name("com.comp2042.BrickSpawn")
+@Label("Brick Spawn")
+@Category({ "Tetris", "Game" })
+@Description("A new brick starts falling (SimpleBoard.createNewBrick).")
+public class BrickSpawnEvent extends Event {
+
+    @Label("Brick")
+    public String brick;
+
+    @Label("Blocked")
+    @Description("The spawn position was occupied, which ends the game")
+    public boolean blocked;
+}
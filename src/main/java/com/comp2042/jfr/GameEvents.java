@@ -0,0 +1,94 @@
+package com.comp2042.jfr;
+
+import javafx.animation.Animation;
+import javafx.beans.value.ChangeListener;
+
+/**
+ * GameEvents - Emits the game's JFR events from one-line calls.
+ *
+ * Responsibilities:
+ * - Commit the instant events (hard drop, game over) behind a
+ *   shouldCommit() guard, so they cost an unused allocation at most while
+ *   no recording is running
+ * - Record an AnimationEvent spanning each tracked animation's run, checked
+ *   against the recording settings when the run ends
+ *
+ * Record a session with
+ * {@code -XX:StartFlightRecording=filename=tetris.jfr} and open it in JMC;
+ * the events are under the "Tetris" category. Board events (spawn, lock,
+ * clear, hold) are emitted by SimpleBoard itself.
+ *
+ * @author Umer Imran
+ * @version 1.0
+ */
+public final class GameEvents {
+
+    private GameEvents() {
+
+    }
+
+    public static void hardDrop(int distance) {
+        HardDropEvent event = new HardDropEvent();
+        if (event.shouldCommit()) {
+            event.distance = distance;
+            event.commit();
+        }
+    }
+
+    public static void gameOver(int score) {
+        GameOverEvent event = new GameOverEvent();
+        if (event.shouldCommit()) {
+            event.score = score;
+            event.commit();
+        }
+    }
+
+    /**
+     * Commits a refresh event begun by the caller, if it took longer than
+     * the threshold.
+     */
+    public static void refreshed(RenderRefreshEvent event, String part) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.part = part;
+            event.commit();
+        }
+    }
+
+    /**
+     * Records an AnimationEvent from the time the animation starts (or now,
+     * if it is already running) until it stops. The listener stays attached
+     * for the animation's lifetime, so a recording started later (e.g. with
+     * {@code jcmd <pid> JFR.start}) still sees runs of animations tracked
+     * before it; whether a run is recorded is decided when it ends.
+     */
+    public static void track(Animation animation, String name) {
+        if (animation == null) {
+            return;
+        }
+        AnimationEvent[] current = new AnimationEvent[1];
+        ChangeListener<Animation.Status> listener = (obs, oldStatus, newStatus) -> {
+            if (newStatus == Animation.Status.RUNNING && current[0] == null) {
+                current[0] = begin(name);
+            } else if (newStatus == Animation.Status.STOPPED && current[0] != null) {
+                AnimationEvent event = current[0];
+                current[0] = null;
+                event.end();
+                if (event.shouldCommit()) {
+                    event.commit();
+                }
+            }
+        };
+        if (animation.getStatus() == Animation.Status.RUNNING) {
+            current[0] = begin(name);
+        }
+        animation.statusProperty().addListener(listener);
+    }
+
+    private static AnimationEvent begin(String name) {
+        AnimationEvent event = new AnimationEvent();
+        event.animation = name;
+        event.begin();
+        return event;
+    }
+}
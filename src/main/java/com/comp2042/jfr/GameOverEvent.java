@@ -0,0 +1,23 @@
+package com.comp2042.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * GameOverEvent - JFR event: a game ended.
+ *
+ * @author Umer Imran
+ * @version 1.0
+ */
+@Name("com.comp2042.GameOver")
+@Label("Game Over")
+@Category({ "Tetris", "Game" })
+@Description("A game ended.")
+public class GameOverEvent extends Event {
+
+    @Label("Score")
+    public int score;
+}
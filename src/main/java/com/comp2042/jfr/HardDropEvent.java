@@ -0,0 +1,24 @@
+package com.comp2042.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * HardDropEvent - JFR event: the player hard-dropped the falling brick.
+ *
+ * @author Umer Imran
+ * @version 1.0
+ */
+@Name("com.comp2042.HardDrop")
+@Label("Hard Drop")
+@Category({ "Tetris", "Game" })
+@Description("The player hard-dropped the falling brick.")
+public class HardDropEvent extends Event {
+
+    @Label("Distance")
+    @Description("Rows the brick fell")
+    public int distance;
+}
@@ -0,0 +1,25 @@
+package com.comp2042.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * HoldEvent - JFR event: the falling brick is swapped with the held one
+ * (SimpleBoard.holdPiece).
+ *
+ * @author Umer Imran
+ * @version 1.0
+ */
+@Name("com.comp2042.Hold")
+@Label("Hold")
+@Category({ "Tetris", "Game" })
+@Description("The falling brick is swapped with the held one (SimpleBoard.holdPiece).")
+public class HoldEvent extends Event {
+
+    @Label("First Hold")
+    @Description("Nothing was held yet, so the next brick was taken")
+    public boolean firstHold;
+}
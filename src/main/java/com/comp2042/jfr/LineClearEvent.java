@@ -0,0 +1,24 @@
+package com.comp2042.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * LineClearEvent - JFR event: full rows are removed from the board
+ * (SimpleBoard.clearRows).
+ *
+ * @author Umer Imran
+ * @version 1.0
+ */
+@Name("com.comp2042.LineClear")
+@Label("Line Clear")
+@Category({ "Tetris", "Game" })
+@Description("Full rows are removed from the board (SimpleBoard.clearRows).")
+public class LineClearEvent extends Event {
+
+    @Label("Lines")
+    public int lines;
+}
@@ -0,0 +1,27 @@
+package com.comp2042.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+
+/**
+ * RenderRefreshEvent - JFR event: the GUI redraws part of the game; only
+ * refreshes slower than the threshold are recorded.
+ *
+ * @author Umer Imran
+ * @version 1.0
+ */
+@Name("com.comp2042.RenderRefresh")
+@Label("Render Refresh")
+@Category({ "Tetris", "Rendering" })
+@Description("The GUI redraws part of the game; only refreshes slower than the threshold are recorded.")
+@Threshold("1 ms")
+public class RenderRefreshEvent extends Event {
+
+    @Label("Part")
+    @Description("refreshBrick or refreshGameBackground")
+    public String part;
+}
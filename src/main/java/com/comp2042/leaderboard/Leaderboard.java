@@ -0,0 +1,50 @@
+package com.comp2042.leaderboard;
+
+import java.util.List;
+
+/**
+ * Leaderboard - Best scores, kept separately for every combination of
+ * difficulty level and obstacle mode.
+ *
+ * Implementations must be safe to call from the FX thread: submitting and
+ * querying never wait for the disk.
+ *
+ * @author Umer Imran
+ * @version 1.0
+ */
+public interface Leaderboard extends AutoCloseable {
+
+    /**
+     * Adds a finished game. Returns immediately; the entry is visible to
+     * queries at once and made durable in the background.
+     */
+    void submit(ScoreEntry entry);
+
+    /**
+     * @return the best entries of one leaderboard, best first (at most the
+     *         implementation's capacity)
+     */
+    List<ScoreEntry> getTop(int level, boolean obstacleMode);
+
+    /**
+     * @return the highest score of one leaderboard, or 0 if it is empty
+     */
+    default int getBest(int level, boolean obstacleMode) {
+        List<ScoreEntry> top = getTop(level, obstacleMode);
+        return top.isEmpty() ? 0 : top.get(0).getScore();
+    }
+
+    /**
+     * Registers a callback that runs after new entries were added. It may
+     * run on any thread, and should re-query the boards it shows.
+     */
+    void addListener(Runnable listener);
+
+    void removeListener(Runnable listener);
+
+    /**
+     * Writes out pending entries and releases the backing storage.
+     */
+    @Override
+    void close();
+}
@@ -0,0 +1,52 @@
+package com.comp2042.leaderboard;
+
+import com.comp2042.util.Constants;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+
+/**
+ * Leaderboards - Holds the application's shared Leaderboard.
+ *
+ * Opened on first use: a SharedLeaderboard if
+ * {@link Constants#SHARED_LEADERBOARD_FILE} is set (several game processes
+ * on one machine), otherwise the log at {@link Constants#LEADERBOARD_FILE}.
+ * If neither can be opened the game still keeps a leaderboard, just not
+ * across launches.
+ *
+ * @author Umer Imran
+ * @version 1.0
+ */
+public final class Leaderboards {
+
+    private static Leaderboard instance;
+
+    private Leaderboards() {
+
+    }
+
+    public static synchronized Leaderboard getDefault() {
+        if (instance == null) {
+            try {
+                instance = Constants.SHARED_LEADERBOARD_FILE != null
+                        ? SharedLeaderboard.open(Paths.get(Constants.SHARED_LEADERBOARD_FILE),
+                                Constants.LEADERBOARD_SIZE)
+                        : LogLeaderboard.open(Paths.get(Constants.LEADERBOARD_FILE), Constants.LEADERBOARD_SIZE);
+            } catch (IOException | RuntimeException e) {
+                System.err.println("Leaderboard unavailable, scores will not be saved: " + e);
+                instance = LogLeaderboard.inMemory(Constants.LEADERBOARD_SIZE);
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Flushes and closes the shared leaderboard (on application exit).
+     */
+    public static synchronized void closeDefault() {
+        if (instance != null) {
+            instance.close();
+            instance = null;
+        }
+    }
+}
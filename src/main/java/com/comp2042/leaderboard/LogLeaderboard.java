@@ -0,0 +1,356 @@
+package com.comp2042.leaderboard;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.zip.CRC32C;
+
+/**
+ * LogLeaderboard - Leaderboard persisted as an append-only log of
+ * CRC-checked, fixed-size records.
+ *
+ * Responsibilities:
+ * - Keep a top-K index per (difficulty level, obstacle mode) in memory
+ * - Append submitted entries on a background writer thread, batching
+ *   whatever queued up into one write and one fsync, so the FX thread never
+ *   touches the disk
+ * - Rebuild the index from the log at startup in a single sequential read
+ *
+ * File layout (little endian): an 8-byte header (magic, version) followed by
+ * 20-byte records:
+ * - 0: timestamp (long)
+ * - 8: score (int)
+ * - 12: level (byte), 13: flags (byte, bit 0 = obstacle mode), 14: reserved
+ * - 16: CRC32C of bytes 0-15
+ *
+ * Records are only ever appended, so a crash can at worst leave a torn or
+ * unsynced record at the end. The rebuild skips any record whose CRC does
+ * not match and carries on with the next one, so one damaged record never
+ * hides the ones after it; bad and torn records at the end are truncated.
+ * The writer appends at the end of the last whole record rather than at the
+ * file size, and cuts a failed write back to it, so records written after a
+ * partial write stay on the record grid.
+ *
+ * @author Umer Imran
+ * @version 1.0
+ */
+public final class LogLeaderboard implements Leaderboard {
+
+    public static final int DEFAULT_CAPACITY = 10;
+
+    static final int MAGIC = 0x544C4231; // "TLB1"
+    static final int VERSION = 1;
+    static final int HEADER_BYTES = 8;
+    static final int RECORD_BYTES = 20;
+    private static final int CRC_OFFSET = 16;
+    private static final int FLAG_OBSTACLE = 1;
+    private static final int MAX_BATCH = 256;
+
+    // tells the writer to finish; compared by identity
+    private static final ScoreEntry CLOSE = new ScoreEntry(0, 0, false, 0);
+
+    private final int capacity;
+    private final Map<Integer, TopK> boards = new HashMap<>();
+    private final FileChannel channel;
+    private final BlockingQueue<ScoreEntry> pending = new LinkedBlockingQueue<>();
+    private final Thread writer;
+    private final List<Runnable> listeners = new CopyOnWriteArrayList<>();
+
+    private long submitted;
+    private long written;
+    private long failed; // entries whose write threw
+    private boolean closed;
+    private long end; // HEADER_BYTES + n * RECORD_BYTES; set by rebuild, then writer thread only
+
+    private LogLeaderboard(int capacity, FileChannel channel) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+        this.capacity = capacity;
+        this.channel = channel;
+        if (channel != null) {
+            writer = new Thread(this::writeLoop, "leaderboard-writer");
+            writer.setDaemon(true);
+        } else {
+            writer = null;
+        }
+    }
+
+    /**
+     * Opens (or creates) a leaderboard log and rebuilds its index.
+     *
+     * @param file     log file; parent directories are created
+     * @param capacity entries kept per leaderboard
+     * @throws IOException if the file cannot be opened or is not a log
+     */
+    public static LogLeaderboard open(Path file, int capacity) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        return open(channel, capacity);
+    }
+
+    public static LogLeaderboard open(Path file) throws IOException {
+        return open(file, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Rebuilds a leaderboard from an already open log channel, which it then
+     * owns. Tests pass a channel that fails on demand.
+     */
+    static LogLeaderboard open(FileChannel channel, int capacity) throws IOException {
+        try {
+            LogLeaderboard leaderboard = new LogLeaderboard(capacity, channel);
+            leaderboard.rebuild();
+            leaderboard.writer.start();
+            return leaderboard;
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * @return a leaderboard that is not persisted (used when the log cannot
+     *         be opened)
+     */
+    public static LogLeaderboard inMemory(int capacity) {
+        return new LogLeaderboard(capacity, null);
+    }
+
+    // ========== QUERIES AND UPDATES ==========
+
+    @Override
+    public void submit(ScoreEntry entry) {
+        synchronized (this) {
+            if (closed) {
+                throw new IllegalStateException("Leaderboard is closed");
+            }
+            index(entry);
+            if (channel != null) {
+                submitted++;
+                pending.add(entry);
+            }
+        }
+        for (Runnable listener : listeners) {
+            listener.run();
+        }
+    }
+
+    @Override
+    public void addListener(Runnable listener) {
+        listeners.add(listener);
+    }
+
+    @Override
+    public void removeListener(Runnable listener) {
+        listeners.remove(listener);
+    }
+
+    @Override
+    public synchronized List<ScoreEntry> getTop(int level, boolean obstacleMode) {
+        TopK board = boards.get(key(level, obstacleMode));
+        return board != null ? board.toList() : List.of();
+    }
+
+    /**
+     * Waits until every entry submitted so far has been written and synced
+     * (or has failed to be).
+     */
+    public synchronized void flush() throws InterruptedException {
+        if (channel == null) {
+            return;
+        }
+        long target = submitted;
+        while (written + failed < target && writer.isAlive()) {
+            wait();
+        }
+    }
+
+    @Override
+    public void close() {
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+        }
+        if (channel == null) {
+            return;
+        }
+        pending.add(CLOSE);
+        try {
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        try {
+            channel.close();
+        } catch (IOException e) {
+            System.err.println("Could not close leaderboard log: " + e);
+        }
+    }
+
+    private void index(ScoreEntry entry) {
+        boards.computeIfAbsent(key(entry.getLevel(), entry.isObstacleMode()), k -> new TopK(capacity)).offer(entry);
+    }
+
+    private static int key(int level, boolean obstacleMode) {
+        return level << 1 | (obstacleMode ? 1 : 0);
+    }
+
+    // ========== LOG ==========
+
+    /**
+     * @return entries written and synced to the log so far
+     */
+    synchronized long getWrittenCount() {
+        return written;
+    }
+
+    /**
+     * Reads the whole log, indexes every valid record and cuts off a torn
+     * or damaged tail. An empty file gets a header.
+     */
+    private void rebuild() throws IOException {
+        long size = channel.size();
+        if (size < HEADER_BYTES) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            header.putInt(MAGIC).putInt(VERSION).flip();
+            channel.truncate(0);
+            channel.write(header, 0);
+            channel.force(true);
+            end = HEADER_BYTES;
+            return;
+        }
+        if (size > Integer.MAX_VALUE) {
+            throw new IOException("Leaderboard log too large: " + size + " bytes");
+        }
+        ByteBuffer log = ByteBuffer.allocate((int) size).order(ByteOrder.LITTLE_ENDIAN);
+        while (log.hasRemaining() && channel.read(log, log.position()) >= 0) {
+            // read until full
+        }
+        log.flip();
+        if (log.getInt(0) != MAGIC || log.getInt(4) != VERSION) {
+            throw new IOException("Not a leaderboard log (version " + VERSION + ")");
+        }
+
+        CRC32C crc = new CRC32C();
+        int validEnd = HEADER_BYTES; // end of the last good record
+        int skipped = 0;
+        for (int position = HEADER_BYTES; position + RECORD_BYTES <= log.limit(); position += RECORD_BYTES) {
+            crc.reset();
+            crc.update(log.slice(position, CRC_OFFSET));
+            if ((int) crc.getValue() != log.getInt(position + CRC_OFFSET)) {
+                skipped++; // records are fixed-size, so the next one starts in step
+                continue;
+            }
+            index(new ScoreEntry(log.getInt(position + 8), log.get(position + 12) & 0xFF,
+                    (log.get(position + 13) & FLAG_OBSTACLE) != 0, log.getLong(position)));
+            validEnd = position + RECORD_BYTES;
+        }
+        if (skipped > 0) {
+            System.err.println("Skipped " + skipped + " damaged leaderboard records");
+        }
+        if (validEnd < size) {
+            channel.truncate(validEnd);
+            channel.force(true);
+        }
+        end = validEnd;
+    }
+
+    private void writeLoop() {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(MAX_BATCH * RECORD_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        CRC32C crc = new CRC32C();
+        List<ScoreEntry> batch = new ArrayList<>(MAX_BATCH);
+        boolean running = true;
+        while (running) {
+            try {
+                batch.add(pending.take());
+            } catch (InterruptedException e) {
+                break;
+            }
+            pending.drainTo(batch, MAX_BATCH - 1);
+
+            buffer.clear();
+            int records = 0;
+            for (ScoreEntry entry : batch) {
+                if (entry == CLOSE) {
+                    running = false;
+                    continue;
+                }
+                encode(buffer, entry, crc);
+                records++;
+            }
+            batch.clear();
+            buffer.flip();
+            boolean ok;
+            try {
+                long position = end;
+                while (buffer.hasRemaining()) {
+                    position += channel.write(buffer, position);
+                }
+                channel.force(false);
+                end = position;
+                ok = true;
+            } catch (IOException e) {
+                // the entries stay on the in-memory boards for this session
+                System.err.println("Could not write leaderboard log: " + e);
+                ok = false;
+                discardPartialWrite();
+            }
+            synchronized (this) {
+                if (ok) {
+                    written += records;
+                } else {
+                    failed += records;
+                }
+                notifyAll();
+            }
+        }
+        synchronized (this) {
+            notifyAll();
+        }
+    }
+
+    /**
+     * Cuts off whatever part of a failed batch reached the file. The next
+     * batch is written at {@code end} either way, so this only matters if the
+     * log is reopened before another write succeeds.
+     */
+    private void discardPartialWrite() {
+        try {
+            if (channel.size() > end) {
+                channel.truncate(end);
+            }
+        } catch (IOException e) {
+            System.err.println("Could not trim leaderboard log: " + e);
+        }
+    }
+
+    private static void encode(ByteBuffer buffer, ScoreEntry entry, CRC32C crc) {
+        int start = buffer.position();
+        buffer.putLong(entry.getTimestamp());
+        buffer.putInt(entry.getScore());
+        buffer.put((byte) entry.getLevel());
+        buffer.put((byte) (entry.isObstacleMode() ? FLAG_OBSTACLE : 0));
+        buffer.putShort((short) 0);
+        crc.reset();
+        crc.update(buffer.slice(start, CRC_OFFSET));
+        buffer.putInt((int) crc.getValue());
+    }
+}
@@ -0,0 +1,81 @@
+package com.comp2042.leaderboard;
+
+import java.util.Comparator;
+import java.util.Objects;
+
+/**
+ * ScoreEntry - Immutable result of one finished game on a leaderboard.
+ *
+ * Holds:
+ * - Final score
+ * - Difficulty level and obstacle mode the game was played in (together
+ *   they select the leaderboard the entry belongs to)
+ * - When the game ended (epoch milliseconds)
+ *
+ * @author Umer Imran
+ * @version 1.0
+ */
+public final class ScoreEntry {
+
+    /** Best first; of two equal scores the earlier one ranks higher. */
+    public static final Comparator<ScoreEntry> RANKING = Comparator.comparingInt(ScoreEntry::getScore).reversed()
+            .thenComparingLong(ScoreEntry::getTimestamp);
+
+    private final int score;
+    private final int level;
+    private final boolean obstacleMode;
+    private final long timestamp;
+
+    public ScoreEntry(int score, int level, boolean obstacleMode, long timestamp) {
+        if (score < 0) {
+            throw new IllegalArgumentException("Score cannot be negative: " + score);
+        }
+        if (level < 0 || level > 0xFF) {
+            throw new IllegalArgumentException("Level out of range: " + level);
+        }
+        this.score = score;
+        this.level = level;
+        this.obstacleMode = obstacleMode;
+        this.timestamp = timestamp;
+    }
+
+    public int getScore() {
+        return score;
+    }
+
+    public int getLevel() {
+        return level;
+    }
+
+    public boolean isObstacleMode() {
+        return obstacleMode;
+    }
+
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof ScoreEntry)) {
+            return false;
+        }
+        ScoreEntry other = (ScoreEntry) o;
+        return score == other.score && level == other.level && obstacleMode == other.obstacleMode
+                && timestamp == other.timestamp;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(score, level, obstacleMode, timestamp);
+    }
+
+    @Override
+    public String toString() {
+        return "ScoreEntry{score=" + score + ", level=" + level + ", obstacleMode=" + obstacleMode
+                + ", timestamp=" + timestamp + "}";
+    }
+}
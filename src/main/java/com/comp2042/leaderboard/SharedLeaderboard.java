@@ -0,0 +1,424 @@
+package com.comp2042.leaderboard;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * SharedLeaderboard - Leaderboard in a memory-mapped file that several game
+ * processes on one machine use at the same time.
+ *
+ * Responsibilities:
+ * - Keep every (difficulty level, obstacle mode) top-K list in its own fixed
+ *   section of the file, so updates to one list never touch another
+ * - Let readers copy a list without locking, guarded by the section's
+ *   sequence counter (a seqlock): odd while a write is in progress, and a
+ *   read that saw the counter change is retried
+ * - Serialize writers with a FileChannel lock on the section (and a lock
+ *   per file inside one JVM, where file locks do not exclude each other)
+ * - Wake listeners when another process adds an entry, using a WatchService
+ *   on the file instead of re-reading it
+ *
+ * File layout (little endian): a 64-byte header (magic, version, capacity,
+ * change counter at 16) followed by 512 sections, one per
+ * {@code level << 1 | obstacleMode}. A section holds its sequence counter,
+ * its size and {@code capacity} entries of 16 bytes (timestamp, score).
+ *
+ * A process that dies mid-write leaves its section's counter odd; readers
+ * that keep seeing an odd counter try the locks and repair the section. If
+ * a live writer still holds them, the reader returns the last copy of that
+ * board it read cleanly rather than waiting, so reads never block.
+ *
+ * @author Umer Imran
+ * @version 1.0
+ */
+public final class SharedLeaderboard implements Leaderboard {
+
+    static final int MAGIC = 0x544C5331; // "TLS1"
+    static final int VERSION = 1;
+    static final int HEADER_BYTES = 64;
+    static final int SECTIONS = 512;
+    static final int SECTION_HEADER_BYTES = 16;
+    static final int ENTRY_BYTES = 16;
+    private static final int CAPACITY_OFFSET = 8;
+    private static final int CHANGES_OFFSET = 16;
+    private static final int SPIN_LIMIT = 10_000;
+    private static final int MAX_CAPACITY = 1000;
+
+    private static final VarHandle LONGS = MethodHandles.byteBufferViewVarHandle(long[].class,
+            ByteOrder.LITTLE_ENDIAN);
+    // FileLocks are held per JVM, so writers in one process also need a lock
+    private static final Map<Path, ReentrantLock> PROCESS_LOCKS = new ConcurrentHashMap<>();
+
+    private final Path file;
+    private final FileChannel channel;
+    private final MappedByteBuffer map;
+    private final int capacity;
+    private final int sectionBytes;
+    private final ReentrantLock writeLock;
+    private final List<Runnable> listeners = new CopyOnWriteArrayList<>();
+    // last clean copy of each section, by section offset
+    private final Map<Integer, List<ScoreEntry>> lastRead = new ConcurrentHashMap<>();
+
+    private WatchService watchService;
+    private long seenChanges;
+    private volatile boolean closed;
+
+    private SharedLeaderboard(Path file, FileChannel channel, MappedByteBuffer map, int capacity) {
+        this.file = file;
+        this.channel = channel;
+        this.map = map;
+        this.capacity = capacity;
+        this.sectionBytes = sectionBytes(capacity);
+        this.writeLock = PROCESS_LOCKS.computeIfAbsent(file, f -> new ReentrantLock());
+        this.seenChanges = changes();
+    }
+
+    /**
+     * Opens a shared leaderboard file, creating it if no process has yet.
+     *
+     * @param file     shared file; parent directories are created
+     * @param capacity entries kept per leaderboard when the file is created
+     *                 (an existing file keeps its own capacity)
+     * @throws IOException if the file cannot be mapped or is not a
+     *                     leaderboard
+     */
+    public static SharedLeaderboard open(Path file, int capacity) throws IOException {
+        if (capacity < 1 || capacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Capacity must be 1 to " + MAX_CAPACITY);
+        }
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        try {
+            Path key = file.toRealPath();
+            int fileCapacity;
+            ReentrantLock processLock = PROCESS_LOCKS.computeIfAbsent(key, f -> new ReentrantLock());
+            processLock.lock();
+            try (FileLock lock = channel.lock()) {
+                fileCapacity = initialize(channel, capacity);
+            } finally {
+                processLock.unlock();
+            }
+            long size = HEADER_BYTES + (long) SECTIONS * sectionBytes(fileCapacity);
+            MappedByteBuffer map = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+            map.order(ByteOrder.LITTLE_ENDIAN);
+            return new SharedLeaderboard(key, channel, map, fileCapacity);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Writes the header of a new file, or checks the header of an existing
+     * one. Runs under an exclusive lock on the whole file.
+     *
+     * @return the capacity of the file
+     */
+    private static int initialize(FileChannel channel, int capacity) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        if (channel.size() == 0) {
+            header.putInt(MAGIC).putInt(VERSION).putInt(capacity).flip();
+            channel.write(header, 0);
+            // sizing the file zero-fills every section: all empty, all even
+            long size = HEADER_BYTES + (long) SECTIONS * sectionBytes(capacity);
+            channel.write(ByteBuffer.allocate(1), size - 1);
+            channel.force(true);
+            return capacity;
+        }
+        while (header.hasRemaining() && channel.read(header, header.position()) >= 0) {
+            // read until full
+        }
+        if (header.position() < HEADER_BYTES || header.getInt(0) != MAGIC || header.getInt(4) != VERSION) {
+            throw new IOException("Not a shared leaderboard (version " + VERSION + ")");
+        }
+        int fileCapacity = header.getInt(CAPACITY_OFFSET);
+        if (fileCapacity < 1 || fileCapacity > MAX_CAPACITY
+                || channel.size() < HEADER_BYTES + (long) SECTIONS * sectionBytes(fileCapacity)) {
+            throw new IOException("Shared leaderboard is truncated or corrupt");
+        }
+        return fileCapacity;
+    }
+
+    private static int sectionBytes(int capacity) {
+        return SECTION_HEADER_BYTES + capacity * ENTRY_BYTES;
+    }
+
+    private int section(int level, boolean obstacleMode) {
+        if (level < 0 || level > 0xFF) {
+            throw new IllegalArgumentException("Level out of range: " + level);
+        }
+        return HEADER_BYTES + (level << 1 | (obstacleMode ? 1 : 0)) * sectionBytes;
+    }
+
+    // ========== READS (lock-free) ==========
+
+    @Override
+    public List<ScoreEntry> getTop(int level, boolean obstacleMode) {
+        int base = section(level, obstacleMode);
+        long[] timestamps = new long[capacity];
+        int[] scores = new int[capacity];
+        for (int spins = 0;; spins++) {
+            long before = (long) LONGS.getAcquire(map, base);
+            if ((before & 1) == 0) {
+                int size = Math.min(Math.max(map.getInt(base + 8), 0), capacity);
+                for (int i = 0; i < size; i++) {
+                    int entry = base + SECTION_HEADER_BYTES + i * ENTRY_BYTES;
+                    timestamps[i] = map.getLong(entry);
+                    scores[i] = map.getInt(entry + 8);
+                }
+                VarHandle.loadLoadFence();
+                if ((long) LONGS.getAcquire(map, base) == before) {
+                    List<ScoreEntry> top = new ArrayList<>(size);
+                    for (int i = 0; i < size; i++) {
+                        top.add(new ScoreEntry(scores[i], level, obstacleMode, timestamps[i]));
+                    }
+                    top = Collections.unmodifiableList(top);
+                    lastRead.put(base, top);
+                    return top;
+                }
+            }
+            if (spins == SPIN_LIMIT) {
+                // the writer may have died mid-update; if it is only slow, do not wait for it
+                if (!tryRepair(level, obstacleMode)) {
+                    return lastRead.getOrDefault(base, List.of());
+                }
+                spins = 0;
+            }
+            Thread.onSpinWait();
+        }
+    }
+
+    /**
+     * @return how many entries were added to the file by every process so far
+     */
+    public long changes() {
+        return (long) LONGS.getAcquire(map, CHANGES_OFFSET);
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    // ========== WRITES ==========
+
+    @Override
+    public void submit(ScoreEntry entry) {
+        if (closed) {
+            throw new IllegalStateException("Leaderboard is closed");
+        }
+        if (update(entry.getLevel(), entry.isObstacleMode(), entry)) {
+            synchronized (this) {
+                seenChanges = Math.max(seenChanges, changes());
+            }
+            fireChanged();
+            try {
+                // writes through the mapping raise no file events; a touch does
+                Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis()));
+            } catch (IOException e) {
+                System.err.println("Could not notify leaderboard watchers: " + e);
+            }
+        }
+    }
+
+    /**
+     * Offers an entry to one section, waiting for the write locks.
+     *
+     * @return true if the entry made it onto the board
+     */
+    private boolean update(int level, boolean obstacleMode, ScoreEntry entry) {
+        int base = section(level, obstacleMode);
+        writeLock.lock();
+        try (FileLock lock = channel.lock(base, sectionBytes, false)) {
+            return rewrite(base, level, obstacleMode, entry);
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not lock shared leaderboard", e);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Repairs a torn section if its write locks are free right now.
+     *
+     * @return false if another writer holds the section
+     */
+    private boolean tryRepair(int level, boolean obstacleMode) {
+        int base = section(level, obstacleMode);
+        if (!writeLock.tryLock()) {
+            return false;
+        }
+        try (FileLock lock = channel.tryLock(base, sectionBytes, false)) {
+            if (lock == null) {
+                return false; // held by another process
+            }
+            rewrite(base, level, obstacleMode, null);
+            return true;
+        } catch (OverlappingFileLockException e) {
+            return false; // held through another channel in this JVM
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not lock shared leaderboard", e);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Re-ranks a section and offers it an entry, or only repairs it if
+     * {@code entry} is null. The caller holds both write locks.
+     *
+     * @return true if the entry made it onto the board
+     */
+    private boolean rewrite(int base, int level, boolean obstacleMode, ScoreEntry entry) {
+        long sequence = (long) LONGS.getVolatile(map, base);
+        boolean torn = (sequence & 1) != 0;
+        if (entry == null && !torn) {
+            return false;
+        }
+        long writing = sequence | 1;
+        LONGS.setVolatile(map, base, writing);
+
+        // re-rank what is there; this also cleans up after a torn write
+        TopK board = new TopK(capacity);
+        int size = Math.min(Math.max(map.getInt(base + 8), 0), capacity);
+        for (int i = 0; i < size; i++) {
+            int offset = base + SECTION_HEADER_BYTES + i * ENTRY_BYTES;
+            int score = map.getInt(offset + 8);
+            if (score >= 0) {
+                board.offer(new ScoreEntry(score, level, obstacleMode, map.getLong(offset)));
+            }
+        }
+        boolean added = entry != null && board.offer(entry);
+        if (added || torn) {
+            List<ScoreEntry> top = board.toList();
+            for (int i = 0; i < top.size(); i++) {
+                int offset = base + SECTION_HEADER_BYTES + i * ENTRY_BYTES;
+                map.putLong(offset, top.get(i).getTimestamp());
+                map.putInt(offset + 8, top.get(i).getScore());
+                map.putInt(offset + 12, 0);
+            }
+            map.putInt(base + 8, top.size());
+        }
+        LONGS.setRelease(map, base, writing + 1);
+        if (added) {
+            LONGS.getAndAdd(map, CHANGES_OFFSET, 1L);
+        }
+        return added;
+    }
+
+    // ========== CHANGE NOTIFICATION ==========
+
+    /**
+     * Registers a callback for new entries from this or any other process.
+     * Callbacks run on a background thread and should re-query the boards
+     * they show. The first listener starts watching the file.
+     */
+    @Override
+    public void addListener(Runnable listener) {
+        listeners.add(listener);
+        startWatching();
+    }
+
+    @Override
+    public void removeListener(Runnable listener) {
+        listeners.remove(listener);
+    }
+
+    private synchronized void startWatching() {
+        if (watchService != null || closed) {
+            return;
+        }
+        try {
+            watchService = FileSystems.getDefault().newWatchService();
+            file.getParent().register(watchService, StandardWatchEventKinds.ENTRY_MODIFY);
+        } catch (IOException e) {
+            System.err.println("Leaderboard updates from other games will not be shown: " + e);
+            return;
+        }
+        Thread watcher = new Thread(() -> watchLoop(watchService), "leaderboard-watch");
+        watcher.setDaemon(true);
+        watcher.start();
+    }
+
+    private void watchLoop(WatchService service) {
+        Path name = file.getFileName();
+        try {
+            while (!closed) {
+                WatchKey key = service.take();
+                boolean touched = false;
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    touched |= name.equals(event.context()) || event.kind() == StandardWatchEventKinds.OVERFLOW;
+                }
+                key.reset();
+                if (touched && newChanges()) {
+                    fireChanged();
+                }
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            // closed
+        }
+    }
+
+    private synchronized boolean newChanges() {
+        long changes = changes();
+        if (changes == seenChanges) {
+            return false;
+        }
+        seenChanges = changes;
+        return true;
+    }
+
+    private void fireChanged() {
+        for (Runnable listener : listeners) {
+            listener.run();
+        }
+    }
+
+    @Override
+    public void close() {
+        WatchService service;
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            service = watchService;
+        }
+        try {
+            if (service != null) {
+                service.close();
+            }
+            map.force();
+            channel.close();
+        } catch (IOException e) {
+            System.err.println("Could not close shared leaderboard: " + e);
+        }
+    }
+}
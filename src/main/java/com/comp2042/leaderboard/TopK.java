@@ -0,0 +1,47 @@
+package com.comp2042.leaderboard;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * TopK - The best {@code capacity} entries of one leaderboard, kept sorted
+ * by {@link ScoreEntry#RANKING} in a fixed array.
+ *
+ * Offering is a binary search plus a short array shift, so rebuilding from a
+ * log of millions of games stays linear. Not thread-safe.
+ *
+ * @author Umer Imran
+ * @version 1.0
+ */
+final class TopK {
+
+    private final ScoreEntry[] entries;
+    private int size;
+
+    TopK(int capacity) {
+        entries = new ScoreEntry[capacity];
+    }
+
+    /**
+     * @return true if the entry made it onto the board
+     */
+    boolean offer(ScoreEntry entry) {
+        if (size == entries.length && ScoreEntry.RANKING.compare(entry, entries[size - 1]) >= 0) {
+            return false;
+        }
+        int index = Arrays.binarySearch(entries, 0, size, entry, ScoreEntry.RANKING);
+        if (index < 0) {
+            index = -index - 1;
+        }
+        int moved = Math.min(size, entries.length - 1) - index;
+        System.arraycopy(entries, index, entries, index + 1, moved);
+        entries[index] = entry;
+        size = Math.min(size + 1, entries.length);
+        return true;
+    }
+
+    List<ScoreEntry> toList() {
+        return Collections.unmodifiableList(Arrays.asList(Arrays.copyOf(entries, size)));
+    }
+}
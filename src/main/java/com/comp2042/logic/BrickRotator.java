@@ -32,6 +32,13 @@ public class BrickRotator {
         return brick.getShapeMatrix().get(currentShape);
     }
 
+    /**
+     * @return index of the active rotation state within the brick's shape list
+     */
+    public int getCurrentShapeIndex() {
+        return currentShape;
+    }
+
     public void setCurrentShape(int currentShape) {
         this.currentShape = currentShape;
     }
@@ -5,6 +5,10 @@ import com.comp2042.dto.*;
 import com.comp2042.logic.bricks.Brick;
 import com.comp2042.logic.bricks.BrickGenerator;
 import com.comp2042.logic.bricks.RandomBrickGenerator;
+import com.comp2042.jfr.BrickLockEvent;
+import com.comp2042.jfr.BrickSpawnEvent;
+import com.comp2042.jfr.HoldEvent;
+import com.comp2042.jfr.LineClearEvent;
 import java.awt.*;
 
 /**
@@ -17,6 +21,7 @@ import java.awt.*;
  * - Held piece swapping
  * - Ghost piece (fall projection) calculation
  * - Board state management
+ * - Incremental Zobrist hash of the settled cells (for search caches)
  * 
  * Uses 25x10 game board (standard Tetris dimensions).
  * 
@@ -35,6 +40,7 @@ public class SimpleBoard implements Board {
     private Brick currentBrick;
     private Brick nextBrick; // stores the next piece
     private Brick heldBrick; // stores the held piece for hold feature
+    private long zobristHash; // XOR of Zobrist keys of occupied background cells
 
     public SimpleBoard(int width, int height) {
         this.width = width;
@@ -61,6 +67,17 @@ public class SimpleBoard implements Board {
         if (currentBrick == null || currentOffset == null)
             return new int[0][0];
 
+        int[][] shape = brickRotator.getCurrentShape();
+        int col = (int) currentOffset.getX();
+
+        // convert ghost shape into coordinates for GUI
+        return MatrixOperations.getOccupiedCells(shape, col, getGhostRow());
+    }
+
+    /**
+     * @return the row the current brick would land on if dropped now
+     */
+    private int getGhostRow() {
         int[][] shape = brickRotator.getCurrentShape();
         int ghostRow = (int) currentOffset.getY();
         int col = (int) currentOffset.getX();
@@ -69,9 +86,7 @@ public class SimpleBoard implements Board {
         while (canMove(shape, ghostRow + 1, col)) {
             ghostRow++;
         }
-
-        // convert ghost shape into coordinates for GUI
-        return MatrixOperations.getOccupiedCells(shape, col, ghostRow);
+        return ghostRow;
     }
 
     @Override
@@ -137,6 +152,8 @@ public class SimpleBoard implements Board {
 
     @Override
     public boolean createNewBrick() {
+        BrickSpawnEvent event = new BrickSpawnEvent();
+        event.begin();
         // Move the previewed next brick into the current piece and then
         // poll the generator for the next preview piece. This preserves
         // the expected createNewBrick() workflow used by GameController.
@@ -147,8 +164,15 @@ public class SimpleBoard implements Board {
         brickRotator.setBrick(currentBrick);
         currentOffset = new Point(4, 0); // typically start near top
 
-        return MatrixOperations.intersect(currentGameMatrix, brickRotator.getCurrentShape(),
+        boolean blocked = MatrixOperations.intersect(currentGameMatrix, brickRotator.getCurrentShape(),
                 (int) currentOffset.getX(), (int) currentOffset.getY());
+        event.end();
+        if (event.shouldCommit()) {
+            event.brick = currentBrick.getClass().getSimpleName();
+            event.blocked = blocked;
+            event.commit();
+        }
+        return blocked;
     }
 
     @Override
@@ -177,7 +201,9 @@ public class SimpleBoard implements Board {
                 nextThreeBricksInfo);
 
         // Add ghost info
-        viewData.setGhostCoords(getGhostBrickCoordinates());
+        int ghostRow = getGhostRow();
+        viewData.setGhostCoords(MatrixOperations.getOccupiedCells(shape, (int) currentOffset.getX(), ghostRow));
+        viewData.setFallDistance(ghostRow - (int) currentOffset.getY());
         return viewData;
     }
 
@@ -210,17 +236,70 @@ public class SimpleBoard implements Board {
 
     @Override
     public void mergeBrickToBackground() {
-        currentGameMatrix = MatrixOperations.merge(currentGameMatrix, brickRotator.getCurrentShape(),
-                (int) currentOffset.getX(), (int) currentOffset.getY());
+        BrickLockEvent event = new BrickLockEvent();
+        event.begin();
+        int[][] shape = brickRotator.getCurrentShape();
+        int x = (int) currentOffset.getX();
+        int y = (int) currentOffset.getY();
+        // toggle the keys of the cells this brick newly fills
+        for (int r = 0; r < shape.length; r++) {
+            for (int c = 0; c < shape[r].length; c++) {
+                if (shape[r][c] != 0 && currentGameMatrix[y + r][x + c] == 0) {
+                    zobristHash ^= Zobrist.cell(y + r, x + c);
+                }
+            }
+        }
+        currentGameMatrix = MatrixOperations.merge(currentGameMatrix, shape, x, y);
+        event.end();
+        if (event.shouldCommit()) {
+            event.brick = currentBrick != null ? currentBrick.getClass().getSimpleName() : null;
+            event.x = x;
+            event.y = y;
+            event.rotation = getCurrentRotation();
+            event.commit();
+        }
     }
 
     @Override
     public ClearRow clearRows() {
+        LineClearEvent event = new LineClearEvent();
+        event.begin();
         ClearRow clearRow = MatrixOperations.checkRemoving(currentGameMatrix);
-        currentGameMatrix = clearRow.getNewMatrix();
+        int[][] newMatrix = clearRow.getNewMatrix();
+        if (clearRow.getLinesRemoved() > 0) {
+            // only rows down to the lowest cleared row change; rehash that band
+            int lowest = 0;
+            for (int row : clearRow.getClearedRows()) {
+                lowest = Math.max(lowest, row);
+            }
+            zobristHash ^= Zobrist.hashRows(currentGameMatrix, lowest + 1)
+                    ^ Zobrist.hashRows(newMatrix, lowest + 1);
+        }
+        currentGameMatrix = newMatrix;
+        event.end();
+        if (event.shouldCommit()) {
+            event.lines = clearRow.getLinesRemoved();
+            event.commit();
+        }
         return clearRow;
     }
 
+    /**
+     * @return Zobrist hash of the settled cells (the falling brick is not
+     *         included)
+     */
+    public long getZobristHash() {
+        return zobristHash;
+    }
+
+    /**
+     * Recomputes the Zobrist hash from scratch. Call after editing the matrix
+     * returned by {@link #getBoardMatrix()} directly (e.g. obstacle placement).
+     */
+    public void refreshZobristHash() {
+        zobristHash = Zobrist.hash(currentGameMatrix);
+    }
+
     @Override
     public Score getScore() {
         return score;
@@ -228,16 +307,70 @@ public class SimpleBoard implements Board {
 
     @Override
     public void newGame() {
+        startGame(new RandomBrickGenerator());
+    }
+
+    /**
+     * Starts a new game with a reproducible brick sequence (replays, tests,
+     * training environments).
+     * 
+     * @param seed seed of the brick sequence
+     */
+    public void newGame(long seed) {
+        startGame(new RandomBrickGenerator(seed));
+    }
+
+    private void startGame(BrickGenerator generator) {
         currentGameMatrix = new int[width][height];
+        zobristHash = 0;
         score.reset();
         // Reset the brick generator for a fresh queue
-        brickGenerator = new RandomBrickGenerator();
+        brickGenerator = generator;
         // Set first preview brick and create the initial current piece
         nextBrick = brickGenerator.getBrick();
         heldBrick = null; // Reset held brick for new game
         createNewBrick();
     }
 
+    /**
+     * Puts the board into a saved mid-game state (resume).
+     * 
+     * @param matrix    settled cells, copied
+     * @param current   falling brick
+     * @param rotation  its rotation index
+     * @param x         its column offset
+     * @param y         its row offset
+     * @param next      previewed next brick
+     * @param held      held brick, or null
+     * @param generator generator positioned after {@code next}
+     * @param points    score
+     */
+    public void restore(int[][] matrix, Brick current, int rotation, int x, int y, Brick next, Brick held,
+            BrickGenerator generator, int points) {
+        currentGameMatrix = MatrixOperations.copy(matrix);
+        refreshZobristHash();
+        brickGenerator = generator;
+        currentBrick = current;
+        brickRotator.setBrick(current);
+        brickRotator.setCurrentShape(rotation);
+        currentOffset = new Point(x, y);
+        nextBrick = next;
+        heldBrick = held;
+        score.reset();
+        score.add(points);
+    }
+
+    public BrickGenerator getBrickGenerator() {
+        return brickGenerator;
+    }
+
+    /**
+     * @return the previewed brick that spawns next
+     */
+    public Brick getNextBrick() {
+        return nextBrick;
+    }
+
     /**
      * Hold the current brick and swap it with the held brick.
      */
@@ -247,6 +380,10 @@ public class SimpleBoard implements Board {
             return getViewData(); // Can't hold if no current piece
         }
 
+        HoldEvent event = new HoldEvent();
+        event.begin();
+        boolean firstHold = heldBrick == null;
+
         // Swap current brick with held brick
         Brick temp = currentBrick;
         currentBrick = heldBrick;
@@ -261,10 +398,68 @@ public class SimpleBoard implements Board {
         // Reset the rotation state and position for the new current brick
         brickRotator.setBrick(currentBrick);
         currentOffset = new Point(4, 0);
+        event.end();
+        if (event.shouldCommit()) {
+            event.firstHold = firstHold;
+            event.commit();
+        }
 
         return getViewData();
     }
 
+    /**
+     * @return the brick currently falling, or null before the first spawn
+     */
+    public Brick getCurrentBrick() {
+        return currentBrick;
+    }
+
+    /**
+     * @return the brick in the hold slot, or null if nothing is held
+     */
+    public Brick getHeldBrick() {
+        return heldBrick;
+    }
+
+    /**
+     * Upcoming bricks in spawn order: the stored next brick followed by the
+     * generator's queue (the same order the preview panel shows).
+     *
+     * @param count number of upcoming bricks to return
+     * @return array of {@code count} upcoming bricks
+     */
+    public Brick[] getPreviewBricks(int count) {
+        Brick[] preview = new Brick[count];
+        if (count == 0) {
+            return preview;
+        }
+        preview[0] = nextBrick;
+        Brick[] queued = brickGenerator.peekNext(count - 1);
+        System.arraycopy(queued, 0, preview, 1, count - 1);
+        return preview;
+    }
+
+    /**
+     * @return rotation index of the falling brick (0 = spawn orientation)
+     */
+    public int getCurrentRotation() {
+        return brickRotator.getCurrentShapeIndex();
+    }
+
+    /**
+     * @return column offset of the falling brick's 4x4 shape matrix
+     */
+    public int getCurrentX() {
+        return (int) currentOffset.getX();
+    }
+
+    /**
+     * @return row offset of the falling brick's 4x4 shape matrix
+     */
+    public int getCurrentY() {
+        return (int) currentOffset.getY();
+    }
+
     @Override
     public ViewData getHeldPiece() {
         if (heldBrick == null) {
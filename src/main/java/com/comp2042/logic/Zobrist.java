@@ -0,0 +1,119 @@
+package com.comp2042.logic;
+
+import java.util.SplittableRandom;
+
+/**
+ * Zobrist - Random keys for incremental hashing of board positions.
+ *
+ * A position hash is the XOR of one key per occupied cell, so placing or
+ * removing a cell is a single XOR. Keys only depend on occupancy (not the
+ * brick colour), which lets the game board and the AI's bitmask profiles
+ * produce identical hashes for the same position.
+ *
+ * Extra keys describe search state that is not on the board (held brick,
+ * position in the piece queue). Keys come from a fixed seed, so hashes are
+ * stable across runs and processes.
+ *
+ * All methods are static; class is not instantiable.
+ *
+ * @author Umer Imran
+ * @version 1.0
+ */
+public final class Zobrist {
+
+    public static final int MAX_ROWS = 64;
+    public static final int MAX_COLS = 32;
+    private static final int MAX_COLOR_CODE = 8;
+    private static final int MAX_QUEUE_INDEX = 64;
+    private static final long SEED = 0x2042_C0DE_2025L;
+
+    private static final long[] CELL_KEYS = new long[MAX_ROWS * MAX_COLS];
+    private static final long[] HOLD_KEYS = new long[MAX_COLOR_CODE + 1];
+    private static final long[] QUEUE_KEYS = new long[MAX_QUEUE_INDEX];
+
+    static {
+        SplittableRandom random = new SplittableRandom(SEED);
+        for (int i = 0; i < CELL_KEYS.length; i++) {
+            CELL_KEYS[i] = random.nextLong();
+        }
+        // colour 0 = empty hold slot, keyed like any other state
+        for (int i = 0; i < HOLD_KEYS.length; i++) {
+            HOLD_KEYS[i] = random.nextLong();
+        }
+        for (int i = 0; i < QUEUE_KEYS.length; i++) {
+            QUEUE_KEYS[i] = random.nextLong();
+        }
+    }
+
+    // we don't want to instantiate this utility class
+    private Zobrist() {
+
+    }
+
+    /**
+     * @return the key of an occupied cell
+     */
+    public static long cell(int row, int col) {
+        return CELL_KEYS[row * MAX_COLS + col];
+    }
+
+    /**
+     * @param colorCode colour code of the held brick, 0 for an empty slot
+     * @return the key describing the hold slot
+     */
+    public static long hold(int colorCode) {
+        return HOLD_KEYS[colorCode];
+    }
+
+    /**
+     * @param index position in the known piece sequence
+     * @return the key describing how far a search has advanced the queue
+     */
+    public static long queue(int index) {
+        return QUEUE_KEYS[index];
+    }
+
+    /**
+     * XOR of the keys of every set bit in a row bitmask.
+     *
+     * @param row  row index
+     * @param bits occupied columns (bit c = column c)
+     * @return the combined key of the row
+     */
+    public static long row(int row, int bits) {
+        long hash = 0;
+        int base = row * MAX_COLS;
+        while (bits != 0) {
+            hash ^= CELL_KEYS[base + Integer.numberOfTrailingZeros(bits)];
+            bits &= bits - 1;
+        }
+        return hash;
+    }
+
+    /**
+     * Hashes rows {@code [0, toRowExclusive)} of a [row][column] matrix.
+     *
+     * @param matrix         the board matrix (non-zero = occupied)
+     * @param toRowExclusive number of rows from the top to include
+     * @return the combined key of the occupied cells
+     */
+    public static long hashRows(int[][] matrix, int toRowExclusive) {
+        long hash = 0;
+        for (int r = 0; r < toRowExclusive; r++) {
+            for (int c = 0; c < matrix[r].length; c++) {
+                if (matrix[r][c] != 0) {
+                    hash ^= cell(r, c);
+                }
+            }
+        }
+        return hash;
+    }
+
+    /**
+     * @param matrix the board matrix (non-zero = occupied)
+     * @return the full position hash of the matrix
+     */
+    public static long hash(int[][] matrix) {
+        return hashRows(matrix, matrix.length);
+    }
+}
@@ -0,0 +1,44 @@
+package com.comp2042.logic.bricks;
+
+/**
+ * BrickSequence - The seeded brick order, as a pure function of the seed and
+ * the draw number.
+ *
+ * Responsibilities:
+ * - Give the brick type of any draw of a seeded game directly, so the whole
+ *   generator state is the seed and a draw counter
+ *
+ * RandomBrickGenerator, the pooled simulation boards and the vectorised RL
+ * environment all draw from here, so their sequences agree by construction.
+ * Each draw hashes {@code seed + (draw + 1) * GAMMA} with the SplitMix64
+ * finalizer; the sequence is part of this class, not of any JDK generator,
+ * and must not change without breaking saved seeds.
+ *
+ * @author Umer Imran
+ * @version 1.0
+ */
+public final class BrickSequence {
+
+    private static final long GAMMA = 0x9e3779b97f4a7c15L; // odd, 2^64 / golden ratio
+
+    private BrickSequence() {
+
+    }
+
+    /**
+     * @param seed  the game's seed
+     * @param draw  how many draws came before this one (0 for the first)
+     * @param types number of brick types
+     * @return a type index from 0 to {@code types - 1}
+     */
+    public static int typeAt(long seed, long draw, int types) {
+        // the bias of reducing 64 bits modulo 7 is below 2^-61
+        return (int) Long.remainderUnsigned(mix64(seed + (draw + 1) * GAMMA), types);
+    }
+
+    static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
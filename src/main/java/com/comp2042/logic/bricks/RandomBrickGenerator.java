@@ -2,6 +2,7 @@ package com.comp2042.logic.bricks;
 
 import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Deque;
 import java.util.List;
 import java.util.concurrent.ThreadLocalRandom;
@@ -15,6 +16,7 @@ import java.util.concurrent.ThreadLocalRandom;
  * - Maintains queue of upcoming bricks for preview system
  * - Ensures fair distribution via random selection
  * - Pre-generates lookahead bricks for smooth gameplay
+ * - Optionally seeded for reproducible sequences
  * 
  * Queue Structure:
  * - Position 0: Current active brick
@@ -29,7 +31,24 @@ public class RandomBrickGenerator implements BrickGenerator {
 
     private final Deque<Brick> nextBricks = new ArrayDeque<>();
 
+    // unseeded = ThreadLocalRandom; seeded = BrickSequence, reproducible
+    private final boolean seeded;
+    private final long seed;
+    private long draws; // bricks drawn so far (replayed when restoring)
+
     public RandomBrickGenerator() {
+        this(false, 0);
+        fillQueue();
+    }
+
+    public RandomBrickGenerator(long seed) {
+        this(true, seed);
+        fillQueue();
+    }
+
+    private RandomBrickGenerator(boolean seeded, long seed) {
+        this.seeded = seeded;
+        this.seed = seed;
         brickList = new ArrayList<>();
         brickList.add(new IBrick());
         brickList.add(new JBrick());
@@ -38,19 +57,93 @@ public class RandomBrickGenerator implements BrickGenerator {
         brickList.add(new SBrick());
         brickList.add(new TBrick());
         brickList.add(new ZBrick());
+    }
 
+    private void fillQueue() {
         // Initialize queue with 4 bricks (1 current + 3 preview)
-        nextBricks.add(brickList.get(ThreadLocalRandom.current().nextInt(brickList.size())));
-        nextBricks.add(brickList.get(ThreadLocalRandom.current().nextInt(brickList.size())));
-        nextBricks.add(brickList.get(ThreadLocalRandom.current().nextInt(brickList.size())));
-        nextBricks.add(brickList.get(ThreadLocalRandom.current().nextInt(brickList.size())));
+        nextBricks.add(randomBrick());
+        nextBricks.add(randomBrick());
+        nextBricks.add(randomBrick());
+        nextBricks.add(randomBrick());
+    }
+
+    /**
+     * Recreates a generator from a saved state. A seeded generator continues
+     * the same sequence after its first {@code draws} draws.
+     *
+     * @param seeded whether the saved generator was seeded
+     * @param seed   its seed (ignored if unseeded)
+     * @param draws  random draws it had made
+     * @param queued indices into {@link #getBrickTypes()} of its queue
+     */
+    public static RandomBrickGenerator restore(boolean seeded, long seed, long draws, int[] queued) {
+        RandomBrickGenerator generator = new RandomBrickGenerator(seeded, seed);
+        generator.draws = draws;
+        for (int type : queued) {
+            generator.nextBricks.add(generator.brickList.get(type));
+        }
+        return generator;
+    }
+
+    private Brick randomBrick() {
+        int index = seeded
+                ? BrickSequence.typeAt(seed, draws, brickList.size())
+                : ThreadLocalRandom.current().nextInt(brickList.size());
+        draws++;
+        return brickList.get(index);
+    }
+
+    /**
+     * @return one instance of every brick type, in draw-index order
+     *         (I, J, L, O, S, T, Z)
+     */
+    public List<Brick> getBrickTypes() {
+        return Collections.unmodifiableList(brickList);
+    }
+
+    /**
+     * @return index of the brick's type in {@link #getBrickTypes()}, or -1
+     */
+    public int typeIndex(Brick brick) {
+        for (int i = 0; i < brickList.size(); i++) {
+            if (brickList.get(i).getClass() == brick.getClass()) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    // ========== SAVED STATE ==========
+
+    public boolean isSeeded() {
+        return seeded;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public long getDraws() {
+        return draws;
+    }
+
+    /**
+     * @return type indices of the queued bricks, next first
+     */
+    public int[] getQueuedTypes() {
+        int[] types = new int[nextBricks.size()];
+        int i = 0;
+        for (Brick brick : nextBricks) {
+            types[i++] = typeIndex(brick);
+        }
+        return types;
     }
 
     @Override
     public Brick getBrick() {
         // keep queue stocked with at least 4 bricks (1 current + 3 preview)
         while (nextBricks.size() < 4) {
-            nextBricks.add(brickList.get(ThreadLocalRandom.current().nextInt(brickList.size())));
+            nextBricks.add(randomBrick());
         }
         return nextBricks.poll();
     }
@@ -73,7 +166,7 @@ public class RandomBrickGenerator implements BrickGenerator {
     public Brick[] peekNext(int count) {
         // Make sure the internal queue has at least `count` items
         while (nextBricks.size() < count) {
-            nextBricks.add(brickList.get(ThreadLocalRandom.current().nextInt(brickList.size())));
+            nextBricks.add(randomBrick());
         }
 
         Brick[] temp = nextBricks.toArray(new Brick[0]);
@@ -83,7 +176,7 @@ public class RandomBrickGenerator implements BrickGenerator {
             if (i < temp.length && temp[i] != null) {
                 result[i] = temp[i];
             } else {
-                Brick b = brickList.get(ThreadLocalRandom.current().nextInt(brickList.size()));
+                Brick b = randomBrick();
                 nextBricks.add(b);
                 result[i] = b;
             }
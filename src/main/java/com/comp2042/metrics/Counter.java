@@ -0,0 +1,39 @@
+package com.comp2042.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counter - A monotonically increasing count, cheap to update from any
+ * thread (LongAdder).
+ *
+ * @author Umer Imran
+ * @version 1.0
+ */
+public final class Counter implements MetricsRegistry.Sample {
+
+    private final LongAdder count = new LongAdder();
+
+    Counter() {
+
+    }
+
+    public void inc() {
+        count.increment();
+    }
+
+    public void add(long amount) {
+        if (amount < 0) {
+            throw new IllegalArgumentException("Counters only go up: " + amount);
+        }
+        count.add(amount);
+    }
+
+    public long get() {
+        return count.sum();
+    }
+
+    @Override
+    public void write(StringBuilder out, String name, String labels) {
+        MetricsRegistry.sample(out, name, labels, null).append(count.sum()).append('\n');
+    }
+}
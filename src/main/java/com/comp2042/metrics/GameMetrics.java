@@ -0,0 +1,88 @@
+package com.comp2042.metrics;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+
+/**
+ * GameMetrics - The game's metrics in the application's registry.
+ *
+ * Exports:
+ * - tetris_pieces_locked_total, tetris_lines_cleared_total{type}
+ *   (single, double, triple, tetris)
+ * - tetris_games_started_total, tetris_games_ended_total
+ * - tetris_drop_latency_seconds: time to handle a soft or hard drop
+ * - tetris_frame_seconds: time between rendered frames
+ * - jvm_gc_collections_total{gc}, jvm_gc_collection_seconds_total{gc}
+ *
+ * @author Umer Imran
+ * @version 1.0
+ */
+public final class GameMetrics {
+
+    private static final double[] DROP_BUCKETS = { 0.00005, 0.0001, 0.00025, 0.0005, 0.001, 0.0025, 0.005, 0.01,
+            0.025 };
+    private static final double[] FRAME_BUCKETS = { 0.008, 0.012, 0.017, 0.025, 0.034, 0.05, 0.1, 0.25 };
+    private static final String[] LINE_TYPES = { "single", "double", "triple", "tetris" };
+
+    private static GameMetrics instance;
+
+    private final Counter piecesLocked;
+    private final Counter[] linesCleared = new Counter[LINE_TYPES.length];
+    private final Counter gamesStarted;
+    private final Counter gamesEnded;
+    private final Histogram dropLatency;
+    private final Histogram frameTime;
+
+    GameMetrics(MetricsRegistry registry) {
+        piecesLocked = registry.counter("tetris_pieces_locked_total", "Bricks locked into the board.");
+        for (int i = 0; i < LINE_TYPES.length; i++) {
+            linesCleared[i] = registry.counter("tetris_lines_cleared_total",
+                    "Line clears by number of lines cleared at once.", "type", LINE_TYPES[i]);
+        }
+        gamesStarted = registry.counter("tetris_games_started_total", "Games started, resumed games included.");
+        gamesEnded = registry.counter("tetris_games_ended_total", "Games that ended in game over.");
+        dropLatency = registry.histogram("tetris_drop_latency_seconds",
+                "Time to handle a soft or hard drop, line clears included.", DROP_BUCKETS);
+        frameTime = registry.histogram("tetris_frame_seconds", "Time between rendered frames.", FRAME_BUCKETS);
+
+        for (GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+            registry.counterFunction("jvm_gc_collections_total", "Garbage collections.",
+                    collector::getCollectionCount, "gc", collector.getName());
+            registry.counterFunction("jvm_gc_collection_seconds_total", "Time spent in garbage collection.",
+                    () -> collector.getCollectionTime() / 1000.0, "gc", collector.getName());
+        }
+    }
+
+    /**
+     * @return the metrics in {@link MetricsRegistry#getDefault()}
+     */
+    public static synchronized GameMetrics getDefault() {
+        if (instance == null) {
+            instance = new GameMetrics(MetricsRegistry.getDefault());
+        }
+        return instance;
+    }
+
+    public void pieceLocked(int linesRemoved) {
+        piecesLocked.inc();
+        if (linesRemoved > 0) {
+            linesCleared[Math.min(linesRemoved, LINE_TYPES.length) - 1].inc();
+        }
+    }
+
+    public void gameStarted() {
+        gamesStarted.inc();
+    }
+
+    public void gameEnded() {
+        gamesEnded.inc();
+    }
+
+    public void dropHandled(long nanos) {
+        dropLatency.observeNanos(nanos);
+    }
+
+    public void frame(long nanos) {
+        frameTime.observeNanos(nanos);
+    }
+}
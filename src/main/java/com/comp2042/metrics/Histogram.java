@@ -0,0 +1,79 @@
+package com.comp2042.metrics;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Histogram - Counts observations into fixed buckets, cheap to update from
+ * any thread (one LongAdder per bucket).
+ *
+ * Exported the Prometheus way: cumulative {@code _bucket} counts per upper
+ * bound, plus {@code _sum} and {@code _count}, so averages and quantiles
+ * can be computed by the server.
+ *
+ * @author Umer Imran
+ * @version 1.0
+ */
+public final class Histogram implements MetricsRegistry.Sample {
+
+    private final double[] bounds;
+    private final LongAdder[] buckets;
+    private final DoubleAdder sum = new DoubleAdder();
+
+    Histogram(double[] bounds) {
+        if (bounds.length == 0) {
+            throw new IllegalArgumentException("A histogram needs at least one bucket");
+        }
+        for (int i = 1; i < bounds.length; i++) {
+            if (bounds[i] <= bounds[i - 1]) {
+                throw new IllegalArgumentException("Bucket bounds must increase: " + Arrays.toString(bounds));
+            }
+        }
+        this.bounds = bounds.clone();
+        this.buckets = new LongAdder[bounds.length + 1];
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    public void observe(double value) {
+        int bucket = Arrays.binarySearch(bounds, value);
+        if (bucket < 0) {
+            bucket = -bucket - 1; // first bound above the value
+        }
+        buckets[bucket].increment();
+        sum.add(value);
+    }
+
+    /**
+     * Observes a duration given in nanoseconds, in seconds.
+     */
+    public void observeNanos(long nanos) {
+        observe(nanos / 1e9);
+    }
+
+    public long getCount() {
+        long count = 0;
+        for (LongAdder bucket : buckets) {
+            count += bucket.sum();
+        }
+        return count;
+    }
+
+    public double getSum() {
+        return sum.sum();
+    }
+
+    @Override
+    public void write(StringBuilder out, String name, String labels) {
+        long cumulative = 0;
+        for (int i = 0; i < buckets.length; i++) {
+            cumulative += buckets[i].sum();
+            String le = i < bounds.length ? MetricsRegistry.format(bounds[i]) : "+Inf";
+            MetricsRegistry.sample(out, name + "_bucket", labels, "le=\"" + le + "\"").append(cumulative).append('\n');
+        }
+        MetricsRegistry.sample(out, name + "_sum", labels, null).append(MetricsRegistry.format(sum.sum())).append('\n');
+        MetricsRegistry.sample(out, name + "_count", labels, null).append(cumulative).append('\n');
+    }
+}
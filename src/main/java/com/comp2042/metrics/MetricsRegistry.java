@@ -0,0 +1,196 @@
+package com.comp2042.metrics;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.DoubleSupplier;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+/**
+ * MetricsRegistry - Named counters, histograms and gauges, exported in the
+ * Prometheus text format.
+ *
+ * Responsibilities:
+ * - Register metrics by name and label set (registering the same pair again
+ *   returns the existing metric)
+ * - Write every metric in the Prometheus text exposition format
+ *
+ * Updating a metric never locks (LongAdder based). Registration and
+ * scraping synchronize on the registry; a scrape costs the same however
+ * long the application has been running, since metrics hold totals and
+ * fixed buckets, not events.
+ *
+ * @author Umer Imran
+ * @version 1.0
+ */
+public final class MetricsRegistry {
+
+    private static final Pattern NAME = Pattern.compile("[a-zA-Z_:][a-zA-Z0-9_:]*");
+    private static final Pattern LABEL = Pattern.compile("[a-zA-Z_][a-zA-Z0-9_]*");
+
+    private static MetricsRegistry instance;
+
+    private final Map<String, Family> families = new LinkedHashMap<>();
+
+    /**
+     * One exported series (or group of series, for a histogram).
+     */
+    interface Sample {
+        /**
+         * @param labels formatted labels without braces, empty for none
+         */
+        void write(StringBuilder out, String name, String labels);
+    }
+
+    private static final class Family {
+        final String help;
+        final String type;
+        final Map<String, Sample> samples = new LinkedHashMap<>();
+
+        Family(String help, String type) {
+            this.help = help;
+            this.type = type;
+        }
+    }
+
+    /**
+     * @return the application's registry
+     */
+    public static synchronized MetricsRegistry getDefault() {
+        if (instance == null) {
+            instance = new MetricsRegistry();
+        }
+        return instance;
+    }
+
+    // ========== REGISTRATION ==========
+
+    /**
+     * @param labels label names and values, alternating
+     */
+    public Counter counter(String name, String help, String... labels) {
+        return (Counter) register(name, help, "counter", labels, Counter::new);
+    }
+
+    /**
+     * @param bounds increasing bucket upper bounds; +Inf is added
+     * @param labels label names and values, alternating
+     */
+    public Histogram histogram(String name, String help, double[] bounds, String... labels) {
+        return (Histogram) register(name, help, "histogram", labels, () -> new Histogram(bounds));
+    }
+
+    /**
+     * Exports a value read at scrape time.
+     *
+     * @param labels label names and values, alternating
+     */
+    public void gauge(String name, String help, DoubleSupplier value, String... labels) {
+        register(name, help, "gauge", labels, () -> function(value));
+    }
+
+    /**
+     * Exports a total kept elsewhere (e.g. by the JVM), read at scrape time.
+     *
+     * @param labels label names and values, alternating
+     */
+    public void counterFunction(String name, String help, DoubleSupplier value, String... labels) {
+        register(name, help, "counter", labels, () -> function(value));
+    }
+
+    private static Sample function(DoubleSupplier value) {
+        return (out, name, labels) -> sample(out, name, labels, null).append(format(value.getAsDouble()))
+                .append('\n');
+    }
+
+    private synchronized Sample register(String name, String help, String type, String[] labels,
+            Supplier<Sample> factory) {
+        if (!NAME.matcher(name).matches()) {
+            throw new IllegalArgumentException("Invalid metric name: " + name);
+        }
+        Family family = families.computeIfAbsent(name, n -> new Family(help, type));
+        if (!family.type.equals(type)) {
+            throw new IllegalArgumentException(name + " is already registered as a " + family.type);
+        }
+        return family.samples.computeIfAbsent(formatLabels(labels), key -> factory.get());
+    }
+
+    private static String formatLabels(String[] labels) {
+        if (labels.length % 2 != 0) {
+            throw new IllegalArgumentException("Labels must be name/value pairs");
+        }
+        StringBuilder formatted = new StringBuilder();
+        for (int i = 0; i < labels.length; i += 2) {
+            if (!LABEL.matcher(labels[i]).matches() || labels[i].equals("le")) {
+                throw new IllegalArgumentException("Invalid label name: " + labels[i]);
+            }
+            if (formatted.length() > 0) {
+                formatted.append(',');
+            }
+            formatted.append(labels[i]).append("=\"");
+            for (char c : labels[i + 1].toCharArray()) {
+                if (c == '\\' || c == '"') {
+                    formatted.append('\\').append(c);
+                } else if (c == '\n') {
+                    formatted.append("\\n");
+                } else {
+                    formatted.append(c);
+                }
+            }
+            formatted.append('"');
+        }
+        return formatted.toString();
+    }
+
+    // ========== EXPORT ==========
+
+    /**
+     * Appends every metric in the Prometheus text format (version 0.0.4).
+     */
+    public synchronized void writeTo(StringBuilder out) {
+        for (Map.Entry<String, Family> entry : families.entrySet()) {
+            String name = entry.getKey();
+            Family family = entry.getValue();
+            out.append("# HELP ").append(name).append(' ')
+                    .append(family.help.replace("\\", "\\\\").replace("\n", "\\n")).append('\n');
+            out.append("# TYPE ").append(name).append(' ').append(family.type).append('\n');
+            for (Map.Entry<String, Sample> sample : family.samples.entrySet()) {
+                sample.getValue().write(out, name, sample.getKey());
+            }
+        }
+    }
+
+    public String scrape() {
+        StringBuilder out = new StringBuilder(4096);
+        writeTo(out);
+        return out.toString();
+    }
+
+    /**
+     * Starts a sample line: name, labels (plus an extra one) and a space.
+     */
+    static StringBuilder sample(StringBuilder out, String name, String labels, String extraLabel) {
+        out.append(name);
+        if (!labels.isEmpty() || extraLabel != null) {
+            out.append('{').append(labels);
+            if (extraLabel != null) {
+                out.append(labels.isEmpty() ? "" : ",").append(extraLabel);
+            }
+            out.append('}');
+        }
+        return out.append(' ');
+    }
+
+    static String format(double value) {
+        if (Double.isNaN(value)) {
+            return "NaN";
+        }
+        if (Double.isInfinite(value)) {
+            return value > 0 ? "+Inf" : "-Inf";
+        }
+        if (value == Math.rint(value) && Math.abs(value) < 1e15) {
+            return Long.toString((long) value);
+        }
+        return Double.toString(value);
+    }
+}
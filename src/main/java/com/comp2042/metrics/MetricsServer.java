@@ -0,0 +1,98 @@
+package com.comp2042.metrics;
+
+import com.comp2042.util.Constants;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * MetricsServer - Serves a MetricsRegistry over HTTP on localhost for a
+ * Prometheus scraper (or curl).
+ *
+ * Responsibilities:
+ * - Answer {@code GET /metrics} with the registry in the text format
+ * - Listen on the loopback address only, on one daemon thread
+ *
+ * @author Umer Imran
+ * @version 1.0
+ */
+public final class MetricsServer implements AutoCloseable {
+
+    public static final String PATH = "/metrics";
+    private static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+    private static MetricsServer instance;
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+
+    /**
+     * Starts serving.
+     *
+     * @param port the port on localhost, 0 for any free port
+     */
+    public MetricsServer(MetricsRegistry registry, int port) throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        executor = Executors.newSingleThreadExecutor(task -> {
+            Thread thread = new Thread(task, "metrics-http");
+            thread.setDaemon(true);
+            return thread;
+        });
+        server.setExecutor(executor);
+        server.createContext(PATH, exchange -> serve(exchange, registry));
+        server.start();
+    }
+
+    /**
+     * Starts the application's server on {@link Constants#METRICS_PORT}, if
+     * a port is configured.
+     */
+    public static synchronized void startDefault() {
+        if (instance == null && Constants.METRICS_PORT > 0) {
+            try {
+                instance = new MetricsServer(MetricsRegistry.getDefault(), Constants.METRICS_PORT);
+            } catch (IOException e) {
+                System.err.println("Could not start metrics server: " + e);
+            }
+        }
+    }
+
+    public static synchronized void closeDefault() {
+        if (instance != null) {
+            instance.close();
+            instance = null;
+        }
+    }
+
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    private static void serve(HttpExchange exchange, MetricsRegistry registry) throws IOException {
+        try (exchange) {
+            if (!"GET".equals(exchange.getRequestMethod())) {
+                exchange.sendResponseHeaders(405, -1);
+                return;
+            }
+            byte[] body = registry.scrape().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,32 @@
+package com.comp2042.rl;
+
+/**
+ * Action - Discrete action space of the RL environments.
+ *
+ * One action is one player input per step, mirroring the keyboard controls.
+ * After the action, one gravity tick moves the brick down (locking it if it
+ * cannot fall), unless the action itself locked the brick.
+ *
+ * Constants only; class is not instantiable.
+ *
+ * @author Umer Imran
+ * @version 1.0
+ */
+public final class Action {
+
+    public static final int NOOP = 0;
+    public static final int LEFT = 1;
+    public static final int RIGHT = 2;
+    public static final int ROTATE = 3;
+    public static final int SOFT_DROP = 4;
+    public static final int HARD_DROP = 5;
+    public static final int HOLD = 6;
+
+    /** Number of actions (actions are 0 .. COUNT - 1). */
+    public static final int COUNT = 7;
+
+    // we don't want to instantiate this constants class
+    private Action() {
+
+    }
+}
@@ -0,0 +1,93 @@
+package com.comp2042.rl;
+
+import com.comp2042.util.Constants;
+
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+
+/**
+ * TetrisEnv - Single-game, Gym-style view of the RL environment.
+ *
+ * Usage: {@code reset(seed)}, then repeatedly {@code step(action)},
+ * {@code reward()} and {@code observation(buffer)}. Backed by a VecEnv of
+ * one game, so stepping allocates nothing and follows the same rules.
+ *
+ * After a step that returns true (game over) the game has already been
+ * restarted; call {@link #reset(long)} to choose the next seed explicitly.
+ *
+ * @author Umer Imran
+ * @version 1.0
+ */
+public final class TetrisEnv {
+
+    private final VecEnv env;
+
+    public TetrisEnv() {
+        this(Constants.BOARD_WIDTH, Constants.BOARD_HEIGHT);
+    }
+
+    public TetrisEnv(int width, int height) {
+        this.env = new VecEnv(1, width, height);
+    }
+
+    /**
+     * Starts a new game.
+     *
+     * @param seed seed of the brick sequence
+     */
+    public void reset(long seed) {
+        env.reset(0, seed);
+    }
+
+    /**
+     * Applies one action.
+     *
+     * @param action one of the {@link Action} constants
+     * @return true if the game ended with this step
+     */
+    public boolean step(int action) {
+        return env.step(0, action);
+    }
+
+    /**
+     * @return score gained by the last step
+     */
+    public float reward() {
+        return env.getRewards()[0];
+    }
+
+    /**
+     * Writes the observation at the buffer's current position (unchanged).
+     *
+     * @param out buffer with room for {@link #observationSize()} ints
+     */
+    public void observation(IntBuffer out) {
+        env.observe(0, out, out.position());
+    }
+
+    /**
+     * Writes the observation as ints in the buffer's byte order, at its
+     * current position (unchanged).
+     *
+     * @param out buffer with room for {@link #observationSize()} * 4 bytes
+     */
+    public void observation(ByteBuffer out) {
+        env.observe(out);
+    }
+
+    public int observationSize() {
+        return env.observationSize();
+    }
+
+    public int getScore() {
+        return env.getScore(0);
+    }
+
+    public int getLinesCleared() {
+        return env.getLinesCleared(0);
+    }
+
+    public int getRowBits(int row) {
+        return env.getRowBits(0, row);
+    }
+}
@@ -0,0 +1,401 @@
+package com.comp2042.rl;
+
+import com.comp2042.ai.PieceShape;
+import com.comp2042.logic.bricks.Brick;
+import com.comp2042.logic.bricks.BrickSequence;
+import com.comp2042.logic.bricks.RandomBrickGenerator;
+import com.comp2042.util.Constants;
+
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.util.List;
+
+/**
+ * VecEnv - Vectorised RL environment that steps N independent games per call.
+ *
+ * Holds (struct-of-arrays, one slot per game):
+ * - Settled rows as bitmasks, {@code rows[env * height + row]}
+ * - Falling brick type, rotation and offset; held brick; preview queue
+ * - Score, lines cleared and the reward/done flags of the last step
+ *
+ * The rules mirror SimpleBoard exactly: bricks spawn at (4, 0), rotation
+ * cycles through the brick's shape list without wall kicks, hold swaps
+ * without limit, and scoring follows GameController (soft drop, hard drop
+ * distance, 50 * lines^2 per clear). Seeded games draw the same brick
+ * sequence as {@code SimpleBoard.newGame(seed)}. Unlike SimpleBoard, a step
+ * allocates nothing: no ViewData, no int[][] copies, no shape copies.
+ *
+ * A game that ends is restarted immediately (its brick sequence continues
+ * from the same random stream) and reports {@code done} for that step.
+ *
+ * Observation per game ({@link #observationSize()} ints): the settled row
+ * bitmasks, then falling brick colour code, rotation, x, y, held brick colour
+ * code (0 = empty) and the next {@link #PREVIEW} colour codes.
+ *
+ * @author Umer Imran
+ * @version 1.0
+ */
+public final class VecEnv {
+
+    public static final int PREVIEW = 3;
+    public static final int HEADER_INTS = 5 + PREVIEW;
+
+    private static final int SPAWN_X = 4;
+    private static final int SPAWN_Y = 0;
+    private static final int NO_BRICK = -1;
+    private static final int LINE_BONUS = 50;
+
+    private final int count;
+    private final int width;
+    private final int height;
+    private final int fullRow;
+    private final PieceShape[][] shapes; // by brick type index
+
+    private final int[] rows;
+    private final int[] brick;
+    private final int[] rotation;
+    private final int[] x;
+    private final int[] y;
+    private final int[] held;
+    private final int[] queue; // [env * PREVIEW + i], queue[0] = next brick
+    private final int[] score;
+    private final int[] lines;
+    private final long[] seeds;
+    private final long[] draws; // bricks drawn from each game's sequence
+
+    private final float[] rewards;
+    private final boolean[] dones;
+
+    public VecEnv(int count) {
+        this(count, Constants.BOARD_WIDTH, Constants.BOARD_HEIGHT);
+    }
+
+    /**
+     * @param count  number of games
+     * @param width  board columns (at most 31)
+     * @param height board rows
+     */
+    public VecEnv(int count, int width, int height) {
+        if (count < 1 || width < 4 || width > 31 || height < 4) {
+            throw new IllegalArgumentException("Unsupported environment dimensions");
+        }
+        this.count = count;
+        this.width = width;
+        this.height = height;
+        this.fullRow = (1 << width) - 1;
+
+        List<Brick> types = new RandomBrickGenerator().getBrickTypes();
+        this.shapes = new PieceShape[types.size()][];
+        for (int t = 0; t < shapes.length; t++) {
+            shapes[t] = PieceShape.rotationsOf(types.get(t));
+        }
+
+        this.rows = new int[count * height];
+        this.brick = new int[count];
+        this.rotation = new int[count];
+        this.x = new int[count];
+        this.y = new int[count];
+        this.held = new int[count];
+        this.queue = new int[count * PREVIEW];
+        this.score = new int[count];
+        this.lines = new int[count];
+        this.seeds = new long[count];
+        this.draws = new long[count];
+        this.rewards = new float[count];
+        this.dones = new boolean[count];
+    }
+
+    /**
+     * Starts every game; game i uses seed {@code seed + i}.
+     *
+     * @param seed base seed
+     */
+    public void reset(long seed) {
+        for (int env = 0; env < count; env++) {
+            reset(env, seed + env);
+        }
+    }
+
+    /**
+     * Starts one game with a given brick-sequence seed.
+     */
+    public void reset(int env, long seed) {
+        seeds[env] = seed;
+        draws[env] = 0;
+        restart(env);
+    }
+
+    private void restart(int env) {
+        java.util.Arrays.fill(rows, env * height, (env + 1) * height, 0);
+        held[env] = NO_BRICK;
+        score[env] = 0;
+        lines[env] = 0;
+        brick[env] = draw(env);
+        for (int i = 0; i < PREVIEW; i++) {
+            queue[env * PREVIEW + i] = draw(env);
+        }
+        spawn(env);
+    }
+
+    /**
+     * Applies one action to every game.
+     *
+     * @param actions one {@link Action} per game
+     */
+    public void step(int[] actions) {
+        for (int env = 0; env < count; env++) {
+            step(env, actions[env]);
+        }
+    }
+
+    /**
+     * Applies one action to a single game; results land in
+     * {@link #getRewards()} and {@link #getDones()}.
+     *
+     * @return true if the game ended (it has already been restarted)
+     */
+    public boolean step(int env, int action) {
+        int before = score[env];
+        boolean locked = false;
+        boolean over = false;
+
+        switch (action) {
+            case Action.LEFT:
+                tryMove(env, x[env] - 1, y[env], rotation[env]);
+                break;
+            case Action.RIGHT:
+                tryMove(env, x[env] + 1, y[env], rotation[env]);
+                break;
+            case Action.ROTATE:
+                tryMove(env, x[env], y[env], (rotation[env] + 1) % shapes[brick[env]].length);
+                break;
+            case Action.SOFT_DROP:
+                if (tryMove(env, x[env], y[env] + 1, rotation[env])) {
+                    score[env] += Constants.SOFT_DROP_POINTS;
+                } else {
+                    locked = true;
+                    over = lock(env, 0);
+                }
+                break;
+            case Action.HARD_DROP:
+                int distance = 0;
+                while (tryMove(env, x[env], y[env] + 1, rotation[env])) {
+                    distance++;
+                }
+                locked = true;
+                over = lock(env, distance);
+                break;
+            case Action.HOLD:
+                hold(env);
+                break;
+            default:
+                break;
+        }
+
+        // gravity tick
+        if (!locked && !tryMove(env, x[env], y[env] + 1, rotation[env])) {
+            over = lock(env, 0);
+        }
+
+        rewards[env] = score[env] - before;
+        dones[env] = over;
+        if (over) {
+            restart(env);
+        }
+        return over;
+    }
+
+    private boolean fits(int env, int type, int rot, int px, int py) {
+        PieceShape shape = shapes[type][rot];
+        if (px < shape.minX() || px > shape.maxX(width)
+                || py + shape.getMinRow() < 0 || py + shape.getMaxRow() >= height) {
+            return false;
+        }
+        int base = env * height + py;
+        for (int r = shape.getMinRow(); r <= shape.getMaxRow(); r++) {
+            if ((rows[base + r] & shift(shape.getRowBits(r), px)) != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean tryMove(int env, int px, int py, int rot) {
+        if (!fits(env, brick[env], rot, px, py)) {
+            return false;
+        }
+        x[env] = px;
+        y[env] = py;
+        rotation[env] = rot;
+        return true;
+    }
+
+    /**
+     * Merges the falling brick, clears full rows, scores and spawns the next
+     * brick.
+     *
+     * @return true if the new brick does not fit (game over)
+     */
+    private boolean lock(int env, int dropDistance) {
+        PieceShape shape = shapes[brick[env]][rotation[env]];
+        int base = env * height;
+        for (int r = shape.getMinRow(); r <= shape.getMaxRow(); r++) {
+            rows[base + y[env] + r] |= shift(shape.getRowBits(r), x[env]);
+        }
+
+        int write = height - 1;
+        for (int read = height - 1; read >= 0; read--) {
+            if (rows[base + read] != fullRow) {
+                rows[base + write--] = rows[base + read];
+            }
+        }
+        int cleared = write + 1;
+        while (write >= 0) {
+            rows[base + write--] = 0;
+        }
+
+        lines[env] += cleared;
+        score[env] += LINE_BONUS * cleared * cleared + dropDistance * Constants.HARD_DROP_MULTIPLIER;
+
+        brick[env] = queue[env * PREVIEW];
+        System.arraycopy(queue, env * PREVIEW + 1, queue, env * PREVIEW, PREVIEW - 1);
+        queue[env * PREVIEW + PREVIEW - 1] = draw(env);
+        return !spawn(env);
+    }
+
+    private void hold(int env) {
+        int current = brick[env];
+        if (held[env] == NO_BRICK) {
+            brick[env] = queue[env * PREVIEW];
+            System.arraycopy(queue, env * PREVIEW + 1, queue, env * PREVIEW, PREVIEW - 1);
+            queue[env * PREVIEW + PREVIEW - 1] = draw(env);
+        } else {
+            brick[env] = held[env];
+        }
+        held[env] = current;
+        // like SimpleBoard, the swapped-in brick is not collision checked
+        rotation[env] = 0;
+        x[env] = SPAWN_X;
+        y[env] = SPAWN_Y;
+    }
+
+    private boolean spawn(int env) {
+        rotation[env] = 0;
+        x[env] = SPAWN_X;
+        y[env] = SPAWN_Y;
+        return fits(env, brick[env], 0, SPAWN_X, SPAWN_Y);
+    }
+
+    private int draw(int env) {
+        return BrickSequence.typeAt(seeds[env], draws[env]++, shapes.length);
+    }
+
+    private static int shift(int bits, int px) {
+        return px >= 0 ? bits << px : bits >>> -px;
+    }
+
+    // ========== OBSERVATIONS ==========
+
+    /**
+     * @return ints written per game by the observe methods
+     */
+    public int observationSize() {
+        return height + HEADER_INTS;
+    }
+
+    /**
+     * Writes every game's observation into a caller-owned buffer, starting at
+     * its current position (the position is left unchanged).
+     *
+     * @param out buffer with room for {@code count * observationSize()} ints
+     */
+    public void observe(IntBuffer out) {
+        int base = out.position();
+        for (int env = 0; env < count; env++) {
+            observe(env, out, base + env * observationSize());
+        }
+    }
+
+    /**
+     * Writes one game's observation at an absolute int index of the buffer.
+     */
+    public void observe(int env, IntBuffer out, int index) {
+        out.put(index, rows, env * height, height);
+        int i = index + height;
+        out.put(i++, brick[env] + 1);
+        out.put(i++, rotation[env]);
+        out.put(i++, x[env]);
+        out.put(i++, y[env]);
+        out.put(i++, held[env] + 1);
+        for (int p = 0; p < PREVIEW; p++) {
+            out.put(i++, queue[env * PREVIEW + p] + 1);
+        }
+    }
+
+    /**
+     * Byte-buffer variant of {@link #observe(IntBuffer)}: ints are written in
+     * the buffer's byte order, starting at its current position (unchanged).
+     *
+     * @param out buffer with room for {@code count * observationSize() * 4} bytes
+     */
+    public void observe(ByteBuffer out) {
+        int at = out.position();
+        for (int env = 0; env < count; env++) {
+            int base = env * height;
+            for (int r = 0; r < height; r++) {
+                out.putInt(at, rows[base + r]);
+                at += Integer.BYTES;
+            }
+            out.putInt(at, brick[env] + 1);
+            out.putInt(at + 4, rotation[env]);
+            out.putInt(at + 8, x[env]);
+            out.putInt(at + 12, y[env]);
+            out.putInt(at + 16, held[env] + 1);
+            at += 20;
+            for (int p = 0; p < PREVIEW; p++) {
+                out.putInt(at, queue[env * PREVIEW + p] + 1);
+                at += Integer.BYTES;
+            }
+        }
+    }
+
+    // ========== RESULTS ==========
+
+    /**
+     * @return rewards of the last step, one per game (array is reused)
+     */
+    public float[] getRewards() {
+        return rewards;
+    }
+
+    /**
+     * @return done flags of the last step, one per game (array is reused)
+     */
+    public boolean[] getDones() {
+        return dones;
+    }
+
+    public int getScore(int env) {
+        return score[env];
+    }
+
+    public int getLinesCleared(int env) {
+        return lines[env];
+    }
+
+    public int getRowBits(int env, int row) {
+        return rows[env * height + row];
+    }
+
+    public int size() {
+        return count;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+}
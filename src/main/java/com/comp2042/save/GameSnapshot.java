@@ -0,0 +1,168 @@
+package com.comp2042.save;
+
+import com.comp2042.logic.MatrixOperations;
+import com.comp2042.logic.SimpleBoard;
+import com.comp2042.logic.bricks.Brick;
+import com.comp2042.logic.bricks.BrickGenerator;
+import com.comp2042.logic.bricks.RandomBrickGenerator;
+
+import java.util.List;
+
+/**
+ * GameSnapshot - Immutable copy of everything needed to continue a game.
+ *
+ * Holds:
+ * - The settled cells (obstacles included)
+ * - Falling brick type, rotation and offset; next and held brick types
+ * - Brick generator state: seed and draw count if seeded, and its queue
+ * - Score, difficulty level and obstacle mode
+ *
+ * Brick types are indices into {@link RandomBrickGenerator#getBrickTypes()}
+ * (0-6 for I J L O S T Z), -1 for no brick.
+ *
+ * @author Umer Imran
+ * @version 1.0
+ */
+public final class GameSnapshot {
+
+    public static final int NO_BRICK = -1;
+
+    private final int[][] matrix;
+    private final int currentType;
+    private final int rotation;
+    private final int x;
+    private final int y;
+    private final int nextType;
+    private final int heldType;
+    private final boolean seeded;
+    private final long seed;
+    private final long draws;
+    private final int[] queuedTypes;
+    private final int score;
+    private final int level;
+    private final boolean obstacleMode;
+    private final long savedAt;
+
+    GameSnapshot(int[][] matrix, int currentType, int rotation, int x, int y, int nextType, int heldType,
+            boolean seeded, long seed, long draws, int[] queuedTypes, int score, int level, boolean obstacleMode,
+            long savedAt) {
+        this.matrix = matrix;
+        this.currentType = currentType;
+        this.rotation = rotation;
+        this.x = x;
+        this.y = y;
+        this.nextType = nextType;
+        this.heldType = heldType;
+        this.seeded = seeded;
+        this.seed = seed;
+        this.draws = draws;
+        this.queuedTypes = queuedTypes;
+        this.score = score;
+        this.level = level;
+        this.obstacleMode = obstacleMode;
+        this.savedAt = savedAt;
+    }
+
+    /**
+     * Copies the state of a running game. Cheap enough for the FX thread
+     * (a few hundred bytes).
+     *
+     * @throws IllegalStateException if no brick is falling or the board
+     *                               does not use a RandomBrickGenerator
+     */
+    public static GameSnapshot capture(SimpleBoard board, int level, boolean obstacleMode) {
+        BrickGenerator brickGenerator = board.getBrickGenerator();
+        if (!(brickGenerator instanceof RandomBrickGenerator) || board.getCurrentBrick() == null) {
+            throw new IllegalStateException("Game cannot be saved in this state");
+        }
+        RandomBrickGenerator generator = (RandomBrickGenerator) brickGenerator;
+        return new GameSnapshot(MatrixOperations.copy(board.getBoardMatrix()),
+                typeOf(generator, board.getCurrentBrick()), board.getCurrentRotation(), board.getCurrentX(),
+                board.getCurrentY(), typeOf(generator, board.getNextBrick()),
+                typeOf(generator, board.getHeldBrick()), generator.isSeeded(), generator.getSeed(),
+                generator.getDraws(), generator.getQueuedTypes(), board.getScore().scoreProperty().get(), level,
+                obstacleMode, System.currentTimeMillis());
+    }
+
+    private static int typeOf(RandomBrickGenerator generator, Brick brick) {
+        return brick == null ? NO_BRICK : generator.typeIndex(brick);
+    }
+
+    /**
+     * Puts a board into this snapshot's state.
+     */
+    public void restore(SimpleBoard board) {
+        RandomBrickGenerator generator = RandomBrickGenerator.restore(seeded, seed, draws, queuedTypes);
+        List<Brick> types = generator.getBrickTypes();
+        if (rotation >= types.get(currentType).getShapeMatrix().size()) {
+            throw new IllegalStateException("Saved rotation " + rotation + " does not exist");
+        }
+        board.restore(matrix, types.get(currentType), rotation, x, y, types.get(nextType),
+                heldType == NO_BRICK ? null : types.get(heldType), generator, score);
+    }
+
+    // ========== GETTERS ==========
+
+    int[][] getMatrix() {
+        return matrix;
+    }
+
+    int getCurrentType() {
+        return currentType;
+    }
+
+    int getRotation() {
+        return rotation;
+    }
+
+    int getX() {
+        return x;
+    }
+
+    int getY() {
+        return y;
+    }
+
+    int getNextType() {
+        return nextType;
+    }
+
+    int getHeldType() {
+        return heldType;
+    }
+
+    boolean isSeeded() {
+        return seeded;
+    }
+
+    long getSeed() {
+        return seed;
+    }
+
+    long getDraws() {
+        return draws;
+    }
+
+    int[] getQueuedTypes() {
+        return queuedTypes;
+    }
+
+    public int getScore() {
+        return score;
+    }
+
+    public int getLevel() {
+        return level;
+    }
+
+    public boolean isObstacleMode() {
+        return obstacleMode;
+    }
+
+    /**
+     * @return when the snapshot was taken (epoch milliseconds)
+     */
+    public long getSavedAt() {
+        return savedAt;
+    }
+}
@@ -0,0 +1,174 @@
+package com.comp2042.save;
+
+import com.comp2042.util.Constants;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * SaveManager - Writes the running game to disk so it can be resumed.
+ *
+ * Responsibilities:
+ * - Encode and write snapshots on a background thread, so pausing never
+ *   waits for the disk; if several saves queue up only the newest is written
+ * - Replace the save file atomically (temporary file, fsync, rename), so a
+ *   crash leaves either the old or the new save
+ * - Save the active game one last time when the application exits
+ * - Load and discard the save
+ *
+ * @author Umer Imran
+ * @version 1.0
+ */
+public final class SaveManager implements AutoCloseable {
+
+    private static final long CLOSE_TIMEOUT_MS = 2000;
+
+    private static SaveManager instance;
+
+    private final Path file;
+    private final Path temporary;
+    private final ExecutorService writer;
+    private final AtomicReference<GameSnapshot> latest = new AtomicReference<>();
+    private volatile Supplier<GameSnapshot> activeGame;
+
+    public SaveManager(Path file) {
+        this.file = file;
+        this.temporary = file.resolveSibling(file.getFileName() + ".tmp");
+        this.writer = Executors.newSingleThreadExecutor(task -> {
+            Thread thread = new Thread(task, "save-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * @return the application's save manager for {@link Constants#SAVE_FILE}
+     */
+    public static synchronized SaveManager getDefault() {
+        if (instance == null) {
+            instance = new SaveManager(Paths.get(Constants.SAVE_FILE));
+        }
+        return instance;
+    }
+
+    /**
+     * Saves the active game and closes the application's save manager.
+     */
+    public static synchronized void closeDefault() {
+        if (instance != null) {
+            instance.close();
+            instance = null;
+        }
+    }
+
+    // ========== SAVING ==========
+
+    /**
+     * Queues a snapshot to be written. Returns immediately.
+     */
+    public void saveAsync(GameSnapshot snapshot) {
+        latest.set(snapshot);
+        writer.execute(() -> {
+            GameSnapshot pending = latest.getAndSet(null);
+            if (pending != null) {
+                write(pending);
+            }
+        });
+    }
+
+    /**
+     * Sets where the game to save on exit comes from; null when no game is
+     * running. The supplier may return null if the game cannot be saved.
+     */
+    public void setActiveGame(Supplier<GameSnapshot> game) {
+        activeGame = game;
+    }
+
+    /**
+     * Forgets the active game and deletes the save (after game over).
+     */
+    public void discard() {
+        activeGame = null;
+        latest.set(null);
+        writer.execute(() -> {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                System.err.println("Could not delete save file: " + e);
+            }
+        });
+    }
+
+    private void write(GameSnapshot snapshot) {
+        byte[] data = SnapshotCodec.encode(snapshot);
+        try {
+            Path parent = file.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                ByteBuffer buffer = ByteBuffer.wrap(data);
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                channel.force(true);
+            }
+            Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            System.err.println("Could not save game: " + e);
+        }
+    }
+
+    // ========== LOADING ==========
+
+    public boolean hasSave() {
+        return Files.isRegularFile(file);
+    }
+
+    /**
+     * @return the saved game, or null if there is none
+     * @throws IOException if the save cannot be read or is corrupt
+     */
+    public GameSnapshot load() throws IOException {
+        byte[] data;
+        try {
+            data = Files.readAllBytes(file);
+        } catch (NoSuchFileException e) {
+            return null;
+        }
+        return SnapshotCodec.decode(data);
+    }
+
+    /**
+     * Writes the active game (if any) and waits for every queued write.
+     */
+    @Override
+    public void close() {
+        Supplier<GameSnapshot> game = activeGame;
+        GameSnapshot snapshot = game != null ? game.get() : null;
+        if (snapshot != null) {
+            saveAsync(snapshot);
+        }
+        writer.shutdown();
+        try {
+            if (!writer.awaitTermination(CLOSE_TIMEOUT_MS, TimeUnit.MILLISECONDS)) {
+                System.err.println("Save did not finish before exit");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
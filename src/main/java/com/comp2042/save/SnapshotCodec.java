@@ -0,0 +1,208 @@
+package com.comp2042.save;
+
+import com.comp2042.logic.bricks.Brick;
+import com.comp2042.logic.bricks.RandomBrickGenerator;
+import com.comp2042.util.Constants;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.zip.CRC32C;
+
+/**
+ * SnapshotCodec - Versioned binary form of a GameSnapshot.
+ *
+ * Layout (big endian, version 1):
+ * - magic (int), version (short), savedAt (long)
+ * - level (byte), obstacle mode (byte), score (int)
+ * - rows, columns (byte each), then the cells two per byte (each cell is a
+ *   colour code 0-8, so fits a nibble)
+ * - falling brick: type, rotation, x, y (byte each)
+ * - next type, held type (byte each, -1 = none)
+ * - generator: seeded (byte), seed (long), draws (long), queue length
+ *   (byte), queued types (byte each)
+ * - CRC32C of everything before it (int)
+ *
+ * A 25x10 game encodes to under 200 bytes. New fields go into a new
+ * version; decoding keeps accepting older versions. Decoding also rejects
+ * saves that pass the checksum but do not fit the game (another board size,
+ * unknown colours, a brick outside the board), so a stale or edited save
+ * fails here rather than in the board.
+ *
+ * @author Umer Imran
+ * @version 1.0
+ */
+public final class SnapshotCodec {
+
+    static final int MAGIC = 0x54535631; // "TSV1"
+    static final int VERSION = 1;
+    private static final int MAX_CELL = 15;
+    private static final List<Brick> TYPES = new RandomBrickGenerator().getBrickTypes();
+
+    private SnapshotCodec() {
+
+    }
+
+    public static byte[] encode(GameSnapshot snapshot) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+        DataOutputStream out = new DataOutputStream(bytes);
+        try {
+            out.writeInt(MAGIC);
+            out.writeShort(VERSION);
+            out.writeLong(snapshot.getSavedAt());
+            out.writeByte(snapshot.getLevel());
+            out.writeBoolean(snapshot.isObstacleMode());
+            out.writeInt(snapshot.getScore());
+
+            int[][] matrix = snapshot.getMatrix();
+            int rows = matrix.length;
+            int columns = matrix[0].length;
+            out.writeByte(rows);
+            out.writeByte(columns);
+            int pending = -1;
+            for (int[] row : matrix) {
+                for (int cell : row) {
+                    if (cell < 0 || cell > MAX_CELL) {
+                        throw new IllegalArgumentException("Cell value out of range: " + cell);
+                    }
+                    if (pending < 0) {
+                        pending = cell;
+                    } else {
+                        out.writeByte(pending << 4 | cell);
+                        pending = -1;
+                    }
+                }
+            }
+            if (pending >= 0) {
+                out.writeByte(pending << 4);
+            }
+
+            out.writeByte(snapshot.getCurrentType());
+            out.writeByte(snapshot.getRotation());
+            out.writeByte(snapshot.getX());
+            out.writeByte(snapshot.getY());
+            out.writeByte(snapshot.getNextType());
+            out.writeByte(snapshot.getHeldType());
+
+            out.writeBoolean(snapshot.isSeeded());
+            out.writeLong(snapshot.getSeed());
+            out.writeLong(snapshot.getDraws());
+            int[] queued = snapshot.getQueuedTypes();
+            out.writeByte(queued.length);
+            for (int type : queued) {
+                out.writeByte(type);
+            }
+
+            CRC32C crc = new CRC32C();
+            crc.update(bytes.toByteArray());
+            out.writeInt((int) crc.getValue());
+        } catch (IOException e) {
+            throw new IllegalStateException(e); // in-memory stream
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * @throws IOException if the data is truncated, corrupt or from a newer
+     *                     version
+     */
+    public static GameSnapshot decode(byte[] data) throws IOException {
+        if (data.length < 4) {
+            throw new IOException("Save file is truncated");
+        }
+        CRC32C crc = new CRC32C();
+        crc.update(data, 0, data.length - 4);
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(data));
+        if (in.readInt() != MAGIC) {
+            throw new IOException("Not a save file");
+        }
+        int version = in.readUnsignedShort();
+        if (version < 1 || version > VERSION) {
+            throw new IOException("Unsupported save version " + version);
+        }
+        int expected = ((data[data.length - 4] & 0xFF) << 24) | ((data[data.length - 3] & 0xFF) << 16)
+                | ((data[data.length - 2] & 0xFF) << 8) | (data[data.length - 1] & 0xFF);
+        if ((int) crc.getValue() != expected) {
+            throw new IOException("Save file is corrupt (checksum mismatch)");
+        }
+
+        long savedAt = in.readLong();
+        int level = in.readUnsignedByte();
+        boolean obstacleMode = in.readBoolean();
+        int score = in.readInt();
+
+        int rows = in.readUnsignedByte();
+        int columns = in.readUnsignedByte();
+        if (rows != Constants.BOARD_HEIGHT || columns != Constants.BOARD_WIDTH) {
+            throw new IOException("Save file is for a " + rows + "x" + columns + " board");
+        }
+        int[][] matrix = new int[rows][columns];
+        int packed = 0;
+        for (int i = 0; i < rows * columns; i++) {
+            int cell;
+            if ((i & 1) == 0) {
+                packed = in.readUnsignedByte();
+                cell = packed >>> 4;
+            } else {
+                cell = packed & 0xF;
+            }
+            if (cell >= Constants.PieceColors.COUNT) {
+                throw new IOException("Save file has an unknown cell colour " + cell);
+            }
+            matrix[i / columns][i % columns] = cell;
+        }
+
+        int currentType = in.readByte();
+        int rotation = in.readUnsignedByte();
+        int x = in.readByte();
+        int y = in.readByte();
+        int nextType = in.readByte();
+        int heldType = in.readByte();
+
+        boolean seeded = in.readBoolean();
+        long seed = in.readLong();
+        long draws = in.readLong();
+        int[] queued = new int[in.readUnsignedByte()];
+        for (int i = 0; i < queued.length; i++) {
+            queued[i] = in.readByte();
+        }
+        if (!validType(currentType, false) || !validType(nextType, false) || !validType(heldType, true)) {
+            throw new IOException("Save file has an unknown brick type");
+        }
+        for (int type : queued) {
+            if (!validType(type, false)) {
+                throw new IOException("Save file has an unknown brick type");
+            }
+        }
+        List<int[][]> rotations = TYPES.get(currentType).getShapeMatrix();
+        if (rotation >= rotations.size()) {
+            throw new IOException("Save file has an unknown rotation " + rotation);
+        }
+        if (!insideBoard(rotations.get(rotation), x, y, rows, columns)) {
+            throw new IOException("Save file has the falling brick outside the board at " + x + "," + y);
+        }
+        return new GameSnapshot(matrix, currentType, rotation, x, y, nextType, heldType, seeded, seed, draws,
+                queued, score, level, obstacleMode, savedAt);
+    }
+
+    private static boolean validType(int type, boolean optional) {
+        return (type >= 0 && type < TYPES.size()) || (optional && type == GameSnapshot.NO_BRICK);
+    }
+
+    /**
+     * @return whether every filled cell of the shape at (x, y) is on the board
+     */
+    private static boolean insideBoard(int[][] shape, int x, int y, int rows, int columns) {
+        for (int r = 0; r < shape.length; r++) {
+            for (int c = 0; c < shape[r].length; c++) {
+                if (shape[r][c] != 0 && (y + r < 0 || y + r >= rows || x + c < 0 || x + c >= columns)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+}
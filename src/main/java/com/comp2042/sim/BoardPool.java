@@ -0,0 +1,214 @@
+package com.comp2042.sim;
+
+import com.comp2042.ai.PieceShape;
+import com.comp2042.logic.bricks.Brick;
+import com.comp2042.logic.bricks.RandomBrickGenerator;
+import com.comp2042.util.Constants;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * BoardPool - Off-heap store for very large numbers of simulated games.
+ *
+ * Every game lives in a fixed {@value #SLOT_BYTES}-byte slot of a direct
+ * ByteBuffer instead of an int[][] matrix plus brick objects (about 1.3 KB of
+ * heap per board), so millions of boards cost tens of megabytes outside the
+ * heap and give the garbage collector nothing to trace.
+ *
+ * Slot layout (native byte order):
+ * - Bytes 0-31: settled cells as one bit string, row r at bits
+ *   {@code [r * width, (r + 1) * width)} (bit c of a row = column c)
+ * - Bytes 32-39: seed of the brick sequence
+ * - Bytes 40-43: queue cursor (random draws consumed so far)
+ * - Bytes 44-47: score
+ * - Byte 48: falling brick type (low nibble) and rotation (high nibble)
+ * - Bytes 49-50: falling brick column and row offset
+ * - Byte 51: held brick type (0xFF = empty); byte 52: next brick type
+ * - Byte 53: flags (slot allocated, brick in play); bytes 54-63 reserved
+ *
+ * Slots are grouped into lazily allocated chunks and recycled through a free
+ * list. Boards are read and written through {@link PooledBoard} flyweights;
+ * threads may work on different slots concurrently, but one slot must only be
+ * driven by one thread at a time.
+ *
+ * @author Umer Imran
+ * @version 1.0
+ */
+public final class BoardPool {
+
+    public static final int SLOT_BYTES = 64;
+    public static final int DEFAULT_CHUNK_SLOTS = 1 << 20; // 64 MB per chunk
+
+    // ========== SLOT LAYOUT ==========
+
+    static final int ROWS = 0;
+    static final int ROW_BYTES = 32;
+    static final int SEED = 32;
+    static final int CURSOR = 40;
+    static final int SCORE = 44;
+    static final int PIECE = 48;
+    static final int X = 49;
+    static final int Y = 50;
+    static final int HELD = 51;
+    static final int NEXT = 52;
+    static final int FLAGS = 53;
+
+    static final int FLAG_ALLOCATED = 1;
+    static final int FLAG_ACTIVE = 2;
+    static final int NO_BRICK = 0xFF;
+
+    private static final int SLOT_SHIFT = 6;
+
+    private final int width;
+    private final int height;
+    private final int chunkShift;
+    private final int chunkMask;
+    private final List<Brick> brickTypes;
+    private final PieceShape[][] shapes;
+
+    private volatile ByteBuffer[] chunks = new ByteBuffer[0];
+    private int[] freeSlots = new int[64];
+    private int freeCount;
+    private int highWater;
+    private int live;
+
+    public BoardPool() {
+        this(Constants.BOARD_WIDTH, Constants.BOARD_HEIGHT, DEFAULT_CHUNK_SLOTS);
+    }
+
+    /**
+     * @param width      board columns
+     * @param height     board rows ({@code width * height} must fit in 256 bits)
+     * @param chunkSlots slots per off-heap chunk (a power of two)
+     */
+    public BoardPool(int width, int height, int chunkSlots) {
+        if (width < 4 || height < 4 || width * height > ROW_BYTES * Byte.SIZE) {
+            throw new IllegalArgumentException("Board must be at least 4x4 and hold at most 256 cells");
+        }
+        if (Integer.bitCount(chunkSlots) != 1 || chunkSlots > 1 << (30 - SLOT_SHIFT)) {
+            throw new IllegalArgumentException("Chunk size must be a power of two of at most 2^24 slots");
+        }
+        this.width = width;
+        this.height = height;
+        this.chunkShift = Integer.numberOfTrailingZeros(chunkSlots);
+        this.chunkMask = chunkSlots - 1;
+
+        this.brickTypes = new RandomBrickGenerator().getBrickTypes();
+        this.shapes = new PieceShape[brickTypes.size()][];
+        for (int t = 0; t < shapes.length; t++) {
+            shapes[t] = PieceShape.rotationsOf(brickTypes.get(t));
+        }
+    }
+
+    /**
+     * Reserves a cleared slot. Call {@link PooledBoard#newGame(long)} on a view
+     * of it before playing.
+     *
+     * @return the slot index
+     */
+    public synchronized int allocate() {
+        int slot;
+        if (freeCount > 0) {
+            slot = freeSlots[--freeCount];
+        } else {
+            slot = highWater++;
+            if (slot < 0) {
+                highWater--;
+                throw new IllegalStateException("Board pool is full");
+            }
+            if ((slot >>> chunkShift) >= chunks.length) {
+                grow();
+            }
+        }
+        ByteBuffer chunk = chunk(slot);
+        int base = offset(slot);
+        for (int i = 0; i < SLOT_BYTES; i += Long.BYTES) {
+            chunk.putLong(base + i, 0L);
+        }
+        chunk.put(base + FLAGS, (byte) FLAG_ALLOCATED);
+        live++;
+        return slot;
+    }
+
+    /**
+     * Returns a slot to the pool. Views still pointing at it must not be used
+     * until moved to another slot.
+     *
+     * @param slot a slot obtained from {@link #allocate()}
+     */
+    public synchronized void free(int slot) {
+        if (slot < 0 || slot >= highWater || (chunk(slot).get(offset(slot) + FLAGS) & FLAG_ALLOCATED) == 0) {
+            throw new IllegalStateException("Slot " + slot + " is not allocated");
+        }
+        chunk(slot).put(offset(slot) + FLAGS, (byte) 0);
+        if (freeCount == freeSlots.length) {
+            freeSlots = Arrays.copyOf(freeSlots, freeCount * 2);
+        }
+        freeSlots[freeCount++] = slot;
+        live--;
+    }
+
+    /**
+     * Allocates a slot and returns a view positioned on it.
+     */
+    public PooledBoard newBoard() {
+        return view(allocate());
+    }
+
+    /**
+     * @param slot an allocated slot
+     * @return a new flyweight positioned on the slot (re-point it with
+     *         {@link PooledBoard#moveTo(int)})
+     */
+    public PooledBoard view(int slot) {
+        return new PooledBoard(this, slot);
+    }
+
+    private void grow() {
+        ByteBuffer[] grown = Arrays.copyOf(chunks, chunks.length + 1);
+        grown[chunks.length] = ByteBuffer.allocateDirect((chunkMask + 1) << SLOT_SHIFT)
+                .order(ByteOrder.nativeOrder());
+        chunks = grown;
+    }
+
+    ByteBuffer chunk(int slot) {
+        return chunks[slot >>> chunkShift];
+    }
+
+    int offset(int slot) {
+        return (slot & chunkMask) << SLOT_SHIFT;
+    }
+
+    List<Brick> getBrickTypes() {
+        return brickTypes;
+    }
+
+    PieceShape[][] getShapes() {
+        return shapes;
+    }
+
+    /**
+     * @return number of slots currently allocated
+     */
+    public synchronized int size() {
+        return live;
+    }
+
+    /**
+     * @return off-heap bytes reserved by the pool's chunks
+     */
+    public long reservedBytes() {
+        return (long) chunks.length * ((chunkMask + 1) << SLOT_SHIFT);
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+}
@@ -0,0 +1,73 @@
+package com.comp2042.sim;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * Distribution - One simulated metric (score, lines, pieces) recorded into
+ * both a Histogram and a KllSketch.
+ *
+ * The histogram gives percentiles with a bounded relative value error and
+ * exact min/max/mean; the sketch gives ranks ("share of games at or below
+ * x") with a bounded rank error. Both merge exactly across threads and
+ * processes.
+ *
+ * @author Umer Imran
+ * @version 1.0
+ */
+public final class Distribution {
+
+    private final Histogram histogram;
+    private final KllSketch sketch;
+
+    public Distribution() {
+        this(new Histogram(), new KllSketch());
+    }
+
+    private Distribution(Histogram histogram, KllSketch sketch) {
+        this.histogram = histogram;
+        this.sketch = sketch;
+    }
+
+    public void record(long value) {
+        histogram.record(value);
+        sketch.record(value);
+    }
+
+    public void merge(Distribution other) {
+        histogram.merge(other.histogram);
+        sketch.merge(other.sketch);
+    }
+
+    /**
+     * @param percentile 0 to 100
+     */
+    public long percentile(double percentile) {
+        return histogram.valueAtPercentile(percentile);
+    }
+
+    /**
+     * @return approximate share of recorded values at or below {@code value}
+     */
+    public double rank(long value) {
+        return sketch.rank(value);
+    }
+
+    public Histogram getHistogram() {
+        return histogram;
+    }
+
+    public KllSketch getSketch() {
+        return sketch;
+    }
+
+    public void writeTo(DataOutput out) throws IOException {
+        histogram.writeTo(out);
+        sketch.writeTo(out);
+    }
+
+    public static Distribution readFrom(DataInput in) throws IOException {
+        return new Distribution(Histogram.readFrom(in), KllSketch.readFrom(in));
+    }
+}
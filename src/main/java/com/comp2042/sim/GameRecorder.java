@@ -0,0 +1,81 @@
+package com.comp2042.sim;
+
+import com.comp2042.logic.ClearRow;
+import com.comp2042.logic.Score;
+import javafx.beans.value.ChangeListener;
+
+/**
+ * GameRecorder - Turns the events of one game at a time into SimulationStats
+ * entries.
+ *
+ * Responsibilities:
+ * - Follow the game's Score through its property listener
+ * - Count locked bricks and cleared lines from the ClearRow produced by
+ *   every lock (a lock without line clears still yields an empty ClearRow)
+ * - Record the finished game under its difficulty level and get ready for
+ *   the next one
+ *
+ * One recorder serves one thread; reuse it across games.
+ *
+ * @author Umer Imran
+ * @version 1.0
+ */
+public final class GameRecorder {
+
+    private final SimulationStats stats;
+    private final ChangeListener<Number> scoreListener = (obs, oldValue, newValue) -> score = newValue.longValue();
+
+    private Score attached;
+    private long score;
+    private long lines;
+    private long pieces;
+
+    public GameRecorder(SimulationStats stats) {
+        this.stats = stats;
+    }
+
+    /**
+     * Starts following a new game's score.
+     */
+    public void attach(Score gameScore) {
+        detach();
+        attached = gameScore;
+        score = gameScore.scoreProperty().get();
+        lines = 0;
+        pieces = 0;
+        gameScore.scoreProperty().addListener(scoreListener);
+    }
+
+    /**
+     * Records the result of one locked brick.
+     */
+    public void onClearRow(ClearRow clearRow) {
+        pieces++;
+        lines += clearRow.getLinesRemoved();
+    }
+
+    /**
+     * Records the game that is being followed and stops following it.
+     *
+     * @param level difficulty level the game was played at
+     */
+    public void finishGame(int level) {
+        stats.record(level, score, lines, pieces);
+        detach();
+    }
+
+    private void detach() {
+        if (attached != null) {
+            attached.scoreProperty().removeListener(scoreListener);
+            attached = null;
+        }
+    }
+
+    public long getPieces() {
+        return pieces;
+    }
+
+    public SimulationStats getStats() {
+        return stats;
+    }
+}
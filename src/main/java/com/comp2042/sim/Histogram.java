@@ -0,0 +1,220 @@
+package com.comp2042.sim;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Histogram - Mergeable log-linear histogram of non-negative long values.
+ *
+ * Buckets follow the HDR-histogram layout: values below 2^precision are
+ * counted exactly; above that, every power-of-two range is split into
+ * 2^(precision-1) equal buckets, so any recorded value is reproduced within
+ * a relative error of 2^-(precision-1) (about 1.6% at the default 7 bits).
+ * Memory is fixed (a few thousand counters) no matter how many values are
+ * recorded.
+ *
+ * Two histograms of the same precision merge by adding counters, so per
+ * thread or per process results combine exactly, in any order. The binary
+ * form only stores non-empty buckets as varint gaps and counts.
+ *
+ * Not thread-safe: record per thread and merge.
+ *
+ * @author Umer Imran
+ * @version 1.0
+ */
+public final class Histogram {
+
+    public static final int DEFAULT_PRECISION = 7;
+
+    private final int precision;
+    private final int exact;     // values below this have their own bucket
+    private final int half;      // buckets per power-of-two range above it
+    private final long[] counts;
+    private long total;
+    private long min = Long.MAX_VALUE;
+    private long max;
+    private long sum;
+
+    public Histogram() {
+        this(DEFAULT_PRECISION);
+    }
+
+    /**
+     * @param precision bits of precision (2 to 16)
+     */
+    public Histogram(int precision) {
+        if (precision < 2 || precision > 16) {
+            throw new IllegalArgumentException("Precision must be 2 to 16 bits");
+        }
+        this.precision = precision;
+        this.exact = 1 << precision;
+        this.half = exact >>> 1;
+        this.counts = new long[exact + (Long.SIZE - precision) * half];
+    }
+
+    public void record(long value) {
+        record(value, 1);
+    }
+
+    /**
+     * @param value non-negative value
+     * @param count number of times the value occurred
+     */
+    public void record(long value, long count) {
+        if (value < 0) {
+            throw new IllegalArgumentException("Histogram values must be non-negative: " + value);
+        }
+        counts[indexOf(value)] += count;
+        total += count;
+        sum += value * count;
+        min = Math.min(min, value);
+        max = Math.max(max, value);
+    }
+
+    private int indexOf(long value) {
+        if (value < exact) {
+            return (int) value;
+        }
+        int shift = Long.SIZE - Long.numberOfLeadingZeros(value) - precision;
+        return exact + (shift - 1) * half + (int) ((value >>> shift) - half);
+    }
+
+    private long highestValueAt(int index) {
+        if (index < exact) {
+            return index;
+        }
+        int shift = (index - exact) / half + 1;
+        long lowest = (long) (half + (index - exact) % half) << shift;
+        return lowest + (1L << shift) - 1;
+    }
+
+    /**
+     * Adds every value recorded by another histogram of the same precision.
+     */
+    public void merge(Histogram other) {
+        if (other.precision != precision) {
+            throw new IllegalArgumentException("Cannot merge histograms of different precision");
+        }
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] += other.counts[i];
+        }
+        total += other.total;
+        sum += other.sum;
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+    }
+
+    /**
+     * @param percentile 0 to 100
+     * @return a value at least as large as the given share of recorded values
+     *         (within the histogram's precision), or 0 if empty
+     */
+    public long valueAtPercentile(double percentile) {
+        if (total == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100.0 * total));
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(highestValueAt(i), max);
+            }
+        }
+        return max;
+    }
+
+    public long getCount() {
+        return total;
+    }
+
+    public long getMin() {
+        return total == 0 ? 0 : min;
+    }
+
+    public long getMax() {
+        return max;
+    }
+
+    public double getMean() {
+        return total == 0 ? 0 : (double) sum / total;
+    }
+
+    public void reset() {
+        Arrays.fill(counts, 0);
+        total = 0;
+        sum = 0;
+        min = Long.MAX_VALUE;
+        max = 0;
+    }
+
+    // ========== SERIALIZATION ==========
+
+    /**
+     * Writes the histogram in its compact form (non-empty buckets only).
+     */
+    public void writeTo(DataOutput out) throws IOException {
+        out.writeByte(precision);
+        writeVarLong(out, total);
+        writeVarLong(out, getMin());
+        writeVarLong(out, max);
+        writeVarLong(out, sum);
+        int buckets = 0;
+        for (long count : counts) {
+            buckets += count != 0 ? 1 : 0;
+        }
+        writeVarLong(out, buckets);
+        int last = 0;
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] != 0) {
+                writeVarLong(out, i - last);
+                writeVarLong(out, counts[i]);
+                last = i;
+            }
+        }
+    }
+
+    /**
+     * Reads a histogram written by {@link #writeTo(DataOutput)}.
+     */
+    public static Histogram readFrom(DataInput in) throws IOException {
+        Histogram histogram = new Histogram(in.readByte());
+        histogram.total = readVarLong(in);
+        long min = readVarLong(in);
+        histogram.min = histogram.total == 0 ? Long.MAX_VALUE : min;
+        histogram.max = readVarLong(in);
+        histogram.sum = readVarLong(in);
+        int buckets = (int) readVarLong(in);
+        int index = 0;
+        for (int b = 0; b < buckets; b++) {
+            index += (int) readVarLong(in);
+            if (index >= histogram.counts.length) {
+                throw new IOException("Corrupt histogram: bucket " + index + " out of range");
+            }
+            histogram.counts[index] = readVarLong(in);
+        }
+        return histogram;
+    }
+
+    static void writeVarLong(DataOutput out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) (value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    static long readVarLong(DataInput in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < Long.SIZE; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Corrupt varint");
+    }
+}
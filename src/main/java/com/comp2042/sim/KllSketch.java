@@ -0,0 +1,300 @@
+package com.comp2042.sim;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * KllSketch - Mergeable quantile sketch (Karnin, Lang and Liberty's KLL).
+ *
+ * Values enter level 0. When the sketch is over capacity, the lowest full
+ * level is sorted and every other value (random offset) moves up one level
+ * with twice the weight. Level capacities shrink geometrically (by 2/3) from
+ * the top, so memory stays at O(k) values for any stream length while ranks
+ * are accurate to about 1.7/k of the stream.
+ *
+ * Unlike {@link Histogram}, accuracy is over ranks rather than values and
+ * does not depend on the value range, so the sketch also answers "which
+ * share of games scored below x" for arbitrary doubles. Sketches with the
+ * same k merge by concatenating levels and compacting.
+ *
+ * Not thread-safe: record per thread and merge.
+ *
+ * @author Umer Imran
+ * @version 1.0
+ */
+public final class KllSketch {
+
+    public static final int DEFAULT_K = 200;
+
+    private static final double DECAY = 2.0 / 3.0;
+    private static final int MIN_CAPACITY = 2;
+    private static final long SEED = 0x4B4C4CL;
+
+    private final int k;
+    private final SplittableRandom random = new SplittableRandom(SEED);
+    private double[][] levels = new double[1][8];
+    private int[] sizes = new int[1];
+    private long count;
+    private double min = Double.NaN;
+    private double max = Double.NaN;
+
+    public KllSketch() {
+        this(DEFAULT_K);
+    }
+
+    /**
+     * @param k accuracy parameter (8 to 65535); larger is more accurate
+     */
+    public KllSketch(int k) {
+        if (k < 8 || k > 0xFFFF) {
+            throw new IllegalArgumentException("k must be 8 to 65535");
+        }
+        this.k = k;
+    }
+
+    public void record(double value) {
+        if (Double.isNaN(value)) {
+            throw new IllegalArgumentException("Cannot record NaN");
+        }
+        append(0, value);
+        count++;
+        min = count == 1 ? value : Math.min(min, value);
+        max = count == 1 ? value : Math.max(max, value);
+        if (retained() > totalCapacity()) {
+            compact();
+        }
+    }
+
+    /**
+     * Adds every value summarised by another sketch with the same k.
+     */
+    public void merge(KllSketch other) {
+        if (other.k != k) {
+            throw new IllegalArgumentException("Cannot merge sketches with different k");
+        }
+        if (other.count == 0) {
+            return;
+        }
+        for (int h = 0; h < other.levels.length; h++) {
+            for (int i = 0; i < other.sizes[h]; i++) {
+                append(h, other.levels[h][i]);
+            }
+        }
+        min = count == 0 ? other.min : Math.min(min, other.min);
+        max = count == 0 ? other.max : Math.max(max, other.max);
+        count += other.count;
+        while (retained() > totalCapacity()) {
+            compact();
+        }
+    }
+
+    // ========== COMPACTION ==========
+
+    private void ensureLevel(int level) {
+        if (level >= levels.length) {
+            int old = levels.length;
+            levels = Arrays.copyOf(levels, level + 1);
+            sizes = Arrays.copyOf(sizes, level + 1);
+            for (int h = old; h <= level; h++) {
+                levels[h] = new double[8];
+            }
+        }
+    }
+
+    private void append(int level, double value) {
+        ensureLevel(level);
+        if (sizes[level] == levels[level].length) {
+            levels[level] = Arrays.copyOf(levels[level], sizes[level] * 2);
+        }
+        levels[level][sizes[level]++] = value;
+    }
+
+    private int capacity(int level) {
+        int depth = levels.length - 1 - level;
+        return Math.max(MIN_CAPACITY, (int) Math.ceil(k * Math.pow(DECAY, depth)));
+    }
+
+    private int totalCapacity() {
+        int total = 0;
+        for (int h = 0; h < levels.length; h++) {
+            total += capacity(h);
+        }
+        return total;
+    }
+
+    private int retained() {
+        int total = 0;
+        for (int size : sizes) {
+            total += size;
+        }
+        return total;
+    }
+
+    /**
+     * Halves the lowest level that is at capacity, promoting every other
+     * value of its sorted contents (an odd one out stays behind).
+     */
+    private void compact() {
+        int level = 0;
+        while (sizes[level] < capacity(level)) {
+            level++;
+        }
+        double[] items = levels[level];
+        int size = sizes[level];
+        Arrays.sort(items, 0, size);
+        int keep = size & 1;
+        int offset = keep + (random.nextBoolean() ? 1 : 0);
+        ensureLevel(level + 1);
+        for (int i = offset; i < size; i += 2) {
+            append(level + 1, items[i]);
+        }
+        sizes[level] = keep;
+    }
+
+    // ========== QUERIES ==========
+
+    /**
+     * @param fraction 0 to 1
+     * @return an approximate value at that rank, or NaN if empty
+     */
+    public double quantile(double fraction) {
+        if (count == 0) {
+            return Double.NaN;
+        }
+        if (fraction <= 0) {
+            return min;
+        }
+        if (fraction >= 1) {
+            return max;
+        }
+        double[][] sorted = weightedItems();
+        double target = fraction * count;
+        long seen = 0;
+        for (double[] item : sorted) {
+            seen += (long) item[1];
+            if (seen >= target) {
+                return item[0];
+            }
+        }
+        return max;
+    }
+
+    /**
+     * @return approximate share of recorded values that are at most
+     *         {@code value}
+     */
+    public double rank(double value) {
+        if (count == 0) {
+            return Double.NaN;
+        }
+        long below = 0;
+        for (int h = 0; h < levels.length; h++) {
+            for (int i = 0; i < sizes[h]; i++) {
+                if (levels[h][i] <= value) {
+                    below += 1L << h;
+                }
+            }
+        }
+        return (double) below / count;
+    }
+
+    private double[][] weightedItems() {
+        double[][] items = new double[retained()][];
+        int n = 0;
+        for (int h = 0; h < levels.length; h++) {
+            for (int i = 0; i < sizes[h]; i++) {
+                items[n++] = new double[] { levels[h][i], 1L << h };
+            }
+        }
+        Arrays.sort(items, (a, b) -> Double.compare(a[0], b[0]));
+        return items;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public double getMin() {
+        return min;
+    }
+
+    public double getMax() {
+        return max;
+    }
+
+    /**
+     * @return number of values currently held (memory footprint)
+     */
+    public int getRetained() {
+        return retained();
+    }
+
+    // ========== SERIALIZATION ==========
+
+    /**
+     * Writes the sketch. Sketches of whole numbers (scores, counts) store
+     * their values as varints instead of 8-byte doubles.
+     */
+    public void writeTo(DataOutput out) throws IOException {
+        boolean integral = true;
+        for (int h = 0; h < levels.length && integral; h++) {
+            for (int i = 0; i < sizes[h]; i++) {
+                double v = levels[h][i];
+                if (v != Math.rint(v) || Math.abs(v) > 1e15) {
+                    integral = false;
+                    break;
+                }
+            }
+        }
+        out.writeShort(k);
+        Histogram.writeVarLong(out, count);
+        out.writeBoolean(integral);
+        out.writeDouble(min);
+        out.writeDouble(max);
+        out.writeByte(levels.length);
+        for (int h = 0; h < levels.length; h++) {
+            Histogram.writeVarLong(out, sizes[h]);
+            for (int i = 0; i < sizes[h]; i++) {
+                if (integral) {
+                    long v = (long) levels[h][i];
+                    Histogram.writeVarLong(out, (v << 1) ^ (v >> 63)); // zigzag
+                } else {
+                    out.writeDouble(levels[h][i]);
+                }
+            }
+        }
+    }
+
+    /**
+     * Reads a sketch written by {@link #writeTo(DataOutput)}.
+     */
+    public static KllSketch readFrom(DataInput in) throws IOException {
+        KllSketch sketch = new KllSketch(in.readUnsignedShort());
+        sketch.count = Histogram.readVarLong(in);
+        boolean integral = in.readBoolean();
+        sketch.min = in.readDouble();
+        sketch.max = in.readDouble();
+        int levelCount = in.readUnsignedByte();
+        sketch.ensureLevel(levelCount - 1);
+        for (int h = 0; h < levelCount; h++) {
+            int size = (int) Histogram.readVarLong(in);
+            if (size > 0xFFFFFF) {
+                throw new IOException("Corrupt sketch: level of " + size + " values");
+            }
+            for (int i = 0; i < size; i++) {
+                double v;
+                if (integral) {
+                    long zigzag = Histogram.readVarLong(in);
+                    v = (zigzag >>> 1) ^ -(zigzag & 1);
+                } else {
+                    v = in.readDouble();
+                }
+                sketch.append(h, v);
+            }
+        }
+        return sketch;
+    }
+}
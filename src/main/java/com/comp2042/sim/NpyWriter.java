@@ -0,0 +1,165 @@
+package com.comp2042.sim;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * NpyWriter - Streams one column of fixed-size rows into a NumPy .npy file.
+ *
+ * Responsibilities:
+ * - Reserve a fixed {@value #HEADER_BYTES}-byte header, so the data starts
+ *   page aligned and the header can be rewritten in place once the row count
+ *   is known
+ * - Collect values in a direct buffer and write it out through a FileChannel
+ *   in large, page-aligned blocks
+ * - Patch the header's shape on {@link #close()}
+ *
+ * Only a buffer is ever held in memory, so a column can grow to billions of
+ * rows. The file is readable with {@code numpy.load(path, mmap_mode='r')}.
+ * Values are little-endian; use the put method matching the column's dtype.
+ *
+ * @author Umer Imran
+ * @version 1.0
+ */
+public final class NpyWriter implements AutoCloseable {
+
+    public static final int HEADER_BYTES = 4096;
+    public static final int DEFAULT_BUFFER_BYTES = 1 << 20;
+
+    private static final byte[] MAGIC = { (byte) 0x93, 'N', 'U', 'M', 'P', 'Y', 1, 0 };
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer;
+    private final String dtype;
+    private final int[] rowShape;
+    private final int rowBytes;
+    private long position = HEADER_BYTES;
+    private long bytes;
+
+    /**
+     * @param path       file to create (replaced if it exists)
+     * @param dtype      NumPy type string, e.g. {@code "<u2"}, {@code "|u1"}
+     * @param rowShape   shape of one row (empty for a scalar column)
+     * @param bufferSize write block size in bytes (a multiple of 4096)
+     * @throws IOException if the file cannot be created
+     */
+    public NpyWriter(Path path, String dtype, int[] rowShape, int bufferSize) throws IOException {
+        if (bufferSize <= 0 || bufferSize % HEADER_BYTES != 0) {
+            throw new IllegalArgumentException("Buffer size must be a positive multiple of 4096");
+        }
+        int cells = 1;
+        for (int dim : rowShape) {
+            cells *= dim;
+        }
+        this.dtype = dtype;
+        this.rowShape = rowShape.clone();
+        this.rowBytes = cells * Integer.parseInt(dtype.substring(2));
+        this.buffer = ByteBuffer.allocateDirect(bufferSize).order(ByteOrder.LITTLE_ENDIAN);
+        this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+        writeHeader(0);
+    }
+
+    public NpyWriter(Path path, String dtype, int... rowShape) throws IOException {
+        this(path, dtype, rowShape, DEFAULT_BUFFER_BYTES);
+    }
+
+    // ========== VALUES ==========
+
+    public void put(byte value) throws IOException {
+        ensure(Byte.BYTES);
+        buffer.put(value);
+    }
+
+    public void putShort(short value) throws IOException {
+        ensure(Short.BYTES);
+        buffer.putShort(value);
+    }
+
+    public void putInt(int value) throws IOException {
+        ensure(Integer.BYTES);
+        buffer.putInt(value);
+    }
+
+    public void putFloat(float value) throws IOException {
+        ensure(Float.BYTES);
+        buffer.putFloat(value);
+    }
+
+    private void ensure(int size) throws IOException {
+        if (buffer.remaining() < size) {
+            flush();
+        }
+        bytes += size;
+    }
+
+    private void flush() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            position += channel.write(buffer, position);
+        }
+        buffer.clear();
+    }
+
+    /**
+     * @return number of complete rows written so far
+     */
+    public long rows() {
+        return bytes / rowBytes;
+    }
+
+    /**
+     * Writes the remaining values and the final header.
+     *
+     * @throws IOException           if writing fails
+     * @throws IllegalStateException if the last row is incomplete
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            if (bytes % rowBytes != 0) {
+                throw new IllegalStateException("Incomplete row in " + dtype + " column");
+            }
+            flush();
+            writeHeader(rows());
+        } finally {
+            channel.close();
+        }
+    }
+
+    private void writeHeader(long rows) throws IOException {
+        StringBuilder shape = new StringBuilder("(").append(rows);
+        if (rowShape.length == 0) {
+            shape.append(',');
+        }
+        for (int dim : rowShape) {
+            shape.append(", ").append(dim);
+        }
+        shape.append(')');
+        String dict = "{'descr': '" + dtype + "', 'fortran_order': False, 'shape': " + shape + ", }";
+
+        // pad with spaces to the fixed length; the header ends with a newline
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        header.put(MAGIC);
+        header.putShort((short) (HEADER_BYTES - MAGIC.length - Short.BYTES));
+        header.put(dict.getBytes(StandardCharsets.US_ASCII));
+        while (header.position() < HEADER_BYTES - 1) {
+            header.put((byte) ' ');
+        }
+        header.put((byte) '\n');
+        header.flip();
+        long at = 0;
+        while (header.hasRemaining()) {
+            at += channel.write(header, at);
+        }
+    }
+
+    public String getDtype() {
+        return dtype;
+    }
+}
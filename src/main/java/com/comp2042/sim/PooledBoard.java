@@ -0,0 +1,361 @@
+package com.comp2042.sim;
+
+import com.comp2042.ai.PieceShape;
+import com.comp2042.dto.NextThreeBricksInfo;
+import com.comp2042.dto.ViewData;
+import com.comp2042.logic.Board;
+import com.comp2042.logic.ClearRow;
+import com.comp2042.logic.MatrixOperations;
+import com.comp2042.logic.Score;
+import com.comp2042.logic.bricks.Brick;
+import com.comp2042.logic.bricks.BrickSequence;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * PooledBoard - Flyweight Board view over one slot of a BoardPool.
+ *
+ * Responsibilities:
+ * - Read and write the slot's packed state in place (no per-move allocation)
+ * - Apply the same rules as SimpleBoard: spawn at (4, 0), rotation without
+ *   wall kicks, unlimited hold, 50 * lines^2 line bonus
+ * - Draw bricks from the slot's seed and queue cursor through
+ *   BrickSequence, the same sequence as {@code SimpleBoard.newGame(seed)}
+ * - Re-point to another slot with {@link #moveTo(int)}, so one view can walk
+ *   over millions of games
+ *
+ * Differences from SimpleBoard: {@link #getBoardMatrix()} returns a fresh
+ * copy (edits do not reach the slot), and settled cells read as
+ * {@link #SETTLED_CELL} because brick colours are not stored. The Score
+ * returned by {@link #getScore()} belongs to the view and writes through to
+ * the slot that the view is on.
+ *
+ * @author Umer Imran
+ * @version 1.0
+ */
+public final class PooledBoard implements Board {
+
+    public static final int SETTLED_CELL = 8; // obstacle colour code
+
+    private static final int SPAWN_X = 4;
+    private static final int SPAWN_Y = 0;
+    private static final int LINE_BONUS = 50;
+
+    private final BoardPool pool;
+    private final int width;
+    private final int height;
+    private final int fullRow;
+    private final List<Brick> types;
+    private final PieceShape[][] shapes;
+    private final Score score = new Score();
+
+    private ByteBuffer buffer;
+    private int base;
+    private int slot;
+
+    PooledBoard(BoardPool pool, int slot) {
+        this.pool = pool;
+        this.width = pool.getWidth();
+        this.height = pool.getHeight();
+        this.fullRow = (1 << width) - 1;
+        this.types = pool.getBrickTypes();
+        this.shapes = pool.getShapes();
+        moveTo(slot);
+        score.scoreProperty().addListener((obs, oldValue, newValue) ->
+                buffer.putInt(base + BoardPool.SCORE, newValue.intValue()));
+    }
+
+    /**
+     * Points this view at another slot of the same pool.
+     *
+     * @param slot an allocated slot
+     * @return this view
+     */
+    public PooledBoard moveTo(int slot) {
+        this.slot = slot;
+        this.buffer = pool.chunk(slot);
+        this.base = pool.offset(slot);
+        score.scoreProperty().set(buffer.getInt(base + BoardPool.SCORE));
+        return this;
+    }
+
+    public int getSlot() {
+        return slot;
+    }
+
+    // ========== MOVEMENT ==========
+
+    @Override
+    public boolean moveBrickDown() {
+        return tryMove(getCurrentX(), getCurrentY() + 1, getCurrentRotation());
+    }
+
+    @Override
+    public boolean moveBrickLeft() {
+        return tryMove(getCurrentX() - 1, getCurrentY(), getCurrentRotation());
+    }
+
+    @Override
+    public boolean moveBrickRight() {
+        return tryMove(getCurrentX() + 1, getCurrentY(), getCurrentRotation());
+    }
+
+    @Override
+    public boolean rotateLeftBrick() {
+        int type = currentType();
+        return tryMove(getCurrentX(), getCurrentY(), (getCurrentRotation() + 1) % shapes[type].length);
+    }
+
+    private boolean tryMove(int x, int y, int rotation) {
+        if (!isActive() || !fits(currentType(), rotation, x, y)) {
+            return false;
+        }
+        setPiece(currentType(), rotation, x, y);
+        return true;
+    }
+
+    private boolean fits(int type, int rotation, int x, int y) {
+        PieceShape shape = shapes[type][rotation];
+        if (x < shape.minX() || x > shape.maxX(width)
+                || y + shape.getMinRow() < 0 || y + shape.getMaxRow() >= height) {
+            return false;
+        }
+        for (int r = shape.getMinRow(); r <= shape.getMaxRow(); r++) {
+            int bits = x >= 0 ? shape.getRowBits(r) << x : shape.getRowBits(r) >>> -x;
+            if ((getRowBits(y + r) & bits) != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public boolean createNewBrick() {
+        int next = buffer.get(base + BoardPool.NEXT);
+        buffer.put(base + BoardPool.NEXT, (byte) draw());
+        setPiece(next, 0, SPAWN_X, SPAWN_Y);
+        setFlag(BoardPool.FLAG_ACTIVE);
+        return !fits(next, 0, SPAWN_X, SPAWN_Y);
+    }
+
+    @Override
+    public void mergeBrickToBackground() {
+        PieceShape shape = shapes[currentType()][getCurrentRotation()];
+        int x = getCurrentX();
+        int y = getCurrentY();
+        for (int r = shape.getMinRow(); r <= shape.getMaxRow(); r++) {
+            int bits = x >= 0 ? shape.getRowBits(r) << x : shape.getRowBits(r) >>> -x;
+            setRowBits(y + r, getRowBits(y + r) | bits);
+        }
+    }
+
+    @Override
+    public ClearRow clearRows() {
+        int[] cleared = new int[height];
+        int count = 0;
+        for (int r = 0; r < height; r++) {
+            if (getRowBits(r) == fullRow) {
+                cleared[count++] = r;
+            }
+        }
+        if (count > 0) {
+            int write = height - 1;
+            for (int read = height - 1; read >= 0; read--) {
+                int bits = getRowBits(read);
+                if (bits != fullRow) {
+                    setRowBits(write--, bits);
+                }
+            }
+            while (write >= 0) {
+                setRowBits(write--, 0);
+            }
+        }
+        return new ClearRow(count, getBoardMatrix(), LINE_BONUS * count * count,
+                java.util.Arrays.copyOf(cleared, count));
+    }
+
+    // ========== HOLD ==========
+
+    @Override
+    public ViewData holdPiece() {
+        if (!isActive()) {
+            return getViewData();
+        }
+        int current = currentType();
+        int held = buffer.get(base + BoardPool.HELD) & 0xFF;
+        if (held == BoardPool.NO_BRICK) {
+            // first hold: the next brick comes into play
+            held = buffer.get(base + BoardPool.NEXT);
+            buffer.put(base + BoardPool.NEXT, (byte) draw());
+        }
+        buffer.put(base + BoardPool.HELD, (byte) current);
+        // like SimpleBoard, the swapped-in brick is not collision checked
+        setPiece(held, 0, SPAWN_X, SPAWN_Y);
+        return getViewData();
+    }
+
+    @Override
+    public ViewData getHeldPiece() {
+        int held = buffer.get(base + BoardPool.HELD) & 0xFF;
+        if (held == BoardPool.NO_BRICK) {
+            return null;
+        }
+        return new ViewData(types.get(held).getShapeMatrix().get(0), 0, 0, null);
+    }
+
+    // ========== GAME ==========
+
+    @Override
+    public Score getScore() {
+        // another view may have scored on this slot since moveTo
+        score.scoreProperty().set(buffer.getInt(base + BoardPool.SCORE));
+        return score;
+    }
+
+    @Override
+    public void newGame() {
+        newGame(ThreadLocalRandom.current().nextLong());
+    }
+
+    /**
+     * Starts a new game in this slot with a reproducible brick sequence (the
+     * same sequence as {@code SimpleBoard.newGame(seed)}).
+     *
+     * @param seed seed of the brick sequence
+     */
+    public void newGame(long seed) {
+        for (int i = 0; i < BoardPool.ROW_BYTES; i += Long.BYTES) {
+            buffer.putLong(base + BoardPool.ROWS + i, 0L);
+        }
+        buffer.putLong(base + BoardPool.SEED, seed);
+        buffer.putInt(base + BoardPool.CURSOR, 0);
+        buffer.putInt(base + BoardPool.SCORE, 0);
+        buffer.put(base + BoardPool.HELD, (byte) BoardPool.NO_BRICK);
+        score.scoreProperty().set(0);
+        buffer.put(base + BoardPool.NEXT, (byte) draw());
+        createNewBrick();
+    }
+
+    // ========== VIEW ==========
+
+    @Override
+    public int[][] getBoardMatrix() {
+        int[][] matrix = new int[height][width];
+        for (int r = 0; r < height; r++) {
+            int bits = getRowBits(r);
+            while (bits != 0) {
+                matrix[r][Integer.numberOfTrailingZeros(bits)] = SETTLED_CELL;
+                bits &= bits - 1;
+            }
+        }
+        return matrix;
+    }
+
+    @Override
+    public ViewData getViewData() {
+        int type = currentType();
+        int rotation = getCurrentRotation();
+        int x = getCurrentX();
+        int y = getCurrentY();
+        int[][] shape = types.get(type).getShapeMatrix().get(rotation);
+
+        // upcoming bricks: the stored next brick, then two more peeked from
+        // the queue cursor without consuming them
+        int next = buffer.get(base + BoardPool.NEXT);
+        long seed = buffer.getLong(base + BoardPool.SEED);
+        int cursor = buffer.getInt(base + BoardPool.CURSOR);
+        int second = BrickSequence.typeAt(seed, cursor, shapes.length);
+        int third = BrickSequence.typeAt(seed, cursor + 1, shapes.length);
+        int[][] nextShape = types.get(next).getShapeMatrix().getFirst();
+        NextThreeBricksInfo nextThree = new NextThreeBricksInfo(nextShape,
+                types.get(second).getShapeMatrix().getFirst(),
+                types.get(third).getShapeMatrix().getFirst());
+
+        ViewData viewData = new ViewData(shape, x, y, nextShape, nextThree);
+        int ghostRow = y;
+        while (fits(type, rotation, x, ghostRow + 1)) {
+            ghostRow++;
+        }
+        viewData.setGhostCoords(MatrixOperations.getOccupiedCells(shape, x, ghostRow));
+        return viewData;
+    }
+
+    /**
+     * @return settled cells of a row as a bitmask (bit c = column c)
+     */
+    public int getRowBits(int row) {
+        int bit = row * width;
+        int word = base + BoardPool.ROWS + ((bit >>> 6) << 3);
+        int shift = bit & 63;
+        long bits = buffer.getLong(word) >>> shift;
+        if (shift + width > Long.SIZE) {
+            bits |= buffer.getLong(word + Long.BYTES) << (Long.SIZE - shift);
+        }
+        return (int) bits & fullRow;
+    }
+
+    private void setRowBits(int row, int bits) {
+        int bit = row * width;
+        int word = base + BoardPool.ROWS + ((bit >>> 6) << 3);
+        int shift = bit & 63;
+        long low = buffer.getLong(word);
+        buffer.putLong(word, (low & ~((long) fullRow << shift)) | ((long) bits << shift));
+        if (shift + width > Long.SIZE) {
+            int spill = Long.SIZE - shift;
+            long high = buffer.getLong(word + Long.BYTES);
+            buffer.putLong(word + Long.BYTES, (high & ~((long) fullRow >>> spill)) | ((long) bits >>> spill));
+        }
+    }
+
+    /**
+     * @return rotation index of the falling brick (0 = spawn orientation)
+     */
+    public int getCurrentRotation() {
+        return (buffer.get(base + BoardPool.PIECE) >>> 4) & 0x0F;
+    }
+
+    /**
+     * @return column offset of the falling brick's shape matrix
+     */
+    public int getCurrentX() {
+        return buffer.get(base + BoardPool.X);
+    }
+
+    /**
+     * @return row offset of the falling brick's shape matrix
+     */
+    public int getCurrentY() {
+        return buffer.get(base + BoardPool.Y);
+    }
+
+    private int currentType() {
+        return buffer.get(base + BoardPool.PIECE) & 0x0F;
+    }
+
+    private void setPiece(int type, int rotation, int x, int y) {
+        buffer.put(base + BoardPool.PIECE, (byte) (type | rotation << 4));
+        buffer.put(base + BoardPool.X, (byte) x);
+        buffer.put(base + BoardPool.Y, (byte) y);
+    }
+
+    private boolean isActive() {
+        return (buffer.get(base + BoardPool.FLAGS) & BoardPool.FLAG_ACTIVE) != 0;
+    }
+
+    private void setFlag(int flag) {
+        buffer.put(base + BoardPool.FLAGS, (byte) (buffer.get(base + BoardPool.FLAGS) | flag));
+    }
+
+    // ========== BRICK SEQUENCE ==========
+
+    /**
+     * Draws the next brick type and advances the slot's queue cursor.
+     */
+    private int draw() {
+        int cursor = buffer.getInt(base + BoardPool.CURSOR);
+        buffer.putInt(base + BoardPool.CURSOR, cursor + 1);
+        return BrickSequence.typeAt(buffer.getLong(base + BoardPool.SEED), cursor, shapes.length);
+    }
+}
@@ -0,0 +1,271 @@
+package com.comp2042.sim;
+
+import com.comp2042.game.DifficultyManager;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SimulationCoordinator - Spreads a large simulation run over several worker
+ * JVMs on the same machine.
+ *
+ * Responsibilities:
+ * - Launch K SimulationWorker processes with the current JVM and class path
+ * - Hand out game seed ranges over localhost sockets in small batches
+ * - Let workers that run dry steal the back half of another worker's range
+ * - Merge the per-batch SimulationStats (per-level histograms and
+ *   sketches) the workers send back
+ * - Put the batch of a worker that dies back up for grabs
+ *
+ * Each worker starts with an equal share of the seeds. Ranges stay with the
+ * coordinator, so stealing needs no coordination between workers. Game s
+ * always uses brick seed s, so a run gives the same statistics whatever the
+ * number of workers or the order in which ranges were stolen.
+ *
+ * @author Umer Imran
+ * @version 1.0
+ */
+public final class SimulationCoordinator {
+
+    public static final int DEFAULT_BATCH = 16;
+    public static final int[] ALL_LEVELS = { DifficultyManager.LEVEL_1, DifficultyManager.LEVEL_5,
+            DifficultyManager.LEVEL_10, DifficultyManager.LEVEL_15 };
+
+    private static final int ACCEPT_TIMEOUT_MS = 60_000;
+
+    private final int workers;
+    private final int maxPieces;
+    private final int batchSize;
+    private final int[] levels;
+
+    public SimulationCoordinator(int workers, int maxPieces, int batchSize) {
+        this(workers, maxPieces, batchSize, new int[] { DifficultyManager.LEVEL_1 });
+    }
+
+    /**
+     * @param workers   number of worker JVMs
+     * @param maxPieces pieces after which a game is stopped
+     * @param batchSize seeds handed to a worker per request
+     * @param levels    difficulty levels every seed is played at
+     */
+    public SimulationCoordinator(int workers, int maxPieces, int batchSize, int[] levels) {
+        if (workers < 1 || maxPieces < 1 || batchSize < 1 || levels.length == 0) {
+            throw new IllegalArgumentException("Workers, piece limit, batch size and levels must be positive");
+        }
+        this.workers = workers;
+        this.maxPieces = maxPieces;
+        this.batchSize = batchSize;
+        this.levels = levels.clone();
+    }
+
+    /**
+     * Plays seeds {@code [firstSeed, firstSeed + games)} at every level.
+     *
+     * @return merged statistics of every game
+     * @throws IOException if workers cannot be started or games were lost
+     * @throws IllegalStateException if a connection handler fails for any other reason
+     */
+    public SimulationStats run(long firstSeed, long games) throws IOException, InterruptedException {
+        WorkQueue queue = new WorkQueue(firstSeed, games, workers, batchSize);
+        SimulationStats total = new SimulationStats();
+        List<Process> processes = new ArrayList<>();
+        ExecutorService handlers = Executors.newFixedThreadPool(workers);
+
+        try (ServerSocket server = new ServerSocket(0, workers, InetAddress.getLoopbackAddress())) {
+            server.setSoTimeout(ACCEPT_TIMEOUT_MS);
+            for (int id = 0; id < workers; id++) {
+                processes.add(launch(server.getLocalPort(), id));
+            }
+            List<Future<?>> connections = new ArrayList<>();
+            for (int i = 0; i < workers; i++) {
+                Socket socket = server.accept();
+                connections.add(handlers.submit(() -> serve(socket, queue, total)));
+            }
+            for (Future<?> connection : connections) {
+                try {
+                    connection.get();
+                } catch (ExecutionException e) {
+                    Throwable cause = e.getCause();
+                    if (!(cause instanceof IOException)) {
+                        // a bug in the coordinator, not a lost worker: its batch was not requeued
+                        throw new IllegalStateException("Worker connection handler failed", cause);
+                    }
+                    // a lost worker's batch has been requeued; the others carry on
+                    System.err.println("Lost simulation worker: " + cause);
+                }
+            }
+        } finally {
+            handlers.shutdownNow();
+            for (Process process : processes) {
+                if (!process.waitFor(5, TimeUnit.SECONDS)) {
+                    process.destroyForcibly();
+                }
+            }
+        }
+
+        long expected = games * levels.length;
+        if (total.getGames() != expected) {
+            throw new IOException((expected - total.getGames()) + " games were not simulated (workers lost)");
+        }
+        return total;
+    }
+
+    private Process launch(int port, int id) throws IOException {
+        String java = System.getProperty("java.home") + File.separator + "bin" + File.separator + "java";
+        StringBuilder levelList = new StringBuilder();
+        for (int level : levels) {
+            levelList.append(levelList.length() > 0 ? "," : "").append(level);
+        }
+        ProcessBuilder builder = new ProcessBuilder(java, "-cp", System.getProperty("java.class.path"),
+                SimulationWorker.class.getName(), Integer.toString(port), Integer.toString(id),
+                Integer.toString(maxPieces), levelList.toString());
+        builder.redirectOutput(ProcessBuilder.Redirect.DISCARD);
+        builder.redirectError(ProcessBuilder.Redirect.INHERIT);
+        return builder.start();
+    }
+
+    private static Void serve(Socket socket, WorkQueue queue, SimulationStats total) throws IOException {
+        int id = -1;
+        long[] batch = null;
+        try (socket) {
+            socket.setTcpNoDelay(true);
+            DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+            id = in.readInt();
+            while (true) {
+                int message = in.readByte();
+                if (message == SimulationWorker.RESULT) {
+                    SimulationStats stats = SimulationStats.readFrom(in);
+                    synchronized (total) {
+                        total.merge(stats);
+                    }
+                    batch = null;
+                } else if (message != SimulationWorker.REQUEST) {
+                    throw new IOException("Unexpected message " + message + " from worker " + id);
+                }
+                batch = queue.next(id);
+                if (batch == null) {
+                    out.writeByte(SimulationWorker.DONE);
+                    out.flush();
+                    return null;
+                }
+                out.writeByte(SimulationWorker.RANGE);
+                out.writeLong(batch[0]);
+                out.writeLong(batch[1]);
+                out.flush();
+            }
+        } catch (IOException e) {
+            if (batch != null) {
+                queue.requeue(batch);
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Seed ranges owned by each worker, with stealing. All methods are called
+     * from the connection handler threads and synchronise on the queue.
+     */
+    static final class WorkQueue {
+        private final long[] start;
+        private final long[] end;
+        private final int batchSize;
+        private final Deque<long[]> orphans = new ArrayDeque<>();
+
+        WorkQueue(long firstSeed, long games, int workers, int batchSize) {
+            this.start = new long[workers];
+            this.end = new long[workers];
+            this.batchSize = batchSize;
+            for (int w = 0; w < workers; w++) {
+                start[w] = firstSeed + games * w / workers;
+                end[w] = firstSeed + games * (w + 1) / workers;
+            }
+        }
+
+        /**
+         * @return the next {@code [from, to)} seed batch for a worker, or
+         *         null when no work is left anywhere
+         */
+        synchronized long[] next(int worker) {
+            if (start[worker] == end[worker]) {
+                if (!orphans.isEmpty()) {
+                    return orphans.poll();
+                }
+                if (!steal(worker)) {
+                    return null;
+                }
+            }
+            long from = start[worker];
+            long to = Math.min(end[worker], from + batchSize);
+            start[worker] = to;
+            return new long[] { from, to };
+        }
+
+        /**
+         * Moves the back half of the largest remaining range to a worker.
+         */
+        private boolean steal(int thief) {
+            int victim = -1;
+            long most = 0;
+            for (int w = 0; w < start.length; w++) {
+                if (end[w] - start[w] > most) {
+                    most = end[w] - start[w];
+                    victim = w;
+                }
+            }
+            if (victim < 0) {
+                return false;
+            }
+            long mid = start[victim] + most / 2;
+            start[thief] = mid;
+            end[thief] = end[victim];
+            end[victim] = mid;
+            return true;
+        }
+
+        synchronized void requeue(long[] batch) {
+            orphans.add(batch);
+        }
+
+        synchronized long remaining(int worker) {
+            return end[worker] - start[worker];
+        }
+    }
+
+    /**
+     * Usage: {@code SimulationCoordinator <workers> <games> [firstSeed] [maxPieces] [levels]}
+     */
+    public static void main(String[] args) throws Exception {
+        if (args.length < 2) {
+            System.err.println("Usage: SimulationCoordinator <workers> <games> [firstSeed] [maxPieces] [levels]");
+            System.exit(2);
+        }
+        int workers = Integer.parseInt(args[0]);
+        long games = Long.parseLong(args[1]);
+        long firstSeed = args.length > 2 ? Long.parseLong(args[2]) : 0;
+        int maxPieces = args.length > 3 ? Integer.parseInt(args[3]) : 1000;
+        int[] levels = args.length > 4 ? SimulationWorker.parseLevels(args[4]) : ALL_LEVELS;
+
+        long started = System.nanoTime();
+        SimulationStats stats = new SimulationCoordinator(workers, maxPieces, DEFAULT_BATCH, levels)
+                .run(firstSeed, games);
+        System.out.print(stats.report());
+        System.out.printf("%d workers, %.1f s%n", workers, (System.nanoTime() - started) / 1e9);
+    }
+}
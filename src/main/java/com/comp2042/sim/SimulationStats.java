@@ -0,0 +1,175 @@
+package com.comp2042.sim;
+
+import com.comp2042.game.DifficultyManager;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * SimulationStats - Mergeable summary of a batch of simulated games, split by
+ * difficulty level.
+ *
+ * Holds, per DifficultyManager level:
+ * - Number of games played
+ * - Distributions of final score, lines cleared and pieces survived
+ *
+ * Batches played by different threads or worker processes merge exactly,
+ * and the binary form is small enough to send after every batch.
+ *
+ * @author Umer Imran
+ * @version 2.0
+ */
+public final class SimulationStats {
+
+    public static final double[] REPORT_PERCENTILES = { 50, 90, 99, 99.9 };
+
+    private final SortedMap<Integer, LevelStats> levels = new TreeMap<>();
+
+    /**
+     * Records one finished game.
+     */
+    public void record(int level, long score, long linesCleared, long piecesPlaced) {
+        LevelStats stats = levels.computeIfAbsent(level, l -> new LevelStats());
+        stats.games++;
+        stats.scores.record(score);
+        stats.lines.record(linesCleared);
+        stats.pieces.record(piecesPlaced);
+    }
+
+    public void merge(SimulationStats other) {
+        for (Map.Entry<Integer, LevelStats> entry : other.levels.entrySet()) {
+            levels.computeIfAbsent(entry.getKey(), l -> new LevelStats()).merge(entry.getValue());
+        }
+    }
+
+    /**
+     * @return games recorded over every level
+     */
+    public long getGames() {
+        long games = 0;
+        for (LevelStats stats : levels.values()) {
+            games += stats.games;
+        }
+        return games;
+    }
+
+    /**
+     * @return statistics per difficulty level, in level order
+     */
+    public SortedMap<Integer, LevelStats> getLevels() {
+        return Collections.unmodifiableSortedMap(levels);
+    }
+
+    /**
+     * @return the level's statistics, or null if no game was played at it
+     */
+    public LevelStats getLevel(int level) {
+        return levels.get(level);
+    }
+
+    // ========== SERIALIZATION ==========
+
+    public void writeTo(DataOutput out) throws IOException {
+        out.writeInt(levels.size());
+        for (Map.Entry<Integer, LevelStats> entry : levels.entrySet()) {
+            out.writeInt(entry.getKey());
+            LevelStats stats = entry.getValue();
+            out.writeLong(stats.games);
+            stats.scores.writeTo(out);
+            stats.lines.writeTo(out);
+            stats.pieces.writeTo(out);
+        }
+    }
+
+    public static SimulationStats readFrom(DataInput in) throws IOException {
+        SimulationStats result = new SimulationStats();
+        int count = in.readInt();
+        for (int i = 0; i < count; i++) {
+            int level = in.readInt();
+            long games = in.readLong();
+            result.levels.put(level, new LevelStats(games, Distribution.readFrom(in), Distribution.readFrom(in),
+                    Distribution.readFrom(in)));
+        }
+        return result;
+    }
+
+    /**
+     * @return a table of p50/p90/p99/p99.9 of every metric per level
+     */
+    public String report() {
+        StringBuilder report = new StringBuilder();
+        report.append(String.format("%-20s %10s %-8s %8s %8s %8s %8s%n",
+                "level", "games", "metric", "p50", "p90", "p99", "p99.9"));
+        for (Map.Entry<Integer, LevelStats> entry : levels.entrySet()) {
+            LevelStats stats = entry.getValue();
+            String level = DifficultyManager.getLevelDescription(entry.getKey());
+            appendRow(report, level, Long.toString(stats.games), "score", stats.scores);
+            appendRow(report, "", "", "lines", stats.lines);
+            appendRow(report, "", "", "pieces", stats.pieces);
+        }
+        return report.toString();
+    }
+
+    private static void appendRow(StringBuilder report, String level, String games, String metric,
+            Distribution distribution) {
+        report.append(String.format("%-20s %10s %-8s", level, games, metric));
+        for (double p : REPORT_PERCENTILES) {
+            report.append(String.format(" %8d", distribution.percentile(p)));
+        }
+        report.append(System.lineSeparator());
+    }
+
+    @Override
+    public String toString() {
+        return report();
+    }
+
+    /**
+     * Games and distributions of one difficulty level.
+     */
+    public static final class LevelStats {
+        private long games;
+        private final Distribution scores;
+        private final Distribution lines;
+        private final Distribution pieces;
+
+        LevelStats() {
+            this(0, new Distribution(), new Distribution(), new Distribution());
+        }
+
+        private LevelStats(long games, Distribution scores, Distribution lines, Distribution pieces) {
+            this.games = games;
+            this.scores = scores;
+            this.lines = lines;
+            this.pieces = pieces;
+        }
+
+        void merge(LevelStats other) {
+            games += other.games;
+            scores.merge(other.scores);
+            lines.merge(other.lines);
+            pieces.merge(other.pieces);
+        }
+
+        public long getGames() {
+            return games;
+        }
+
+        public Distribution getScores() {
+            return scores;
+        }
+
+        public Distribution getLines() {
+            return lines;
+        }
+
+        public Distribution getPieces() {
+            return pieces;
+        }
+    }
+}
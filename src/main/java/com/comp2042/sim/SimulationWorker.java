@@ -0,0 +1,190 @@
+package com.comp2042.sim;
+
+import com.comp2042.HeadlessGameController;
+import com.comp2042.ai.AiPlayer;
+import com.comp2042.ai.GreedyPlanner;
+import com.comp2042.ai.PlacementPlanner;
+import com.comp2042.dto.DownData;
+import com.comp2042.dto.ViewData;
+import com.comp2042.event.EventSource;
+import com.comp2042.event.EventType;
+import com.comp2042.event.InputEventListener;
+import com.comp2042.event.MoveEvent;
+import com.comp2042.game.DifficultyManager;
+import com.comp2042.logic.SimpleBoard;
+import com.comp2042.util.Constants;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.Socket;
+
+/**
+ * SimulationWorker - Worker process of a SimulationCoordinator run.
+ *
+ * Connects back to the coordinator over localhost, then repeatedly asks for
+ * a range of game seeds, plays those games and sends back their statistics.
+ * Game {@code s} always uses brick seed {@code s}, so the merged result does
+ * not depend on which worker played which range. Every seed is played once
+ * per requested difficulty level.
+ *
+ * Games run on a simulated clock: the AI presses one key every
+ * {@link Constants#AI_STEP_MS} and gravity pulls the brick down once per
+ * DifficultyManager delay of the level, as in the attract-mode demo.
+ *
+ * Usage: {@code SimulationWorker <port> <workerId> <maxPieces> <levels>}
+ * (levels comma separated, e.g. {@code 1,5,10,15})
+ *
+ * @author Umer Imran
+ * @version 1.0
+ */
+public final class SimulationWorker {
+
+    // worker -> coordinator
+    static final int REQUEST = 1;
+    static final int RESULT = 2;
+    // coordinator -> worker
+    static final int RANGE = 3;
+    static final int DONE = 4;
+
+    private SimulationWorker() {
+
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 4) {
+            System.err.println("Usage: SimulationWorker <port> <workerId> <maxPieces> <levels>");
+            System.exit(2);
+        }
+        int port = Integer.parseInt(args[0]);
+        int workerId = Integer.parseInt(args[1]);
+        int maxPieces = Integer.parseInt(args[2]);
+        int[] levels = parseLevels(args[3]);
+
+        PlacementPlanner planner = new GreedyPlanner();
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), port)) {
+            socket.setTcpNoDelay(true);
+            DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+            out.writeInt(workerId);
+            out.writeByte(REQUEST);
+            out.flush();
+
+            while (in.readByte() == RANGE) {
+                long from = in.readLong();
+                long to = in.readLong();
+                SimulationStats stats = new SimulationStats();
+                GameRecorder recorder = new GameRecorder(stats);
+                for (long seed = from; seed < to; seed++) {
+                    for (int level : levels) {
+                        playGame(seed, level, maxPieces, planner, recorder);
+                    }
+                }
+                // a result doubles as the request for the next range
+                out.writeByte(RESULT);
+                stats.writeTo(out);
+                out.flush();
+            }
+        }
+    }
+
+    /**
+     * Plays one seeded game with an AI planner and records its outcome.
+     *
+     * @param seed      brick sequence seed
+     * @param level     difficulty level (sets the gravity interval)
+     * @param maxPieces pieces after which the game is stopped
+     * @param planner   policy that places the bricks
+     * @param recorder  receives the game's score and lock events
+     */
+    public static void playGame(long seed, int level, int maxPieces, PlacementPlanner planner,
+            GameRecorder recorder) {
+        SimpleBoard board = new SimpleBoard(Constants.BOARD_HEIGHT, Constants.BOARD_WIDTH);
+        HeadlessGameController game = new HeadlessGameController(board);
+        board.newGame(seed);
+        recorder.attach(board.getScore());
+        RecordingListener listener = new RecordingListener(game, recorder);
+        AiPlayer player = new AiPlayer(board, listener, planner);
+
+        int delay = DifficultyManager.getDelayForLevel(level);
+        long clock = 0;
+        long nextFall = delay;
+        while (!game.isGameOver() && game.getPiecesLocked() < maxPieces) {
+            player.step();
+            clock += Constants.AI_STEP_MS;
+            while (clock >= nextFall && !game.isGameOver()) {
+                listener.onDownEvent(new MoveEvent(EventType.DOWN, EventSource.THREAD));
+                nextFall += delay;
+            }
+        }
+        recorder.finishGame(level);
+    }
+
+    static int[] parseLevels(String levels) {
+        String[] parts = levels.split(",");
+        int[] parsed = new int[parts.length];
+        for (int i = 0; i < parts.length; i++) {
+            parsed[i] = Integer.parseInt(parts[i].trim());
+        }
+        return parsed;
+    }
+
+    /**
+     * Passes input to the game and hands the ClearRow of every lock (from
+     * gravity or a hard drop) to the recorder.
+     */
+    private static final class RecordingListener implements InputEventListener {
+        private final InputEventListener game;
+        private final GameRecorder recorder;
+
+        RecordingListener(InputEventListener game, GameRecorder recorder) {
+            this.game = game;
+            this.recorder = recorder;
+        }
+
+        private DownData record(DownData downData) {
+            if (downData != null && downData.getClearRow() != null) {
+                recorder.onClearRow(downData.getClearRow());
+            }
+            return downData;
+        }
+
+        @Override
+        public DownData onDownEvent(MoveEvent event) {
+            return record(game.onDownEvent(event));
+        }
+
+        @Override
+        public DownData onHardDropEvent(MoveEvent event) {
+            return record(game.onHardDropEvent(event));
+        }
+
+        @Override
+        public ViewData onLeftEvent(MoveEvent event) {
+            return game.onLeftEvent(event);
+        }
+
+        @Override
+        public ViewData onRightEvent(MoveEvent event) {
+            return game.onRightEvent(event);
+        }
+
+        @Override
+        public ViewData onRotateEvent(MoveEvent event) {
+            return game.onRotateEvent(event);
+        }
+
+        @Override
+        public ViewData onHoldEvent(MoveEvent event) {
+            return game.onHoldEvent(event);
+        }
+
+        @Override
+        public void createNewGame() {
+            game.createNewGame();
+        }
+    }
+}
@@ -0,0 +1,183 @@
+package com.comp2042.sim;
+
+import com.comp2042.HeadlessGameController;
+import com.comp2042.ai.AiPlayer;
+import com.comp2042.ai.PieceShape;
+import com.comp2042.ai.Placement;
+import com.comp2042.ai.PlacementPlanner;
+import com.comp2042.dto.DownData;
+import com.comp2042.logic.ClearRow;
+import com.comp2042.logic.SimpleBoard;
+import com.comp2042.logic.bricks.Brick;
+import com.comp2042.util.Constants;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * TrainingDataExporter - Plays headless games with a policy and streams one
+ * row per placed brick into columnar NumPy files.
+ *
+ * Columns (one .npy file each, all with the same row count):
+ * - boards.npy, {@code <u2 (rows, 25)}: settled rows as bitmasks before the
+ *   brick is played (bit c = column c)
+ * - pieces.npy, {@code |u1}: colour code of the brick in play
+ * - queue.npy, {@code |u1 (rows, 3)}: colour codes of the next three bricks
+ * - held.npy, {@code |u1}: colour code of the held brick (0 = empty)
+ * - placements.npy, {@code |i1 (rows, 4)}: chosen hold flag, rotation, x, y
+ *   (-1 when the policy found no placement)
+ * - rewards.npy, {@code <i4}: score gained by the placement
+ * - lines.npy, {@code |u1}: rows cleared by the placement (from ClearRow)
+ * - dones.npy, {@code |u1}: 0 = game continues, 1 = game over,
+ *   2 = game cut off at the piece limit
+ *
+ * Rows go straight to NpyWriter buffers, so memory use does not grow with
+ * the number of rows exported.
+ *
+ * @author Umer Imran
+ * @version 1.0
+ */
+public final class TrainingDataExporter implements AutoCloseable {
+
+    public static final int PREVIEW = 3;
+    public static final int DONE_CONTINUE = 0;
+    public static final int DONE_GAME_OVER = 1;
+    public static final int DONE_TRUNCATED = 2;
+
+    private final NpyWriter boards;
+    private final NpyWriter pieces;
+    private final NpyWriter queue;
+    private final NpyWriter held;
+    private final NpyWriter placements;
+    private final NpyWriter rewards;
+    private final NpyWriter lines;
+    private final NpyWriter dones;
+
+    private Placement lastPlan;
+
+    /**
+     * Creates the column files in a directory (created if missing; existing
+     * column files are replaced).
+     *
+     * @param directory output directory
+     * @throws IOException if the files cannot be created
+     */
+    public TrainingDataExporter(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        boards = new NpyWriter(directory.resolve("boards.npy"), "<u2", Constants.BOARD_HEIGHT);
+        pieces = new NpyWriter(directory.resolve("pieces.npy"), "|u1");
+        queue = new NpyWriter(directory.resolve("queue.npy"), "|u1", PREVIEW);
+        held = new NpyWriter(directory.resolve("held.npy"), "|u1");
+        placements = new NpyWriter(directory.resolve("placements.npy"), "|i1", 4);
+        rewards = new NpyWriter(directory.resolve("rewards.npy"), "<i4");
+        lines = new NpyWriter(directory.resolve("lines.npy"), "|u1");
+        dones = new NpyWriter(directory.resolve("dones.npy"), "|u1");
+    }
+
+    /**
+     * Plays {@code games} games (game g uses brick seed {@code seed + g}) and
+     * exports every placement.
+     *
+     * @param policy    planner choosing each placement (greedy, beam, random...)
+     * @param seed      base seed of the brick sequences
+     * @param games     number of games to play
+     * @param maxPieces pieces after which a game is cut off
+     * @return number of rows exported by this call
+     * @throws IOException if writing fails
+     */
+    public long exportGames(PlacementPlanner policy, long seed, int games, int maxPieces) throws IOException {
+        long before = rows();
+        // remember each decision so it can be written next to its outcome
+        PlacementPlanner recorder = board -> lastPlan = policy.plan(board);
+        for (int g = 0; g < games; g++) {
+            SimpleBoard board = new SimpleBoard(Constants.BOARD_HEIGHT, Constants.BOARD_WIDTH);
+            HeadlessGameController game = new HeadlessGameController(board);
+            board.newGame(seed + g);
+            AiPlayer player = new AiPlayer(board, game, recorder);
+
+            for (int piece = 1; !game.isGameOver(); piece++) {
+                writeState(board);
+                int scoreBefore = board.getScore().scoreProperty().get();
+                lastPlan = null;
+                DownData result = player.playPiece();
+                int reward = board.getScore().scoreProperty().get() - scoreBefore;
+                ClearRow clearRow = result != null ? result.getClearRow() : null;
+                int done = game.isGameOver() ? DONE_GAME_OVER
+                        : piece >= maxPieces ? DONE_TRUNCATED : DONE_CONTINUE;
+                writeOutcome(lastPlan, reward, clearRow, done);
+                if (done != DONE_CONTINUE) {
+                    break;
+                }
+            }
+        }
+        return rows() - before;
+    }
+
+    private void writeState(SimpleBoard board) throws IOException {
+        int[][] matrix = board.getBoardMatrix();
+        for (int[] row : matrix) {
+            int bits = 0;
+            for (int c = 0; c < row.length; c++) {
+                if (row[c] != 0) {
+                    bits |= 1 << c;
+                }
+            }
+            boards.putShort((short) bits);
+        }
+        pieces.put((byte) colorOf(board.getCurrentBrick()));
+        for (Brick next : board.getPreviewBricks(PREVIEW)) {
+            queue.put((byte) colorOf(next));
+        }
+        held.put((byte) colorOf(board.getHeldBrick()));
+    }
+
+    private void writeOutcome(Placement placement, int reward, ClearRow clearRow, int done) throws IOException {
+        if (placement != null) {
+            placements.put((byte) (placement.isHold() ? 1 : 0));
+            placements.put((byte) placement.getRotation());
+            placements.put((byte) placement.getX());
+            placements.put((byte) placement.getY());
+        } else {
+            for (int i = 0; i < 4; i++) {
+                placements.put((byte) -1);
+            }
+        }
+        rewards.putInt(reward);
+        lines.put((byte) (clearRow != null ? clearRow.getLinesRemoved() : 0));
+        dones.put((byte) done);
+    }
+
+    private static int colorOf(Brick brick) {
+        return brick != null ? PieceShape.rotationsOf(brick)[0].getColorCode() : 0;
+    }
+
+    /**
+     * @return rows exported so far
+     */
+    public long rows() {
+        return dones.rows();
+    }
+
+    /**
+     * Flushes every column and writes the final row counts into the headers.
+     */
+    @Override
+    public void close() throws IOException {
+        IOException failure = null;
+        for (NpyWriter column : new NpyWriter[] { boards, pieces, queue, held, placements, rewards, lines, dones }) {
+            try {
+                column.close();
+            } catch (IOException e) {
+                if (failure == null) {
+                    failure = e;
+                } else {
+                    failure.addSuppressed(e);
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+}
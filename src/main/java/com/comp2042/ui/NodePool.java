@@ -0,0 +1,131 @@
+package com.comp2042.ui;
+
+import javafx.scene.Group;
+import javafx.scene.Node;
+import javafx.scene.Parent;
+import javafx.scene.layout.Pane;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * NodePool - Reuses short-lived overlay nodes (score popups, notifications)
+ * instead of creating a new node and animation for each one.
+ *
+ * Responsibilities:
+ * - Hand out an idle node, or create one while fewer than the limit exist
+ * - Take nodes back when their animation finishes, detaching them from the
+ *   scene and resetting them for the next use
+ * - Guard against leaks: once the limit is reached, the oldest node still
+ *   in use is reclaimed, so a node whose release was missed (e.g. removed
+ *   from the scene by other code) cannot pile up
+ *
+ * At most {@code limit} nodes are ever created, so a session of any length
+ * adds at most {@code limit} nodes per pool to the scene graph.
+ *
+ * @author Umer Imran
+ * @version 1.0
+ */
+public final class NodePool<T extends Node> {
+
+    private final Supplier<T> factory;
+    private final Consumer<T> reset;
+    private final int limit;
+    private final ArrayDeque<T> idle = new ArrayDeque<>();
+    private final ArrayDeque<T> inUse = new ArrayDeque<>();
+    private final List<T> created = new ArrayList<>();
+    private long reclaimed;
+
+    /**
+     * @param factory creates a node
+     * @param reset   stops a node's animation and restores its initial
+     *                state; called whenever a node goes back to the pool
+     * @param limit   the most nodes this pool creates
+     */
+    public NodePool(Supplier<T> factory, Consumer<T> reset, int limit) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("limit must be at least 1");
+        }
+        this.factory = factory;
+        this.reset = reset;
+        this.limit = limit;
+    }
+
+    /**
+     * @return a node ready to be configured, shown and played; pass it to
+     *         {@link #release} when it is done
+     */
+    public T acquire() {
+        T node = idle.pollFirst();
+        if (node == null) {
+            if (created.size() < limit) {
+                node = factory.get();
+                created.add(node);
+            } else {
+                node = inUse.pollFirst();
+                recycle(node);
+                reclaimed++;
+            }
+        }
+        inUse.addLast(node);
+        return node;
+    }
+
+    /**
+     * Returns a node to the pool. Releasing a node twice, or after it was
+     * reclaimed, does nothing.
+     */
+    public void release(T node) {
+        if (inUse.remove(node)) {
+            recycle(node);
+            idle.addLast(node);
+        }
+    }
+
+    /**
+     * Returns every node in use to the pool (e.g. on game over or resume).
+     */
+    public void releaseAll() {
+        while (!inUse.isEmpty()) {
+            T node = inUse.pollFirst();
+            recycle(node);
+            idle.addLast(node);
+        }
+    }
+
+    private void recycle(T node) {
+        reset.accept(node);
+        Parent parent = node.getParent();
+        if (parent instanceof Pane) {
+            ((Pane) parent).getChildren().remove(node);
+        } else if (parent instanceof Group) {
+            ((Group) parent).getChildren().remove(node);
+        }
+    }
+
+    public int getInUseCount() {
+        return inUse.size();
+    }
+
+    public int getCreatedCount() {
+        return created.size();
+    }
+
+    /**
+     * Visits every node this pool has created, in use or idle.
+     */
+    public void forEachNode(Consumer<? super T> action) {
+        created.forEach(action);
+    }
+
+    /**
+     * @return how many nodes were taken back from users that never released
+     *         them
+     */
+    public long getReclaimedCount() {
+        return reclaimed;
+    }
+}
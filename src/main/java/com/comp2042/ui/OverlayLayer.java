@@ -0,0 +1,102 @@
+package com.comp2042.ui;
+
+import javafx.scene.Group;
+import javafx.scene.Node;
+import javafx.scene.layout.Pane;
+import javafx.scene.layout.Region;
+
+/**
+ * OverlayLayer - Shows the game's short-lived overlays: score popups on the
+ * root pane and notification panels in the notification group.
+ *
+ * Responsibilities:
+ * - Take each overlay from its NodePool, place it, attach it and play it
+ * - Give it back to the pool when its animation finishes, or all at once
+ *   (game over, resume)
+ *
+ * Playing is left to a {@link Player}, so everything the scene graph sees
+ * runs, and is tested, without the FX toolkit.
+ *
+ * @author Umer Imran
+ * @version 1.0
+ */
+public final class OverlayLayer<P extends Node, N extends Node> {
+
+    /**
+     * Shows text on an overlay and plays its animation.
+     */
+    @FunctionalInterface
+    public interface Player<T> {
+        /**
+         * @param onFinished run when the animation ends
+         */
+        void play(T node, String text, Runnable onFinished);
+    }
+
+    private final Pane root;
+    private final Group notificationGroup;
+    private final NodePool<P> popups;
+    private final Player<P> popupPlayer;
+    private final NodePool<N> notifications;
+    private final Player<N> notificationPlayer;
+
+    /**
+     * @param root              where score popups are shown
+     * @param notificationGroup where notification panels are shown
+     */
+    public OverlayLayer(Pane root, Group notificationGroup, NodePool<P> popups, Player<P> popupPlayer,
+            NodePool<N> notifications, Player<N> notificationPlayer) {
+        this.root = root;
+        this.notificationGroup = notificationGroup;
+        this.popups = popups;
+        this.popupPlayer = popupPlayer;
+        this.notifications = notifications;
+        this.notificationPlayer = notificationPlayer;
+    }
+
+    public void showScoreBonus(int bonus) {
+        P popup = popups.acquire();
+        root.getChildren().add(popup);
+        popupPlayer.play(popup, "+" + bonus, () -> popups.release(popup));
+    }
+
+    public void showLineClear(int score, Region board) {
+        showNotification("+" + score, board);
+    }
+
+    /**
+     * Shows a notification centred over a node (the game board).
+     */
+    public void showNotification(String text, Region over) {
+        N panel = notifications.acquire();
+        double x = over.getLayoutX() + (over.getWidth() - panel.minWidth(-1)) / 2.0;
+        double y = over.getLayoutY() + (over.getHeight() - panel.minHeight(-1)) / 2.0;
+        play(panel, text, x, y);
+    }
+
+    public void showNotification(String text, double x, double y) {
+        play(notifications.acquire(), text, x, y);
+    }
+
+    private void play(N panel, String text, double x, double y) {
+        panel.setLayoutX(x);
+        panel.setLayoutY(y);
+        notificationGroup.getChildren().add(panel);
+        notificationPlayer.play(panel, text, () -> notifications.release(panel));
+    }
+
+    /**
+     * Takes every notification still showing off the screen.
+     */
+    public void releaseNotifications() {
+        notifications.releaseAll();
+    }
+
+    public NodePool<P> getPopups() {
+        return popups;
+    }
+
+    public NodePool<N> getNotifications() {
+        return notifications;
+    }
+}
@@ -0,0 +1,301 @@
+package com.comp2042.ui;
+
+import com.comp2042.util.Constants;
+import javafx.animation.Animation;
+import javafx.animation.AnimationTimer;
+import javafx.beans.value.ChangeListener;
+import javafx.scene.Node;
+import javafx.scene.Parent;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * ProfilerOverlay - In-game overlay with frame and pulse statistics.
+ *
+ * Shows:
+ * - FPS and a histogram of frame times over the last few seconds
+ * - Scene-graph nodes under the game grid and running animations
+ * - Allocation rate and GC pauses
+ * - Time spent in the GUI's refresh and line-clear code ({@link Section})
+ *
+ * Frame times go into a preallocated ring buffer and section times into
+ * preallocated counters; the single canvas is redrawn at most 4 times a
+ * second. Section timing costs nothing while the overlay is hidden.
+ *
+ * @author Umer Imran
+ * @version 1.0
+ */
+public final class ProfilerOverlay {
+
+    /**
+     * GUI code paths whose time is shown.
+     */
+    public enum Section {
+        REFRESH_BRICK("refreshBrick"),
+        REFRESH_BACKGROUND("refreshGameBackground"),
+        LINE_CLEAR("animateLineClear");
+
+        private final String label;
+
+        Section(String label) {
+            this.label = label;
+        }
+    }
+
+    static final int HISTORY_SECONDS = 5;
+    // room for HISTORY_SECONDS at twice the target frame rate
+    static final int HISTORY_FRAMES = HISTORY_SECONDS * Constants.TARGET_FPS * 2;
+    // upper bounds of the histogram buckets in milliseconds; the last is open
+    static final double[] BUCKET_MS = { 8, 12, 17, 25, 34, 50, 100 };
+    private static final long REDRAW_NANOS = 250_000_000L;
+
+    private static final double WIDTH = 230;
+    private static final double HEIGHT = 200;
+    private static final Font FONT = Font.font("Monospaced", 11);
+    private static final Font SMALL_FONT = Font.font("Monospaced", 9);
+    private static final Color BACKGROUND = Color.rgb(0, 0, 0, 0.7);
+
+    private final Canvas canvas = new Canvas(WIDTH, HEIGHT);
+    private final Parent inspected;
+    private final AnimationTimer timer;
+
+    // frame history
+    private final long[] frames = new long[HISTORY_FRAMES];
+    private int frameCount;
+    private int nextFrame;
+    private final int[] buckets = new int[BUCKET_MS.length + 1];
+    private long lastFrame;
+    private long lastDraw;
+
+    // section timing, reset on every redraw
+    private final long[] sectionNanos = new long[Section.values().length];
+    private final int[] sectionCalls = new int[Section.values().length];
+
+    // running animations watched through watch()
+    private int runningAnimations;
+    private final ChangeListener<Animation.Status> animationStatus = (obs, oldStatus, newStatus) -> {
+        if (newStatus == Animation.Status.RUNNING) {
+            runningAnimations++;
+        } else if (oldStatus == Animation.Status.RUNNING) {
+            runningAnimations--;
+        }
+    };
+
+    // memory
+    private final List<GarbageCollectorMXBean> collectors = ManagementFactory.getGarbageCollectorMXBeans();
+    private final com.sun.management.ThreadMXBean threads;
+    private long lastAllocated = -1;
+    private long lastGcCount;
+    private long lastGcMillis;
+
+    /**
+     * @param inspected the subtree whose nodes are counted
+     */
+    public ProfilerOverlay(Parent inspected) {
+        this.inspected = inspected;
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        this.threads = bean instanceof com.sun.management.ThreadMXBean
+                && ((com.sun.management.ThreadMXBean) bean).isThreadAllocatedMemorySupported()
+                        ? (com.sun.management.ThreadMXBean) bean
+                        : null;
+        canvas.setMouseTransparent(true);
+        canvas.setVisible(false);
+        timer = new AnimationTimer() {
+            @Override
+            public void handle(long now) {
+                onFrame(now);
+            }
+        };
+    }
+
+    public Canvas getCanvas() {
+        return canvas;
+    }
+
+    public boolean isShowing() {
+        return canvas.isVisible();
+    }
+
+    public void toggle() {
+        setShowing(!isShowing());
+    }
+
+    public void setShowing(boolean showing) {
+        canvas.setVisible(showing);
+        if (showing) {
+            lastFrame = 0;
+            lastDraw = 0;
+            frameCount = 0;
+            timer.start();
+        } else {
+            timer.stop();
+        }
+    }
+
+    // ========== MEASURING ==========
+
+    /**
+     * Counts an animation while it runs. Each animation should be watched
+     * once.
+     */
+    public void watch(Animation animation) {
+        if (animation == null) {
+            return;
+        }
+        if (animation.getStatus() == Animation.Status.RUNNING) {
+            runningAnimations++;
+        }
+        animation.statusProperty().addListener(animationStatus);
+    }
+
+    /**
+     * @return a start time for {@link #end}, or 0 while hidden
+     */
+    public long start() {
+        return isShowing() ? System.nanoTime() : 0;
+    }
+
+    public void end(Section section, long started) {
+        if (started != 0) {
+            sectionNanos[section.ordinal()] += System.nanoTime() - started;
+            sectionCalls[section.ordinal()]++;
+        }
+    }
+
+    void onFrame(long now) {
+        if (lastFrame != 0) {
+            frames[nextFrame] = now - lastFrame;
+            nextFrame = (nextFrame + 1) % HISTORY_FRAMES;
+            frameCount = Math.min(frameCount + 1, HISTORY_FRAMES);
+        }
+        lastFrame = now;
+        if (now - lastDraw >= REDRAW_NANOS) {
+            redraw(lastDraw == 0 ? 0 : now - lastDraw);
+            lastDraw = now;
+        }
+    }
+
+    /**
+     * Fills {@link #buckets} from the frames of the last HISTORY_SECONDS.
+     *
+     * @return the frames per second over that time
+     */
+    double fillHistogram() {
+        Arrays.fill(buckets, 0);
+        long total = 0;
+        int counted = 0;
+        for (int i = 1; i <= frameCount && total < HISTORY_SECONDS * 1_000_000_000L; i++) {
+            long frame = frames[(nextFrame - i + HISTORY_FRAMES) % HISTORY_FRAMES];
+            total += frame;
+            counted++;
+            double ms = frame / 1e6;
+            int bucket = 0;
+            while (bucket < BUCKET_MS.length && ms > BUCKET_MS[bucket]) {
+                bucket++;
+            }
+            buckets[bucket]++;
+        }
+        return total == 0 ? 0 : counted * 1e9 / total;
+    }
+
+    int[] getBuckets() {
+        return buckets;
+    }
+
+    // ========== DRAWING ==========
+
+    private void redraw(long sinceLastDraw) {
+        double fps = fillHistogram();
+        double seconds = sinceLastDraw / 1e9;
+
+        GraphicsContext g = canvas.getGraphicsContext2D();
+        g.clearRect(0, 0, WIDTH, HEIGHT);
+        g.setFill(BACKGROUND);
+        g.fillRect(0, 0, WIDTH, HEIGHT);
+        g.setFont(FONT);
+        g.setFill(Color.LIME);
+
+        double y = 14;
+        g.fillText(String.format("FPS %5.1f   nodes %4d   anims %2d", fps, countNodes(inspected),
+                runningAnimations), 6, y);
+        y += 14;
+        g.fillText(memoryLine(seconds), 6, y);
+
+        // histogram bars
+        y += 8;
+        double barTop = y;
+        double barHeight = 50;
+        double barWidth = (WIDTH - 12) / buckets.length;
+        int max = 1;
+        for (int count : buckets) {
+            max = Math.max(max, count);
+        }
+        for (int i = 0; i < buckets.length; i++) {
+            double h = barHeight * buckets[i] / max;
+            g.setFill(i < 3 ? Color.LIME : i < 5 ? Color.YELLOW : Color.RED);
+            g.fillRect(6 + i * barWidth, barTop + barHeight - h, barWidth - 2, h);
+        }
+        y = barTop + barHeight + 12;
+        g.setFill(Color.GRAY);
+        g.setFont(SMALL_FONT);
+        for (int i = 0; i < buckets.length; i++) {
+            String label = i < BUCKET_MS.length ? "<" + (int) BUCKET_MS[i] : ">" + (int) BUCKET_MS[i - 1];
+            g.fillText(label, 6 + i * barWidth, y);
+        }
+
+        g.setFont(FONT);
+        g.setFill(Color.LIME);
+        y += 16;
+        for (Section section : Section.values()) {
+            int i = section.ordinal();
+            double avgMs = sectionCalls[i] == 0 ? 0 : sectionNanos[i] / 1e6 / sectionCalls[i];
+            double perSecond = seconds == 0 ? 0 : sectionNanos[i] / 1e6 / seconds;
+            g.fillText(String.format("%-22s %5.2f ms %4.1f ms/s", section.label, avgMs, perSecond), 6, y);
+            y += 14;
+            sectionNanos[i] = 0;
+            sectionCalls[i] = 0;
+        }
+    }
+
+    private String memoryLine(double seconds) {
+        long gcCount = 0;
+        long gcMillis = 0;
+        for (GarbageCollectorMXBean collector : collectors) {
+            gcCount += Math.max(0, collector.getCollectionCount());
+            gcMillis += Math.max(0, collector.getCollectionTime());
+        }
+        long gcs = gcCount - lastGcCount;
+        long gcTime = gcMillis - lastGcMillis;
+        lastGcCount = gcCount;
+        lastGcMillis = gcMillis;
+
+        String alloc = "alloc n/a";
+        if (threads != null) {
+            long allocated = threads.getTotalThreadAllocatedBytes();
+            if (lastAllocated >= 0 && allocated >= 0 && seconds > 0) {
+                alloc = String.format("alloc %6.1f MB/s", (allocated - lastAllocated) / seconds / (1 << 20));
+            }
+            lastAllocated = allocated;
+        }
+        return String.format("%s   GC %d (%d ms)", alloc, gcs, gcTime);
+    }
+
+    static int countNodes(Parent parent) {
+        List<Node> children = parent.getChildrenUnmodifiable();
+        int count = children.size();
+        for (int i = 0; i < children.size(); i++) {
+            if (children.get(i) instanceof Parent) {
+                count += countNodes((Parent) children.get(i));
+            }
+        }
+        return count;
+    }
+}
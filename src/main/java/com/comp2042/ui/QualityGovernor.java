@@ -0,0 +1,186 @@
+package com.comp2042.ui;
+
+import com.comp2042.util.Constants;
+import javafx.animation.AnimationTimer;
+import javafx.scene.Scene;
+
+import java.util.function.LongConsumer;
+
+/**
+ * QualityGovernor - Trades visual effects for frame rate when frames are
+ * missed, and brings them back when there is headroom.
+ *
+ * Responsibilities:
+ * - Measure the interval between frames and the time each pulse spends on
+ *   CSS and layout
+ * - Step the quality level down when too many frames in a window miss the
+ *   frame budget, and back up after a long run of frames with headroom
+ * - Tell the GUI which effects the current level allows
+ *
+ * Levels, from best to cheapest (each one also drops what the levels above
+ * it dropped):
+ * - FULL: every effect
+ * - NO_GLOW: no border glow DropShadow on line clears
+ * - SIMPLE_CLEAR: cleared rows vanish without the white flash
+ * - NO_EXTRAS: no screen shake and no score popups
+ * - MINIMAL: square cells and no collapse animation
+ *
+ * Only eye candy is governed. Gravity and input are never slowed down or
+ * skipped (gravity is timed by GravityClock, not by the frame rate).
+ *
+ * @author Umer Imran
+ * @version 1.0
+ */
+public final class QualityGovernor {
+
+    public enum Level {
+        FULL, NO_GLOW, SIMPLE_CLEAR, NO_EXTRAS, MINIMAL
+    }
+
+    // a frame this much over budget means at least one vsync was missed
+    static final double MISS_FACTOR = 1.5;
+    static final int DOWN_WINDOW = 60; // frames
+    static final int DOWN_MISSES = 6; // misses within DOWN_WINDOW that step down
+    static final int UP_WINDOW = 300; // clean frames needed to step up
+    // intervals this long are stalls (paused, window hidden), not frames
+    static final long STALL_NANOS = 250_000_000L;
+
+    private final long budgetNanos;
+    private Level level = Level.FULL;
+    private int windowFrames;
+    private int windowMisses;
+    private int cleanFrames;
+
+    private AnimationTimer timer;
+    private long lastFrame;
+    private long pulseStart;
+    private long pulseWork;
+    private LongConsumer frameObserver;
+
+    public QualityGovernor() {
+        this(1_000_000_000L / Constants.TARGET_FPS);
+    }
+
+    QualityGovernor(long budgetNanos) {
+        this.budgetNanos = budgetNanos;
+    }
+
+    // ========== MEASURING ==========
+
+    /**
+     * Starts measuring the frames of a scene, until the scene leaves its
+     * window.
+     */
+    public void attach(Scene scene) {
+        if (timer != null || scene == null) {
+            return;
+        }
+        scene.addPreLayoutPulseListener(() -> pulseStart = System.nanoTime());
+        scene.addPostLayoutPulseListener(() -> pulseWork = System.nanoTime() - pulseStart);
+        timer = new AnimationTimer() {
+            @Override
+            public void handle(long now) {
+                if (lastFrame != 0) {
+                    onFrame(now - lastFrame, pulseWork);
+                    if (frameObserver != null) {
+                        frameObserver.accept(now - lastFrame);
+                    }
+                }
+                lastFrame = now;
+            }
+        };
+        timer.start();
+        scene.windowProperty().addListener((obs, oldWindow, newWindow) -> {
+            if (newWindow == null) {
+                detach();
+            }
+        });
+    }
+
+    /**
+     * Also hands every measured frame interval (in nanoseconds) to an
+     * observer, e.g. the metrics registry.
+     */
+    public void setFrameObserver(LongConsumer frameObserver) {
+        this.frameObserver = frameObserver;
+    }
+
+    public void detach() {
+        if (timer != null) {
+            timer.stop();
+        }
+    }
+
+    /**
+     * Takes one frame into account.
+     *
+     * @param frameNanos time since the previous frame
+     * @param pulseNanos time the pulse spent on CSS and layout
+     */
+    void onFrame(long frameNanos, long pulseNanos) {
+        if (frameNanos > STALL_NANOS) {
+            return;
+        }
+        boolean missed = frameNanos > budgetNanos * MISS_FACTOR;
+        boolean headroom = !missed && pulseNanos < budgetNanos / 2;
+
+        windowFrames++;
+        if (missed) {
+            windowMisses++;
+        }
+        if (windowMisses >= DOWN_MISSES) {
+            step(1);
+        } else if (windowFrames >= DOWN_WINDOW) {
+            windowFrames = 0;
+            windowMisses = 0;
+        }
+
+        cleanFrames = headroom ? cleanFrames + 1 : 0;
+        if (cleanFrames >= UP_WINDOW) {
+            step(-1);
+        }
+    }
+
+    private void step(int direction) {
+        int next = level.ordinal() + direction;
+        if (next >= 0 && next < Level.values().length) {
+            level = Level.values()[next];
+        }
+        windowFrames = 0;
+        windowMisses = 0;
+        cleanFrames = 0;
+    }
+
+    // ========== EFFECTS ALLOWED ==========
+
+    public Level getLevel() {
+        return level;
+    }
+
+    public boolean isBorderGlowEnabled() {
+        return level.compareTo(Level.NO_GLOW) < 0;
+    }
+
+    public boolean isClearFlashEnabled() {
+        return level.compareTo(Level.SIMPLE_CLEAR) < 0;
+    }
+
+    public boolean isScreenShakeEnabled() {
+        return level.compareTo(Level.NO_EXTRAS) < 0;
+    }
+
+    public boolean isScorePopupEnabled() {
+        return level.compareTo(Level.NO_EXTRAS) < 0;
+    }
+
+    public boolean isCollapseAnimated() {
+        return level.compareTo(Level.MINIMAL) < 0;
+    }
+
+    /**
+     * @return the corner arc for board cells
+     */
+    public double getCellArc() {
+        return level.compareTo(Level.MINIMAL) < 0 ? Constants.BRICK_ARC_SIZE : 0;
+    }
+}
@@ -1,6 +1,10 @@
 package com.comp2042.ui;
 
+import com.comp2042.leaderboard.Leaderboard;
+import com.comp2042.leaderboard.ScoreEntry;
+import javafx.application.Platform;
 import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.StringProperty;
 import javafx.scene.control.Label;
 
 /**
@@ -12,18 +16,25 @@ import javafx.scene.control.Label;
  * - Bind score to UI label
  * - Track and update high score
  * - Format score for display
- * - Persist high score state
+ * - Persist high score state through a Leaderboard, per difficulty level
+ *   and obstacle mode
  * 
  * This separates score management from general UI control.
  * 
  * @author Umer Imran
- * @version 2.0
+ * @version 2.1
  */
 public class ScoreManager {
 
-    private final Label scoreLabel;
-    private final Label highScoreLabel;
+    private final StringProperty scoreText;
+    private final StringProperty highScoreText;
     private int highScore = 0;
+    private IntegerProperty scoreProperty;
+    private Leaderboard leaderboard;
+    private int level;
+    private boolean obstacleMode;
+    // picks up scores submitted by other game instances sharing the board
+    private final Runnable leaderboardListener = () -> Platform.runLater(this::refreshFromLeaderboard);
 
     /**
      * Initializes the ScoreManager with UI labels.
@@ -32,8 +43,18 @@ public class ScoreManager {
      * @param highScoreLabel Label for high score display
      */
     public ScoreManager(Label scoreLabel, Label highScoreLabel) {
-        this.scoreLabel = scoreLabel;
-        this.highScoreLabel = highScoreLabel;
+        this(scoreLabel.textProperty(), highScoreLabel.textProperty());
+    }
+
+    /**
+     * Initializes the ScoreManager with the text properties it displays in.
+     * 
+     * @param scoreText     text of the current score display
+     * @param highScoreText text of the high score display
+     */
+    ScoreManager(StringProperty scoreText, StringProperty highScoreText) {
+        this.scoreText = scoreText;
+        this.highScoreText = highScoreText;
         updateHighScoreDisplay();
     }
 
@@ -43,10 +64,63 @@ public class ScoreManager {
      * @param scoreProperty The observable score property from the game
      */
     public void bindScore(IntegerProperty scoreProperty) {
-        if (scoreLabel.textProperty().isBound()) {
-            scoreLabel.textProperty().unbind();
+        if (scoreText.isBound()) {
+            scoreText.unbind();
+        }
+        scoreText.bind(scoreProperty.asString());
+        this.scoreProperty = scoreProperty;
+    }
+
+    /**
+     * Connects the high score to the leaderboard of one level and mode, and
+     * shows that leaderboard's best score.
+     * 
+     * @param leaderboard  where finished games are submitted
+     * @param level        difficulty level being played
+     * @param obstacleMode whether obstacle mode is on
+     */
+    public void useLeaderboard(Leaderboard leaderboard, int level, boolean obstacleMode) {
+        if (this.leaderboard != null) {
+            this.leaderboard.removeListener(leaderboardListener);
+        }
+        this.leaderboard = leaderboard;
+        this.level = level;
+        this.obstacleMode = obstacleMode;
+        setHighScore(leaderboard.getBest(level, obstacleMode));
+        leaderboard.addListener(leaderboardListener);
+    }
+
+    /**
+     * Stops following the leaderboard. Call when the game's window goes
+     * away: the leaderboard is shared by the whole session and would
+     * otherwise keep this manager, and the scene behind its labels, alive.
+     */
+    public void detachLeaderboard() {
+        if (leaderboard != null) {
+            leaderboard.removeListener(leaderboardListener);
+            leaderboard = null;
+        }
+    }
+
+    private void refreshFromLeaderboard() {
+        if (leaderboard != null) {
+            updateHighScore(leaderboard.getBest(level, obstacleMode));
+        }
+    }
+
+    /**
+     * Submits the final score of the game that just ended to the leaderboard.
+     * Never blocks: the leaderboard writes in the background.
+     */
+    public void recordGameOver() {
+        if (scoreProperty == null) {
+            return;
+        }
+        int score = scoreProperty.get();
+        updateHighScore(score);
+        if (leaderboard != null) {
+            leaderboard.submit(new ScoreEntry(score, level, obstacleMode, System.currentTimeMillis()));
         }
-        scoreLabel.textProperty().bind(scoreProperty.asString());
     }
 
     /**
@@ -85,6 +159,6 @@ public class ScoreManager {
      */
     private void updateHighScoreDisplay() {
 
-        highScoreLabel.setText(String.valueOf(highScore));
+        highScoreText.set(String.valueOf(highScore));
     }
 }
@@ -0,0 +1,253 @@
+package com.comp2042.ui;
+
+import com.comp2042.dto.ViewData;
+import com.comp2042.util.Constants;
+import javafx.animation.AnimationTimer;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
+
+import java.util.Arrays;
+
+/**
+ * SpectatorWall - Shows many live boards at once on a single canvas.
+ *
+ * Responsibilities:
+ * - Lay the boards out in a grid that fills the canvas
+ * - Keep each board's visible cells (stack plus falling brick), score and
+ *   game-over state, and note which cells changed
+ * - Redraw at most {@link Constants#TARGET_FPS} times a second, repainting
+ *   only the cells and labels that changed since they were last drawn
+ *
+ * One canvas replaces the few hundred nodes a GuiController would need per
+ * board. Cells are copied from the {@link TileAtlas}, and state lives in
+ * preallocated arrays, so updating and drawing allocate nothing except a
+ * label string when a score changes. Call everything on the FX thread.
+ *
+ * @author Umer Imran
+ * @version 1.0
+ */
+public final class SpectatorWall {
+
+    static final int ROWS = Constants.BOARD_HEIGHT - 2; // the top 2 rows are hidden
+    static final int COLS = Constants.BOARD_WIDTH;
+    private static final long REDRAW_NANOS = 1_000_000_000L / Constants.TARGET_FPS;
+    private static final double GAP = 6;
+    private static final double LABEL_HEIGHT = 14;
+
+    private static final Color BACKGROUND = Color.rgb(10, 10, 14);
+    private static final Color BOARD_BACKGROUND = Color.web("#1a1a1a");
+    private static final Color LABEL = Color.LIGHTGRAY;
+    private static final Color GAME_OVER = Color.rgb(200, 40, 40);
+    private static final Font LABEL_FONT = Font.font("Monospaced", 11);
+
+    private final Canvas canvas;
+    private final Slot[] slots;
+    private final AnimationTimer timer;
+    private long lastDraw;
+    private boolean fullRedraw = true;
+
+    // layout, recomputed when the canvas is resized
+    private int gridCols;
+    private double slotWidth;
+    private double slotHeight;
+    private double cell;
+
+    /**
+     * The state of one board: what it shows now and what was last drawn.
+     */
+    static final class Slot {
+        final int[] cells = new int[ROWS * COLS];
+        final int[] drawn = new int[ROWS * COLS];
+        boolean dirty = true;
+        long score = -1;
+        boolean gameOver;
+        String label = "";
+        boolean labelDirty = true;
+
+        /**
+         * Copies a board's visible cells with the falling brick on top.
+         *
+         * @param matrix the board's background matrix
+         * @param brick  the falling brick, or null
+         */
+        void update(int[][] matrix, ViewData brick, long newScore, boolean newGameOver) {
+            int[][] shape = brick != null ? brick.getBrickData() : null;
+            int bx = brick != null ? brick.getxPosition() : 0;
+            int by = brick != null ? brick.getyPosition() : 0;
+            for (int r = 0; r < ROWS; r++) {
+                int boardRow = r + 2;
+                for (int c = 0; c < COLS; c++) {
+                    int value = boardRow < matrix.length && c < matrix[boardRow].length ? matrix[boardRow][c] : 0;
+                    int sr = boardRow - by;
+                    int sc = c - bx;
+                    if (shape != null && sr >= 0 && sr < shape.length && sc >= 0 && sc < shape[sr].length
+                            && shape[sr][sc] != 0) {
+                        value = shape[sr][sc];
+                    }
+                    int i = r * COLS + c;
+                    if (cells[i] != value) {
+                        cells[i] = value;
+                        dirty = true;
+                    }
+                }
+            }
+            if (newScore != score || newGameOver != gameOver) {
+                score = newScore;
+                gameOver = newGameOver;
+                label = newGameOver ? score + "  GAME OVER" : Long.toString(score);
+                labelDirty = true;
+            }
+        }
+
+        /**
+         * Forces every cell and the label to be drawn again.
+         */
+        void invalidate() {
+            Arrays.fill(drawn, -1);
+            dirty = true;
+            labelDirty = true;
+        }
+    }
+
+    /**
+     * @param boards how many boards the wall shows
+     */
+    public SpectatorWall(int boards, double width, double height) {
+        if (boards < 1) {
+            throw new IllegalArgumentException("boards must be at least 1");
+        }
+        canvas = new Canvas(width, height);
+        slots = new Slot[boards];
+        for (int i = 0; i < boards; i++) {
+            slots[i] = new Slot();
+        }
+        canvas.widthProperty().addListener((obs, oldValue, newValue) -> fullRedraw = true);
+        canvas.heightProperty().addListener((obs, oldValue, newValue) -> fullRedraw = true);
+        timer = new AnimationTimer() {
+            @Override
+            public void handle(long now) {
+                if (now - lastDraw >= REDRAW_NANOS) {
+                    lastDraw = now;
+                    draw();
+                }
+            }
+        };
+    }
+
+    public Canvas getCanvas() {
+        return canvas;
+    }
+
+    public int getBoardCount() {
+        return slots.length;
+    }
+
+    public void start() {
+        timer.start();
+    }
+
+    public void stop() {
+        timer.stop();
+    }
+
+    /**
+     * Takes a board's latest state; it is drawn on the next redraw if it
+     * changed.
+     *
+     * @param index  which board, from 0
+     * @param matrix the board's background matrix
+     * @param brick  the falling brick, or null
+     */
+    public void update(int index, int[][] matrix, ViewData brick, long score, boolean gameOver) {
+        slots[index].update(matrix, brick, score, gameOver);
+    }
+
+    // ========== LAYOUT ==========
+
+    /**
+     * @return the number of grid columns that gives the biggest cells for
+     *         this many boards on this area
+     */
+    static int gridColumns(int boards, double width, double height) {
+        int best = 1;
+        double bestCell = 0;
+        for (int cols = 1; cols <= boards; cols++) {
+            int rows = (boards + cols - 1) / cols;
+            double cellSize = cellSize(width / cols, height / rows);
+            if (cellSize > bestCell) {
+                bestCell = cellSize;
+                best = cols;
+            }
+        }
+        return best;
+    }
+
+    private static double cellSize(double slotWidth, double slotHeight) {
+        return Math.floor(Math.min((slotWidth - GAP) / COLS, (slotHeight - GAP - LABEL_HEIGHT) / ROWS));
+    }
+
+    private void layout() {
+        gridCols = gridColumns(slots.length, canvas.getWidth(), canvas.getHeight());
+        int gridRows = (slots.length + gridCols - 1) / gridCols;
+        slotWidth = canvas.getWidth() / gridCols;
+        slotHeight = canvas.getHeight() / gridRows;
+        cell = Math.max(1, cellSize(slotWidth, slotHeight));
+    }
+
+    // ========== DRAWING ==========
+
+    private void draw() {
+        GraphicsContext g = canvas.getGraphicsContext2D();
+        if (fullRedraw) {
+            fullRedraw = false;
+            layout();
+            g.setFill(BACKGROUND);
+            g.fillRect(0, 0, canvas.getWidth(), canvas.getHeight());
+            for (Slot slot : slots) {
+                slot.invalidate();
+            }
+        }
+        double scale = canvas.getScene() != null && canvas.getScene().getWindow() != null
+                ? canvas.getScene().getWindow().getOutputScaleX()
+                : 1.0;
+        TileAtlas atlas = TileAtlas.get(scale, Constants.BRICK_ARC_SIZE);
+        g.setFont(LABEL_FONT);
+        for (int i = 0; i < slots.length; i++) {
+            Slot slot = slots[i];
+            if (!slot.dirty && !slot.labelDirty) {
+                continue;
+            }
+            double boardWidth = cell * COLS;
+            double x0 = (i % gridCols) * slotWidth + (slotWidth - boardWidth) / 2;
+            double y0 = (i / gridCols) * slotHeight + GAP / 2;
+            if (slot.labelDirty) {
+                slot.labelDirty = false;
+                g.setFill(BACKGROUND);
+                g.fillRect(x0, y0, boardWidth, LABEL_HEIGHT);
+                g.setFill(slot.gameOver ? GAME_OVER : LABEL);
+                g.fillText(slot.label, x0, y0 + LABEL_HEIGHT - 3, boardWidth);
+            }
+            if (slot.dirty) {
+                slot.dirty = false;
+                drawCells(g, atlas, slot, x0, y0 + LABEL_HEIGHT);
+            }
+        }
+    }
+
+    private void drawCells(GraphicsContext g, TileAtlas atlas, Slot slot, double x0, double y0) {
+        for (int i = 0; i < slot.cells.length; i++) {
+            int value = slot.cells[i];
+            if (slot.drawn[i] == value) {
+                continue;
+            }
+            slot.drawn[i] = value;
+            double x = x0 + (i % COLS) * cell;
+            double y = y0 + (i / COLS) * cell;
+            g.setFill(BOARD_BACKGROUND);
+            g.fillRect(x, y, cell, cell);
+            atlas.draw(g, value, x, y, cell);
+        }
+    }
+}
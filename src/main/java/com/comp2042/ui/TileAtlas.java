@@ -0,0 +1,140 @@
+package com.comp2042.ui;
+
+import com.comp2042.util.Constants;
+import javafx.geometry.Rectangle2D;
+import javafx.scene.SnapshotParameters;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+import javafx.scene.paint.Color;
+import javafx.scene.transform.Transform;
+
+/**
+ * TileAtlas - One image holding a pre-rendered tile for every brick colour
+ * and the ghost piece, so renderers copy tiles instead of filling shapes.
+ *
+ * Holds:
+ * - A tile per colour code 1 to {@code PieceColors.COUNT - 1} (pieces and
+ *   obstacles), at the index of its code
+ * - The ghost tile at {@link #GHOST}
+ *
+ * Tiles are BRICK_SIZE cells rendered at the window's output scale, with
+ * a transparent pixel border so smoothing never picks up a neighbouring
+ * tile. An atlas is only rebuilt when the scale or the corner arc changes
+ * (the game passes the quality governor's cell arc, which drops to square
+ * corners at its lowest level). Must be created on the FX thread.
+ *
+ * @author Umer Imran
+ * @version 1.0
+ */
+public final class TileAtlas {
+
+    public static final int GHOST = Constants.PieceColors.COUNT;
+    static final int SLOTS = GHOST + 1;
+    static final int PADDING = 1; // logical pixels around each tile
+
+    private static TileAtlas cached;
+
+    private final double scale;
+    private final double arc;
+    private final Image image;
+
+    private TileAtlas(double scale, double arc) {
+        this.scale = scale;
+        this.arc = arc;
+        this.image = render(scale, arc);
+    }
+
+    /**
+     * @param scale the output scale of the window the tiles are shown in
+     * @param arc   the corner arc of brick cells
+     * @return an atlas for that scale and arc, reused while they stay the same
+     */
+    public static TileAtlas get(double scale, double arc) {
+        TileAtlas atlas = cached;
+        if (atlas == null || atlas.scale != scale || atlas.arc != arc) {
+            atlas = new TileAtlas(scale, arc);
+            cached = atlas;
+        }
+        return atlas;
+    }
+
+    private static Image render(double scale, double arc) {
+        double size = Constants.BRICK_SIZE;
+        Canvas canvas = new Canvas(SLOTS * pitch(), pitch());
+        GraphicsContext g = canvas.getGraphicsContext2D();
+        for (int code = 1; code < Constants.PieceColors.COUNT; code++) {
+            g.setFill(Constants.PieceColors.getColor(code));
+            g.fillRoundRect(tileX(code), PADDING, size, size, arc, arc);
+        }
+        // the ghost is drawn like its Rectangle was: square, stroke centred on
+        // the edge
+        double stroke = Constants.GHOST_STROKE_WIDTH;
+        g.setFill(Constants.GHOST_FILL);
+        g.fillRect(tileX(GHOST), PADDING, size, size);
+        g.setStroke(Constants.GHOST_STROKE);
+        g.setLineWidth(stroke);
+        g.strokeRect(tileX(GHOST) + stroke / 2, PADDING + stroke / 2, size - stroke, size - stroke);
+
+        SnapshotParameters params = new SnapshotParameters();
+        params.setFill(Color.TRANSPARENT);
+        params.setTransform(Transform.scale(scale, scale));
+        return canvas.snapshot(params, null);
+    }
+
+    private static double pitch() {
+        return Constants.BRICK_SIZE + 2 * PADDING;
+    }
+
+    private static double tileX(int slot) {
+        return slot * pitch() + PADDING;
+    }
+
+    /**
+     * @return where a tile lies in the atlas image, in image pixels
+     */
+    static Rectangle2D viewport(int slot, double scale) {
+        return new Rectangle2D(tileX(slot) * scale, PADDING * scale,
+                Constants.BRICK_SIZE * scale, Constants.BRICK_SIZE * scale);
+    }
+
+    public Image getImage() {
+        return image;
+    }
+
+    public Rectangle2D getViewport(int slot) {
+        return viewport(slot, scale);
+    }
+
+    /**
+     * Copies a tile to a canvas as a BRICK_SIZE cell. Code 0 (empty) draws
+     * nothing.
+     */
+    public void draw(GraphicsContext g, int slot, double x, double y) {
+        draw(g, slot, x, y, Constants.BRICK_SIZE);
+    }
+
+    /**
+     * Copies a tile to a canvas as a cell of the given size.
+     */
+    public void draw(GraphicsContext g, int slot, double x, double y, double cellSize) {
+        if (slot <= 0 || slot >= SLOTS) {
+            return;
+        }
+        double size = Constants.BRICK_SIZE * scale;
+        g.drawImage(image, tileX(slot) * scale, PADDING * scale, size, size, x, y, cellSize, cellSize);
+    }
+
+    /**
+     * @return a BRICK_SIZE view of one tile
+     */
+    public ImageView createView(int slot) {
+        ImageView view = new ImageView(image);
+        view.setViewport(getViewport(slot));
+        view.setFitWidth(Constants.BRICK_SIZE);
+        view.setFitHeight(Constants.BRICK_SIZE);
+        view.setMouseTransparent(true);
+        return view;
+    }
+}
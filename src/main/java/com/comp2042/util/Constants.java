@@ -35,6 +35,30 @@ public final class Constants {
     public static final int INITIAL_FALL_SPEED_MS = 400;
     public static final int SCORE_POPUP_DURATION_MS = 1000;
     public static final int NOTIFICATION_FADE_MS = 1000;
+    public static final int AI_STEP_MS = 60; // delay between AI inputs in attract mode
+    public static final int PC_HINT_TIMEOUT_MS = 3000; // perfect-clear hint search limit
+    public static final int TARGET_FPS = 60; // frame budget for the visual-quality governor
+
+    // === LEADERBOARD ===
+    public static final int LEADERBOARD_SIZE = 10; // entries kept per level and mode
+    public static final String LEADERBOARD_FILE = System.getProperty("tetris.leaderboard",
+            System.getProperty("user.home") + "/.tetrisjfx/leaderboard.log");
+    // set on cabinets that run several games against one leaderboard
+    public static final String SHARED_LEADERBOARD_FILE = System.getProperty("tetris.leaderboard.shared");
+
+    // === SAVE / RESUME ===
+    public static final String SAVE_FILE = System.getProperty("tetris.save",
+            System.getProperty("user.home") + "/.tetrisjfx/game.sav");
+
+    // === STARTUP ===
+    // show a splash frame first and load the rest in the background
+    public static final boolean FAST_START = Boolean.getBoolean("tetris.fastStart");
+    // print startup times and exit once the menu is up (see StartupBenchmark)
+    public static final boolean STARTUP_BENCHMARK = Boolean.getBoolean("tetris.startup.benchmark");
+
+    // === METRICS ===
+    // localhost port for the Prometheus endpoint (/metrics); 0 leaves it off
+    public static final int METRICS_PORT = Integer.getInteger("tetris.metrics.port", 0);
 
     // === SCORING ===
     public static final int SOFT_DROP_POINTS = 1;
@@ -65,29 +89,13 @@ public final class Constants {
         public static final Color Z_PIECE = Color.BURLYWOOD; // Red Z-piece
         public static final Color OBSTACLE = Color.web("#8B4513"); // Brown/dark tan for obstacles
 
+        // indexed by colour code; 8 is ObstacleManager's obstacle code
+        private static final Color[] PALETTE = { TRANSPARENT, I_PIECE, J_PIECE, L_PIECE, O_PIECE, S_PIECE,
+                T_PIECE, Z_PIECE, OBSTACLE };
+        public static final int COUNT = PALETTE.length; // colour codes 0 to COUNT - 1
+
         public static Color getColor(int colorCode) {
-            switch (colorCode) {
-                case 0:
-                    return TRANSPARENT;
-                case 1:
-                    return I_PIECE;
-                case 2:
-                    return J_PIECE;
-                case 3:
-                    return L_PIECE;
-                case 4:
-                    return O_PIECE;
-                case 5:
-                    return S_PIECE;
-                case 6:
-                    return T_PIECE;
-                case 7:
-                    return Z_PIECE;
-                case 8:
-                    return OBSTACLE;
-                default:
-                    return TRANSPARENT;
-            }
+            return colorCode > 0 && colorCode < COUNT ? PALETTE[colorCode] : TRANSPARENT;
         }
     }
 
@@ -106,4 +114,7 @@ public final class Constants {
 
     // === ANIMATION ===
     public static final int SCORE_POPUP_MOVE_Y = -20; // pixels to move up
+    // most popups/notifications alive at once; older ones are recycled early
+    public static final int SCORE_POPUP_POOL_SIZE = 8;
+    public static final int NOTIFICATION_POOL_SIZE = 4;
 }
\ No newline at end of file
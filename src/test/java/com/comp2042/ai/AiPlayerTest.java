@@ -0,0 +1,47 @@
+package com.comp2042.ai;
+
+import com.comp2042.HeadlessGameController;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * JUnit tests for AiPlayer class.
+ * Plays headless games through HeadlessGameController.
+ */
+@DisplayName("AiPlayer Tests")
+class AiPlayerTest {
+
+    @Test
+    @DisplayName("Planner should return a placement for a fresh board")
+    void testPlannerFindsPlacement() {
+        HeadlessGameController game = new HeadlessGameController();
+        Placement placement = new GreedyPlanner().plan(game.getBoard());
+        assertNotNull(placement, "Fresh board should always have a legal placement");
+    }
+
+    @Test
+    @DisplayName("Playing a piece should lock exactly one brick")
+    void testPlayPieceLocksOneBrick() {
+        HeadlessGameController game = new HeadlessGameController();
+        AiPlayer player = new AiPlayer(game.getBoard(), game);
+
+        assertNotNull(player.playPiece());
+        assertEquals(1, game.getPiecesLocked());
+    }
+
+    @Test
+    @DisplayName("AI should survive and clear lines over a long headless game")
+    void testHeadlessGameClearsLines() {
+        HeadlessGameController game = new HeadlessGameController();
+        AiPlayer player = new AiPlayer(game.getBoard(), game);
+
+        for (int i = 0; i < 200 && !game.isGameOver(); i++) {
+            player.playPiece();
+        }
+
+        assertFalse(game.isGameOver(), "Greedy AI should survive 200 pieces");
+        assertTrue(game.getLinesCleared() > 50, "Most locked cells should end up in cleared lines");
+    }
+}
@@ -0,0 +1,60 @@
+package com.comp2042.ai;
+
+import com.comp2042.HeadlessGameController;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * JUnit tests for BeamSearchPlanner class.
+ * Tests lookahead depth, budget fallback and headless play.
+ */
+@DisplayName("BeamSearchPlanner Tests")
+class BeamSearchPlannerTest {
+
+    @Test
+    @DisplayName("Generous budget should search the full configured depth")
+    void testFullDepthWithGenerousBudget() {
+        HeadlessGameController game = new HeadlessGameController();
+        BeamSearchPlanner planner = new BeamSearchPlanner(new HeuristicEvaluator(), 3, 4, 10_000,
+                ForkJoinPool.commonPool());
+
+        assertNotNull(planner.plan(game.getBoard()));
+        assertEquals(3, planner.getLastCompletedDepth());
+    }
+
+    @Test
+    @DisplayName("Exhausted budget should fall back to greedy play")
+    void testZeroBudgetFallsBackToGreedy() {
+        HeadlessGameController game = new HeadlessGameController();
+        BeamSearchPlanner planner = new BeamSearchPlanner(new HeuristicEvaluator(), 4, 8, 0,
+                ForkJoinPool.commonPool());
+
+        assertNotNull(planner.plan(game.getBoard()), "Greedy level should always produce a move");
+        assertEquals(1, planner.getLastCompletedDepth());
+    }
+
+    @Test
+    @DisplayName("Invalid depth should be rejected")
+    void testInvalidDepthRejected() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new BeamSearchPlanner(new HeuristicEvaluator(), 0, 8, 5, ForkJoinPool.commonPool()));
+    }
+
+    @Test
+    @DisplayName("Lookahead AI using hold should survive a long headless game")
+    void testHeadlessGameWithLookahead() {
+        HeadlessGameController game = new HeadlessGameController();
+        AiPlayer player = new AiPlayer(game.getBoard(), game, new BeamSearchPlanner());
+
+        for (int i = 0; i < 300 && !game.isGameOver(); i++) {
+            player.playPiece();
+        }
+
+        assertFalse(game.isGameOver(), "Lookahead AI should survive 300 pieces");
+        assertEquals(300, game.getPiecesLocked());
+    }
+}
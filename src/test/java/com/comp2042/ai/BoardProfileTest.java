@@ -0,0 +1,136 @@
+package com.comp2042.ai;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * JUnit tests for BoardProfile class.
+ * Tests incremental column-height features against a full matrix rescan.
+ */
+@DisplayName("BoardProfile Tests")
+class BoardProfileTest {
+
+    private static final int[][] O_SHAPE = {
+            { 0, 0, 0, 0 },
+            { 0, 4, 4, 0 },
+            { 0, 4, 4, 0 },
+            { 0, 0, 0, 0 }
+    };
+
+    private static final int[][] T_SHAPE = {
+            { 0, 0, 0, 0 },
+            { 6, 6, 6, 0 },
+            { 0, 6, 0, 0 },
+            { 0, 0, 0, 0 }
+    };
+
+    @Test
+    @DisplayName("Features of an empty board should all be zero")
+    void testEmptyBoard() {
+        BoardProfile profile = BoardProfile.fromMatrix(new int[25][10]);
+        assertTrue(profile.isEmpty());
+        assertEquals(0, profile.aggregateHeight());
+        assertEquals(0, profile.holes());
+        assertEquals(0, profile.bumpiness());
+    }
+
+    @Test
+    @DisplayName("Column heights and holes should be read from the matrix")
+    void testFromMatrix() {
+        int[][] matrix = new int[25][10];
+        matrix[20][0] = 1; // column 0 height 5 with 4 holes below
+        matrix[24][1] = 1; // column 1 height 1
+        BoardProfile profile = BoardProfile.fromMatrix(matrix);
+
+        assertEquals(5, profile.getColumnHeight(0));
+        assertEquals(1, profile.getColumnHeight(1));
+        assertEquals(6, profile.aggregateHeight());
+        assertEquals(4, profile.holes());
+        assertEquals(4 + 1, profile.bumpiness());
+    }
+
+    @Test
+    @DisplayName("O piece should land on the floor of an empty board")
+    void testLandingRowOnEmptyBoard() {
+        BoardProfile profile = BoardProfile.fromMatrix(new int[25][10]);
+        PieceShape o = new PieceShape(O_SHAPE, 0);
+        // shape rows 1-2 occupied, so offset 22 puts the piece on rows 23-24
+        assertEquals(22, profile.landingRow(o, 0));
+        assertEquals(-1, profile.landingRow(o, 9), "Piece hanging off the board should not fit");
+    }
+
+    @Test
+    @DisplayName("Incremental placement should match a rescan of the merged matrix")
+    void testIncrementalPlacementMatchesRescan() {
+        int[][] matrix = new int[25][10];
+        matrix[24][0] = 1;
+        matrix[24][2] = 1;
+        BoardProfile profile = BoardProfile.fromMatrix(matrix);
+        PieceShape t = new PieceShape(T_SHAPE, 0);
+
+        int y = profile.landingRow(t, 0);
+        int lines = profile.place(t, 0, y);
+
+        for (int r = 0; r < 4; r++) {
+            for (int c = 0; c < 4; c++) {
+                if (T_SHAPE[r][c] != 0) {
+                    matrix[y + r][c] = T_SHAPE[r][c];
+                }
+            }
+        }
+        BoardProfile rescan = BoardProfile.fromMatrix(matrix);
+
+        assertEquals(0, lines);
+        assertEquals(rescan.aggregateHeight(), profile.aggregateHeight());
+        assertEquals(rescan.holes(), profile.holes());
+        assertEquals(rescan.bumpiness(), profile.bumpiness());
+        assertEquals(rescan.wells(), profile.wells());
+    }
+
+    @Test
+    @DisplayName("A piece tucked under an overhang should leave the profile matching a rescan")
+    void testTuckMatchesRescan() {
+        int[][] matrix = new int[25][10];
+        matrix[20][0] = 1; // overhang: column 0 height 5 with 4 holes below
+        BoardProfile profile = BoardProfile.fromMatrix(matrix);
+        PieceShape o = new PieceShape(O_SHAPE, 0);
+
+        // slide the O under the overhang onto the floor, columns 0-1
+        assertTrue(profile.fits(o, -1, 22));
+        profile.place(o, -1, 22);
+
+        for (int r = 23; r <= 24; r++) {
+            matrix[r][0] = 4;
+            matrix[r][1] = 4;
+        }
+        BoardProfile rescan = BoardProfile.fromMatrix(matrix);
+        for (int c = 0; c < 10; c++) {
+            assertEquals(rescan.getColumnHeight(c), profile.getColumnHeight(c), "Height of column " + c);
+        }
+        assertEquals(5, profile.getColumnHeight(0));
+        assertEquals(rescan.holes(), profile.holes());
+        assertEquals(2, profile.holes());
+        assertEquals(rescan.maxHeight(), profile.maxHeight());
+        assertEquals(rescan.getHash(), profile.getHash());
+    }
+
+    @Test
+    @DisplayName("Completing a row should clear it and lower the stack")
+    void testPlacementClearsLine() {
+        int[][] matrix = new int[25][10];
+        for (int c = 2; c < 10; c++) {
+            matrix[24][c] = 1;
+            matrix[23][c] = 1;
+        }
+        BoardProfile profile = BoardProfile.fromMatrix(matrix);
+        PieceShape o = new PieceShape(O_SHAPE, 0);
+
+        int y = profile.landingRow(o, -1);
+        int lines = profile.place(o, -1, y);
+
+        assertEquals(2, lines, "O piece in the gap should clear two rows");
+        assertTrue(profile.isEmpty(), "Board should be empty after the clear");
+    }
+}
@@ -0,0 +1,88 @@
+package com.comp2042.ai;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * JUnit tests for the batch FeatureExtractor implementations.
+ * Tests batch features against BoardProfile and hand-counted transitions.
+ * Under the vector profile, FeatureExtractor.create() returns the vector path.
+ */
+@DisplayName("FeatureExtractor Tests")
+class FeatureExtractorTest {
+
+    @Test
+    @DisplayName("Batch features should match BoardProfile for random boards")
+    void testMatchesBoardProfile() {
+        SplittableRandom random = new SplittableRandom(7);
+        BoardProfile[] profiles = new BoardProfile[37]; // deliberately not a lane multiple
+        BoardBatch batch = new BoardBatch(10, 25, profiles.length);
+        for (int b = 0; b < profiles.length; b++) {
+            int[][] matrix = new int[25][10];
+            for (int c = 0; c < 10; c++) {
+                int height = random.nextInt(15);
+                for (int r = 25 - height; r < 25; r++) {
+                    matrix[r][c] = random.nextInt(5) == 0 ? 0 : 1;
+                }
+            }
+            profiles[b] = BoardProfile.fromMatrix(matrix);
+            batch.add(profiles[b], b % 4);
+        }
+
+        FeatureExtractor.create().extract(batch);
+
+        for (int b = 0; b < profiles.length; b++) {
+            BoardProfile p = profiles[b];
+            assertEquals(p.aggregateHeight(), batch.getAggregateHeight(b), "Aggregate height of board " + b);
+            assertEquals(p.maxHeight(), batch.getMaxHeight(b), "Max height of board " + b);
+            assertEquals(p.holes(), batch.getHoles(b), "Holes of board " + b);
+            assertEquals(p.bumpiness(), batch.getBumpiness(b), "Bumpiness of board " + b);
+            assertEquals(p.wells(), batch.getWells(b), "Wells of board " + b);
+            assertEquals(p.getColumnHeight(3), batch.getColumnHeight(b, 3), "Column 3 of board " + b);
+            assertEquals(b % 4, batch.getLines(b));
+        }
+    }
+
+    @Test
+    @DisplayName("Row and column transitions should count walls and floor as filled")
+    void testTransitions() {
+        int[][] matrix = new int[25][10];
+        matrix[24][0] = 1; // one cell in the bottom-left corner
+        BoardBatch batch = new BoardBatch(10, 25, 1);
+        batch.add(BoardProfile.fromMatrix(matrix), 0);
+
+        FeatureExtractor.create().extract(batch);
+
+        // bottom row: cell 0 filled, then empty up to the right wall
+        assertEquals(2, batch.getRowTransitions(0));
+        // column 0: empty -> filled; columns 1-9: empty -> floor
+        assertEquals(1 + 9, batch.getColumnTransitions(0));
+        assertEquals(0, batch.getHoles(0), "A single floor cell covers nothing");
+    }
+
+    @Test
+    @DisplayName("Scalar and selected extractors should agree after the batch is reused")
+    void testReuseAfterClear() {
+        int[][] full = new int[25][10];
+        for (int r = 10; r < 25; r++) {
+            java.util.Arrays.fill(full[r], 1);
+        }
+        BoardBatch batch = new BoardBatch(10, 25, 20);
+        for (int i = 0; i < 20; i++) {
+            batch.add(BoardProfile.fromMatrix(full), 0);
+        }
+        batch.clear();
+        batch.add(BoardProfile.fromMatrix(new int[25][10]), 0);
+
+        FeatureExtractor.create().extract(batch);
+        assertEquals(1, batch.size());
+        assertEquals(0, batch.getAggregateHeight(0));
+
+        new ScalarFeatureExtractor().extract(batch);
+        assertEquals(10, batch.getColumnTransitions(0), "Empty board: every column meets the floor once");
+    }
+}
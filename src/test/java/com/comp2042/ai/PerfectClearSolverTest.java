@@ -0,0 +1,121 @@
+package com.comp2042.ai;
+
+import com.comp2042.logic.bricks.Brick;
+import com.comp2042.logic.bricks.RandomBrickGenerator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * JUnit tests for PerfectClearSolver class.
+ * Tests solutions with and without hold, impossible positions, reachability
+ * under overhangs and cancellation.
+ */
+@DisplayName("PerfectClearSolver Tests")
+class PerfectClearSolverTest {
+
+    private static final int I = 1;
+    private static final int O = 4;
+    private static final int T = 6;
+
+    /**
+     * Draws bricks until one of the wanted type appears (brick classes are
+     * package-private to the bricks package).
+     */
+    private static Brick brickOf(int colorCode) {
+        RandomBrickGenerator generator = new RandomBrickGenerator();
+        while (true) {
+            Brick brick = generator.getBrick();
+            if (PieceShape.rotationsOf(brick)[0].getColorCode() == colorCode) {
+                return brick;
+            }
+        }
+    }
+
+    private static int[][] boardWithGap(int rows, int fromCol, int toCol) {
+        int[][] matrix = new int[25][10];
+        for (int r = 25 - rows; r < 25; r++) {
+            for (int c = 0; c < 10; c++) {
+                matrix[r][c] = c >= fromCol && c <= toCol ? 0 : 8;
+            }
+        }
+        return matrix;
+    }
+
+    private static List<Placement> solve(int[][] matrix, Brick current, Brick held, Brick... queue)
+            throws Exception {
+        return new PerfectClearSolver().start(matrix, current, held, queue).get(10, TimeUnit.SECONDS);
+    }
+
+    @Test
+    @DisplayName("I brick should finish a row with a four-wide gap")
+    void testSinglePlacementClear() throws Exception {
+        List<Placement> moves = solve(boardWithGap(1, 0, 3), brickOf(I), null, brickOf(O));
+
+        assertNotNull(moves, "A perfect clear should be found");
+        assertEquals(1, moves.size());
+        assertFalse(moves.get(0).isHold());
+        assertEquals(0, moves.get(0).getRotation(), "I brick should lie flat");
+        assertEquals(0, moves.get(0).getX());
+    }
+
+    @Test
+    @DisplayName("Solver should use hold when the brick in play does not fit")
+    void testClearThroughHold() throws Exception {
+        List<Placement> moves = solve(boardWithGap(2, 4, 5), brickOf(T), null, brickOf(O), brickOf(T));
+
+        assertNotNull(moves, "O brick from the queue should finish the board");
+        assertEquals(1, moves.size());
+        assertTrue(moves.get(0).isHold(), "T must be held so the O can be played");
+    }
+
+    @Test
+    @DisplayName("Board with an unfillable cell count should have no solution")
+    void testImpossibleBoard() throws Exception {
+        // three empty cells: no clear height leaves a multiple of four cells
+        // that the two known bricks could cover
+        assertNull(solve(boardWithGap(1, 0, 2), brickOf(I), null, brickOf(O)));
+    }
+
+    @Test
+    @DisplayName("Reachable placements should include tucks under an overhang")
+    void testReachabilityUnderOverhang() {
+        int[][] matrix = new int[25][10];
+        for (int c = 0; c < 6; c++) {
+            matrix[23][c] = 8; // roof over columns 0-5, floor row left open
+        }
+        BoardProfile profile = BoardProfile.fromMatrix(matrix);
+        PieceShape[] rotations = PieceShape.rotationsOf(brickOf(I));
+
+        boolean tucked = PerfectClearSolver.reachablePlacements(profile, rotations).stream()
+                .anyMatch(p -> p[0] == 0 && p[1] == 0 && p[2] + 1 == 24);
+        assertTrue(tucked, "Flat I should slide under the roof into columns 0-3");
+        assertTrue(profile.landingRow(rotations[0], 0) + 1 < 24, "A straight drop would land on the roof");
+    }
+
+    @Test
+    @DisplayName("Cancelling the future should stop the search")
+    void testCancellation() {
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            PerfectClearSolver solver = new PerfectClearSolver(pool, new TranspositionTable(12), 6);
+            Brick[] queue = new Brick[16];
+            for (int i = 0; i < queue.length; i++) {
+                queue[i] = brickOf(i % 2 == 0 ? O : T);
+            }
+            CompletableFuture<List<Placement>> result = solver.start(new int[25][10], brickOf(T), null, queue);
+            result.cancel(false);
+
+            assertTrue(result.isCancelled());
+            assertTrue(pool.awaitQuiescence(5, TimeUnit.SECONDS), "Workers should wind down after cancel");
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.comp2042.ai;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * JUnit tests for TranspositionTable class.
+ * Tests lookups, replace-by-depth and integrity under concurrent writers.
+ */
+@DisplayName("TranspositionTable Tests")
+class TranspositionTableTest {
+
+    @Test
+    @DisplayName("Stored entry should be found with its depth, score and generation")
+    void testStoreAndProbe() {
+        TranspositionTable table = new TranspositionTable(8);
+        table.store(0x1234_5678_9ABCL, 3, 1.5f, 7);
+
+        long entry = table.probe(0x1234_5678_9ABCL);
+        assertNotEquals(TranspositionTable.MISS, entry);
+        assertEquals(3, TranspositionTable.depthOf(entry));
+        assertEquals(1.5f, TranspositionTable.scoreOf(entry));
+        assertEquals(7, TranspositionTable.generationOf(entry));
+        assertEquals(TranspositionTable.MISS, table.probe(0x42L), "Unknown key should miss");
+    }
+
+    @Test
+    @DisplayName("A shallower result should not replace a deeper one of the same generation")
+    void testReplaceByDepth() {
+        TranspositionTable table = new TranspositionTable(8);
+        long key = 99L;
+        table.store(key, 4, 10f, 1);
+        table.store(key, 2, 20f, 1);
+        assertEquals(4, TranspositionTable.depthOf(table.probe(key)), "Deeper entry should be kept");
+
+        table.store(key, 5, 30f, 1);
+        assertEquals(5, TranspositionTable.depthOf(table.probe(key)), "Deeper result should replace");
+
+        table.store(key, 1, 40f, 2);
+        assertEquals(1, TranspositionTable.depthOf(table.probe(key)), "Newer generation should replace");
+    }
+
+    @Test
+    @DisplayName("Full probe window should evict the shallowest entry")
+    void testEvictsShallowest() {
+        TranspositionTable table = new TranspositionTable(4);
+        int capacity = table.capacity();
+        // keys sharing one home slot fill its probe window
+        for (int i = 0; i < 4; i++) {
+            table.store(1L + (long) capacity * (i + 1), 5 + i, 0f, 1);
+        }
+        long newcomer = 1L + (long) capacity * 10;
+        table.store(newcomer, 6, 0f, 1);
+
+        assertNotEquals(TranspositionTable.MISS, table.probe(newcomer));
+        assertEquals(TranspositionTable.MISS, table.probe(1L + capacity), "Depth-5 entry should be evicted");
+        table.clear();
+        assertEquals(TranspositionTable.MISS, table.probe(newcomer), "Clear should empty the table");
+    }
+
+    @Test
+    @DisplayName("Concurrent writers should never produce a corrupted hit")
+    void testConcurrentStores() throws InterruptedException {
+        TranspositionTable table = new TranspositionTable(6);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        for (int t = 0; t < 4; t++) {
+            long seed = t;
+            executor.execute(() -> {
+                SplittableRandom random = new SplittableRandom(seed);
+                for (int i = 0; i < 200_000; i++) {
+                    // the score is derived from the key, so any hit can be verified
+                    long key = random.nextLong(1, 4096);
+                    table.store(key, (int) (key & 15), (float) key, 1);
+                }
+            });
+        }
+        executor.shutdown();
+
+        while (!executor.isTerminated()) {
+            for (long key = 1; key < 4096; key++) {
+                long entry = table.probe(key);
+                if (entry != TranspositionTable.MISS) {
+                    assertEquals((float) key, TranspositionTable.scoreOf(entry));
+                    assertEquals(key & 15, TranspositionTable.depthOf(entry));
+                }
+            }
+        }
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        int hits = 0;
+        for (long key = 1; key < 4096; key++) {
+            if (table.probe(key) != TranspositionTable.MISS) {
+                hits++;
+            }
+        }
+        assertTrue(hits > table.capacity() / 2, "Table should be mostly full after the writers finish");
+    }
+}
@@ -0,0 +1,175 @@
+package com.comp2042.export;
+
+import com.comp2042.HeadlessGameController;
+import com.comp2042.dto.ViewData;
+import com.comp2042.util.Constants;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * JUnit tests for FrameExporter class.
+ * Tests frame capture, software rendering, both output formats and
+ * backpressure.
+ */
+@DisplayName("FrameExporter Tests")
+class FrameExporterTest {
+
+    private static final int CELL = 4;
+
+    /**
+     * A frame whose top-left cell has the given colour code.
+     */
+    private static BoardFrame frame(int code) {
+        byte[] cells = new byte[2 * 3];
+        cells[0] = (byte) code;
+        return new BoardFrame(2, 3, cells);
+    }
+
+    private static int centre(int[] argb, int width, int row, int col) {
+        return argb[(row * CELL + CELL / 2) * width + col * CELL + CELL / 2];
+    }
+
+    @Test
+    @DisplayName("Capture keeps the visible rows with the brick over its ghost")
+    void testCapture() {
+        HeadlessGameController game = new HeadlessGameController();
+        game.getBoard().newGame(5);
+        ViewData view = game.getBoard().getViewData();
+        BoardFrame frame = BoardFrame.capture(game.getBoard().getBoardMatrix(), view);
+
+        assertEquals(Constants.BOARD_HEIGHT - 2, frame.getRows());
+        assertEquals(Constants.BOARD_WIDTH, frame.getCols());
+        int ghosts = 0;
+        for (int r = 0; r < frame.getRows(); r++) {
+            for (int c = 0; c < frame.getCols(); c++) {
+                if (frame.getCell(r, c) == BoardFrame.GHOST) {
+                    ghosts++;
+                }
+            }
+        }
+        assertEquals(4, ghosts, "An empty board shows the whole ghost");
+    }
+
+    @Test
+    @DisplayName("Cells are filled with their palette colour and the ghost is translucent")
+    void testRenderColours() {
+        SoftwareRenderer renderer = new SoftwareRenderer(CELL);
+        byte[] cells = { 0, 3, (byte) BoardFrame.GHOST };
+        BoardFrame frame = new BoardFrame(1, 3, cells);
+        int width = renderer.getWidth(frame);
+        int[] argb = new int[width * renderer.getHeight(frame)];
+        renderer.render(frame, argb);
+
+        assertEquals(SoftwareRenderer.BACKGROUND, centre(argb, width, 0, 0));
+        assertEquals(SoftwareRenderer.argb(Constants.PieceColors.getColor(3), 1.0), centre(argb, width, 0, 1));
+        int ghost = centre(argb, width, 0, 2);
+        assertNotEquals(SoftwareRenderer.BACKGROUND, ghost);
+        assertEquals(0xFF, ghost >>> 24, "Output pixels are opaque");
+    }
+
+    @Test
+    @DisplayName("PNG export writes one readable file per frame")
+    void testPngExport(@TempDir Path dir) throws IOException {
+        SoftwareRenderer renderer = new SoftwareRenderer(CELL);
+        try (FrameExporter exporter = FrameExporter.toDirectory(dir, renderer)) {
+            for (int i = 0; i < 20; i++) {
+                exporter.submit(frame(1 + i % 8));
+            }
+        }
+        for (int i = 0; i < 20; i++) {
+            BufferedImage image = ImageIO.read(dir.resolve(String.format(FrameExporter.FILE_PATTERN, i)).toFile());
+            assertEquals(3 * CELL, image.getWidth());
+            assertEquals(2 * CELL, image.getHeight());
+            int expected = SoftwareRenderer.argb(Constants.PieceColors.getColor(1 + i % 8), 1.0);
+            assertEquals(expected, image.getRGB(CELL / 2, CELL / 2), "Frame " + i + " is in order");
+        }
+    }
+
+    @Test
+    @DisplayName("RGBA export writes frames back to back in submission order")
+    void testRgbaOrder() throws IOException {
+        SoftwareRenderer renderer = new SoftwareRenderer(CELL);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        int frames = 200;
+        try (FrameExporter exporter = new FrameExporter(FrameExporter.Format.RGBA, null, out, renderer, 4, 8)) {
+            for (int i = 0; i < frames; i++) {
+                exporter.submit(frame(1 + i % 8));
+            }
+            assertEquals(frames, exporter.getSubmittedCount());
+        }
+        int frameBytes = 3 * CELL * 2 * CELL * 4;
+        byte[] data = out.toByteArray();
+        assertEquals(frames * frameBytes, data.length);
+        for (int i = 0; i < frames; i++) {
+            int expected = SoftwareRenderer.argb(Constants.PieceColors.getColor(1 + i % 8), 1.0);
+            int at = i * frameBytes + ((CELL / 2) * 3 * CELL + CELL / 2) * 4;
+            assertEquals((expected >> 16) & 0xFF, data[at] & 0xFF, "Frame " + i + " red");
+            assertEquals((expected >> 8) & 0xFF, data[at + 1] & 0xFF, "Frame " + i + " green");
+            assertEquals(expected & 0xFF, data[at + 2] & 0xFF, "Frame " + i + " blue");
+            assertEquals(0xFF, data[at + 3] & 0xFF, "Frame " + i + " alpha");
+        }
+    }
+
+    @Test
+    @DisplayName("Submitting blocks while the writer is stalled and the pipeline is full")
+    void testBackpressure() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger bytes = new AtomicInteger();
+        OutputStream stalled = new OutputStream() {
+            @Override
+            public void write(int b) {
+                write(new byte[] { (byte) b }, 0, 1);
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                bytes.addAndGet(len);
+            }
+        };
+        SoftwareRenderer renderer = new SoftwareRenderer(CELL);
+        FrameExporter exporter = new FrameExporter(FrameExporter.Format.RGBA, null, stalled, renderer, 2, 2);
+        AtomicInteger submitted = new AtomicInteger();
+        Thread producer = new Thread(() -> {
+            try {
+                for (int i = 0; i < 10; i++) {
+                    exporter.submit(frame(1));
+                    submitted.incrementAndGet();
+                }
+            } catch (IOException e) {
+                fail(e);
+            }
+        });
+        producer.start();
+        long deadline = System.currentTimeMillis() + 5000;
+        while (producer.getState() != Thread.State.WAITING && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+        Thread.sleep(50);
+        // one frame held by the stalled writer plus two queued
+        assertEquals(3, submitted.get(), "The producer is held back");
+
+        release.countDown();
+        producer.join(5000);
+        exporter.close();
+        assertEquals(10, submitted.get());
+        assertEquals(10, exporter.getWrittenCount());
+        assertEquals(10 * 3 * CELL * 2 * CELL * 4, bytes.get());
+    }
+}
@@ -0,0 +1,59 @@
+package com.comp2042.game;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * JUnit tests for GravityClock class.
+ * Tests whole rows per frame, fractional progress, pausing and the stall cap.
+ */
+@DisplayName("GravityClock Tests")
+class GravityClockTest {
+
+    private static final long MS = 1_000_000L;
+
+    @Test
+    @DisplayName("Slow gravity moves between rows over several frames")
+    void testProgress() {
+        GravityClock clock = new GravityClock(100 * MS, 25);
+        clock.start();
+        assertEquals(0, clock.advance(1_000 * MS), "The first frame only starts the clock");
+        assertEquals(0, clock.advance(1_025 * MS));
+        assertEquals(0.25, clock.getProgress(), 1e-9);
+        assertEquals(0, clock.advance(1_075 * MS));
+        assertEquals(0.75, clock.getProgress(), 1e-9);
+        assertEquals(1, clock.advance(1_110 * MS));
+        assertEquals(0.1, clock.getProgress(), 1e-9);
+    }
+
+    @Test
+    @DisplayName("Fast gravity applies several rows in one frame")
+    void testSeveralRowsPerFrame() {
+        GravityClock clock = new GravityClock(5 * MS, 25);
+        clock.start();
+        clock.advance(0);
+        assertEquals(3, clock.advance(17 * MS));
+        assertEquals(0.4, clock.getProgress(), 1e-9);
+    }
+
+    @Test
+    @DisplayName("Pausing keeps progress and a stall is capped")
+    void testPauseAndStall() {
+        GravityClock clock = new GravityClock(100 * MS, 25);
+        clock.start();
+        clock.advance(0);
+        clock.advance(40 * MS);
+        clock.stop();
+        assertEquals(0, clock.advance(5_000 * MS), "A stopped clock does not advance");
+
+        clock.start();
+        clock.advance(9_000 * MS);
+        assertEquals(0.4, clock.getProgress(), 1e-9, "Time spent paused does not count");
+        assertEquals(25, clock.advance(20_000 * MS), "A long stall is capped");
+
+        clock.reset();
+        assertEquals(0, clock.getProgress());
+    }
+}
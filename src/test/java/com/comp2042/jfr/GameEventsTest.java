@@ -0,0 +1,71 @@
+package com.comp2042.jfr;
+
+import com.comp2042.HeadlessGameController;
+import com.comp2042.ai.AiPlayer;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * JUnit tests for the JFR game events.
+ * Records a headless game and checks the board events match what happened.
+ */
+@DisplayName("JFR Game Events Tests")
+class GameEventsTest {
+
+    @TempDir
+    Path dir;
+
+    private static long count(List<RecordedEvent> events, String name) {
+        return events.stream().filter(e -> e.getEventType().getName().equals(name)).count();
+    }
+
+    @Test
+    @DisplayName("A recorded game should contain one spawn, lock and clear event per piece")
+    void testBoardEventsRecorded() throws Exception {
+        HeadlessGameController game = new HeadlessGameController();
+        game.getBoard().newGame(7);
+        AiPlayer player = new AiPlayer(game.getBoard(), game);
+
+        Path file = dir.resolve("game.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(BrickSpawnEvent.class).withThreshold(Duration.ZERO);
+            recording.enable(BrickLockEvent.class).withThreshold(Duration.ZERO);
+            recording.enable(LineClearEvent.class).withThreshold(Duration.ZERO);
+            recording.enable(HoldEvent.class).withThreshold(Duration.ZERO);
+            recording.enable(HardDropEvent.class);
+            recording.start();
+            game.getBoard().holdPiece();
+            for (int i = 0; i < 40 && !game.isGameOver(); i++) {
+                player.playPiece();
+            }
+            GameEvents.hardDrop(12);
+            recording.stop();
+            recording.dump(file);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+        long pieces = game.getPiecesLocked();
+        assertTrue(pieces > 0);
+        assertEquals(pieces, count(events, "com.comp2042.BrickLock"));
+        assertEquals(pieces, count(events, "com.comp2042.BrickSpawn"));
+        assertEquals(pieces, count(events, "com.comp2042.LineClear"));
+        assertEquals(1, count(events, "com.comp2042.Hold"));
+
+        int lines = events.stream().filter(e -> e.getEventType().getName().equals("com.comp2042.LineClear"))
+                .mapToInt(e -> e.getInt("lines")).sum();
+        assertEquals(game.getLinesCleared(), lines, "Line counts should add up to the lines cleared");
+        RecordedEvent drop = events.stream()
+                .filter(e -> e.getEventType().getName().equals("com.comp2042.HardDrop")).findFirst().orElseThrow();
+        assertEquals(12, drop.getInt("distance"));
+    }
+}
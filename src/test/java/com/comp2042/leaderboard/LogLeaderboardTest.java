@@ -0,0 +1,271 @@
+package com.comp2042.leaderboard;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * JUnit tests for LogLeaderboard class.
+ * Tests the per-mode top-K index, persistence and recovery from torn writes.
+ */
+@DisplayName("LogLeaderboard Tests")
+class LogLeaderboardTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    @DisplayName("Each level and mode should keep its own best entries in order")
+    void testTopKPerMode() {
+        try (LogLeaderboard leaderboard = LogLeaderboard.inMemory(3)) {
+            for (int score = 100; score <= 1000; score += 100) {
+                leaderboard.submit(new ScoreEntry(score, 5, false, score));
+            }
+            leaderboard.submit(new ScoreEntry(50, 5, true, 1));
+            leaderboard.submit(new ScoreEntry(1000, 5, false, 2000)); // later tie ranks lower
+
+            List<ScoreEntry> top = leaderboard.getTop(5, false);
+            assertEquals(3, top.size());
+            assertEquals(List.of(1000, 1000, 900), top.stream().map(ScoreEntry::getScore).toList());
+            assertEquals(1000, top.get(0).getTimestamp(), "Earlier of two equal scores should rank first");
+            assertEquals(50, leaderboard.getBest(5, true));
+            assertEquals(0, leaderboard.getBest(10, false), "Unplayed mode should be empty");
+        }
+    }
+
+    @Test
+    @DisplayName("Entries should survive reopening the log")
+    void testPersistence() throws Exception {
+        Path file = dir.resolve("scores.log");
+        try (LogLeaderboard leaderboard = LogLeaderboard.open(file)) {
+            for (int i = 0; i < 500; i++) {
+                leaderboard.submit(new ScoreEntry(i * 7 % 1000, i % 2 == 0 ? 1 : 15, i % 3 == 0, i));
+            }
+            leaderboard.flush();
+            assertEquals(500, leaderboard.getWrittenCount());
+            assertEquals(LogLeaderboard.HEADER_BYTES + 500L * LogLeaderboard.RECORD_BYTES, Files.size(file));
+        }
+        try (LogLeaderboard reopened = LogLeaderboard.open(file)) {
+            LogLeaderboard expected = LogLeaderboard.inMemory(LogLeaderboard.DEFAULT_CAPACITY);
+            for (int i = 0; i < 500; i++) {
+                expected.submit(new ScoreEntry(i * 7 % 1000, i % 2 == 0 ? 1 : 15, i % 3 == 0, i));
+            }
+            for (int level : new int[] { 1, 15 }) {
+                for (boolean obstacles : new boolean[] { false, true }) {
+                    assertEquals(expected.getTop(level, obstacles), reopened.getTop(level, obstacles));
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("A torn or corrupt tail should be dropped and the log stay appendable")
+    void testRecovery() throws Exception {
+        Path file = dir.resolve("scores.log");
+        try (LogLeaderboard leaderboard = LogLeaderboard.open(file)) {
+            leaderboard.submit(new ScoreEntry(300, 1, false, 1));
+            leaderboard.submit(new ScoreEntry(200, 1, false, 2));
+            leaderboard.flush();
+        }
+        long goodLength = Files.size(file);
+        // flip a bit in the last record, then append half a record
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[] { 0x55 }), goodLength - 10);
+            channel.write(ByteBuffer.wrap(new byte[LogLeaderboard.RECORD_BYTES / 2]), goodLength);
+        }
+
+        try (LogLeaderboard recovered = LogLeaderboard.open(file)) {
+            assertEquals(List.of(new ScoreEntry(300, 1, false, 1)), recovered.getTop(1, false));
+            assertEquals(goodLength - LogLeaderboard.RECORD_BYTES, Files.size(file), "Bad tail should be cut off");
+            recovered.submit(new ScoreEntry(400, 1, false, 3));
+            recovered.flush();
+        }
+        try (LogLeaderboard reopened = LogLeaderboard.open(file)) {
+            assertEquals(400, reopened.getBest(1, false));
+            assertEquals(2, reopened.getTop(1, false).size());
+        }
+    }
+
+    @Test
+    @DisplayName("A corrupt record mid-file should be skipped without losing the ones after it")
+    void testSkipsCorruptRecord() throws Exception {
+        Path file = dir.resolve("scores.log");
+        try (LogLeaderboard leaderboard = LogLeaderboard.open(file)) {
+            for (int i = 1; i <= 5; i++) {
+                leaderboard.submit(new ScoreEntry(i * 100, 1, false, i));
+            }
+            leaderboard.flush();
+        }
+        long length = Files.size(file);
+        // damage the second record only
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[] { 0x55 }),
+                    LogLeaderboard.HEADER_BYTES + LogLeaderboard.RECORD_BYTES + 2);
+        }
+
+        try (LogLeaderboard recovered = LogLeaderboard.open(file)) {
+            assertEquals(List.of(500, 400, 300, 100),
+                    recovered.getTop(1, false).stream().map(ScoreEntry::getScore).toList());
+            assertEquals(length, Files.size(file), "Records after the damaged one should be kept");
+            recovered.submit(new ScoreEntry(600, 1, false, 6));
+            recovered.flush();
+        }
+        try (LogLeaderboard reopened = LogLeaderboard.open(file)) {
+            assertEquals(600, reopened.getBest(1, false));
+            assertEquals(5, reopened.getTop(1, false).size());
+        }
+    }
+
+    @Test
+    @DisplayName("Entries written after a partial write should survive reopening")
+    void testPartialWrite() throws Exception {
+        Path file = dir.resolve("scores.log");
+        FailingChannel channel = new FailingChannel(FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE));
+        try (LogLeaderboard leaderboard = LogLeaderboard.open(channel, LogLeaderboard.DEFAULT_CAPACITY)) {
+            leaderboard.submit(new ScoreEntry(100, 1, false, 1));
+            leaderboard.flush();
+            channel.failNextWrite = true;
+            leaderboard.submit(new ScoreEntry(200, 1, false, 2));
+            leaderboard.flush();
+            assertEquals(1, leaderboard.getWrittenCount(), "A failed write should not count as written");
+            leaderboard.submit(new ScoreEntry(300, 1, false, 3));
+            leaderboard.flush();
+            assertEquals(2, leaderboard.getWrittenCount());
+        }
+
+        assertEquals(LogLeaderboard.HEADER_BYTES + 2L * LogLeaderboard.RECORD_BYTES, Files.size(file));
+        try (LogLeaderboard reopened = LogLeaderboard.open(file)) {
+            assertEquals(List.of(300, 100),
+                    reopened.getTop(1, false).stream().map(ScoreEntry::getScore).toList());
+        }
+    }
+
+    @Test
+    @DisplayName("Files that are not leaderboard logs should be rejected")
+    void testRejectsForeignFile() throws IOException {
+        Path file = dir.resolve("other.log");
+        Files.write(file, "definitely not a log".getBytes());
+        assertThrows(IOException.class, () -> LogLeaderboard.open(file));
+    }
+
+    /**
+     * Delegating channel whose next positional write, once armed, stores half
+     * of its bytes and then throws.
+     */
+    private static final class FailingChannel extends FileChannel {
+        private final FileChannel delegate;
+        volatile boolean failNextWrite;
+
+        FailingChannel(FileChannel delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public int write(ByteBuffer src, long position) throws IOException {
+            if (!failNextWrite) {
+                return delegate.write(src, position);
+            }
+            failNextWrite = false;
+            ByteBuffer half = src.slice(src.position(), src.remaining() / 2);
+            delegate.write(half, position);
+            throw new IOException("disk full");
+        }
+
+        @Override
+        public int read(ByteBuffer dst, long position) throws IOException {
+            return delegate.read(dst, position);
+        }
+
+        @Override
+        public int read(ByteBuffer dst) throws IOException {
+            return delegate.read(dst);
+        }
+
+        @Override
+        public long read(ByteBuffer[] dsts, int offset, int length) throws IOException {
+            return delegate.read(dsts, offset, length);
+        }
+
+        @Override
+        public int write(ByteBuffer src) throws IOException {
+            return delegate.write(src);
+        }
+
+        @Override
+        public long write(ByteBuffer[] srcs, int offset, int length) throws IOException {
+            return delegate.write(srcs, offset, length);
+        }
+
+        @Override
+        public long position() throws IOException {
+            return delegate.position();
+        }
+
+        @Override
+        public FileChannel position(long newPosition) throws IOException {
+            delegate.position(newPosition);
+            return this;
+        }
+
+        @Override
+        public long size() throws IOException {
+            return delegate.size();
+        }
+
+        @Override
+        public FileChannel truncate(long size) throws IOException {
+            delegate.truncate(size);
+            return this;
+        }
+
+        @Override
+        public void force(boolean metaData) throws IOException {
+            delegate.force(metaData);
+        }
+
+        @Override
+        public long transferTo(long position, long count, WritableByteChannel target) throws IOException {
+            return delegate.transferTo(position, count, target);
+        }
+
+        @Override
+        public long transferFrom(ReadableByteChannel src, long position, long count) throws IOException {
+            return delegate.transferFrom(src, position, count);
+        }
+
+        @Override
+        public MappedByteBuffer map(MapMode mode, long position, long size) throws IOException {
+            return delegate.map(mode, position, size);
+        }
+
+        @Override
+        public FileLock lock(long position, long size, boolean shared) throws IOException {
+            return delegate.lock(position, size, shared);
+        }
+
+        @Override
+        public FileLock tryLock(long position, long size, boolean shared) throws IOException {
+            return delegate.tryLock(position, size, shared);
+        }
+
+        @Override
+        protected void implCloseChannel() throws IOException {
+            delegate.close();
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package com.comp2042.leaderboard;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * JUnit tests for SharedLeaderboard class.
+ * Tests sharing one file between instances, lock-free reads under
+ * concurrent writes, change notification, repair of a torn section and
+ * reads that do not wait for a slow writer.
+ */
+@DisplayName("SharedLeaderboard Tests")
+class SharedLeaderboardTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    @DisplayName("Entries submitted through one instance should be visible in another")
+    void testSharedBetweenInstances() throws Exception {
+        Path file = dir.resolve("shared.lb");
+        try (SharedLeaderboard a = SharedLeaderboard.open(file, 5);
+                SharedLeaderboard b = SharedLeaderboard.open(file, 99)) {
+            assertEquals(5, b.getCapacity(), "An existing file should keep its capacity");
+            for (int score = 10; score <= 80; score += 10) {
+                (score % 20 == 0 ? a : b).submit(new ScoreEntry(score, 10, true, score));
+            }
+            List<Integer> expected = List.of(80, 70, 60, 50, 40);
+            assertEquals(expected, a.getTop(10, true).stream().map(ScoreEntry::getScore).toList());
+            assertEquals(a.getTop(10, true), b.getTop(10, true));
+            assertTrue(b.getTop(10, false).isEmpty(), "Other modes should be untouched");
+            assertEquals(8, b.changes());
+        }
+        try (SharedLeaderboard reopened = SharedLeaderboard.open(file, 5)) {
+            assertEquals(80, reopened.getBest(10, true));
+        }
+    }
+
+    @Test
+    @DisplayName("Readers should only ever see complete, sorted boards while writers run")
+    void testConcurrentReadsAndWrites() throws Exception {
+        Path file = dir.resolve("shared.lb");
+        try (SharedLeaderboard writerSide = SharedLeaderboard.open(file, 10);
+                SharedLeaderboard readerSide = SharedLeaderboard.open(file, 10)) {
+            AtomicReference<Throwable> failure = new AtomicReference<>();
+            Thread[] writers = new Thread[3];
+            for (int w = 0; w < writers.length; w++) {
+                int id = w;
+                writers[w] = new Thread(() -> {
+                    for (int i = 0; i < 2000; i++) {
+                        writerSide.submit(new ScoreEntry(i * 3 + id, 1, false, i));
+                    }
+                });
+                writers[w].start();
+            }
+            Thread reader = new Thread(() -> {
+                try {
+                    while (writers[0].isAlive() || writers[1].isAlive() || writers[2].isAlive()) {
+                        List<ScoreEntry> top = readerSide.getTop(1, false);
+                        for (int i = 1; i < top.size(); i++) {
+                            assertTrue(ScoreEntry.RANKING.compare(top.get(i - 1), top.get(i)) <= 0,
+                                    "Board should be sorted: " + top);
+                        }
+                    }
+                } catch (Throwable t) {
+                    failure.set(t);
+                }
+            });
+            reader.start();
+            for (Thread writer : writers) {
+                writer.join();
+            }
+            reader.join();
+            assertNull(failure.get(), () -> "Reader saw a torn board: " + failure.get());
+            assertEquals(1999 * 3 + 2, readerSide.getBest(1, false));
+            assertEquals(10, readerSide.getTop(1, false).size());
+        }
+    }
+
+    @Test
+    @DisplayName("Listeners should hear about entries added by another instance")
+    void testChangeNotification() throws Exception {
+        Path file = dir.resolve("shared.lb");
+        try (SharedLeaderboard writer = SharedLeaderboard.open(file, 10);
+                SharedLeaderboard watcher = SharedLeaderboard.open(file, 10)) {
+            CountDownLatch changed = new CountDownLatch(1);
+            watcher.addListener(changed::countDown);
+            writer.submit(new ScoreEntry(1234, 15, false, 1));
+            assertTrue(changed.await(10, TimeUnit.SECONDS), "Watcher should be notified");
+            assertEquals(1234, watcher.getBest(15, false));
+        }
+    }
+
+    @Test
+    @DisplayName("A section left mid-write by a dead process should be repaired by readers")
+    void testTornSectionRepair() throws Exception {
+        Path file = dir.resolve("shared.lb");
+        try (SharedLeaderboard leaderboard = SharedLeaderboard.open(file, 4)) {
+            leaderboard.submit(new ScoreEntry(500, 5, false, 1));
+            leaderboard.submit(new ScoreEntry(700, 5, false, 2));
+
+            // simulate a crash after the writer marked the section busy
+            int section = SharedLeaderboard.HEADER_BYTES + (5 << 1) * (SharedLeaderboard.SECTION_HEADER_BYTES
+                    + 4 * SharedLeaderboard.ENTRY_BYTES);
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                ByteBuffer sequence = ByteBuffer.allocate(8).order(ByteOrder.LITTLE_ENDIAN);
+                channel.read(sequence, section);
+                sequence.flip();
+                long busy = sequence.getLong(0) | 1;
+                channel.write(ByteBuffer.allocate(8).order(ByteOrder.LITTLE_ENDIAN).putLong(0, busy), section);
+            }
+
+            List<ScoreEntry> top = leaderboard.getTop(5, false);
+            assertEquals(List.of(700, 500), top.stream().map(ScoreEntry::getScore).toList());
+            leaderboard.submit(new ScoreEntry(600, 5, false, 3));
+            assertEquals(List.of(700, 600, 500),
+                    leaderboard.getTop(5, false).stream().map(ScoreEntry::getScore).toList());
+        }
+    }
+
+    @Test
+    @DisplayName("A reader should not wait for a live writer that holds a busy section")
+    void testReadDoesNotWaitForSlowWriter() throws Exception {
+        Path file = dir.resolve("shared.lb");
+        try (SharedLeaderboard leaderboard = SharedLeaderboard.open(file, 4);
+                FileChannel writer = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            leaderboard.submit(new ScoreEntry(500, 5, false, 1));
+            assertEquals(500, leaderboard.getBest(5, false));
+
+            // a writer that has marked the section busy and still holds its lock
+            int section = SharedLeaderboard.HEADER_BYTES + (5 << 1) * (SharedLeaderboard.SECTION_HEADER_BYTES
+                    + 4 * SharedLeaderboard.ENTRY_BYTES);
+            ByteBuffer sequence = ByteBuffer.allocate(8).order(ByteOrder.LITTLE_ENDIAN);
+            writer.read(sequence, section);
+            long busy = sequence.getLong(0) | 1;
+            try (FileLock lock = writer.lock(section, SharedLeaderboard.SECTION_HEADER_BYTES
+                    + 4 * SharedLeaderboard.ENTRY_BYTES, false)) {
+                writer.write(ByteBuffer.allocate(8).order(ByteOrder.LITTLE_ENDIAN).putLong(0, busy), section);
+
+                List<ScoreEntry> top = assertTimeoutPreemptively(Duration.ofSeconds(5),
+                        () -> leaderboard.getTop(5, false));
+                assertEquals(List.of(500), top.stream().map(ScoreEntry::getScore).toList(),
+                        "Reader should fall back to its last clean copy");
+            }
+
+            // once the writer is gone the reader repairs the section as before
+            assertEquals(List.of(500), leaderboard.getTop(5, false).stream().map(ScoreEntry::getScore).toList());
+        }
+    }
+}
@@ -103,6 +103,19 @@ class SimpleBoardTest {
         assertNotNull(viewData, "View data should be retrievable after game start");
     }
 
+    @Test
+    @DisplayName("View data should report how far the brick can still fall")
+    void testFallDistance() {
+        board.newGame();
+        int fallDistance = board.getViewData().getFallDistance();
+        assertTrue(fallDistance >= 0, "Fall distance should not be negative");
+        for (int i = 0; i < fallDistance; i++) {
+            assertTrue(board.moveBrickDown(), "The brick should fall as far as reported");
+        }
+        assertEquals(0, board.getViewData().getFallDistance(), "A landed brick cannot fall further");
+        assertFalse(board.moveBrickDown(), "A landed brick should not move down");
+    }
+
     @Test
     @DisplayName("Creating new brick should succeed")
     void testCreateNewBrick() {
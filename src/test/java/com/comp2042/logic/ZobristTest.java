@@ -0,0 +1,72 @@
+package com.comp2042.logic;
+
+import com.comp2042.HeadlessGameController;
+import com.comp2042.ai.AiPlayer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * JUnit tests for Zobrist hashing.
+ * Tests that the board's incremental hash matches a full rehash of its matrix.
+ */
+@DisplayName("Zobrist Hashing Tests")
+class ZobristTest {
+
+    @Test
+    @DisplayName("Empty matrix should hash to zero")
+    void testEmptyMatrixHash() {
+        assertEquals(0L, Zobrist.hash(new int[25][10]));
+    }
+
+    @Test
+    @DisplayName("Row hash should match cell-by-cell hash")
+    void testRowMatchesCells() {
+        int[][] matrix = new int[25][10];
+        matrix[24][0] = 3;
+        matrix[24][4] = 1;
+        matrix[24][9] = 7;
+        int bits = (1 << 0) | (1 << 4) | (1 << 9);
+        assertEquals(Zobrist.hash(matrix), Zobrist.row(24, bits));
+    }
+
+    @Test
+    @DisplayName("Incremental hash should follow merges and line clears")
+    void testIncrementalHashMatchesRehash() {
+        HeadlessGameController controller = new HeadlessGameController();
+        SimpleBoard board = controller.getBoard();
+        AiPlayer player = new AiPlayer(board, controller);
+
+        for (int piece = 0; piece < 150 && !controller.isGameOver(); piece++) {
+            player.playPiece();
+            assertEquals(Zobrist.hash(board.getBoardMatrix()), board.getZobristHash(),
+                    "Hash should match a full rehash after piece " + piece);
+        }
+        assertTrue(controller.getLinesCleared() > 0, "Run should have exercised line clears");
+    }
+
+    @Test
+    @DisplayName("New game should reset the hash")
+    void testNewGameResetsHash() {
+        SimpleBoard board = new SimpleBoard(25, 10);
+        board.newGame();
+        while (board.moveBrickDown()) {
+            // drop straight down
+        }
+        board.mergeBrickToBackground();
+        assertNotEquals(0L, board.getZobristHash());
+        board.newGame();
+        assertEquals(0L, board.getZobristHash());
+    }
+
+    @Test
+    @DisplayName("Refresh should pick up direct matrix edits")
+    void testRefreshAfterDirectEdit() {
+        SimpleBoard board = new SimpleBoard(25, 10);
+        board.newGame();
+        board.getBoardMatrix()[24][3] = 8;
+        board.refreshZobristHash();
+        assertEquals(Zobrist.cell(24, 3), board.getZobristHash());
+    }
+}
@@ -114,4 +114,33 @@ class RandomBrickGeneratorTest {
             }
         }
     }
+
+    @Test
+    @DisplayName("Seeded generators follow BrickSequence, also after a restore")
+    void testSeededSequence() {
+        RandomBrickGenerator seeded = new RandomBrickGenerator(42);
+        int types = seeded.getBrickTypes().size();
+        for (int i = 0; i < 100; i++) {
+            assertEquals(BrickSequence.typeAt(42, i, types), seeded.typeIndex(seeded.getBrick()), "Draw " + i);
+        }
+
+        RandomBrickGenerator restored = RandomBrickGenerator.restore(true, 42, seeded.getDraws(),
+                seeded.getQueuedTypes());
+        for (int i = 0; i < 20; i++) {
+            assertEquals(seeded.typeIndex(seeded.getBrick()), restored.typeIndex(restored.getBrick()));
+        }
+    }
+
+    @Test
+    @DisplayName("BrickSequence draws every type about equally often")
+    void testSequenceDistribution() {
+        int[] counts = new int[7];
+        int draws = 70_000;
+        for (int i = 0; i < draws; i++) {
+            counts[BrickSequence.typeAt(7, i, counts.length)]++;
+        }
+        for (int count : counts) {
+            assertEquals(draws / 7.0, count, draws / 7.0 * 0.05);
+        }
+    }
 }
@@ -0,0 +1,102 @@
+package com.comp2042.metrics;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * JUnit tests for MetricsRegistry class.
+ * Tests counters, histograms and the Prometheus text served over HTTP.
+ */
+@DisplayName("Metrics Registry Tests")
+class MetricsRegistryTest {
+
+    @Test
+    @DisplayName("Counters count every increment from concurrent threads")
+    void testConcurrentCounter() throws InterruptedException {
+        MetricsRegistry registry = new MetricsRegistry();
+        Counter counter = registry.counter("test_total", "Test.");
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            Thread thread = new Thread(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    counter.inc();
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(40_000, counter.get());
+        assertSame(counter, registry.counter("test_total", "Test."));
+        assertTrue(registry.scrape().contains("# TYPE test_total counter\ntest_total 40000\n"));
+    }
+
+    @Test
+    @DisplayName("Histograms write cumulative buckets, sum and count")
+    void testHistogram() {
+        MetricsRegistry registry = new MetricsRegistry();
+        Histogram histogram = registry.histogram("latency_seconds", "Test.", new double[] { 0.1, 1 }, "op", "drop");
+        histogram.observe(0.05);
+        histogram.observe(0.1);
+        histogram.observe(0.5);
+        histogram.observe(5);
+
+        String text = registry.scrape();
+        assertTrue(text.contains("latency_seconds_bucket{op=\"drop\",le=\"0.1\"} 2\n"), text);
+        assertTrue(text.contains("latency_seconds_bucket{op=\"drop\",le=\"1\"} 3\n"), text);
+        assertTrue(text.contains("latency_seconds_bucket{op=\"drop\",le=\"+Inf\"} 4\n"), text);
+        assertTrue(text.contains("latency_seconds_sum{op=\"drop\"} 5.65\n"), text);
+        assertTrue(text.contains("latency_seconds_count{op=\"drop\"} 4\n"), text);
+    }
+
+    @Test
+    @DisplayName("Label values are escaped and misuse is rejected")
+    void testLabelsAndValidation() {
+        MetricsRegistry registry = new MetricsRegistry();
+        registry.counter("odd_total", "Test.", "name", "a\"b\\c").inc();
+        assertTrue(registry.scrape().contains("odd_total{name=\"a\\\"b\\\\c\"} 1\n"));
+
+        assertThrows(IllegalArgumentException.class, () -> registry.histogram("odd_total", "Test.", new double[] { 1 }));
+        assertThrows(IllegalArgumentException.class, () -> registry.counter("bad-name", "Test."));
+        assertThrows(IllegalArgumentException.class, () -> registry.counter("x_total", "Test.", "le", "1"));
+        assertThrows(IllegalArgumentException.class, () -> registry.counter("x_total", "Test.", "odd"));
+    }
+
+    @Test
+    @DisplayName("Game metrics are served over HTTP on localhost")
+    void testServer() throws Exception {
+        MetricsRegistry registry = new MetricsRegistry();
+        GameMetrics metrics = new GameMetrics(registry);
+        metrics.gameStarted();
+        metrics.pieceLocked(0);
+        metrics.pieceLocked(4);
+        metrics.dropHandled(200_000);
+
+        try (MetricsServer server = new MetricsServer(registry, 0)) {
+            HttpResponse<String> response = HttpClient.newHttpClient().send(
+                    HttpRequest.newBuilder(URI.create("http://localhost:" + server.getPort() + MetricsServer.PATH))
+                            .build(),
+                    HttpResponse.BodyHandlers.ofString());
+            assertEquals(200, response.statusCode());
+            assertTrue(response.headers().firstValue("Content-Type").orElse("").startsWith("text/plain"));
+            String body = response.body();
+            assertTrue(body.contains("tetris_pieces_locked_total 2\n"), body);
+            assertTrue(body.contains("tetris_lines_cleared_total{type=\"tetris\"} 1\n"), body);
+            assertTrue(body.contains("tetris_lines_cleared_total{type=\"single\"} 0\n"), body);
+            assertTrue(body.contains("tetris_games_started_total 1\n"), body);
+            assertTrue(body.contains("tetris_drop_latency_seconds_count 1\n"), body);
+            assertTrue(body.contains("jvm_gc_collections_total{gc="), body);
+        }
+    }
+}
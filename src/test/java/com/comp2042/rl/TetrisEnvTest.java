@@ -0,0 +1,51 @@
+package com.comp2042.rl;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.IntBuffer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * JUnit tests for TetrisEnv class.
+ * Tests the single-game reset/step/reward/observation cycle.
+ */
+@DisplayName("TetrisEnv Tests")
+class TetrisEnvTest {
+
+    @Test
+    @DisplayName("Hard drop should reward the drop distance and settle the brick")
+    void testHardDropReward() {
+        TetrisEnv env = new TetrisEnv();
+        env.reset(1);
+
+        boolean done = env.step(Action.HARD_DROP);
+
+        assertFalse(done);
+        assertTrue(env.reward() > 0, "Hard drop distance should score");
+        assertEquals(env.reward(), env.getScore());
+        assertNotEquals(0, env.getRowBits(24), "Brick should rest on the floor");
+    }
+
+    @Test
+    @DisplayName("Stacking in one column should end the game and restart it")
+    void testGameOverRestarts() {
+        TetrisEnv env = new TetrisEnv();
+        env.reset(3);
+        int steps = 0;
+        boolean done = false;
+        while (!done && steps < 1000) {
+            done = env.step(Action.HARD_DROP);
+            steps++;
+        }
+        assertTrue(done, "Dropping every brick at spawn should top out");
+        assertEquals(0, env.getScore(), "Restarted game should start from zero");
+
+        IntBuffer obs = IntBuffer.allocate(env.observationSize());
+        env.observation(obs);
+        for (int r = 0; r < 25; r++) {
+            assertEquals(0, obs.get(r), "Restarted board should be empty");
+        }
+    }
+}
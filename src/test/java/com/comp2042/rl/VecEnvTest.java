@@ -0,0 +1,131 @@
+package com.comp2042.rl;
+
+import com.comp2042.HeadlessGameController;
+import com.comp2042.event.EventSource;
+import com.comp2042.event.EventType;
+import com.comp2042.event.MoveEvent;
+import com.comp2042.logic.SimpleBoard;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * JUnit tests for VecEnv class.
+ * Tests rule parity with SimpleBoard, seeding and observation layout.
+ */
+@DisplayName("VecEnv Tests")
+class VecEnvTest {
+
+    @Test
+    @DisplayName("Seeded environment should follow SimpleBoard move for move")
+    void testParityWithSimpleBoard() {
+        long seed = 2042;
+        SimpleBoard board = new SimpleBoard(25, 10);
+        HeadlessGameController game = new HeadlessGameController(board);
+        board.newGame(seed);
+        VecEnv env = new VecEnv(1);
+        env.reset(0, seed);
+
+        SplittableRandom actions = new SplittableRandom(7);
+        int steps = 0;
+        while (!game.isGameOver() && steps < 3000) {
+            int action = actions.nextInt(Action.COUNT);
+            long locked = game.getPiecesLocked();
+            apply(game, action);
+            if (game.getPiecesLocked() == locked && !game.isGameOver()) {
+                game.onDownEvent(new MoveEvent(EventType.DOWN, EventSource.THREAD));
+            }
+            boolean done = env.step(0, action);
+            steps++;
+
+            assertEquals(game.isGameOver(), done, "Game over should agree at step " + steps);
+            if (done) {
+                break;
+            }
+            assertEquals(board.getScore().scoreProperty().get(), env.getScore(0), "Score at step " + steps);
+            assertEquals(board.getCurrentX(), observation(env)[env.getHeight() + 2], "X at step " + steps);
+            assertEquals(board.getCurrentY(), observation(env)[env.getHeight() + 3], "Y at step " + steps);
+            int[][] matrix = board.getBoardMatrix();
+            for (int r = 0; r < matrix.length; r++) {
+                int bits = 0;
+                for (int c = 0; c < matrix[r].length; c++) {
+                    bits |= matrix[r][c] != 0 ? 1 << c : 0;
+                }
+                assertEquals(bits, env.getRowBits(0, r), "Row " + r + " at step " + steps);
+            }
+        }
+        assertTrue(game.getPiecesLocked() > 10, "Test should cover many locked bricks");
+    }
+
+    private static void apply(HeadlessGameController game, int action) {
+        switch (action) {
+            case Action.LEFT -> game.onLeftEvent(new MoveEvent(EventType.LEFT, EventSource.USER));
+            case Action.RIGHT -> game.onRightEvent(new MoveEvent(EventType.RIGHT, EventSource.USER));
+            case Action.ROTATE -> game.onRotateEvent(new MoveEvent(EventType.ROTATE, EventSource.USER));
+            case Action.SOFT_DROP -> game.onDownEvent(new MoveEvent(EventType.DOWN, EventSource.USER));
+            case Action.HARD_DROP -> game.onHardDropEvent(new MoveEvent(EventType.DOWN, EventSource.USER));
+            case Action.HOLD -> game.onHoldEvent(new MoveEvent(EventType.DOWN, EventSource.USER));
+            default -> {
+            }
+        }
+    }
+
+    private static int[] observation(VecEnv env) {
+        int[] obs = new int[env.observationSize()];
+        env.observe(0, IntBuffer.wrap(obs), 0);
+        return obs;
+    }
+
+    @Test
+    @DisplayName("Same seed should replay the same games")
+    void testDeterministicReset() {
+        VecEnv a = new VecEnv(4);
+        VecEnv b = new VecEnv(4);
+        a.reset(99);
+        b.reset(99);
+        int[] actions = new int[4];
+        SplittableRandom random = new SplittableRandom(1);
+        for (int step = 0; step < 500; step++) {
+            for (int i = 0; i < actions.length; i++) {
+                actions[i] = random.nextInt(Action.COUNT);
+            }
+            a.step(actions);
+            b.step(actions);
+            assertArrayEquals(a.getRewards(), b.getRewards());
+        }
+        IntBuffer obsA = IntBuffer.allocate(4 * a.observationSize());
+        IntBuffer obsB = IntBuffer.allocate(4 * b.observationSize());
+        a.observe(obsA);
+        b.observe(obsB);
+        assertEquals(obsA, obsB);
+    }
+
+    @Test
+    @DisplayName("Byte and int observations should hold the same values")
+    void testObservationBuffers() {
+        VecEnv env = new VecEnv(3);
+        env.reset(5);
+        int size = env.observationSize();
+
+        IntBuffer ints = IntBuffer.allocate(3 * size + 2);
+        ints.position(2);
+        env.observe(ints);
+        assertEquals(2, ints.position(), "Position should be left unchanged");
+
+        ByteBuffer bytes = ByteBuffer.allocateDirect(3 * size * Integer.BYTES).order(ByteOrder.nativeOrder());
+        env.observe(bytes);
+        for (int i = 0; i < 3 * size; i++) {
+            assertEquals(ints.get(2 + i), bytes.getInt(i * Integer.BYTES), "Int " + i);
+        }
+
+        int header = env.getHeight();
+        assertTrue(ints.get(2 + header) >= 1 && ints.get(2 + header) <= 7, "Falling brick colour code");
+        assertEquals(0, ints.get(2 + header + 4), "Hold slot should start empty");
+    }
+}
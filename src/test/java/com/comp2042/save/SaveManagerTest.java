@@ -0,0 +1,69 @@
+package com.comp2042.save;
+
+import com.comp2042.HeadlessGameController;
+import com.comp2042.logic.SimpleBoard;
+import com.comp2042.util.Constants;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * JUnit tests for SaveManager class.
+ * Tests background saving, saving on exit and discarding.
+ */
+@DisplayName("SaveManager Tests")
+class SaveManagerTest {
+
+    @TempDir
+    Path dir;
+
+    private static SimpleBoard startedBoard() {
+        SimpleBoard board = new SimpleBoard(Constants.BOARD_HEIGHT, Constants.BOARD_WIDTH);
+        new HeadlessGameController(board);
+        return board;
+    }
+
+    @Test
+    @DisplayName("The newest queued save should be on disk after close")
+    void testSaveAndLoad() throws Exception {
+        Path file = dir.resolve("nested/game.sav");
+        SimpleBoard board = startedBoard();
+        SaveManager saves = new SaveManager(file);
+        assertFalse(saves.hasSave());
+        assertNull(saves.load());
+        for (int score = 1; score <= 5; score++) {
+            board.getScore().add(100);
+            saves.saveAsync(GameSnapshot.capture(board, 5, false));
+        }
+        saves.close();
+
+        GameSnapshot loaded = new SaveManager(file).load();
+        assertEquals(500, loaded.getScore(), "Latest snapshot should win");
+        assertEquals(5, loaded.getLevel());
+        assertFalse(Files.exists(file.resolveSibling("game.sav.tmp")), "Temporary file should be renamed");
+    }
+
+    @Test
+    @DisplayName("Closing should save the active game, and discarding should delete the save")
+    void testActiveGameAndDiscard() throws Exception {
+        Path file = dir.resolve("game.sav");
+        SimpleBoard board = startedBoard();
+        board.getScore().add(1234);
+
+        SaveManager saves = new SaveManager(file);
+        saves.setActiveGame(() -> GameSnapshot.capture(board, 15, true));
+        saves.close();
+        assertEquals(1234, new SaveManager(file).load().getScore());
+
+        SaveManager next = new SaveManager(file);
+        next.setActiveGame(() -> GameSnapshot.capture(board, 15, true));
+        next.discard();
+        next.close();
+        assertFalse(Files.exists(file), "Game over should remove the save");
+    }
+}
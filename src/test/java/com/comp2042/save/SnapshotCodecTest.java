@@ -0,0 +1,114 @@
+package com.comp2042.save;
+
+import com.comp2042.HeadlessGameController;
+import com.comp2042.ai.AiPlayer;
+import com.comp2042.logic.SimpleBoard;
+import com.comp2042.util.Constants;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * JUnit tests for GameSnapshot and SnapshotCodec classes.
+ * Tests that a decoded snapshot continues the exact same game, and that
+ * damaged or unknown data is rejected.
+ */
+@DisplayName("SnapshotCodec Tests")
+class SnapshotCodecTest {
+
+    private static SimpleBoard newBoard() {
+        return new SimpleBoard(Constants.BOARD_HEIGHT, Constants.BOARD_WIDTH);
+    }
+
+    @Test
+    @DisplayName("A resumed game should continue exactly like the original")
+    void testResumeContinuesSameGame() throws IOException {
+        SimpleBoard original = newBoard();
+        HeadlessGameController game = new HeadlessGameController(original);
+        original.newGame(42);
+        AiPlayer player = new AiPlayer(original, game);
+        for (int i = 0; i < 20; i++) {
+            player.playPiece();
+        }
+        original.holdPiece();
+        original.moveBrickLeft();
+        original.rotateLeftBrick();
+
+        byte[] data = SnapshotCodec.encode(GameSnapshot.capture(original, 10, true));
+        assertTrue(data.length < 200, "Encoded to " + data.length + " bytes");
+        GameSnapshot decoded = SnapshotCodec.decode(data);
+        assertEquals(10, decoded.getLevel());
+        assertTrue(decoded.isObstacleMode());
+
+        SimpleBoard resumed = newBoard();
+        HeadlessGameController resumedGame = new HeadlessGameController(resumed);
+        decoded.restore(resumed);
+        assertArrayEquals(original.getBoardMatrix(), resumed.getBoardMatrix());
+        assertEquals(original.getZobristHash(), resumed.getZobristHash());
+        assertEquals(original.getScore().scoreProperty().get(), resumed.getScore().scoreProperty().get());
+        assertEquals(original.getCurrentRotation(), resumed.getCurrentRotation());
+        assertEquals(original.getCurrentX(), resumed.getCurrentX());
+        assertArrayEquals(original.getHeldPiece().getBrickData(), resumed.getHeldPiece().getBrickData());
+
+        // both games must now see the same bricks and end up in the same state
+        AiPlayer resumedPlayer = new AiPlayer(resumed, resumedGame);
+        for (int i = 0; i < 30; i++) {
+            player.playPiece();
+            resumedPlayer.playPiece();
+        }
+        assertArrayEquals(original.getBoardMatrix(), resumed.getBoardMatrix(), "Games diverged after resume");
+        assertEquals(original.getScore().scoreProperty().get(), resumed.getScore().scoreProperty().get());
+    }
+
+    @Test
+    @DisplayName("Corrupt, truncated and newer saves should be rejected")
+    void testRejectsBadData() {
+        SimpleBoard board = newBoard();
+        new HeadlessGameController(board);
+        byte[] data = SnapshotCodec.encode(GameSnapshot.capture(board, 1, false));
+
+        byte[] flipped = data.clone();
+        flipped[40] ^= 0x10;
+        assertThrows(IOException.class, () -> SnapshotCodec.decode(flipped), "Checksum should catch bit flips");
+
+        byte[] truncated = java.util.Arrays.copyOf(data, data.length / 2);
+        assertThrows(IOException.class, () -> SnapshotCodec.decode(truncated));
+
+        byte[] newer = data.clone();
+        newer[5] = (byte) (SnapshotCodec.VERSION + 1);
+        IOException error = assertThrows(IOException.class, () -> SnapshotCodec.decode(newer));
+        assertTrue(error.getMessage().contains("version"), error.getMessage());
+    }
+
+    private static GameSnapshot snapshot(int[][] matrix, int rotation, int x, int y) {
+        return new GameSnapshot(matrix, 0, rotation, x, y, 1, GameSnapshot.NO_BRICK, true, 3, 5,
+                new int[] { 2, 3, 4 }, 0, 1, false, 0);
+    }
+
+    private static void assertRejected(GameSnapshot snapshot, String why) {
+        byte[] data = SnapshotCodec.encode(snapshot);
+        assertThrows(IOException.class, () -> SnapshotCodec.decode(data), why);
+    }
+
+    @Test
+    @DisplayName("Saves that pass the checksum but do not fit the board should be rejected")
+    void testRejectsOutOfRange() throws IOException {
+        int[][] board = new int[Constants.BOARD_HEIGHT][Constants.BOARD_WIDTH];
+        assertNotNull(SnapshotCodec.decode(SnapshotCodec.encode(snapshot(board, 0, 4, 0))));
+
+        assertRejected(snapshot(new int[20][Constants.BOARD_WIDTH], 0, 4, 0), "Another board height");
+        assertRejected(snapshot(new int[Constants.BOARD_HEIGHT][12], 0, 4, 0), "Another board width");
+
+        int[][] badCell = new int[Constants.BOARD_HEIGHT][Constants.BOARD_WIDTH];
+        badCell[10][3] = Constants.PieceColors.COUNT;
+        assertRejected(snapshot(badCell, 0, 4, 0), "Unknown colour");
+
+        assertRejected(snapshot(board, 7, 4, 0), "Unknown rotation");
+        assertRejected(snapshot(board, 0, -3, 0), "Brick off the left edge");
+        assertRejected(snapshot(board, 0, Constants.BOARD_WIDTH - 1, 0), "Brick off the right edge");
+        assertRejected(snapshot(board, 0, 4, Constants.BOARD_HEIGHT), "Brick below the board");
+    }
+}
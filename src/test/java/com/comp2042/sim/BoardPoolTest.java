@@ -0,0 +1,156 @@
+package com.comp2042.sim;
+
+import com.comp2042.HeadlessGameController;
+import com.comp2042.dto.ViewData;
+import com.comp2042.event.EventSource;
+import com.comp2042.event.EventType;
+import com.comp2042.event.MoveEvent;
+import com.comp2042.logic.Score;
+import com.comp2042.logic.SimpleBoard;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * JUnit tests for BoardPool and PooledBoard classes.
+ * Tests rule parity with SimpleBoard, slot isolation and slot recycling.
+ */
+@DisplayName("BoardPool Tests")
+class BoardPoolTest {
+
+    @Test
+    @DisplayName("Pooled board should follow SimpleBoard move for move")
+    void testParityWithSimpleBoard() {
+        long seed = 2042;
+        SimpleBoard board = new SimpleBoard(25, 10);
+        HeadlessGameController game = new HeadlessGameController(board);
+        board.newGame(seed);
+        PooledBoard pooled = new BoardPool().newBoard();
+        HeadlessGameController pooledGame = new HeadlessGameController(pooled);
+        pooled.newGame(seed);
+
+        SplittableRandom actions = new SplittableRandom(11);
+        int steps = 0;
+        while (!game.isGameOver() && steps < 3000) {
+            int action = actions.nextInt(6);
+            apply(game, action);
+            apply(pooledGame, action);
+            steps++;
+
+            assertEquals(game.isGameOver(), pooledGame.isGameOver(), "Game over at step " + steps);
+            assertEquals(board.getScore().scoreProperty().get(), pooled.getScore().scoreProperty().get(),
+                    "Score at step " + steps);
+            assertEquals(board.getCurrentX(), pooled.getCurrentX(), "X at step " + steps);
+            assertEquals(board.getCurrentY(), pooled.getCurrentY(), "Y at step " + steps);
+            assertEquals(board.getCurrentRotation(), pooled.getCurrentRotation(), "Rotation at step " + steps);
+            assertViewsEqual(board.getViewData(), pooled.getViewData(), steps);
+            int[][] matrix = board.getBoardMatrix();
+            for (int r = 0; r < matrix.length; r++) {
+                int bits = 0;
+                for (int c = 0; c < matrix[r].length; c++) {
+                    bits |= matrix[r][c] != 0 ? 1 << c : 0;
+                }
+                assertEquals(bits, pooled.getRowBits(r), "Row " + r + " at step " + steps);
+            }
+        }
+        assertTrue(game.getPiecesLocked() > 10, "Test should cover many locked bricks");
+    }
+
+    private static void apply(HeadlessGameController game, int action) {
+        switch (action) {
+            case 0 -> game.onLeftEvent(new MoveEvent(EventType.LEFT, EventSource.USER));
+            case 1 -> game.onRightEvent(new MoveEvent(EventType.RIGHT, EventSource.USER));
+            case 2 -> game.onRotateEvent(new MoveEvent(EventType.ROTATE, EventSource.USER));
+            case 3 -> game.onDownEvent(new MoveEvent(EventType.DOWN, EventSource.USER));
+            case 4 -> game.onHardDropEvent(new MoveEvent(EventType.DOWN, EventSource.USER));
+            default -> game.onHoldEvent(new MoveEvent(EventType.DOWN, EventSource.USER));
+        }
+    }
+
+    private static void assertViewsEqual(ViewData expected, ViewData actual, int step) {
+        assertArrayEquals(expected.getBrickData(), actual.getBrickData(), "Falling brick at step " + step);
+        assertArrayEquals(expected.getGhostCoords(), actual.getGhostCoords(), "Ghost at step " + step);
+        for (int i = 0; i < 3; i++) {
+            assertArrayEquals(expected.getNextThreeBricksInfo().getBrickShape(i),
+                    actual.getNextThreeBricksInfo().getBrickShape(i), "Preview " + i + " at step " + step);
+        }
+    }
+
+    @Test
+    @DisplayName("One view should move between slots without mixing their state")
+    void testSlotIsolation() {
+        BoardPool pool = new BoardPool();
+        int first = pool.allocate();
+        int second = pool.allocate();
+        PooledBoard view = pool.view(first);
+        view.newGame(1);
+        view.moveTo(second).newGame(1);
+
+        view.moveTo(first);
+        while (view.moveBrickDown()) {
+            // drop to the floor
+        }
+        view.mergeBrickToBackground();
+        Score score = view.getScore();
+        score.add(120);
+
+        view.moveTo(second);
+        assertEquals(0, view.getScore().scoreProperty().get(), "Score belongs to the slot");
+        assertEquals(0, view.getRowBits(24), "Second slot should still be empty");
+
+        PooledBoard other = pool.view(first);
+        assertEquals(120, other.getScore().scoreProperty().get(), "Score should be written through");
+        assertNotEquals(0, other.getRowBits(24), "Merged brick should be stored in the slot");
+        assertNull(other.getHeldPiece(), "Hold slot should start empty");
+    }
+
+    @Test
+    @DisplayName("Freed slots should be reused and cleared; chunks hold 64 bytes per board")
+    void testAllocateAndFree() {
+        BoardPool pool = new BoardPool(10, 25, 4);
+        int[] slots = new int[5];
+        for (int i = 0; i < slots.length; i++) {
+            slots[i] = pool.allocate();
+        }
+        assertEquals(5, pool.size());
+        assertEquals(2L * 4 * BoardPool.SLOT_BYTES, pool.reservedBytes(), "Two chunks of four slots");
+
+        PooledBoard view = pool.view(slots[2]);
+        view.newGame(3);
+        view.getScore().add(50);
+        pool.free(slots[2]);
+        assertThrows(IllegalStateException.class, () -> pool.free(slots[2]), "Double free should fail");
+
+        int reused = pool.allocate();
+        assertEquals(slots[2], reused, "Freed slot should be handed out again");
+        assertEquals(0, view.moveTo(reused).getScore().scoreProperty().get(), "Reused slot should be cleared");
+        assertEquals(5, pool.size());
+    }
+
+    @Test
+    @DisplayName("Many pooled games should play independently through one view")
+    void testManyBoards() {
+        BoardPool pool = new BoardPool(10, 25, 1 << 12);
+        int count = 10_000;
+        PooledBoard view = pool.view(pool.allocate());
+        for (int i = 1; i < count; i++) {
+            pool.allocate();
+        }
+        for (int i = 0; i < count; i++) {
+            view.moveTo(i).newGame(i);
+        }
+        for (int i = 0; i < count; i++) {
+            HeadlessGameController driver = new HeadlessGameController(view.moveTo(i));
+            driver.onHardDropEvent(new MoveEvent(EventType.DOWN, EventSource.USER));
+        }
+        for (int i = 0; i < count; i++) {
+            view.moveTo(i);
+            assertTrue(view.getScore().scoreProperty().get() > 0, "Every game should score its hard drops");
+        }
+        assertEquals(count, pool.size());
+        assertEquals(3L * (1 << 12) * BoardPool.SLOT_BYTES, pool.reservedBytes());
+    }
+}
@@ -0,0 +1,89 @@
+package com.comp2042.sim;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * JUnit tests for Histogram class.
+ * Tests percentile accuracy, merging and the compact binary form.
+ */
+@DisplayName("Histogram Tests")
+class HistogramTest {
+
+    @Test
+    @DisplayName("Percentiles should be within the configured relative error")
+    void testPercentileAccuracy() {
+        Histogram histogram = new Histogram();
+        SplittableRandom random = new SplittableRandom(3);
+        long[] values = new long[100_000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = (long) Math.exp(random.nextDouble() * 16); // 1 .. ~9M, heavy tail
+            histogram.record(values[i]);
+        }
+        Arrays.sort(values);
+        for (double p : new double[] { 50, 90, 99, 99.9 }) {
+            long exact = values[(int) Math.ceil(p / 100 * values.length) - 1];
+            long estimate = histogram.valueAtPercentile(p);
+            assertTrue(estimate >= exact && estimate <= exact * 1.02 + 1,
+                    "p" + p + ": exact " + exact + ", estimate " + estimate);
+        }
+        assertEquals(values[0], histogram.getMin());
+        assertEquals(values[values.length - 1], histogram.getMax());
+        assertEquals(values[values.length - 1], histogram.valueAtPercentile(100));
+    }
+
+    @Test
+    @DisplayName("Merged histograms should equal one histogram of all values")
+    void testMerge() {
+        Histogram all = new Histogram();
+        Histogram a = new Histogram();
+        Histogram b = new Histogram();
+        for (long v = 0; v < 5000; v++) {
+            all.record(v * 37);
+            (v % 3 == 0 ? a : b).record(v * 37);
+        }
+        a.merge(b);
+        assertEquals(all.getCount(), a.getCount());
+        assertEquals(all.getMean(), a.getMean());
+        for (double p : new double[] { 1, 50, 90, 99, 99.9 }) {
+            assertEquals(all.valueAtPercentile(p), a.valueAtPercentile(p), "p" + p);
+        }
+        assertThrows(IllegalArgumentException.class, () -> a.merge(new Histogram(5)));
+    }
+
+    @Test
+    @DisplayName("Binary round trip should preserve every bucket and stay compact")
+    void testSerialization() throws IOException {
+        Histogram histogram = new Histogram();
+        for (long v = 0; v < 1000; v++) {
+            histogram.record(v * v, v % 4 + 1);
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        histogram.writeTo(new DataOutputStream(bytes));
+        Histogram copy = Histogram.readFrom(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+
+        assertEquals(histogram.getCount(), copy.getCount());
+        assertEquals(histogram.getMin(), copy.getMin());
+        assertEquals(histogram.getMax(), copy.getMax());
+        for (double p : new double[] { 10, 50, 99 }) {
+            assertEquals(histogram.valueAtPercentile(p), copy.valueAtPercentile(p), "p" + p);
+        }
+        assertTrue(bytes.size() < 4096, "Only non-empty buckets should be written: " + bytes.size());
+
+        ByteArrayOutputStream empty = new ByteArrayOutputStream();
+        new Histogram().writeTo(new DataOutputStream(empty));
+        Histogram emptyCopy = Histogram.readFrom(new DataInputStream(new ByteArrayInputStream(empty.toByteArray())));
+        assertEquals(0, emptyCopy.getCount());
+        assertEquals(0, emptyCopy.valueAtPercentile(50));
+    }
+}
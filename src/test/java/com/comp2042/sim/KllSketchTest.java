@@ -0,0 +1,95 @@
+package com.comp2042.sim;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * JUnit tests for KllSketch class.
+ * Tests rank accuracy, bounded memory, merging and the binary form.
+ */
+@DisplayName("KllSketch Tests")
+class KllSketchTest {
+
+    private static final double MAX_RANK_ERROR = 0.02;
+
+    @Test
+    @DisplayName("Quantiles should be within the rank error bound using bounded memory")
+    void testQuantileAccuracy() {
+        KllSketch sketch = new KllSketch();
+        SplittableRandom random = new SplittableRandom(5);
+        double[] values = new double[100_000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = Math.exp(random.nextDouble() * 16);
+            sketch.record(values[i]);
+        }
+        Arrays.sort(values);
+        assertRanks(values, sketch);
+        assertTrue(sketch.getRetained() < 1000, "Sketch kept " + sketch.getRetained() + " values");
+        assertEquals(values[0], sketch.getMin());
+        assertEquals(values[values.length - 1], sketch.getMax());
+    }
+
+    @Test
+    @DisplayName("Merged sketches should stay within the rank error bound")
+    void testMerge() {
+        KllSketch[] parts = { new KllSketch(), new KllSketch(), new KllSketch(), new KllSketch() };
+        double[] values = new double[60_000];
+        SplittableRandom random = new SplittableRandom(9);
+        for (int i = 0; i < values.length; i++) {
+            values[i] = random.nextInt(50_000);
+            parts[i % parts.length].record(values[i]);
+        }
+        KllSketch merged = new KllSketch();
+        for (KllSketch part : parts) {
+            merged.merge(part);
+        }
+        Arrays.sort(values);
+        assertEquals(values.length, merged.getCount());
+        assertRanks(values, merged);
+        assertThrows(IllegalArgumentException.class, () -> merged.merge(new KllSketch(100)),
+                "Sketches with different k should not merge");
+    }
+
+    @Test
+    @DisplayName("Binary form should round-trip and store whole numbers compactly")
+    void testSerialization() throws IOException {
+        KllSketch sketch = new KllSketch();
+        for (int i = 0; i < 20_000; i++) {
+            sketch.record((i * 7919L) % 10_000);
+        }
+        byte[] bytes = bytes(sketch);
+        assertTrue(bytes.length < sketch.getRetained() * 4, "Serialized to " + bytes.length + " bytes");
+
+        KllSketch copy = KllSketch.readFrom(new DataInputStream(new ByteArrayInputStream(bytes)));
+        assertEquals(sketch.getCount(), copy.getCount());
+        assertEquals(sketch.getRetained(), copy.getRetained());
+        for (double q : new double[] { 0, 0.5, 0.9, 0.99, 1 }) {
+            assertEquals(sketch.quantile(q), copy.quantile(q), "q" + q);
+        }
+        assertArrayEquals(bytes, bytes(copy));
+    }
+
+    private static void assertRanks(double[] sorted, KllSketch sketch) {
+        for (double q : new double[] { 0.01, 0.1, 0.5, 0.9, 0.99 }) {
+            double exact = sorted[(int) (q * sorted.length)];
+            double rank = sketch.rank(exact);
+            assertEquals(q, rank, MAX_RANK_ERROR, "Rank of the " + q + " quantile");
+        }
+    }
+
+    private static byte[] bytes(KllSketch sketch) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        sketch.writeTo(new DataOutputStream(out));
+        return out.toByteArray();
+    }
+}
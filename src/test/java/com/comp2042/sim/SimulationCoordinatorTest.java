@@ -0,0 +1,90 @@
+package com.comp2042.sim;
+
+import com.comp2042.ai.GreedyPlanner;
+import com.comp2042.game.DifficultyManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * JUnit tests for SimulationCoordinator class.
+ * Tests range stealing and a multi-process run against an in-process run.
+ */
+@DisplayName("SimulationCoordinator Tests")
+class SimulationCoordinatorTest {
+
+    @Test
+    @DisplayName("A worker that runs dry should steal half of the largest range")
+    void testWorkStealing() {
+        SimulationCoordinator.WorkQueue queue = new SimulationCoordinator.WorkQueue(100, 100, 2, 10);
+        boolean[] seen = new boolean[100];
+
+        // worker 0 drains its 50 seeds while worker 1 takes a single batch
+        claim(queue.next(1), seen);
+        for (int i = 0; i < 5; i++) {
+            claim(queue.next(0), seen);
+        }
+        assertEquals(40, queue.remaining(1));
+        claim(queue.next(0), seen); // steals seeds 170..189, takes the first batch
+        assertEquals(20, queue.remaining(1), "Victim should keep the front half");
+        assertEquals(10, queue.remaining(0));
+
+        // both workers drain the rest, stealing back and forth
+        long[] batch;
+        for (int turn = 0; (batch = queue.next(turn % 2)) != null; turn++) {
+            claim(batch, seen);
+        }
+        for (int i = 0; i < seen.length; i++) {
+            assertTrue(seen[i], "Seed " + (100 + i) + " should be handed out");
+        }
+    }
+
+    private static void claim(long[] batch, boolean[] seen) {
+        assertNotNull(batch);
+        for (long seed = batch[0]; seed < batch[1]; seed++) {
+            assertFalse(seen[(int) seed - 100], "Seed " + seed + " handed out twice");
+            seen[(int) seed - 100] = true;
+        }
+    }
+
+    @Test
+    @DisplayName("Worker processes should produce the same statistics as one in-process run")
+    void testMultiProcessRun() throws Exception {
+        int games = 24;
+        int maxPieces = 30;
+        int[] levels = { DifficultyManager.LEVEL_1, DifficultyManager.LEVEL_15 };
+        SimulationStats distributed = new SimulationCoordinator(2, maxPieces, 4, levels).run(500, games);
+
+        SimulationStats local = new SimulationStats();
+        GameRecorder recorder = new GameRecorder(local);
+        GreedyPlanner planner = new GreedyPlanner();
+        for (long seed = 500; seed < 500 + games; seed++) {
+            for (int level : levels) {
+                SimulationWorker.playGame(seed, level, maxPieces, planner, recorder);
+            }
+        }
+        assertEquals(games * levels.length, distributed.getGames());
+        for (int level : levels) {
+            SimulationStats.LevelStats expected = local.getLevel(level);
+            SimulationStats.LevelStats actual = distributed.getLevel(level);
+            assertEquals(games, actual.getGames(), "Every seed should be played at level " + level);
+            // sketches compact in arrival order, histograms are order independent
+            assertArrayEquals(bytes(expected.getScores().getHistogram()), bytes(actual.getScores().getHistogram()),
+                    "Merged score histograms should match exactly");
+            assertArrayEquals(bytes(expected.getPieces().getHistogram()), bytes(actual.getPieces().getHistogram()),
+                    "Merged piece histograms should match exactly");
+            assertEquals(expected.getScores().getSketch().getCount(), actual.getScores().getSketch().getCount());
+        }
+    }
+
+    private static byte[] bytes(Histogram histogram) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        histogram.writeTo(new DataOutputStream(out));
+        return out.toByteArray();
+    }
+}
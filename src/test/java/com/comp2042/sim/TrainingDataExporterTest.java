@@ -0,0 +1,106 @@
+package com.comp2042.sim;
+
+import com.comp2042.ai.GreedyPlanner;
+import com.comp2042.ai.RandomPlanner;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * JUnit tests for TrainingDataExporter and NpyWriter classes.
+ * Tests the .npy header, column consistency and reproducible exports.
+ */
+@DisplayName("TrainingDataExporter Tests")
+class TrainingDataExporterTest {
+
+    private static final String[] COLUMNS = { "boards", "pieces", "queue", "held", "placements", "rewards",
+            "lines", "dones" };
+
+    @Test
+    @DisplayName("Column files should carry a fixed-size .npy header with the final shape")
+    void testNpyHeader(@TempDir Path dir) throws IOException {
+        long rows;
+        try (TrainingDataExporter exporter = new TrainingDataExporter(dir)) {
+            rows = exporter.exportGames(new GreedyPlanner(), 1, 2, 40);
+        }
+        assertEquals(80, rows, "Greedy play should survive 40 pieces per game");
+
+        byte[] boards = Files.readAllBytes(dir.resolve("boards.npy"));
+        assertEquals(NpyWriter.HEADER_BYTES + rows * 25 * 2, boards.length, "Header plus 25 uint16 per row");
+        assertEquals((byte) 0x93, boards[0]);
+        assertEquals("NUMPY", new String(boards, 1, 5, StandardCharsets.US_ASCII));
+        ByteBuffer header = ByteBuffer.wrap(boards).order(ByteOrder.LITTLE_ENDIAN);
+        assertEquals(NpyWriter.HEADER_BYTES - 10, header.getShort(8), "Header length field");
+        assertEquals('\n', boards[NpyWriter.HEADER_BYTES - 1], "Header should end with a newline");
+        String dict = new String(boards, 10, NpyWriter.HEADER_BYTES - 10, StandardCharsets.US_ASCII);
+        assertTrue(dict.contains("'descr': '<u2'"), dict);
+        assertTrue(dict.contains("'shape': (80, 25)"), dict);
+
+        String scalar = new String(Files.readAllBytes(dir.resolve("rewards.npy")), 10, 100,
+                StandardCharsets.US_ASCII);
+        assertTrue(scalar.contains("'shape': (80,)"), scalar);
+    }
+
+    @Test
+    @DisplayName("Columns should line up row for row with the games played")
+    void testColumnsLineUp(@TempDir Path dir) throws IOException {
+        long rows;
+        try (TrainingDataExporter exporter = new TrainingDataExporter(dir)) {
+            rows = exporter.exportGames(new GreedyPlanner(), 7, 3, 60);
+        }
+        byte[] dones = data(dir, "dones");
+        byte[] lines = data(dir, "lines");
+        byte[] pieces = data(dir, "pieces");
+        byte[] placements = data(dir, "placements");
+        assertEquals(rows, dones.length);
+        assertEquals(rows * 4, placements.length);
+
+        int finished = 0;
+        int cleared = 0;
+        for (int i = 0; i < rows; i++) {
+            finished += dones[i] != TrainingDataExporter.DONE_CONTINUE ? 1 : 0;
+            cleared += lines[i];
+            assertTrue(pieces[i] >= 1 && pieces[i] <= 7, "Brick in play should be a standard piece");
+        }
+        assertEquals(3, finished, "Every game should end exactly once");
+        assertEquals(TrainingDataExporter.DONE_TRUNCATED, dones[(int) rows - 1]);
+        assertTrue(cleared > 0, "Greedy play should clear lines");
+
+        ByteBuffer rewards = ByteBuffer.wrap(data(dir, "rewards")).order(ByteOrder.LITTLE_ENDIAN);
+        for (int i = 0; i < rows; i++) {
+            assertTrue(rewards.getInt() >= 0, "Rewards are score gains");
+        }
+    }
+
+    @Test
+    @DisplayName("Same seeds should export identical files")
+    void testReproducible(@TempDir Path dir) throws IOException {
+        try (TrainingDataExporter a = new TrainingDataExporter(dir.resolve("a"))) {
+            a.exportGames(new RandomPlanner(3), 11, 2, 500);
+        }
+        try (TrainingDataExporter b = new TrainingDataExporter(dir.resolve("b"))) {
+            b.exportGames(new RandomPlanner(3), 11, 2, 500);
+        }
+        for (String column : COLUMNS) {
+            assertArrayEquals(Files.readAllBytes(dir.resolve("a").resolve(column + ".npy")),
+                    Files.readAllBytes(dir.resolve("b").resolve(column + ".npy")), column);
+        }
+        assertTrue(data(dir.resolve("a"), "dones").length < 1000, "Random play should top out early");
+    }
+
+    private static byte[] data(Path dir, String column) throws IOException {
+        byte[] file = Files.readAllBytes(dir.resolve(column + ".npy"));
+        byte[] data = new byte[file.length - NpyWriter.HEADER_BYTES];
+        System.arraycopy(file, NpyWriter.HEADER_BYTES, data, 0, data.length);
+        return data;
+    }
+}
@@ -0,0 +1,54 @@
+package com.comp2042.ui;
+
+import javafx.scene.layout.Pane;
+import javafx.scene.layout.Region;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * JUnit tests for NodePool class.
+ * Tests reuse and the leak guard.
+ */
+@DisplayName("NodePool Tests")
+class NodePoolTest {
+
+    private static NodePool<Region> pool(int limit) {
+        return new NodePool<>(Region::new, node -> node.setOpacity(1), limit);
+    }
+
+    @Test
+    @DisplayName("Released nodes are detached, reset and handed out again")
+    void testReuse() {
+        Pane root = new Pane();
+        NodePool<Region> pool = pool(2);
+        Region first = pool.acquire();
+        root.getChildren().add(first);
+        first.setOpacity(0);
+
+        pool.release(first);
+        pool.release(first);
+        assertTrue(root.getChildren().isEmpty(), "A released node leaves the scene");
+        assertEquals(1, first.getOpacity(), "A released node is reset");
+        assertSame(first, pool.acquire(), "The idle node is reused");
+        assertEquals(1, pool.getCreatedCount());
+    }
+
+    @Test
+    @DisplayName("Nodes never released are reclaimed once the limit is reached")
+    void testLeakGuard() {
+        Pane root = new Pane();
+        NodePool<Region> pool = pool(3);
+        for (int i = 0; i < 10; i++) {
+            root.getChildren().add(pool.acquire()); // never released
+        }
+        assertEquals(3, pool.getCreatedCount());
+        assertEquals(3, root.getChildren().size());
+        assertEquals(7, pool.getReclaimedCount());
+
+        pool.releaseAll();
+        assertEquals(0, pool.getInUseCount());
+        assertTrue(root.getChildren().isEmpty());
+    }
+}
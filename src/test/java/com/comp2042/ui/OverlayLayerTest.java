@@ -0,0 +1,129 @@
+package com.comp2042.ui;
+
+import com.comp2042.HeadlessGameController;
+import com.comp2042.ai.AiPlayer;
+import com.comp2042.dto.DownData;
+import com.comp2042.util.Constants;
+import javafx.scene.Group;
+import javafx.scene.layout.GridPane;
+import javafx.scene.layout.Pane;
+import javafx.scene.layout.Region;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * JUnit tests for OverlayLayer class.
+ * Tests placement and a long bot session through the popup and
+ * notification paths the GUI uses, which must keep the scene bounded.
+ */
+@DisplayName("OverlayLayer Tests")
+class OverlayLayerTest {
+
+    private final Pane root = new Pane();
+    private final Group notificationGroup = new Group();
+    // animations still running; run() finishes one
+    private final ArrayDeque<Runnable> running = new ArrayDeque<>();
+
+    private OverlayLayer<Region, Region> layer() {
+        OverlayLayer.Player<Region> player = (node, text, onFinished) -> running.addLast(onFinished);
+        return new OverlayLayer<>(root, notificationGroup,
+                new NodePool<>(Region::new, node -> node.setOpacity(1), Constants.SCORE_POPUP_POOL_SIZE), player,
+                new NodePool<>(() -> {
+                    Region panel = new Region();
+                    panel.setMinSize(220, 200);
+                    return panel;
+                }, node -> node.setOpacity(1), Constants.NOTIFICATION_POOL_SIZE), player);
+    }
+
+    @Test
+    @DisplayName("Notifications are centred over the board and leave when finished")
+    void testNotificationPlacement() {
+        OverlayLayer<Region, Region> layer = layer();
+        GridPane board = new GridPane();
+        board.setLayoutX(40);
+        board.setLayoutY(10);
+        board.resize(300, 500);
+
+        layer.showLineClear(100, board);
+        Region panel = (Region) notificationGroup.getChildren().get(0);
+        assertEquals(40 + (300 - 220) / 2.0, panel.getLayoutX());
+        assertEquals(10 + (500 - 200) / 2.0, panel.getLayoutY());
+
+        running.pollFirst().run();
+        assertTrue(notificationGroup.getChildren().isEmpty());
+        assertEquals(0, layer.getNotifications().getInUseCount());
+    }
+
+    @Test
+    @DisplayName("A 100k-piece bot session keeps the scene and the overlay nodes it allocates bounded")
+    void testSoak() {
+        OverlayLayer<Region, Region> layer = layer();
+        GridPane board = new GridPane();
+        root.getChildren().addAll(board, notificationGroup);
+        int baseChildren = root.getChildren().size();
+
+        HeadlessGameController game = new HeadlessGameController();
+        game.getBoard().newGame(11);
+        AiPlayer player = new AiPlayer(game.getBoard(), game);
+
+        int pieces = 100_000;
+        int maxPopups = 0;
+        int maxNotifications = 0;
+        int popupsAtHalf = -1;
+        int notificationsAtHalf = -1;
+        for (int piece = 0; piece < pieces; piece++) {
+            if (piece == pieces / 2) {
+                popupsAtHalf = layer.getPopups().getCreatedCount();
+                notificationsAtHalf = layer.getNotifications().getCreatedCount();
+            }
+            if (game.isGameOver()) {
+                game.createNewGame();
+                layer.releaseNotifications(); // as on game over
+            }
+            DownData result = player.playPiece();
+            if (result == null) {
+                continue;
+            }
+            boolean cleared = result.getClearRow() != null && result.getClearRow().getLinesRemoved() > 0;
+            layer.showScoreBonus(cleared ? result.getClearRow().getScoreBonus() : 2);
+            if (cleared) {
+                layer.showLineClear(result.getClearRow().getScoreBonus(), board);
+                // every tenth notification is "lost" (its animation never finishes)
+                if (piece % 10 == 0) {
+                    running.pollLast();
+                }
+            }
+            if (piece % 500 == 0) {
+                layer.showNotification("PAUSED", 0, 0);
+                layer.releaseNotifications(); // as on resume
+            }
+            // animations finish a few pieces later, as at a fast drop rate
+            while (running.size() > 3) {
+                running.pollFirst().run();
+            }
+            maxPopups = Math.max(maxPopups, root.getChildren().size() - baseChildren);
+            maxNotifications = Math.max(maxNotifications, notificationGroup.getChildren().size());
+        }
+        while (!running.isEmpty()) {
+            running.pollFirst().run();
+        }
+
+        assertTrue(maxPopups <= Constants.SCORE_POPUP_POOL_SIZE, "Root pane grew by " + maxPopups + " popups");
+        assertTrue(maxNotifications <= Constants.NOTIFICATION_POOL_SIZE,
+                "Notification group grew to " + maxNotifications);
+        assertEquals(baseChildren, root.getChildren().size(), "Finished popups leave the root pane");
+        assertTrue(layer.getPopups().getCreatedCount() <= Constants.SCORE_POPUP_POOL_SIZE);
+        assertTrue(layer.getNotifications().getCreatedCount() <= Constants.NOTIFICATION_POOL_SIZE);
+        // the heap stays flat if nothing new is allocated once the pools are warm
+        assertEquals(popupsAtHalf, layer.getPopups().getCreatedCount(),
+                "No popups should be created in the second half of the session");
+        assertEquals(notificationsAtHalf, layer.getNotifications().getCreatedCount(),
+                "No notifications should be created in the second half of the session");
+        assertTrue(layer.getNotifications().getReclaimedCount() > 0,
+                "Lost notifications should have been reclaimed");
+    }
+}
@@ -0,0 +1,87 @@
+package com.comp2042.ui;
+
+import javafx.scene.Group;
+import javafx.scene.layout.Pane;
+import javafx.scene.layout.Region;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * JUnit tests for ProfilerOverlay class.
+ * Tests histogram bucket boundaries, the history window and node counting.
+ */
+@DisplayName("ProfilerOverlay Tests")
+class ProfilerOverlayTest {
+
+    /**
+     * Feeds one frame per given duration, after a first frame that only
+     * starts the clock.
+     */
+    private static ProfilerOverlay withFrames(long... frameNanos) {
+        ProfilerOverlay overlay = new ProfilerOverlay(new Pane());
+        long now = 1;
+        overlay.onFrame(now);
+        for (long frame : frameNanos) {
+            now += frame;
+            overlay.onFrame(now);
+        }
+        return overlay;
+    }
+
+    @Test
+    @DisplayName("A frame on a bucket's upper bound falls in that bucket, anything longer in the next")
+    void testBucketBoundaries() {
+        ProfilerOverlay overlay = withFrames(
+                8_000_000L, // <= 8 ms
+                8_000_001L, // just over 8 ms
+                17_000_000L, // <= 17 ms
+                100_000_000L, // <= 100 ms, the last bounded bucket
+                100_000_001L, // open bucket
+                400_000_000L);
+        overlay.fillHistogram();
+        int[] buckets = overlay.getBuckets();
+        assertEquals(ProfilerOverlay.BUCKET_MS.length + 1, buckets.length);
+        assertArrayEquals(new int[] { 1, 1, 1, 0, 0, 0, 1, 2 }, buckets, Arrays.toString(buckets));
+    }
+
+    @Test
+    @DisplayName("The histogram only covers the last few seconds of frames")
+    void testHistoryWindow() {
+        long frame = 16_000_000L;
+        long[] frames = new long[(int) (10_000_000_000L / frame)]; // 10 s
+        Arrays.fill(frames, frame);
+        ProfilerOverlay overlay = withFrames(frames);
+
+        double fps = overlay.fillHistogram();
+        int counted = Arrays.stream(overlay.getBuckets()).sum();
+        long window = ProfilerOverlay.HISTORY_SECONDS * 1_000_000_000L;
+        assertEquals((window + frame - 1) / frame, counted, "Frames until the window is full");
+        assertEquals(1e9 / frame, fps, 1e-6);
+        assertEquals(counted, overlay.getBuckets()[2], "16 ms frames are in the <17 bucket");
+    }
+
+    @Test
+    @DisplayName("An empty history reports 0 fps")
+    void testEmptyHistory() {
+        ProfilerOverlay overlay = withFrames();
+        assertEquals(0, overlay.fillHistogram());
+        assertEquals(0, Arrays.stream(overlay.getBuckets()).sum());
+    }
+
+    @Test
+    @DisplayName("Nodes are counted through nested parents, not including the root")
+    void testCountNodes() {
+        Pane root = new Pane();
+        assertEquals(0, ProfilerOverlay.countNodes(root));
+
+        Group group = new Group(new Region(), new Region());
+        Pane inner = new Pane(new Region(), new Group(new Region()));
+        root.getChildren().addAll(new Region(), group, inner);
+        // root: Region, group (2 Regions), inner (Region, Group (Region))
+        assertEquals(3 + 2 + 2 + 1, ProfilerOverlay.countNodes(root));
+    }
+}
@@ -0,0 +1,71 @@
+package com.comp2042.ui;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * JUnit tests for QualityGovernor class.
+ * Tests stepping down on missed frames, stepping back up with headroom, and
+ * ignoring stalls.
+ */
+@DisplayName("QualityGovernor Tests")
+class QualityGovernorTest {
+
+    private static final long BUDGET = 16_666_667L;
+
+    private static void frames(QualityGovernor governor, int count, long frameNanos, long pulseNanos) {
+        for (int i = 0; i < count; i++) {
+            governor.onFrame(frameNanos, pulseNanos);
+        }
+    }
+
+    @Test
+    @DisplayName("Missed frames should step effects down one level at a time")
+    void testStepsDown() {
+        QualityGovernor governor = new QualityGovernor(BUDGET);
+        frames(governor, 600, BUDGET, BUDGET / 4);
+        assertEquals(QualityGovernor.Level.FULL, governor.getLevel(), "Frames on budget keep full quality");
+
+        frames(governor, QualityGovernor.DOWN_MISSES, 2 * BUDGET, BUDGET);
+        assertEquals(QualityGovernor.Level.NO_GLOW, governor.getLevel());
+        assertFalse(governor.isBorderGlowEnabled());
+        assertTrue(governor.isScreenShakeEnabled());
+
+        frames(governor, 1000, 3 * BUDGET, BUDGET);
+        assertEquals(QualityGovernor.Level.MINIMAL, governor.getLevel(), "Should stop at the cheapest level");
+        assertFalse(governor.isCollapseAnimated());
+        assertEquals(0, governor.getCellArc());
+    }
+
+    @Test
+    @DisplayName("A few scattered misses should not step down")
+    void testScatteredMisses() {
+        QualityGovernor governor = new QualityGovernor(BUDGET);
+        for (int window = 0; window < 20; window++) {
+            frames(governor, QualityGovernor.DOWN_MISSES - 1, 2 * BUDGET, BUDGET);
+            frames(governor, QualityGovernor.DOWN_WINDOW, BUDGET, BUDGET / 4);
+        }
+        assertEquals(QualityGovernor.Level.FULL, governor.getLevel());
+    }
+
+    @Test
+    @DisplayName("Headroom should step back up, stalls should be ignored")
+    void testStepsUp() {
+        QualityGovernor governor = new QualityGovernor(BUDGET);
+        frames(governor, 2 * QualityGovernor.DOWN_MISSES, 2 * BUDGET, BUDGET);
+        assertEquals(QualityGovernor.Level.SIMPLE_CLEAR, governor.getLevel());
+
+        frames(governor, 50, QualityGovernor.STALL_NANOS + 1, 0);
+        assertEquals(QualityGovernor.Level.SIMPLE_CLEAR, governor.getLevel(), "Pauses are not missed frames");
+
+        frames(governor, QualityGovernor.UP_WINDOW - 1, BUDGET, BUDGET / 4);
+        assertEquals(QualityGovernor.Level.SIMPLE_CLEAR, governor.getLevel());
+        frames(governor, 1, BUDGET, BUDGET / 4);
+        assertEquals(QualityGovernor.Level.NO_GLOW, governor.getLevel());
+
+        frames(governor, QualityGovernor.UP_WINDOW - 1, BUDGET, BUDGET);
+        assertEquals(QualityGovernor.Level.NO_GLOW, governor.getLevel(), "Busy pulses leave no headroom");
+    }
+}
@@ -0,0 +1,86 @@
+package com.comp2042.ui;
+
+import com.comp2042.leaderboard.Leaderboard;
+import com.comp2042.leaderboard.ScoreEntry;
+import javafx.beans.property.SimpleStringProperty;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * JUnit tests for ScoreManager class.
+ * Tests that finished games stop listening to the shared leaderboard.
+ */
+@DisplayName("ScoreManager Tests")
+class ScoreManagerTest {
+
+    /**
+     * A leaderboard that only keeps its listeners.
+     */
+    private static final class ListenerCountingLeaderboard implements Leaderboard {
+        final List<Runnable> listeners = new ArrayList<>();
+
+        @Override
+        public void submit(ScoreEntry entry) {
+        }
+
+        @Override
+        public List<ScoreEntry> getTop(int level, boolean obstacleMode) {
+            return Collections.emptyList();
+        }
+
+        @Override
+        public void addListener(Runnable listener) {
+            listeners.add(listener);
+        }
+
+        @Override
+        public void removeListener(Runnable listener) {
+            listeners.remove(listener);
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    private static ScoreManager newManager() {
+        return new ScoreManager(new SimpleStringProperty(), new SimpleStringProperty());
+    }
+
+    @Test
+    @DisplayName("Only the current game's manager stays registered with the leaderboard")
+    void testOneManagerRegistered() {
+        ListenerCountingLeaderboard leaderboard = new ListenerCountingLeaderboard();
+
+        ScoreManager first = newManager();
+        first.useLeaderboard(leaderboard, 1, false);
+        assertEquals(1, leaderboard.listeners.size());
+        // the first game's window goes away, the next game starts
+        first.detachLeaderboard();
+
+        ScoreManager second = newManager();
+        second.useLeaderboard(leaderboard, 1, false);
+        assertEquals(1, leaderboard.listeners.size(), "The finished game no longer listens");
+
+        first.detachLeaderboard();
+        assertEquals(1, leaderboard.listeners.size(), "Detaching twice is harmless");
+    }
+
+    @Test
+    @DisplayName("Switching leaderboards moves the listener")
+    void testSwitchLeaderboard() {
+        ListenerCountingLeaderboard a = new ListenerCountingLeaderboard();
+        ListenerCountingLeaderboard b = new ListenerCountingLeaderboard();
+        ScoreManager manager = newManager();
+        manager.useLeaderboard(a, 1, false);
+        manager.useLeaderboard(b, 5, true);
+        assertTrue(a.listeners.isEmpty());
+        assertEquals(1, b.listeners.size());
+    }
+}
@@ -0,0 +1,72 @@
+package com.comp2042.ui;
+
+import com.comp2042.HeadlessGameController;
+import com.comp2042.ai.AiPlayer;
+import com.comp2042.dto.ViewData;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * JUnit tests for SpectatorWall class.
+ * Tests per-board dirty tracking and the grid layout.
+ */
+@DisplayName("SpectatorWall Tests")
+class SpectatorWallTest {
+
+    @Test
+    @DisplayName("A board is dirty only when a visible cell or its score changes")
+    void testDirtyTracking() {
+        HeadlessGameController game = new HeadlessGameController();
+        game.getBoard().newGame(3);
+        AiPlayer player = new AiPlayer(game.getBoard(), game);
+        SpectatorWall.Slot slot = new SpectatorWall.Slot();
+
+        ViewData view = game.getBoard().getViewData();
+        slot.update(game.getBoard().getBoardMatrix(), view, 0, false);
+        slot.dirty = false;
+        slot.labelDirty = false;
+        slot.update(game.getBoard().getBoardMatrix(), view, 0, false);
+        assertFalse(slot.dirty, "The same state again is not a change");
+        assertFalse(slot.labelDirty);
+
+        for (int i = 0; i < 200 && !game.isGameOver(); i++) {
+            player.playPiece();
+        }
+        int[][] matrix = game.getBoard().getBoardMatrix();
+        slot.update(matrix, null, game.getBoard().getScore().scoreProperty().get(), false);
+        assertTrue(slot.dirty, "Locked pieces change cells");
+        assertTrue(slot.labelDirty, "Scoring changes the label");
+        for (int r = 0; r < SpectatorWall.ROWS; r++) {
+            for (int c = 0; c < SpectatorWall.COLS; c++) {
+                assertEquals(matrix[r + 2][c], slot.cells[r * SpectatorWall.COLS + c]);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("The falling brick is drawn over the stack")
+    void testBrickOverlay() {
+        int[][] matrix = new int[25][10];
+        int[][] shape = { { 0, 0, 0, 0 }, { 4, 4, 0, 0 }, { 4, 4, 0, 0 }, { 0, 0, 0, 0 } };
+        SpectatorWall.Slot slot = new SpectatorWall.Slot();
+        slot.update(matrix, new ViewData(shape, 3, 5, null), 0, false);
+        // shape row 1 at board row 6 = visible row 4
+        assertEquals(4, slot.cells[4 * SpectatorWall.COLS + 3]);
+        assertEquals(4, slot.cells[5 * SpectatorWall.COLS + 4]);
+        assertEquals(0, slot.cells[5 * SpectatorWall.COLS + 5]);
+    }
+
+    @Test
+    @DisplayName("Boards are laid out to get the largest cells")
+    void testGridColumns() {
+        assertEquals(1, SpectatorWall.gridColumns(1, 1280, 720));
+        // boards are tall, so a wide screen fits more columns than rows
+        int cols = SpectatorWall.gridColumns(64, 1920, 1080);
+        int rows = (64 + cols - 1) / cols;
+        assertTrue(cols > rows, cols + "x" + rows);
+        assertEquals(8, SpectatorWall.gridColumns(16, 1920, 1080),
+                "Sixteen boards fit best in two rows of eight on a 1080p screen");
+    }
+}
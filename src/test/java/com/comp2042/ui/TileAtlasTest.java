@@ -0,0 +1,48 @@
+package com.comp2042.ui;
+
+import com.comp2042.util.Constants;
+import javafx.geometry.Rectangle2D;
+import javafx.scene.paint.Color;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * JUnit tests for TileAtlas class and the palette it is built from.
+ * Tests the palette lookup and where tiles lie in the atlas image.
+ */
+@DisplayName("TileAtlas Tests")
+class TileAtlasTest {
+
+    @Test
+    @DisplayName("Palette maps every colour code, obstacles included")
+    void testPalette() {
+        assertEquals(Color.TRANSPARENT, Constants.PieceColors.getColor(0));
+        assertEquals(Constants.PieceColors.I_PIECE, Constants.PieceColors.getColor(1));
+        assertEquals(Constants.PieceColors.Z_PIECE, Constants.PieceColors.getColor(7));
+        assertEquals(Constants.PieceColors.OBSTACLE, Constants.PieceColors.getColor(8));
+        assertEquals(Color.TRANSPARENT, Constants.PieceColors.getColor(-1));
+        assertEquals(Color.TRANSPARENT, Constants.PieceColors.getColor(Constants.PieceColors.COUNT));
+    }
+
+    @Test
+    @DisplayName("Tiles sit side by side with padding, scaled to image pixels")
+    void testViewports() {
+        double size = Constants.BRICK_SIZE;
+        double pitch = size + 2 * TileAtlas.PADDING;
+        for (double scale : new double[] { 1.0, 1.5, 2.0 }) {
+            for (int slot = 1; slot < TileAtlas.SLOTS; slot++) {
+                Rectangle2D tile = TileAtlas.viewport(slot, scale);
+                assertEquals((slot * pitch + TileAtlas.PADDING) * scale, tile.getMinX(), 1e-9);
+                assertEquals(TileAtlas.PADDING * scale, tile.getMinY(), 1e-9);
+                assertEquals(size * scale, tile.getWidth(), 1e-9);
+                assertEquals(size * scale, tile.getHeight(), 1e-9);
+                assertTrue(tile.getMaxX() <= TileAtlas.SLOTS * pitch * scale, "Tile stays inside the atlas");
+            }
+            Rectangle2D last = TileAtlas.viewport(TileAtlas.GHOST - 1, scale);
+            assertTrue(TileAtlas.viewport(TileAtlas.GHOST, scale).getMinX() > last.getMaxX(),
+                    "The ghost tile follows the colour tiles without overlap");
+        }
+    }
+}
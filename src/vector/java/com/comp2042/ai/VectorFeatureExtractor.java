@@ -0,0 +1,113 @@
+package com.comp2042.ai;
+
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * VectorFeatureExtractor - FeatureExtractor that analyses one SIMD vector of
+ * boards per pass using the JDK Vector API (jdk.incubator.vector).
+ *
+ * Every lane holds a different board. Because BoardBatch stores row r of all
+ * boards contiguously, each row step is a single vector load, and the same
+ * bit tricks as ScalarFeatureExtractor (running OR, popcounts) run lane-wise.
+ * Column heights are blended straight into the batch's height array (one
+ * blend per column on rows where some column first becomes occupied), which
+ * keeps every vector a local the JIT can hold in registers.
+ *
+ * Only compiled by the {@code vector} Maven profile, and only selected when
+ * the JVM runs with {@code --add-modules jdk.incubator.vector} and
+ * {@code -Dtetris.ai.vector=true} (see FeatureExtractor#create).
+ *
+ * @author Umer Imran
+ * @version 1.0
+ */
+public final class VectorFeatureExtractor implements FeatureExtractor {
+
+    private static final VectorSpecies<Integer> SPECIES = IntVector.SPECIES_PREFERRED;
+
+    @Override
+    public void extract(BoardBatch batch) {
+        int width = batch.width;
+        int height = batch.height;
+        int capacity = batch.capacity;
+        int[] rows = batch.rows;
+        int lanes = SPECIES.length();
+        // capacity is a multiple of BoardBatch.LANE_PADDING, which every
+        // species length divides, so the last chunk never overruns
+        int end = (batch.size() + lanes - 1) / lanes * lanes;
+
+        IntVector zero = IntVector.zero(SPECIES);
+        IntVector one = IntVector.broadcast(SPECIES, 1);
+        IntVector fullRow = IntVector.broadcast(SPECIES, (1 << width) - 1);
+        IntVector rightWall = IntVector.broadcast(SPECIES, 1 << (width + 1));
+        IntVector transitionMask = IntVector.broadcast(SPECIES, (1 << (width + 1)) - 1);
+        IntVector wall = IntVector.broadcast(SPECIES, height);
+        int[] heights = batch.columnHeights;
+
+        for (int b = 0; b < end; b += lanes) {
+            IntVector seen = zero;
+            IntVector previous = zero;
+            IntVector holes = zero;
+            IntVector rowTransitions = zero;
+            IntVector columnTransitions = zero;
+            for (int c = 0; c < width; c++) {
+                zero.intoArray(heights, c * capacity + b);
+            }
+
+            for (int r = 0; r < height; r++) {
+                IntVector row = IntVector.fromArray(SPECIES, rows, r * capacity + b);
+                IntVector newly = row.and(seen.not());
+                if (newly.reduceLanes(VectorOperators.OR) != 0) {
+                    IntVector rowHeight = IntVector.broadcast(SPECIES, height - r);
+                    for (int c = 0; c < width; c++) {
+                        VectorMask<Integer> top = newly.and(1 << c).compare(VectorOperators.NE, 0);
+                        IntVector.fromArray(SPECIES, heights, c * capacity + b)
+                                .blend(rowHeight, top)
+                                .intoArray(heights, c * capacity + b);
+                    }
+                }
+                seen = seen.or(row);
+                holes = holes.add(seen.and(row.not()).lanewise(VectorOperators.BIT_COUNT));
+                columnTransitions = columnTransitions.add(previous.lanewise(VectorOperators.XOR, row)
+                        .lanewise(VectorOperators.BIT_COUNT));
+                previous = row;
+
+                VectorMask<Integer> occupied = row.compare(VectorOperators.NE, 0);
+                IntVector walled = one.or(row.lanewise(VectorOperators.LSHL, 1)).or(rightWall);
+                IntVector changes = walled.lanewise(VectorOperators.XOR, walled.lanewise(VectorOperators.LSHR, 1))
+                        .and(transitionMask)
+                        .lanewise(VectorOperators.BIT_COUNT);
+                rowTransitions = rowTransitions.add(changes, occupied);
+            }
+            columnTransitions = columnTransitions.add(previous.lanewise(VectorOperators.XOR, fullRow)
+                    .lanewise(VectorOperators.BIT_COUNT));
+
+            IntVector aggregate = zero;
+            IntVector max = zero;
+            IntVector bumpiness = zero;
+            IntVector wells = zero;
+            IntVector left = wall;
+            IntVector h = IntVector.fromArray(SPECIES, heights, b);
+            for (int c = 0; c < width; c++) {
+                IntVector right = c == width - 1 ? wall : IntVector.fromArray(SPECIES, heights, (c + 1) * capacity + b);
+                aggregate = aggregate.add(h);
+                max = max.max(h);
+                if (c > 0) {
+                    bumpiness = bumpiness.add(h.sub(left).abs());
+                }
+                wells = wells.add(left.min(right).sub(h).max(zero));
+                left = h;
+                h = right;
+            }
+            aggregate.intoArray(batch.aggregateHeight, b);
+            max.intoArray(batch.maxHeight, b);
+            holes.intoArray(batch.holes, b);
+            bumpiness.intoArray(batch.bumpiness, b);
+            wells.intoArray(batch.wells, b);
+            rowTransitions.intoArray(batch.rowTransitions, b);
+            columnTransitions.intoArray(batch.columnTransitions, b);
+        }
+    }
+}